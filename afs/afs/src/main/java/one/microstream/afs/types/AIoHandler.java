@@ -147,6 +147,8 @@ public interface AIoHandler extends WriteController
 	public boolean deleteFile(AWritableFile file);
 	
 	public void truncate(AWritableFile file, long newSize);
+	
+	public void flush(AWritableFile file);
 
 	public XGettingEnum<String> listItems(ADirectory parent);
 	
@@ -291,6 +293,11 @@ public interface AIoHandler extends WriteController
 		
 		protected abstract void specificTruncateFile(W file, long newSize);
 		
+		protected void specificFlushFile(final W file)
+		{
+			// no-op by default for file systems that persist every write immediately.
+		}
+		
 		protected long copyGeneric(
 			final AReadableFile source,
 			final AWritableFile target
@@ -1164,6 +1171,17 @@ public interface AIoHandler extends WriteController
 			}
 		}
 		
+		@Override
+		public void flush(final AWritableFile file)
+		{
+			this.validateHandledWritableFile(file);
+			
+			synchronized(file.actual())
+			{
+				this.specificFlushFile(this.typeWritableFile.cast(file));
+			}
+		}
+		
 	}
 	
 }
@@ -0,0 +1,843 @@
+package one.microstream.afs.types;
+
+/*-
+ * #%L
+ * microstream-afs
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.notNegative;
+import static one.microstream.math.XMath.positive;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedByInterruptException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+
+import one.microstream.exceptions.IORuntimeException;
+
+
+/**
+ * Bounded local disk cache for ranges of remote files, e.g. the data files of a storage in a blob store or
+ * a database. Files are cached in blocks of a fixed size, the least recently used blocks are evicted when
+ * the capacity is exceeded.
+ * <p>
+ * The cache itself does not know when a remote file changes. Its users have to {@link #invalidate(String)}
+ * a file on every write, truncation, move or deletion, or {@link #invalidate(String, long, long)} the changed
+ * range if the file was only appended to or truncated.
+ * <p>
+ * All operations are thread-safe. The cached blocks are read and written outside of the cache's lock,
+ * concurrent misses of the same block load it only once.
+ */
+public interface ALocalCache extends AutoCloseable
+{
+	/**
+	 * Reads the given range of a file into the target buffer, using the cached blocks where possible and
+	 * loading missing blocks with the loader.
+	 *
+	 * @param file the unique identifier of the remote file
+	 * @param fileSize the current size of the remote file
+	 * @param targetBuffer the buffer to read into
+	 * @param offset the start offset of the range
+	 * @param length the length of the range
+	 * @param loader the loader for missing blocks
+	 * @return the amount of bytes read
+	 */
+	public long read(
+		String      file        ,
+		long        fileSize    ,
+		ByteBuffer  targetBuffer,
+		long        offset      ,
+		long        length      ,
+		BlockLoader loader
+	);
+
+	/**
+	 * The size of a remote file. The size is kept until the file is invalidated,
+	 * so the loader is only asked once.
+	 *
+	 * @param file the unique identifier of the remote file
+	 * @param loader the loader for the size if it is not known yet
+	 * @return the size of the file
+	 */
+	public long fileSize(String file, LongSupplier loader);
+
+	/**
+	 * The size of a remote file if it is known, i.e. kept since a previous {@link #fileSize(String, LongSupplier)}
+	 * or {@link #invalidate(String, long, long)} call, without asking the remote side.
+	 *
+	 * @param file the unique identifier of the remote file
+	 * @return the known size of the file or <code>-1</code> if it is not known
+	 */
+	public long cachedFileSize(String file);
+
+	/**
+	 * Removes all cached blocks and the known size of a file.
+	 *
+	 * @param file the unique identifier of the remote file
+	 */
+	public void invalidate(String file);
+
+	/**
+	 * Removes the cached blocks of a file which reach into the range starting at the given offset,
+	 * including an incomplete trailing block, and remembers the new size of the file.
+	 * This is meant for appends and truncations, which leave the data before the offset unchanged.
+	 *
+	 * @param file the unique identifier of the remote file
+	 * @param offset the start offset of the changed range
+	 * @param fileSize the new size of the remote file
+	 */
+	public void invalidate(String file, long offset, long fileSize);
+
+	/**
+	 * Removes all cached blocks.
+	 */
+	public void clear();
+
+	/**
+	 * The current amount of cached bytes.
+	 *
+	 * @return the cached byte count
+	 */
+	public long size();
+
+	@Override
+	public void close();
+
+
+
+	/**
+	 * Loads a range of a remote file.
+	 */
+	@FunctionalInterface
+	public static interface BlockLoader
+	{
+		public void load(ByteBuffer targetBuffer, long offset, long length);
+	}
+
+
+
+	public interface Defaults
+	{
+		public static long defaultCapacity()
+		{
+			return 1024L * 1024L * 1024L; // 1 GiB
+		}
+
+		public static int defaultBlockSize()
+		{
+			return 1024 * 1024; // 1 MiB
+		}
+	}
+
+
+
+	/**
+	 * Creates a new local cache with default capacity and block size.
+	 * Existing block files in the directory are deleted.
+	 *
+	 * @param directory the local directory for the cached blocks
+	 * @return the new cache
+	 */
+	public static ALocalCache New(
+		final Path directory
+	)
+	{
+		return New(
+			directory,
+			Defaults.defaultCapacity(),
+			Defaults.defaultBlockSize()
+		);
+	}
+
+	/**
+	 * Creates a new local cache.
+	 * Existing block files in the directory are deleted.
+	 *
+	 * @param directory the local directory for the cached blocks
+	 * @param capacity the maximum amount of cached bytes
+	 * @param blockSize the size of the cached blocks
+	 * @return the new cache
+	 */
+	public static ALocalCache New(
+		final Path directory,
+		final long capacity ,
+		final int  blockSize
+	)
+	{
+		return new ALocalCache.Default(
+			notNull(directory),
+			positive(capacity),
+			positive(blockSize)
+		);
+	}
+
+
+
+	public static class Default implements ALocalCache
+	{
+		static final String BLOCK_FILE_SUFFIX      = ".block";
+		static final String TEMP_FILE_SUFFIX       = ".tmp"  ;
+		static final int    LOAD_LOCK_COUNT        = 64      ;
+		static final int    MAX_OPEN_CHANNEL_COUNT = 64      ;
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final Path                        directory       ;
+		private final long                        capacity        ;
+		private final int                         blockSize       ;
+		private final Object[]                    loadLocks       ;
+		private final LinkedHashMap<Block, Entry> blocks          ; // in access order, eldest first
+		private final Map<String, Set<Entry>>     fileEntries     ; // the entries of blocks, by file
+		private final Map<String, Long>           generations     ;
+		private final Map<String, Long>           fileSizes       ;
+		private final AtomicLong                  nextBlockId     ;
+		private final AtomicInteger               openChannelCount;
+		private       long                        clearCount      ;
+		private       long                        size            ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(
+			final Path directory,
+			final long capacity ,
+			final int  blockSize
+		)
+		{
+			super();
+			this.directory        = directory;
+			this.capacity         = capacity ;
+			this.blockSize        = blockSize;
+			this.loadLocks        = new Object[LOAD_LOCK_COUNT];
+			this.blocks           = new LinkedHashMap<>(16, 0.75f, true);
+			this.fileEntries      = new HashMap<>();
+			this.generations      = new HashMap<>();
+			this.fileSizes        = new HashMap<>();
+			this.nextBlockId      = new AtomicLong();
+			this.openChannelCount = new AtomicInteger();
+
+			for(int i = 0; i < this.loadLocks.length; i++)
+			{
+				this.loadLocks[i] = new Object();
+			}
+
+			this.initializeDirectory();
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		private void initializeDirectory()
+		{
+			try
+			{
+				Files.createDirectories(this.directory);
+
+				// blocks of a previous process may be outdated, the remote files could have been changed meanwhile
+				try(Stream<Path> files = Files.list(this.directory))
+				{
+					for(final Iterator<Path> it = files.iterator(); it.hasNext();)
+					{
+						final Path   file = it.next();
+						final String name = file.getFileName().toString();
+						if(name.endsWith(BLOCK_FILE_SUFFIX) || name.endsWith(TEMP_FILE_SUFFIX))
+						{
+							Files.delete(file);
+						}
+					}
+				}
+			}
+			catch(final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+		}
+
+		@Override
+		public long read(
+			final String      file        ,
+			final long        fileSize    ,
+			final ByteBuffer  targetBuffer,
+			final long        offset      ,
+			final long        length      ,
+			final BlockLoader loader
+		)
+		{
+			final long end      = Math.min(offset + length, fileSize);
+			      long position = offset;
+
+			while(position < end)
+			{
+				final long blockIndex  = position / this.blockSize;
+				final long blockStart  = blockIndex * this.blockSize;
+				final int  blockLength = (int)Math.min(this.blockSize, fileSize - blockStart);
+				final int  amount      = (int)(Math.min(blockStart + blockLength, end) - position);
+
+				this.readBlock(
+					new Block(file, blockIndex, blockLength),
+					targetBuffer,
+					(int)(position - blockStart),
+					amount,
+					loader
+				);
+				position += amount;
+			}
+
+			return position - offset;
+		}
+
+		private void readBlock(
+			final Block       block       ,
+			final ByteBuffer  targetBuffer,
+			final int         blockOffset ,
+			final int         amount      ,
+			final BlockLoader loader
+		)
+		{
+			if(this.readCachedBlock(block, targetBuffer, blockOffset, amount))
+			{
+				return;
+			}
+
+			final ByteBuffer buffer;
+
+			// concurrent misses of the same block wait for the first one, other blocks are not affected
+			synchronized(this.loadLock(block))
+			{
+				if(this.readCachedBlock(block, targetBuffer, blockOffset, amount))
+				{
+					return;
+				}
+
+				final long generation = this.generation(block.file);
+
+				buffer = ByteBuffer.allocateDirect(block.length);
+				loader.load(buffer, block.index * this.blockSize, block.length);
+				buffer.flip();
+
+				this.cacheBlock(block, buffer.duplicate(), generation);
+			}
+
+			buffer.position(blockOffset).limit(blockOffset + amount);
+			targetBuffer.put(buffer);
+		}
+
+		private Object loadLock(final Block block)
+		{
+			return this.loadLocks[(block.hashCode() & Integer.MAX_VALUE) % this.loadLocks.length];
+		}
+
+		private boolean readCachedBlock(
+			final Block      block       ,
+			final ByteBuffer targetBuffer,
+			final int        blockOffset ,
+			final int        amount
+		)
+		{
+			final Entry entry = this.pin(block);
+			if(entry == null)
+			{
+				return false;
+			}
+
+			try
+			{
+				this.readEntry(entry, targetBuffer, blockOffset, amount);
+			}
+			finally
+			{
+				this.unpin(entry);
+			}
+
+			return true;
+		}
+
+		private synchronized Entry pin(final Block block)
+		{
+			final Entry entry = this.blocks.get(block);
+			if(entry != null)
+			{
+				entry.pinCount++;
+			}
+
+			return entry;
+		}
+
+		private void unpin(final Entry entry)
+		{
+			final boolean release;
+			synchronized(this)
+			{
+				release = --entry.pinCount == 0 && entry.removed;
+				if(this.openChannelCount.get() > MAX_OPEN_CHANNEL_COUNT)
+				{
+					this.closeIdleChannels();
+				}
+			}
+
+			if(release)
+			{
+				this.release(entry);
+			}
+		}
+
+		private void closeIdleChannels()
+		{
+			// least recently used first, down to the half to not do this on every read
+			for(final Entry entry : this.blocks.values())
+			{
+				if(this.openChannelCount.get() <= MAX_OPEN_CHANNEL_COUNT / 2)
+				{
+					break;
+				}
+				if(entry.pinCount == 0)
+				{
+					this.closeChannel(entry, entry.channel);
+				}
+			}
+		}
+
+		private synchronized long generation(final String file)
+		{
+			return this.clearCount + this.generations.getOrDefault(file, 0L);
+		}
+
+		private void cacheBlock(
+			final Block      block     ,
+			final ByteBuffer data      ,
+			final long       generation
+		)
+		{
+			if(block.length > this.capacity)
+			{
+				return;
+			}
+
+			final Entry       entry    = new Entry(block, this.writeBlockFile(data));
+			final List<Entry> released = new ArrayList<>();
+			synchronized(this)
+			{
+				// don't cache blocks whose file was changed while loading
+				if(this.generation(block.file) == generation && !this.blocks.containsKey(block))
+				{
+					this.blocks.put(block, entry);
+					this.fileEntries.computeIfAbsent(block.file, file -> new HashSet<>()).add(entry);
+					this.size += block.length;
+					this.evict(released);
+				}
+				else
+				{
+					released.add(entry);
+				}
+			}
+
+			this.release(released);
+		}
+
+		private Path writeBlockFile(final ByteBuffer data)
+		{
+			final long id        = this.nextBlockId.getAndIncrement();
+			final Path tempFile  = this.directory.resolve(id + TEMP_FILE_SUFFIX);
+			final Path blockFile = this.directory.resolve(id + BLOCK_FILE_SUFFIX);
+			try
+			{
+				try(FileChannel channel = FileChannel.open(
+					tempFile,
+					StandardOpenOption.CREATE_NEW,
+					StandardOpenOption.WRITE
+				))
+				{
+					while(data.hasRemaining())
+					{
+						channel.write(data);
+					}
+				}
+
+				// block files are always complete, even if the process dies while writing
+				Files.move(tempFile, blockFile, StandardCopyOption.ATOMIC_MOVE);
+			}
+			catch(final IOException e)
+			{
+				try
+				{
+					Files.deleteIfExists(tempFile);
+				}
+				catch(final IOException suppressed)
+				{
+					e.addSuppressed(suppressed);
+				}
+				throw new IORuntimeException(e);
+			}
+
+			return blockFile;
+		}
+
+		private void evict(final List<Entry> released)
+		{
+			for(final Iterator<Entry> it = this.blocks.values().iterator();
+				this.size > this.capacity && it.hasNext();
+			)
+			{
+				final Entry eldest = it.next();
+				it.remove();
+				this.unindex(eldest);
+				this.remove(eldest, released);
+			}
+		}
+
+		private void unindex(final Entry entry)
+		{
+			final Set<Entry> entries = this.fileEntries.get(entry.block.file);
+			entries.remove(entry);
+			if(entries.isEmpty())
+			{
+				this.fileEntries.remove(entry.block.file);
+			}
+		}
+
+		private void remove(final Entry entry, final List<Entry> released)
+		{
+			this.size -= entry.block.length;
+			entry.removed = true;
+
+			// pinned entries are released by their last reader
+			if(entry.pinCount == 0)
+			{
+				released.add(entry);
+			}
+		}
+
+		private void release(final List<Entry> entries)
+		{
+			for(final Entry entry : entries)
+			{
+				this.release(entry);
+			}
+		}
+
+		private void release(final Entry entry)
+		{
+			this.closeChannel(entry, entry.channel);
+			try
+			{
+				Files.deleteIfExists(entry.file);
+			}
+			catch(final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+		}
+
+		private void readEntry(
+			final Entry      entry       ,
+			final ByteBuffer targetBuffer,
+			final int        blockOffset ,
+			final int        amount
+		)
+		{
+			final ByteBuffer target = targetBuffer.duplicate();
+			target.limit(target.position() + amount);
+
+			try
+			{
+				long position = blockOffset;
+				while(target.hasRemaining())
+				{
+					final FileChannel channel = this.openChannel(entry);
+					try
+					{
+						final int read = channel.read(target, position);
+						if(read < 0)
+						{
+							throw new IORuntimeException(new IOException("Incomplete cached block: " + entry.file));
+						}
+						position += read;
+					}
+					catch(final ClosedChannelException e)
+					{
+						// an interrupted reader of the same block closes the shared channel, it is reopened
+						this.closeChannel(entry, channel);
+						if(e instanceof ClosedByInterruptException)
+						{
+							throw e;
+						}
+					}
+				}
+			}
+			catch(final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+
+			targetBuffer.position(target.position());
+		}
+
+		private FileChannel openChannel(final Entry entry) throws IOException
+		{
+			synchronized(entry)
+			{
+				if(entry.channel == null)
+				{
+					entry.channel = FileChannel.open(entry.file, StandardOpenOption.READ);
+					this.openChannelCount.incrementAndGet();
+				}
+
+				return entry.channel;
+			}
+		}
+
+		private void closeChannel(final Entry entry, final FileChannel channel)
+		{
+			synchronized(entry)
+			{
+				if(channel == null || entry.channel != channel)
+				{
+					return;
+				}
+				entry.channel = null;
+			}
+
+			this.openChannelCount.decrementAndGet();
+			try
+			{
+				channel.close();
+			}
+			catch(final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+		}
+
+		@Override
+		public long fileSize(final String file, final LongSupplier loader)
+		{
+			final long generation;
+			synchronized(this)
+			{
+				final Long fileSize = this.fileSizes.get(file);
+				if(fileSize != null)
+				{
+					return fileSize;
+				}
+				generation = this.generation(file);
+			}
+
+			final long fileSize = loader.getAsLong();
+
+			synchronized(this)
+			{
+				// don't keep sizes of files which were changed while loading
+				if(this.generation(file) == generation)
+				{
+					this.fileSizes.putIfAbsent(file, fileSize);
+				}
+			}
+
+			return fileSize;
+		}
+
+		@Override
+		public synchronized long cachedFileSize(final String file)
+		{
+			final Long fileSize = this.fileSizes.get(file);
+
+			return fileSize != null
+				? fileSize
+				: -1L
+			;
+		}
+
+		@Override
+		public void invalidate(final String file)
+		{
+			final List<Entry> released = new ArrayList<>();
+			synchronized(this)
+			{
+				this.fileSizes.remove(file);
+				this.removeBlocks(file, 0L, released);
+			}
+
+			this.release(released);
+		}
+
+		@Override
+		public void invalidate(final String file, final long offset, final long fileSize)
+		{
+			notNegative(offset);
+			notNegative(fileSize);
+
+			final List<Entry> released = new ArrayList<>();
+			synchronized(this)
+			{
+				this.fileSizes.put(file, fileSize);
+				this.removeBlocks(file, offset, released);
+			}
+
+			this.release(released);
+		}
+
+		private void removeBlocks(final String file, final long offset, final List<Entry> released)
+		{
+			this.generations.merge(file, 1L, Math::addExact);
+
+			final Set<Entry> entries = this.fileEntries.get(file);
+			if(entries == null)
+			{
+				return;
+			}
+
+			for(final Iterator<Entry> it = entries.iterator(); it.hasNext();)
+			{
+				final Entry entry = it.next();
+				if((entry.block.index + 1) * this.blockSize > offset)
+				{
+					it.remove();
+					this.blocks.remove(entry.block);
+					this.remove(entry, released);
+				}
+			}
+			if(entries.isEmpty())
+			{
+				this.fileEntries.remove(file);
+			}
+		}
+
+		@Override
+		public void clear()
+		{
+			final List<Entry> released = new ArrayList<>();
+			synchronized(this)
+			{
+				this.clearCount++;
+				this.fileSizes.clear();
+				this.fileEntries.clear();
+				for(final Iterator<Entry> it = this.blocks.values().iterator(); it.hasNext();)
+				{
+					final Entry entry = it.next();
+					it.remove();
+					this.remove(entry, released);
+				}
+			}
+
+			this.release(released);
+		}
+
+		@Override
+		public synchronized long size()
+		{
+			return this.size;
+		}
+
+		@Override
+		public void close()
+		{
+			this.clear();
+		}
+
+
+
+		static final class Block
+		{
+			final String file  ;
+			final long   index ;
+			final int    length;
+
+			Block(final String file, final long index, final int length)
+			{
+				super();
+				this.file   = file  ;
+				this.index  = index ;
+				this.length = length;
+			}
+
+			@Override
+			public boolean equals(final Object other)
+			{
+				if(this == other)
+				{
+					return true;
+				}
+				if(!(other instanceof Block))
+				{
+					return false;
+				}
+				final Block block = (Block)other;
+				return this.index == block.index
+					&& this.length == block.length
+					&& this.file.equals(block.file)
+				;
+			}
+
+			@Override
+			public int hashCode()
+			{
+				return Objects.hash(this.file, this.index, this.length);
+			}
+
+		}
+
+
+
+		static final class Entry
+		{
+			final Block       block   ;
+			final Path        file    ;
+			      FileChannel channel ; // guarded by the entry, only closed while not pinned
+			      int         pinCount; // guarded by the cache
+			      boolean     removed ; // guarded by the cache
+
+			Entry(final Block block, final Path file)
+			{
+				super();
+				this.block = block;
+				this.file  = file ;
+			}
+
+		}
+
+	}
+
+}
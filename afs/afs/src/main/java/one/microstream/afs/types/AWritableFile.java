@@ -157,5 +157,16 @@ public interface AWritableFile extends AReadableFile
 		// synchronization handled by IoHandler.
 		this.actual().fileSystem().ioHandler().truncate(this, newSize);
 	}
+	
+	/**
+	 * Forces all data written to this file to be persisted on the underlying storage medium, e.g. by
+	 * synchronizing the operating system's file cache with the device.
+	 * File systems that persist every write immediately ignore this call.
+	 */
+	public default void flush()
+	{
+		// synchronization handled by IoHandler.
+		this.actual().fileSystem().ioHandler().flush(this);
+	}
 					
 }
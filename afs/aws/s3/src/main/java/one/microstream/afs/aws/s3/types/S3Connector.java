@@ -22,11 +22,14 @@ package one.microstream.afs.aws.s3.types;
 
 import static java.util.stream.Collectors.toList;
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -38,6 +41,12 @@ import software.amazon.awssdk.core.ResponseBytes;
 import software.amazon.awssdk.core.internal.util.Mimetype;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.Delete;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectsResponse;
@@ -50,6 +59,8 @@ import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.S3Object;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
 /**
  * Connector for the <a href="https://aws.amazon.com/s3/">Amazon Simple Storage Service (Amazon S3)</a>.
@@ -76,10 +87,27 @@ public interface S3Connector extends BlobStoreConnector
 	public static S3Connector New(
 		final S3Client s3
 	)
+	{
+		return New(s3, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link S3Connector}, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param s3 connection to the S3 storage
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link S3Connector}
+	 */
+	public static S3Connector New(
+		final S3Client s3         ,
+		final int      parallelism
+	)
 	{
 		return new S3Connector.Default(
 			notNull(s3),
-			false
+			false,
+			positive(parallelism)
 		);
 	}
 	
@@ -92,10 +120,27 @@ public interface S3Connector extends BlobStoreConnector
 	public static S3Connector Caching(
 		final S3Client s3
 	)
+	{
+		return Caching(s3, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link S3Connector} with cache, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param s3 connection to the S3 storage
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link S3Connector}
+	 */
+	public static S3Connector Caching(
+		final S3Client s3         ,
+		final int      parallelism
+	)
 	{
 		return new S3Connector.Default(
 			notNull(s3),
-			true
+			true,
+			positive(parallelism)
 		);
 	}
 
@@ -107,15 +152,17 @@ public interface S3Connector extends BlobStoreConnector
 		private final S3Client s3;
 
 		Default(
-			final S3Client s3      ,
-			final boolean  useCache
+			final S3Client s3         ,
+			final boolean  useCache   ,
+			final int      parallelism
 		)
 		{
 			super(
 				S3Object::key,
 				S3Object::size,
 				S3PathValidator.New(),
-				useCache
+				useCache,
+				parallelism
 			);
 			this.s3 = s3;
 		}
@@ -255,6 +302,12 @@ public interface S3Connector extends BlobStoreConnector
 			final long nextBlobNumber = this.nextBlobNumber(file);
 			final long totalSize      = this.totalSize(sourceBuffers);
 
+			if(this.parallelism() > 1 && totalSize > this.partSize())
+			{
+				this.multipartUpload(file.container(), toBlobKey(file, nextBlobNumber), sourceBuffers);
+				return totalSize;
+			}
+
 			final PutObjectRequest request = PutObjectRequest.builder()
 				.bucket(file.container())
 				.key(toBlobKey(file, nextBlobNumber))
@@ -281,6 +334,118 @@ public interface S3Connector extends BlobStoreConnector
 			return totalSize;
 		}
 
+		/*
+		 * Uploads the buffers as a single object, but in parts which are sent concurrently.
+		 */
+		private void multipartUpload(
+			final String                         bucket       ,
+			final String                         key          ,
+			final Iterable<? extends ByteBuffer> sourceBuffers
+		)
+		{
+			final String uploadId = this.s3.createMultipartUpload(
+				CreateMultipartUploadRequest.builder()
+					.bucket(bucket)
+					.key(key)
+					.build()
+			)
+			.uploadId();
+
+			try
+			{
+				final List<List<ByteBuffer>>        parts   = this.splitIntoParts(sourceBuffers, this.partSize());
+				final List<Callable<CompletedPart>> uploads = new ArrayList<>(parts.size());
+				for(int i = 0; i < parts.size(); i++)
+				{
+					final int              partNumber = i + 1; // part numbers are 1-based
+					final List<ByteBuffer> part       = parts.get(i);
+					uploads.add(() -> this.uploadPart(bucket, key, uploadId, partNumber, part));
+				}
+
+				final List<CompletedPart> completedParts = this.execute(uploads);
+
+				this.s3.completeMultipartUpload(
+					CompleteMultipartUploadRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.uploadId(uploadId)
+						.multipartUpload(CompletedMultipartUpload.builder().parts(completedParts).build())
+						.build()
+				);
+			}
+			catch(final RuntimeException e)
+			{
+				this.s3.abortMultipartUpload(
+					AbortMultipartUploadRequest.builder()
+						.bucket(bucket)
+						.key(key)
+						.uploadId(uploadId)
+						.build()
+				);
+				throw e;
+			}
+
+			sourceBuffers.forEach(buffer -> buffer.position(buffer.limit()));
+		}
+
+		private CompletedPart uploadPart(
+			final String           bucket    ,
+			final String           key       ,
+			final String           uploadId  ,
+			final int              partNumber,
+			final List<ByteBuffer> part
+		)
+		{
+			final long              partLength = this.totalSize(part);
+			final UploadPartRequest request    = UploadPartRequest.builder()
+				.bucket(bucket)
+				.key(key)
+				.uploadId(uploadId)
+				.partNumber(partNumber)
+				.contentLength(partLength)
+				.build()
+			;
+			// the content may be requested more than once, e.g. for retries
+			final RequestBody body = RequestBody.fromContentProvider(
+				() -> ByteBufferInputStream.New(
+					part.stream().map(ByteBuffer::duplicate).collect(toList())
+				),
+				partLength,
+				Mimetype.MIMETYPE_OCTET_STREAM
+			);
+			final UploadPartResponse response = this.s3.uploadPart(request, body);
+
+			return CompletedPart.builder()
+				.partNumber(partNumber)
+				.eTag(response.eTag())
+				.build()
+			;
+		}
+
+		@Override
+		protected boolean supportsBlobCopy()
+		{
+			return true;
+		}
+
+		@Override
+		protected void internalCopyBlob(
+			final BlobStorePath sourceFile      ,
+			final S3Object      sourceBlob      ,
+			final BlobStorePath targetFile      ,
+			final long          targetBlobNumber
+		)
+		{
+			final CopyObjectRequest request = CopyObjectRequest.builder()
+				.sourceBucket(sourceFile.container())
+				.sourceKey(sourceBlob.key())
+				.destinationBucket(targetFile.container())
+				.destinationKey(toBlobKey(targetFile, targetBlobNumber))
+				.build()
+			;
+			this.s3.copyObject(request);
+		}
+
 	}
 
 }
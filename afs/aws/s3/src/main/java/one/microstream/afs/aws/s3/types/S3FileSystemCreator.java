@@ -20,9 +20,16 @@ package one.microstream.afs.aws.s3.types;
  * #L%
  */
 
+import java.nio.file.Paths;
+
 import one.microstream.afs.aws.types.AwsFileSystemCreator;
+import one.microstream.afs.blobstore.types.BlobStoreConnector;
+import one.microstream.afs.blobstore.types.BlobStoreConnectorLocalCaching;
 import one.microstream.afs.blobstore.types.BlobStoreFileSystem;
 import one.microstream.afs.types.AFileSystem;
+import one.microstream.afs.types.ALocalCache;
+import one.microstream.configuration.exceptions.ConfigurationException;
+import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3ClientBuilder;
@@ -48,13 +55,40 @@ public class S3FileSystemCreator extends AwsFileSystemCreator
 		final S3ClientBuilder clientBuilder = S3Client.builder();
 		this.populateBuilder(clientBuilder, s3Configuration);
 		
-		final S3Client    client    = clientBuilder.build();
-		final boolean     cache     = configuration.optBoolean("cache").orElse(true);
-		final S3Connector connector = cache
-			? S3Connector.Caching(client)
-			: S3Connector.New(client)
+		final S3Client    client      = clientBuilder.build();
+		final boolean     cache       = configuration.optBoolean("cache").orElse(true);
+		final int         parallelism = configuration.optInteger("parallelism").orElse(1);
+		final S3Connector connector   = cache
+			? S3Connector.Caching(client, parallelism)
+			: S3Connector.New(client, parallelism)
 		;
-		return BlobStoreFileSystem.New(connector);
+		return BlobStoreFileSystem.New(this.localCaching(configuration, connector));
 	}
-	
+
+	private BlobStoreConnector localCaching(
+		final Configuration      configuration,
+		final BlobStoreConnector connector
+	)
+	{
+		final Configuration localCacheConfiguration = configuration.child("local-cache");
+		if(localCacheConfiguration == null)
+		{
+			return connector;
+		}
+
+		final String directory = localCacheConfiguration.opt("directory").orElseThrow(
+			() -> new ConfigurationException(localCacheConfiguration, "local-cache.directory must be set")
+		);
+		final ALocalCache cache = ALocalCache.New(
+			Paths.get(directory),
+			localCacheConfiguration.opt("capacity", ByteSize.class)
+				.map(ByteSize::bytes)
+				.orElse(ALocalCache.Defaults.defaultCapacity()),
+			localCacheConfiguration.opt("block-size", ByteSize.class)
+				.map(size -> Math.toIntExact(size.bytes()))
+				.orElse(ALocalCache.Defaults.defaultBlockSize())
+		);
+		return BlobStoreConnectorLocalCaching.New(connector, cache);
+	}
+
 }
@@ -21,11 +21,16 @@ package one.microstream.afs.azure.storage.types;
  */
 
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
 
 import java.io.BufferedInputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
 import java.util.List;
+import java.util.concurrent.Callable;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
@@ -70,10 +75,27 @@ public interface AzureStorageConnector extends BlobStoreConnector
 	public static AzureStorageConnector New(
 		final BlobServiceClient serviceClient
 	)
+	{
+		return New(serviceClient, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link AzureStorageConnector}, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param serviceClient connection to the Azure storage service
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link AzureStorageConnector}
+	 */
+	public static AzureStorageConnector New(
+		final BlobServiceClient serviceClient,
+		final int               parallelism
+	)
 	{
 		return new AzureStorageConnector.Default(
 			notNull(serviceClient),
-			false
+			false,
+			positive(parallelism)
 		);
 	}
 	
@@ -86,10 +108,27 @@ public interface AzureStorageConnector extends BlobStoreConnector
 	public static AzureStorageConnector Caching(
 		final BlobServiceClient serviceClient
 	)
+	{
+		return Caching(serviceClient, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link AzureStorageConnector} with cache, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param serviceClient connection to the Azure storage service
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link AzureStorageConnector}
+	 */
+	public static AzureStorageConnector Caching(
+		final BlobServiceClient serviceClient,
+		final int               parallelism
+	)
 	{
 		return new AzureStorageConnector.Default(
 			notNull(serviceClient),
-			true
+			true,
+			positive(parallelism)
 		);
 	}
 
@@ -102,14 +141,16 @@ public interface AzureStorageConnector extends BlobStoreConnector
 
 		Default(
 			final BlobServiceClient serviceClient,
-			final boolean           useCache
+			final boolean           useCache     ,
+			final int               parallelism
 		)
 		{
 			super(
 				BlobItem::getName,
 				b -> b.getProperties().getContentLength(),
 				AzureStoragePathValidator.New(),
-				useCache
+				useCache,
+				parallelism
 			);
 			this.serviceClient = serviceClient;
 		}
@@ -233,6 +274,20 @@ public interface AzureStorageConnector extends BlobStoreConnector
 			      long nextBlobNumber = this.nextBlobNumber(file);
 			final long totalSize      = this.totalSize(sourceBuffers);
 
+			if(this.parallelism() > 1 && totalSize > this.partSize())
+			{
+				// same blob layout as below, but each blob's blocks are staged concurrently
+				for(final List<ByteBuffer> blobBuffers : this.splitIntoParts(
+					sourceBuffers,
+					BlockBlobClient.MAX_STAGE_BLOCK_BYTES_LONG
+				))
+				{
+					this.uploadBlocks(file, toBlobKey(file, nextBlobNumber++), blobBuffers);
+				}
+				sourceBuffers.forEach(buffer -> buffer.position(buffer.limit()));
+				return totalSize;
+			}
+
 			final ByteBufferInputStream buffersInputStream = ByteBufferInputStream.New(sourceBuffers);
 			long available = totalSize;
 			while(available > 0)
@@ -264,6 +319,74 @@ public interface AzureStorageConnector extends BlobStoreConnector
 			return totalSize;
 		}
 
+		private void uploadBlocks(
+			final BlobStorePath    file       ,
+			final String           blobKey    ,
+			final List<ByteBuffer> blobBuffers
+		)
+		{
+			final BlockBlobClient        blobClient = this.serviceClient.getBlobContainerClient(file.container())
+				.getBlobClient(blobKey)
+				.getBlockBlobClient()
+			;
+			final List<List<ByteBuffer>> blocks     = this.splitIntoParts(blobBuffers, this.partSize());
+			final List<String>           blockIds   = new ArrayList<>(blocks.size());
+			final List<Callable<Void>>   uploads    = new ArrayList<>(blocks.size());
+			for(int i = 0; i < blocks.size(); i++)
+			{
+				// block ids of a blob must all have the same length
+				final String           blockId = Base64.getEncoder().encodeToString(
+					String.format("%010d", i).getBytes(StandardCharsets.US_ASCII)
+				);
+				final List<ByteBuffer> block   = blocks.get(i);
+				final long             length  = this.totalSize(block);
+				blockIds.add(blockId);
+				uploads.add(() ->
+				{
+					try(final BufferedInputStream inputStream = new BufferedInputStream(
+						ByteBufferInputStream.New(block)
+					))
+					{
+						blobClient.stageBlock(blockId, inputStream, length);
+					}
+					catch(final IOException e)
+					{
+						throw new IORuntimeException(e);
+					}
+					return null;
+				});
+			}
+
+			this.execute(uploads);
+
+			blobClient.commitBlockList(blockIds);
+		}
+
+		@Override
+		protected boolean supportsBlobCopy()
+		{
+			return true;
+		}
+
+		@Override
+		protected void internalCopyBlob(
+			final BlobStorePath sourceFile      ,
+			final BlobItem      sourceBlob      ,
+			final BlobStorePath targetFile      ,
+			final long          targetBlobNumber
+		)
+		{
+			final String sourceUrl = this.serviceClient.getBlobContainerClient(sourceFile.container())
+				.getBlobClient(sourceBlob.getName())
+				.getBlobUrl()
+			;
+			this.serviceClient.getBlobContainerClient(targetFile.container())
+				.getBlobClient(toBlobKey(targetFile, targetBlobNumber))
+				.beginCopy(sourceUrl, null)
+				.waitForCompletion()
+			;
+		}
+
 	}
 
 }
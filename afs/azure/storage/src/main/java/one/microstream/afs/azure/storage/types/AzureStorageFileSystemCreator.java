@@ -20,13 +20,20 @@ package one.microstream.afs.azure.storage.types;
  * #L%
  */
 
+import java.nio.file.Paths;
+
 import com.azure.core.credential.BasicAuthenticationCredential;
 import com.azure.storage.blob.BlobServiceClient;
 import com.azure.storage.blob.BlobServiceClientBuilder;
 import com.azure.storage.common.StorageSharedKeyCredential;
 
+import one.microstream.afs.blobstore.types.BlobStoreConnector;
+import one.microstream.afs.blobstore.types.BlobStoreConnectorLocalCaching;
 import one.microstream.afs.blobstore.types.BlobStoreFileSystem;
 import one.microstream.afs.types.AFileSystem;
+import one.microstream.afs.types.ALocalCache;
+import one.microstream.configuration.exceptions.ConfigurationException;
+import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
 import one.microstream.configuration.types.ConfigurationBasedCreator;
 
@@ -105,13 +112,40 @@ public class AzureStorageFileSystemCreator extends ConfigurationBasedCreator.Abs
 			clientBuilder.configuration(config);
 		}
 
-		final BlobServiceClient     client    = clientBuilder.buildClient();
-		final boolean               cache     = configuration.optBoolean("cache").orElse(true);
-		final AzureStorageConnector connector = cache
-			? AzureStorageConnector.Caching(client)
-			: AzureStorageConnector.New(client)
+		final BlobServiceClient     client      = clientBuilder.buildClient();
+		final boolean               cache       = configuration.optBoolean("cache").orElse(true);
+		final int                   parallelism = configuration.optInteger("parallelism").orElse(1);
+		final AzureStorageConnector connector   = cache
+			? AzureStorageConnector.Caching(client, parallelism)
+			: AzureStorageConnector.New(client, parallelism)
 		;
-		return BlobStoreFileSystem.New(connector);
+		return BlobStoreFileSystem.New(this.localCaching(configuration, connector));
+	}
+
+	private BlobStoreConnector localCaching(
+		final Configuration      configuration,
+		final BlobStoreConnector connector
+	)
+	{
+		final Configuration localCacheConfiguration = configuration.child("local-cache");
+		if(localCacheConfiguration == null)
+		{
+			return connector;
+		}
+
+		final String directory = localCacheConfiguration.opt("directory").orElseThrow(
+			() -> new ConfigurationException(localCacheConfiguration, "local-cache.directory must be set")
+		);
+		final ALocalCache cache = ALocalCache.New(
+			Paths.get(directory),
+			localCacheConfiguration.opt("capacity", ByteSize.class)
+				.map(ByteSize::bytes)
+				.orElse(ALocalCache.Defaults.defaultCapacity()),
+			localCacheConfiguration.opt("block-size", ByteSize.class)
+				.map(size -> Math.toIntExact(size.bytes()))
+				.orElse(ALocalCache.Defaults.defaultBlockSize())
+		);
+		return BlobStoreConnectorLocalCaching.New(connector, cache);
 	}
 
 }
@@ -23,18 +23,25 @@ package one.microstream.afs.blobstore.types;
 import static java.util.stream.Collectors.toList;
 import static one.microstream.X.checkArrayRange;
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.OptionalLong;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Function;
 import java.util.function.LongFunction;
 import java.util.function.ToLongFunction;
@@ -42,6 +49,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
+import one.microstream.afs.exceptions.AfsException;
 import one.microstream.reference.Reference;
 
 /**
@@ -93,6 +101,8 @@ public interface BlobStoreConnector extends AutoCloseable
 		protected final static String  NUMBER_SUFFIX_SEPARATOR      = ".";
 		protected final static char    NUMBER_SUFFIX_SEPARATOR_CHAR = '.';
 		protected final static String  NUMBER_SUFFIX_REGEX          = "\\d+";
+		protected final static long    DEFAULT_COPY_BUFFER_SIZE     = 8L * 1024L * 1024L;
+		protected final static long    DEFAULT_PART_SIZE            = 8L * 1024L * 1024L;
 
 		protected static String toContainerKey(
 			final BlobStorePath directory
@@ -224,14 +234,17 @@ public interface BlobStoreConnector extends AutoCloseable
 		}
 
 
-		private final Function<B, String>     blobKeyProvider                       ;
-		private final ToLongFunction<B>       blobSizeProvider                      ;
-		private final BlobStorePath.Validator blobStorePathValidator                ;
-		private final AtomicBoolean           open                                  ;
-		private final boolean                 useCache                              ;
-		private final Map<String, Boolean>    directoryExistsCache = new HashMap<>();
-		private final Map<String, Boolean>    fileExistsCache      = new HashMap<>();
-		private final Map<String, Long>       fileSizeCache        = new HashMap<>();
+		private final Function<B, String>       blobKeyProvider                         ;
+		private final ToLongFunction<B>         blobSizeProvider                        ;
+		private final BlobStorePath.Validator   blobStorePathValidator                  ;
+		private final AtomicBoolean             open                                    ;
+		private final boolean                   useCache                                ;
+		private final int                       parallelism                             ;
+		private       ExecutorService           executor                                ;
+		private final Map<String, Boolean>      directoryExistsCache   = new HashMap<>();
+		private final Map<String, Boolean>      fileExistsCache        = new HashMap<>();
+		private final Map<String, Long>         fileSizeCache          = new HashMap<>();
+		private final Map<String, BlobIndex<B>> blobIndexCache         = new HashMap<>();
 
 		protected Abstract(
 			final Function<B, String> blobKeyProvider ,
@@ -253,6 +266,27 @@ public interface BlobStoreConnector extends AutoCloseable
 			final BlobStorePath.Validator blobStorePathValidator,
 			final boolean                 useCache
 		)
+		{
+			this(
+				blobKeyProvider,
+				blobSizeProvider,
+				blobStorePathValidator,
+				useCache,
+				1
+			);
+		}
+
+		/**
+		 * @param parallelism the maximum number of concurrent requests a single read or write may use,
+		 *        1 processes all blobs one after another
+		 */
+		protected Abstract(
+			final Function<B, String>     blobKeyProvider       ,
+			final ToLongFunction<B>       blobSizeProvider      ,
+			final BlobStorePath.Validator blobStorePathValidator,
+			final boolean                 useCache              ,
+			final int                     parallelism
+		)
 		{
 			super();
 			this.blobKeyProvider        = notNull(blobKeyProvider) ;
@@ -262,6 +296,7 @@ public interface BlobStoreConnector extends AutoCloseable
 				: BlobStorePath.Validator.NO_OP
 			;
 			this.useCache               = useCache;
+			this.parallelism            = positive(parallelism);
 			this.open                   = new AtomicBoolean(true);
 		}
 
@@ -384,7 +419,7 @@ public interface BlobStoreConnector extends AutoCloseable
 			final BlobStorePath file
 		)
 		{
-			final List<? extends B> blobs = this.blobs(file).collect(toList());
+			final List<? extends B> blobs = this.blobIndex(file).blobs;
 			return blobs.isEmpty()
 				? false
 				: this.internalDeleteBlobs(file, blobs)
@@ -447,6 +482,11 @@ public interface BlobStoreConnector extends AutoCloseable
 			this.internalDeleteFile(sourceFile);
 		}
 
+		/**
+		 * Copies a range of a file to the end of another file.
+		 * Whole blobs are copied inside the blob store if the connector {@link #supportsBlobCopy() supports} it,
+		 * all other data is streamed through a buffer of at most {@link #copyBufferSize()} bytes.
+		 */
 		protected long internalCopyFile(
 			final BlobStorePath sourceFile,
 			final BlobStorePath targetFile,
@@ -454,8 +494,124 @@ public interface BlobStoreConnector extends AutoCloseable
 			final long          length
 		)
 		{
-			final ByteBuffer buffer = this.readData(sourceFile, offset, length);
-			return this.writeData(targetFile, Arrays.asList(buffer));
+			if(length == 0L)
+			{
+				return 0L;
+			}
+
+			final BlobIndex<B> index = this.blobIndex(sourceFile, offset, length);
+			final long         end   = length > 0L
+				? Math.min(offset + length, index.length())
+				: index.length()
+			;
+			if(!this.supportsBlobCopy())
+			{
+				return this.streamData(sourceFile, targetFile, offset, end - offset);
+			}
+
+			long position = offset;
+			for(int i = index.blobIndexAt(offset); position < end && i < index.blobs.size(); i++)
+			{
+				final long blobStart = index.blobOffsets[i];
+				final long blobEnd   = index.blobOffsets[i + 1];
+				final long amount    = Math.min(blobEnd, end) - position;
+				if(amount <= 0L)
+				{
+					continue;
+				}
+
+				if(position == blobStart && amount == blobEnd - blobStart)
+				{
+					this.internalCopyBlob(sourceFile, index.blobs.get(i), targetFile, this.nextBlobNumber(targetFile));
+					this.removeCachedBlobIndex(targetFile);
+				}
+				else
+				{
+					this.streamData(sourceFile, targetFile, position, amount);
+				}
+				position += amount;
+			}
+
+			return Math.max(0L, position - offset);
+		}
+
+		private long streamData(
+			final BlobStorePath sourceFile,
+			final BlobStorePath targetFile,
+			final long          offset    ,
+			final long          length
+		)
+		{
+			if(length <= 0L)
+			{
+				return 0L;
+			}
+
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(
+				checkArrayRange(Math.min(length, this.copyBufferSize()))
+			);
+			long position = offset;
+			long copied   = 0L;
+			while(copied < length)
+			{
+				buffer.clear();
+				buffer.limit(checkArrayRange(Math.min(length - copied, buffer.capacity())));
+				final long read = this.internalReadData(sourceFile, buffer, position, buffer.limit());
+				if(read <= 0L)
+				{
+					break;
+				}
+				buffer.flip();
+
+				this.internalWriteData(targetFile, Arrays.asList(buffer));
+				this.removeCachedBlobIndex(targetFile);
+
+				position += read;
+				copied   += read;
+			}
+
+			return copied;
+		}
+
+		/**
+		 * Maximum size of the buffer used to copy data which cannot be copied inside the blob store.
+		 *
+		 * @return the copy buffer size in bytes
+		 */
+		protected long copyBufferSize()
+		{
+			return DEFAULT_COPY_BUFFER_SIZE;
+		}
+
+		/**
+		 * Determines if this connector can copy blobs inside the blob store, without transferring their data
+		 * through this process. If so, {@link #internalCopyBlob(BlobStorePath, Object, BlobStorePath, long)}
+		 * must be implemented.
+		 *
+		 * @return <code>true</code> if blobs can be copied inside the blob store
+		 */
+		protected boolean supportsBlobCopy()
+		{
+			return false;
+		}
+
+		/**
+		 * Copies a whole blob inside the blob store to a new blob of the target file.
+		 * Only called if {@link #supportsBlobCopy()} returns <code>true</code>.
+		 *
+		 * @param sourceFile the file the blob belongs to
+		 * @param sourceBlob the blob to copy
+		 * @param targetFile the file the new blob belongs to
+		 * @param targetBlobNumber the number of the new blob
+		 */
+		protected void internalCopyBlob(
+			final BlobStorePath sourceFile      ,
+			final B             sourceBlob      ,
+			final BlobStorePath targetFile      ,
+			final long          targetBlobNumber
+		)
+		{
+			throw new UnsupportedOperationException();
 		}
 
 		protected void internalTruncateFile(
@@ -463,7 +619,7 @@ public interface BlobStoreConnector extends AutoCloseable
 			final long          newLength
 		)
 		{
-			final List<? extends B> blobs = this.blobs(file).collect(toList());
+			final List<? extends B> blobs = this.blobIndex(file).blobs;
 			      long              offset = 0L;
 			      B                 blob   = null;
 			for(final B b : blobs)
@@ -531,7 +687,14 @@ public interface BlobStoreConnector extends AutoCloseable
 
 		protected void internalClose()
 		{
-			// no-op by default
+			synchronized(this)
+			{
+				if(this.executor != null)
+				{
+					this.executor.shutdown();
+					this.executor = null;
+				}
+			}
 		}
 
 		protected Comparator<B> blobComparator()
@@ -552,7 +715,7 @@ public interface BlobStoreConnector extends AutoCloseable
 			final BlobStorePath file
 		)
 		{
-			final OptionalLong maxBlobNumber = this.blobs(file)
+			final OptionalLong maxBlobNumber = this.blobIndex(file).blobs.stream()
 				.mapToLong(this::blobNumber)
 				.max()
 			;
@@ -569,62 +732,291 @@ public interface BlobStoreConnector extends AutoCloseable
 			final long                     length
 		)
 		{
-			final List<B>     blobs        = this.blobs(file).collect(toList());
-			final long        sizeTotal    = blobs.stream()
-				.mapToLong(this.blobSizeProvider)
-				.sum()
+			final BlobIndex<B>         index         = this.blobIndex(file, offset, length);
+			final List<Callable<Void>> reads         = new ArrayList<>();
+			final long                 partSize      = this.parallelism > 1
+				? this.partSize()
+				: Long.MAX_VALUE
 			;
-			final Iterator<B> iterator     = blobs.iterator();
-		          long        remaining    = length > 0L
-		        	  ? length
-		        	  : sizeTotal - offset
-		          ;
-		          long        readTotal    = 0L;
-		          long        skipped      = 0L;
-		          ByteBuffer  targetBuffer = null;
-			while(remaining > 0 && iterator.hasNext())
-			{
-				final B    blob     = iterator.next();
-				final long blobSize = this.blobSizeProvider.applyAsLong(blob);
-				if(skipped + blobSize <= offset)
+			      long                 remaining     = length > 0L
+			    	  ? length
+			    	  : index.length() - offset
+			      ;
+			      long                 position      = offset;
+			      long                 readTotal     = 0L;
+			      ByteBuffer           targetBuffer  = null;
+			      int                  startPosition = 0;
+
+			// start directly at the blob containing the offset, preceding blobs are not touched at all
+			for(int i = index.blobIndexAt(offset); remaining > 0 && i < index.blobs.size(); i++)
+			{
+				final long amount = Math.min(
+					index.blobOffsets[i + 1] - position,
+					remaining
+				);
+				if(amount <= 0L)
 				{
-					skipped += blobSize;
 					continue;
 				}
 
 				if(targetBuffer == null)
 				{
-					targetBuffer = bufferProvider.apply(remaining);
+					targetBuffer  = bufferProvider.apply(remaining);
+					startPosition = targetBuffer.position();
 				}
 
-				final long blobOffset;
-				if(skipped < offset)
-				{
-					blobOffset = offset - skipped;
-					skipped = offset;
-				}
-				else
+				// each part is read into its own region of the target buffer, so they can be read concurrently
+				for(long partOffset = 0L; partOffset < amount; partOffset += partSize)
 				{
-					blobOffset = 0L;
+					final B          blob           = index.blobs.get(i);
+					final ByteBuffer buffer         = targetBuffer;
+					final int        bufferPosition = checkArrayRange(startPosition + readTotal + partOffset);
+					final long       blobOffset     = position - index.blobOffsets[i] + partOffset;
+					final long       partLength     = Math.min(partSize, amount - partOffset);
+					reads.add(() ->
+					{
+						final ByteBuffer partBuffer = buffer.duplicate();
+						partBuffer.limit(checkArrayRange(bufferPosition + partLength));
+						partBuffer.position(bufferPosition);
+						this.internalReadBlobData(file, blob, partBuffer, blobOffset, partLength);
+						return null;
+					});
 				}
-				final long amount = Math.min(
-					blobSize - blobOffset,
-					remaining
-				);
-				this.internalReadBlobData(
-					file,
-					blob,
-					targetBuffer,
-					blobOffset,
-					amount
-				);
+
+				position  += amount;
 				remaining -= amount;
 				readTotal += amount;
 			}
 
+			this.execute(reads);
+
+			if(targetBuffer != null)
+			{
+				targetBuffer.position(checkArrayRange(startPosition + readTotal));
+			}
+
 			return readTotal;
 		}
 
+		/**
+		 * The size of the parts large reads and writes are split into if the connector's parallelism is
+		 * greater than 1.
+		 *
+		 * @return the part size in bytes
+		 */
+		protected long partSize()
+		{
+			return DEFAULT_PART_SIZE;
+		}
+
+		/**
+		 * @return the maximum number of concurrent requests a single read or write may use
+		 */
+		protected int parallelism()
+		{
+			return this.parallelism;
+		}
+
+		/**
+		 * Returns the executor for concurrent requests, or <code>null</code> if the parallelism is 1.
+		 *
+		 * @return the executor or <code>null</code>
+		 */
+		protected ExecutorService executor()
+		{
+			if(this.parallelism <= 1)
+			{
+				return null;
+			}
+
+			synchronized(this)
+			{
+				if(this.executor == null)
+				{
+					final AtomicInteger threadNumber = new AtomicInteger();
+					this.executor = Executors.newFixedThreadPool(this.parallelism, runnable ->
+					{
+						final Thread thread = new Thread(
+							runnable,
+							"BlobStoreConnector-" + threadNumber.incrementAndGet()
+						);
+						thread.setDaemon(true);
+						return thread;
+					});
+				}
+				return this.executor;
+			}
+		}
+
+		/**
+		 * Executes the given tasks, concurrently if the connector's parallelism allows it, and waits until
+		 * all of them are done.
+		 *
+		 * @param <T> the result type
+		 * @param tasks the tasks to execute
+		 * @return the results of the tasks, in the same order
+		 */
+		protected <T> List<T> execute(
+			final List<? extends Callable<T>> tasks
+		)
+		{
+			final List<T>         results  = new ArrayList<>(tasks.size());
+			final ExecutorService executor = tasks.size() > 1
+				? this.executor()
+				: null
+			;
+			try
+			{
+				if(executor == null)
+				{
+					for(final Callable<T> task : tasks)
+					{
+						results.add(task.call());
+					}
+					return results;
+				}
+
+				for(final Future<T> future : executor.invokeAll(tasks))
+				{
+					results.add(future.get());
+				}
+				return results;
+			}
+			catch(final ExecutionException e)
+			{
+				final Throwable cause = e.getCause();
+				if(cause instanceof RuntimeException)
+				{
+					throw (RuntimeException)cause;
+				}
+				if(cause instanceof Error)
+				{
+					throw (Error)cause;
+				}
+				throw new AfsException(cause);
+			}
+			catch(final InterruptedException e)
+			{
+				Thread.currentThread().interrupt();
+				throw new AfsException(e);
+			}
+			catch(final RuntimeException e)
+			{
+				throw e;
+			}
+			catch(final Exception e)
+			{
+				throw new AfsException(e);
+			}
+		}
+
+		/**
+		 * Splits the source buffers into parts of at most the given size, without copying any data.
+		 * The parts share the content of the source buffers, the positions of the source buffers are not changed.
+		 *
+		 * @param sourceBuffers the buffers to split
+		 * @param partSize the maximum part size in bytes
+		 * @return the parts, each one a list of buffers
+		 */
+		protected List<List<ByteBuffer>> splitIntoParts(
+			final Iterable<? extends ByteBuffer> sourceBuffers,
+			final long                           partSize
+		)
+		{
+			final List<List<ByteBuffer>> parts       = new ArrayList<>();
+			      List<ByteBuffer>       currentPart = new ArrayList<>();
+			      long                   currentSize = 0L;
+			for(final ByteBuffer sourceBuffer : sourceBuffers)
+			{
+				int position = sourceBuffer.position();
+				while(position < sourceBuffer.limit())
+				{
+					if(currentSize == partSize)
+					{
+						parts.add(currentPart);
+						currentPart = new ArrayList<>();
+						currentSize = 0L;
+					}
+
+					final int        amount = (int)Math.min(sourceBuffer.limit() - position, partSize - currentSize);
+					final ByteBuffer slice  = sourceBuffer.duplicate();
+					slice.limit(position + amount);
+					slice.position(position);
+					currentPart.add(slice);
+					currentSize += amount;
+					position    += amount;
+				}
+			}
+			if(currentSize > 0L)
+			{
+				parts.add(currentPart);
+			}
+			return parts;
+		}
+
+		private BlobIndex<B> blobIndex(
+			final BlobStorePath file
+		)
+		{
+			return this.blobIndex(file, 0L, -1L);
+		}
+
+		/**
+		 * Returns the index of the file's blobs, which covers at least the given range.
+		 * If caching is enabled, the blobs are only listed if there is no cached index yet or if the range
+		 * reaches into data which was appended after the cached index was built.
+		 */
+		private BlobIndex<B> blobIndex(
+			final BlobStorePath file  ,
+			final long          offset,
+			final long          length
+		)
+		{
+			if(!this.useCache)
+			{
+				return this.createBlobIndex(file);
+			}
+
+			synchronized(this)
+			{
+				final BlobIndex<B> cachedIndex = this.blobIndexCache.get(file.fullQualifiedName());
+				if(cachedIndex != null && cachedIndex.covers(offset, length))
+				{
+					return cachedIndex;
+				}
+
+				final BlobIndex<B> index = this.createBlobIndex(file);
+				this.blobIndexCache.put(file.fullQualifiedName(), index);
+				return index;
+			}
+		}
+
+		private void removeCachedBlobIndex(
+			final BlobStorePath file
+		)
+		{
+			if(this.useCache)
+			{
+				synchronized(this)
+				{
+					this.blobIndexCache.remove(file.fullQualifiedName());
+				}
+			}
+		}
+
+		private BlobIndex<B> createBlobIndex(
+			final BlobStorePath file
+		)
+		{
+			final List<B> blobs   = this.blobs(file).collect(toList());
+			final long[]  offsets = new long[blobs.size() + 1];
+			for(int i = 0; i < blobs.size(); i++)
+			{
+				offsets[i + 1] = offsets[i] + this.blobSizeProvider.applyAsLong(blobs.get(i));
+			}
+			return new BlobIndex<>(blobs, offsets, 0L);
+		}
+
 		protected long totalSize(
 			final Iterable<? extends ByteBuffer> sourceBuffers
 		)
@@ -772,6 +1164,7 @@ public interface BlobStoreConnector extends AutoCloseable
 				{
 					this.fileExistsCache.remove(file.fullQualifiedName());
 					this.fileSizeCache.remove(file.fullQualifiedName());
+					this.blobIndexCache.remove(file.fullQualifiedName());
 				}
 			}
 			
@@ -838,6 +1231,12 @@ public interface BlobStoreConnector extends AutoCloseable
 				{
 					this.fileExistsCache.put(file.fullQualifiedName(), Boolean.TRUE);
 					this.fileSizeCache.merge(file.fullQualifiedName(), written, Math::addExact);
+					
+					// the new blobs are not known here, they are listed when a read reaches into the appended data
+					this.blobIndexCache.computeIfPresent(
+						file.fullQualifiedName(),
+						(name, index) -> index.append(written)
+					);
 				}
 			}
 			
@@ -868,6 +1267,9 @@ public interface BlobStoreConnector extends AutoCloseable
 					{
 						this.fileSizeCache.put(targetFile.fullQualifiedName(), fileSize);
 					}
+					
+					this.blobIndexCache.remove(sourceFile.fullQualifiedName());
+					this.blobIndexCache.remove(targetFile.fullQualifiedName());
 				}
 			}
 		}
@@ -884,7 +1286,20 @@ public interface BlobStoreConnector extends AutoCloseable
 			this.blobStorePathValidator.validate(sourceFile);
 			this.blobStorePathValidator.validate(targetFile);
 
-			return this.internalCopyFile(sourceFile, targetFile, offset, length);
+			final long copied = this.internalCopyFile(sourceFile, targetFile, offset, length);
+			
+			if(this.useCache)
+			{
+				synchronized(this)
+				{
+					// data is copied bypassing writeData
+					this.fileExistsCache.remove(targetFile.fullQualifiedName());
+					this.fileSizeCache.remove(targetFile.fullQualifiedName());
+					this.blobIndexCache.remove(targetFile.fullQualifiedName());
+				}
+			}
+			
+			return copied;
 		}
 
 		@Override
@@ -909,6 +1324,7 @@ public interface BlobStoreConnector extends AutoCloseable
 				synchronized(this)
 				{
 					this.fileSizeCache.put(file.fullQualifiedName(), newLength);
+					this.blobIndexCache.remove(file.fullQualifiedName());
 				}
 			}
 		}
@@ -916,14 +1332,78 @@ public interface BlobStoreConnector extends AutoCloseable
 		@Override
 		public final void close()
 		{
-			if(!this.open.get())
+			if(this.open.compareAndSet(true, false))
 			{
-				this.open.set(false);
-
 				this.internalClose();
 			}
 		}
 
+
+
+		/**
+		 * The ordered blobs of a file with their start offsets.
+		 * Data which was appended after the index was built is only known by its length.
+		 *
+		 * @param <B> the blob type
+		 */
+		static final class BlobIndex<B>
+		{
+			final List<B> blobs         ;
+			final long[]  blobOffsets   ; // start offset of each blob, followed by the indexed length
+			final long    appendedLength;
+
+			BlobIndex(
+				final List<B> blobs         ,
+				final long[]  blobOffsets   ,
+				final long    appendedLength
+			)
+			{
+				super();
+				this.blobs          = blobs         ;
+				this.blobOffsets    = blobOffsets   ;
+				this.appendedLength = appendedLength;
+			}
+
+			long indexedLength()
+			{
+				return this.blobOffsets[this.blobs.size()];
+			}
+
+			long length()
+			{
+				return this.indexedLength() + this.appendedLength;
+			}
+
+			boolean covers(
+				final long offset,
+				final long length
+			)
+			{
+				return this.appendedLength == 0L
+					|| length > 0L && offset + length <= this.indexedLength()
+				;
+			}
+
+			BlobIndex<B> append(
+				final long length
+			)
+			{
+				return new BlobIndex<>(this.blobs, this.blobOffsets, this.appendedLength + length);
+			}
+
+			int blobIndexAt(
+				final long offset
+			)
+			{
+				final int index = Arrays.binarySearch(this.blobOffsets, 0, this.blobs.size(), offset);
+				return index >= 0
+					? index
+					: Math.max(0, -index - 2)
+				;
+			}
+
+		}
+
 	}
 
 }
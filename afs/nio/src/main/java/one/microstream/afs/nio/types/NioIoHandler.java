@@ -349,6 +349,22 @@ public interface NioIoHandler extends AIoHandler
 				throw new IORuntimeException(e);
 			}
 		}
+		
+		@Override
+		protected void specificFlushFile(final NioWritableFile targetFile)
+		{
+			// ensure file is opened for writing
+			this.openWriting(targetFile);
+			
+			try
+			{
+				XIO.force(targetFile.fileChannel());
+			}
+			catch (final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+		}
 
 		@Override
 		protected boolean specificDeleteFile(final NioWritableFile file)
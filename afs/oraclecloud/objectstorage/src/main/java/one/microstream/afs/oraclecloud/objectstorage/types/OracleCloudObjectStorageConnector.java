@@ -22,6 +22,7 @@ package one.microstream.afs.oraclecloud.objectstorage.types;
 
 import static one.microstream.X.checkArrayRange;
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
 
 import java.io.BufferedInputStream;
 import java.io.FilterInputStream;
@@ -46,6 +47,7 @@ import com.oracle.bmc.objectstorage.responses.GetObjectResponse;
 import com.oracle.bmc.objectstorage.transfer.UploadConfiguration;
 import com.oracle.bmc.objectstorage.transfer.UploadManager;
 import com.oracle.bmc.objectstorage.transfer.UploadManager.UploadRequest;
+import com.oracle.bmc.objectstorage.transfer.UploadManager.UploadRequest.UploadRequestBuilder;
 
 import one.microstream.afs.blobstore.types.BlobStoreConnector;
 import one.microstream.afs.blobstore.types.BlobStorePath;
@@ -78,10 +80,27 @@ public interface OracleCloudObjectStorageConnector extends BlobStoreConnector
 	public static OracleCloudObjectStorageConnector New(
 		final ObjectStorageClient client
 	)
+	{
+		return New(client, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link OracleCloudObjectStorageConnector}, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param client connection to the Oracle cloud object storage
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link OracleCloudObjectStorageConnector}
+	 */
+	public static OracleCloudObjectStorageConnector New(
+		final ObjectStorageClient client     ,
+		final int                 parallelism
+	)
 	{
 		return new OracleCloudObjectStorageConnector.Default(
 			notNull(client),
-			false
+			false,
+			positive(parallelism)
 		);
 	}
 	
@@ -94,10 +113,27 @@ public interface OracleCloudObjectStorageConnector extends BlobStoreConnector
 	public static OracleCloudObjectStorageConnector Caching(
 		final ObjectStorageClient client
 	)
+	{
+		return Caching(client, 1);
+	}
+
+	/**
+	 * Pseudo-constructor method which creates a new {@link OracleCloudObjectStorageConnector} with cache, which uses up to
+	 * <code>parallelism</code> concurrent requests to read and write large files.
+	 *
+	 * @param client connection to the Oracle cloud object storage
+	 * @param parallelism the maximum number of concurrent requests per read or write
+	 * @return a new {@link OracleCloudObjectStorageConnector}
+	 */
+	public static OracleCloudObjectStorageConnector Caching(
+		final ObjectStorageClient client     ,
+		final int                 parallelism
+	)
 	{
 		return new OracleCloudObjectStorageConnector.Default(
 			notNull(client),
-			true
+			true,
+			positive(parallelism)
 		);
 	}
 
@@ -112,15 +148,17 @@ public interface OracleCloudObjectStorageConnector extends BlobStoreConnector
 		private String                    namespaceName;
 
 		Default(
-			final ObjectStorageClient client   ,
-			final boolean             withCache
+			final ObjectStorageClient client     ,
+			final boolean             withCache  ,
+			final int                 parallelism
 		)
 		{
 			super(
 				ObjectSummary::getName,
 				ObjectSummary::getSize,
 				OracleCloudObjectStoragePathValidator.New(),
-				withCache
+				withCache,
+				parallelism
 			);
 			this.client = client;
 		}
@@ -285,13 +323,18 @@ public interface OracleCloudObjectStorageConnector extends BlobStoreConnector
 						.contentLength(currentBatchSize)
 						.buildWithoutInvocationCallback()
 					;
-					final UploadRequest    uploadRequest    = UploadRequest.builder(
+					final UploadRequestBuilder uploadRequestBuilder = UploadRequest.builder(
 							uploadInputStream,
 							currentBatchSize
 						)
 						.allowOverwrite(true)
-						.build(putObjectRequest)
 					;
+					if(this.executor() != null)
+					{
+						// use the connector's bounded executor for the parallel part uploads
+						uploadRequestBuilder.parallelUploadExecutorService(this.executor());
+					}
+					final UploadRequest uploadRequest = uploadRequestBuilder.build(putObjectRequest);
 					uploadManager.upload(uploadRequest);
 				}
 				catch(final IOException e)
@@ -27,6 +27,7 @@ import java.net.MalformedURLException;
 import java.net.URL;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
 
 import com.oracle.bmc.ClientConfiguration;
 import com.oracle.bmc.ClientConfiguration.ClientConfigurationBuilder;
@@ -35,10 +36,14 @@ import com.oracle.bmc.auth.AuthenticationDetailsProvider;
 import com.oracle.bmc.auth.ConfigFileAuthenticationDetailsProvider;
 import com.oracle.bmc.objectstorage.ObjectStorageClient;
 
+import one.microstream.afs.blobstore.types.BlobStoreConnector;
+import one.microstream.afs.blobstore.types.BlobStoreConnectorLocalCaching;
 import one.microstream.afs.blobstore.types.BlobStoreFileSystem;
 import one.microstream.afs.types.AFileSystem;
+import one.microstream.afs.types.ALocalCache;
 import one.microstream.chars.XChars;
 import one.microstream.configuration.exceptions.ConfigurationException;
+import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
 import one.microstream.configuration.types.ConfigurationBasedCreator;
 
@@ -113,12 +118,13 @@ public class OracleCloudObjectStorageFileSystemCreator extends ConfigurationBase
 				value -> client.setEndpoint(value)
 			);
 
-			final boolean        cache           = configuration.optBoolean("cache").orElse(true);
-			final OracleCloudObjectStorageConnector connector       = cache
-				? OracleCloudObjectStorageConnector.Caching(client)
-				: OracleCloudObjectStorageConnector.New(client)
+			final boolean                           cache       = configuration.optBoolean("cache").orElse(true);
+			final int                               parallelism = configuration.optInteger("parallelism").orElse(1);
+			final OracleCloudObjectStorageConnector connector   = cache
+				? OracleCloudObjectStorageConnector.Caching(client, parallelism)
+				: OracleCloudObjectStorageConnector.New(client, parallelism)
 			;
-			return BlobStoreFileSystem.New(connector);
+			return BlobStoreFileSystem.New(this.localCaching(configuration, connector));
 		}
 		catch(final IOException e)
 		{
@@ -166,4 +172,30 @@ public class OracleCloudObjectStorageFileSystemCreator extends ConfigurationBase
 		);
 	}
 
+	private BlobStoreConnector localCaching(
+		final Configuration      configuration,
+		final BlobStoreConnector connector
+	)
+	{
+		final Configuration localCacheConfiguration = configuration.child("local-cache");
+		if(localCacheConfiguration == null)
+		{
+			return connector;
+		}
+
+		final String directory = localCacheConfiguration.opt("directory").orElseThrow(
+			() -> new ConfigurationException(localCacheConfiguration, "local-cache.directory must be set")
+		);
+		final ALocalCache cache = ALocalCache.New(
+			Paths.get(directory),
+			localCacheConfiguration.opt("capacity", ByteSize.class)
+				.map(ByteSize::bytes)
+				.orElse(ALocalCache.Defaults.defaultCapacity()),
+			localCacheConfiguration.opt("block-size", ByteSize.class)
+				.map(size -> Math.toIntExact(size.bytes()))
+				.orElse(ALocalCache.Defaults.defaultBlockSize())
+		);
+		return BlobStoreConnectorLocalCaching.New(connector, cache);
+	}
+
 }
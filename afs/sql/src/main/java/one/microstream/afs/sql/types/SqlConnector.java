@@ -26,7 +26,6 @@ import static one.microstream.X.notNull;
 import java.nio.ByteBuffer;
 import java.sql.Blob;
 import java.sql.Connection;
-import java.sql.DatabaseMetaData;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
@@ -41,7 +40,6 @@ import java.util.function.LongFunction;
 
 import one.microstream.chars.XChars;
 import one.microstream.io.ByteBufferInputStream;
-import one.microstream.io.LimitedInputStream;
 import one.microstream.reference.Reference;
 import one.microstream.typing.KeyValue;
 
@@ -120,8 +118,15 @@ public interface SqlConnector
 		public final static int END_COLUMN_INDEX        = 3;
 		public final static int DATA_COLUMN_INDEX       = 4;
 
+		// upper bound for the buffer used to copy partial segments
+		private final static long COPY_BUFFER_SIZE = 8L * 1024L * 1024L;
+
+		// upper bound for the data of pending rows in a batch, before it is executed
+		private final static long MAX_BATCH_SIZE   = 64L * 1024L * 1024L;
+
 		private final SqlProvider          provider                         ;
 		private       Long                 maxBlobSize                      ;
+		private       Boolean              supportsBatchUpdates             ;
 		private final boolean              useCache                         ;
 		private       Set<String>          directoryCache                   ;
 		private final Map<String, Boolean> fileExistsCache = new HashMap<>();
@@ -630,17 +635,27 @@ public interface SqlConnector
 			{
 				if(this.maxBlobSize == null)
 				{
-					final DatabaseMetaData metaData   = connection.getMetaData();
-					final long             maxLobSize = metaData.getMaxLogicalLobSize();
-					this.maxBlobSize = maxLobSize > 0L
-						? maxLobSize
-						: 1048576L // 1MB
-					;
+					this.maxBlobSize = this.provider.maxBlobSize(connection);
 				}
 				return this.maxBlobSize;
 			}
 		}
 
+		private boolean supportsBatchUpdates(
+			final Connection connection
+		)
+			throws SQLException
+		{
+			synchronized(this)
+			{
+				if(this.supportsBatchUpdates == null)
+				{
+					this.supportsBatchUpdates = connection.getMetaData().supportsBatchUpdates();
+				}
+				return this.supportsBatchUpdates;
+			}
+		}
+
 		@Override
 		public long fileSize(
 			final SqlPath file
@@ -873,46 +888,13 @@ public interface SqlConnector
 		{
 			final long written = this.provider.execute(connection ->
 			{
-				final String sql = this.provider.writeDataQuery(
-					file.parentPath().fullQualifiedName()
-				);
-
-				long buffersLength = 0L;
-				for(final ByteBuffer buffer : sourceBuffers)
-				{
-					buffersLength += buffer.remaining();
-				}
-				final long maxBatchSize = Math.min(
-					this.maxBlobSize(connection),
-					buffersLength
+				final long fileSize = this.internalFileSize(file, connection);
+				return this.insertBlobs(
+					file,
+					sourceBuffers,
+					Math.max(0L, fileSize),
+					connection
 				);
-
-				final ByteBufferInputStream inputStream = ByteBufferInputStream.New(sourceBuffers);
-				final long                  fileSize    = this.internalFileSize(file, connection);
-				      long                  offset      = Math.max(0L, fileSize);
-				      long                  available   = buffersLength;
-				while(available > 0)
-				{
-					final long        currentBatchSize = Math.min(available, maxBatchSize);
-					try(final PreparedStatement statement = connection.prepareStatement(sql))
-					{
-						statement.setString(IDENTIFIER_COLUMN_INDEX, file.identifier()            );
-						statement.setLong  (START_COLUMN_INDEX     , offset                       );
-						statement.setLong  (END_COLUMN_INDEX       , offset + currentBatchSize - 1);
-						this.provider.setBlob(
-							statement,
-							DATA_COLUMN_INDEX,
-							LimitedInputStream.New(inputStream, currentBatchSize),
-							currentBatchSize
-						);
-						statement.executeUpdate();
-					}
-
-					offset    += currentBatchSize;
-					available -= currentBatchSize;
-				}
-
-				return buffersLength;
 			});
 			
 			if(this.useCache)
@@ -1003,8 +985,251 @@ public interface SqlConnector
 			final long    length
 		)
 		{
-			final ByteBuffer buffer = this.readData(sourceFile, offset, length);
-			return this.writeData(targetFile, Arrays.asList(buffer));
+			if(length == 0L)
+			{
+				return 0L;
+			}
+
+			final long copied = this.provider.execute(connection ->
+				this.internalCopyFile(sourceFile, targetFile, offset, length, connection)
+			);
+
+			if(this.useCache && copied > 0L)
+			{
+				synchronized(this)
+				{
+					this.fileExistsCache.put(targetFile.fullQualifiedName(), Boolean.TRUE);
+					this.fileSizeCache.merge(targetFile.fullQualifiedName(), copied, Math::addExact);
+				}
+			}
+
+			return copied;
+		}
+
+		/*
+		 * Segments which lie completely inside the range are copied inside the database,
+		 * the partial segments at the range's bounds are streamed through a bounded buffer.
+		 */
+		private long internalCopyFile(
+			final SqlPath    sourceFile,
+			final SqlPath    targetFile,
+			final long       offset    ,
+			final long       length    ,
+			final Connection connection
+		)
+		throws SQLException
+		{
+			final long sourceSize = this.internalFileSize(sourceFile, connection);
+			final long end        = length > 0L
+				? Math.min(offset + length, sourceSize)
+				: sourceSize
+			;
+			if(end <= offset)
+			{
+				return 0L;
+			}
+
+			final long targetOffset = this.internalFileSize(targetFile, connection) - offset;
+
+			long innerStart = Long.MAX_VALUE;
+			long innerEnd   = Long.MIN_VALUE;
+			try(final PreparedStatement statement = connection.prepareStatement(
+				this.provider.readMetadataQuery(sourceFile.parentPath().fullQualifiedName())
+			))
+			{
+				statement.setString(1, sourceFile.identifier());
+				try(final ResultSet result = statement.executeQuery())
+				{
+					while(result.next())
+					{
+						final long segmentStart = result.getLong(1);
+						final long segmentEnd   = result.getLong(2);
+						if(segmentStart >= offset && segmentEnd < end)
+						{
+							innerStart = Math.min(innerStart, segmentStart  );
+							innerEnd   = Math.max(innerEnd  , segmentEnd + 1);
+						}
+					}
+				}
+			}
+
+			if(innerStart >= innerEnd)
+			{
+				this.streamData(sourceFile, targetFile, offset, end - offset, targetOffset, connection);
+				return end - offset;
+			}
+
+			this.streamData(sourceFile, targetFile, offset, innerStart - offset, targetOffset, connection);
+
+			try(final PreparedStatement statement = connection.prepareStatement(
+				this.provider.copyFileQueryWithRange(
+					sourceFile.parentPath().fullQualifiedName(),
+					targetFile.parentPath().fullQualifiedName()
+				)
+			))
+			{
+				statement.setString(1, targetFile.identifier());
+				statement.setLong  (2, targetOffset           );
+				statement.setLong  (3, targetOffset           );
+				statement.setString(4, sourceFile.identifier());
+				statement.setLong  (5, innerStart             );
+				statement.setLong  (6, innerEnd - 1L          );
+				statement.executeUpdate();
+			}
+
+			this.streamData(sourceFile, targetFile, innerEnd, end - innerEnd, targetOffset, connection);
+
+			return end - offset;
+		}
+
+		private void streamData(
+			final SqlPath    sourceFile  ,
+			final SqlPath    targetFile  ,
+			final long       offset      ,
+			final long       length      ,
+			final long       targetOffset,
+			final Connection connection
+		)
+		throws SQLException
+		{
+			if(length <= 0L)
+			{
+				return;
+			}
+
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(checkArrayRange(
+				Math.min(length, Math.min(this.maxBlobSize(connection), COPY_BUFFER_SIZE))
+			));
+			for(long position = offset; position < offset + length;)
+			{
+				final long amount = Math.min(offset + length - position, buffer.capacity());
+				buffer.clear();
+				this.internalReadData(sourceFile, size -> buffer, position, amount, connection);
+				// the buffer is filled in reverse, so the data starts at the current position
+				buffer.limit(buffer.position() + checkArrayRange(amount));
+
+				this.insertBlobs(
+					targetFile,
+					Arrays.asList(buffer),
+					position + targetOffset,
+					connection
+				);
+				position += amount;
+			}
+		}
+
+		/*
+		 * Inserts the buffers' data as rows of at most the maximum blob size, starting at the given offset.
+		 * All rows are inserted with the same statement, in batches if the driver supports it.
+		 */
+		private long insertBlobs(
+			final SqlPath                        file         ,
+			final Iterable<? extends ByteBuffer> sourceBuffers,
+			final long                           offset       ,
+			final Connection                     connection
+		)
+			throws SQLException
+		{
+			final List<List<ByteBuffer>> blobs = splitIntoBlobs(sourceBuffers, this.maxBlobSize(connection));
+			if(blobs.isEmpty())
+			{
+				return 0L;
+			}
+
+			final boolean batch       = blobs.size() > 1 && this.supportsBatchUpdates(connection);
+			      long    position    = offset;
+			      long    pendingSize = 0L;
+			try(final PreparedStatement statement = connection.prepareStatement(
+				this.provider.writeDataQuery(file.parentPath().fullQualifiedName())
+			))
+			{
+				for(final List<ByteBuffer> blob : blobs)
+				{
+					long length = 0L;
+					for(final ByteBuffer buffer : blob)
+					{
+						length += buffer.remaining();
+					}
+
+					statement.setString(IDENTIFIER_COLUMN_INDEX, file.identifier()    );
+					statement.setLong  (START_COLUMN_INDEX     , position             );
+					statement.setLong  (END_COLUMN_INDEX       , position + length - 1);
+					this.provider.setBlob(
+						statement,
+						DATA_COLUMN_INDEX,
+						ByteBufferInputStream.New(blob),
+						length
+					);
+					position += length;
+
+					if(!batch)
+					{
+						statement.executeUpdate();
+						continue;
+					}
+
+					statement.addBatch();
+					pendingSize += length;
+					if(pendingSize >= MAX_BATCH_SIZE)
+					{
+						statement.executeBatch();
+						pendingSize = 0L;
+					}
+				}
+
+				if(pendingSize > 0L)
+				{
+					statement.executeBatch();
+				}
+			}
+
+			// consume the source buffers, like a sequential write would have
+			for(final ByteBuffer buffer : sourceBuffers)
+			{
+				buffer.position(buffer.limit());
+			}
+
+			return position - offset;
+		}
+
+		/*
+		 * Splits the buffers into groups of at most maxBlobSize bytes. Each blob gets its own views of the data,
+		 * since batched rows are read by the driver not until the batch is executed.
+		 */
+		private static List<List<ByteBuffer>> splitIntoBlobs(
+			final Iterable<? extends ByteBuffer> sourceBuffers,
+			final long                           maxBlobSize
+		)
+		{
+			final List<List<ByteBuffer>> blobs       = new ArrayList<>();
+			      List<ByteBuffer>       currentBlob = new ArrayList<>();
+			      long                   currentSize = 0L;
+			for(final ByteBuffer sourceBuffer : sourceBuffers)
+			{
+				int position = sourceBuffer.position();
+				while(position < sourceBuffer.limit())
+				{
+					if(currentSize == maxBlobSize)
+					{
+						blobs.add(currentBlob);
+						currentBlob = new ArrayList<>();
+						currentSize = 0L;
+					}
+
+					final int        amount = (int)Math.min(sourceBuffer.limit() - position, maxBlobSize - currentSize);
+					final ByteBuffer slice  = sourceBuffer.duplicate();
+					slice.limit(position + amount);
+					slice.position(position);
+					currentBlob.add(slice);
+					currentSize += amount;
+					position    += amount;
+				}
+			}
+			if(currentSize > 0L)
+			{
+				blobs.add(currentBlob);
+			}
+			return blobs;
 		}
 
 		@Override
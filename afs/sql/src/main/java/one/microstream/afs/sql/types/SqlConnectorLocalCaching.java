@@ -0,0 +1,296 @@
+package one.microstream.afs.sql.types;
+
+/*-
+ * #%L
+ * microstream-afs-sql
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+
+import java.nio.ByteBuffer;
+
+import one.microstream.afs.types.ALocalCache;
+
+
+/**
+ * Connector decorator which keeps recently read ranges of the database stored files in a local disk cache.
+ * The sizes of the files are kept in the cache as well, so cached reads don't reach the decorated connector.
+ * <p>
+ * Writes, truncations, moves and deletions go through to the decorated connector and invalidate the affected
+ * ranges of the files in the cache. So this is only safe if no other process modifies the files in the database.
+ */
+public interface SqlConnectorLocalCaching extends SqlConnector
+{
+	/**
+	 * Creates a new connector decorator which uses a local cache for reads.
+	 *
+	 * @param connector the decorated connector, not null
+	 * @param cache the local cache, not null
+	 * @return the new connector
+	 */
+	public static SqlConnectorLocalCaching New(
+		final SqlConnector connector,
+		final ALocalCache  cache
+	)
+	{
+		return new SqlConnectorLocalCaching.Default(
+			notNull(connector),
+			notNull(cache)
+		);
+	}
+
+
+
+	public static class Default implements SqlConnectorLocalCaching
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final SqlConnector connector;
+		private final ALocalCache  cache    ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(
+			final SqlConnector connector,
+			final ALocalCache  cache
+		)
+		{
+			super();
+			this.connector = connector;
+			this.cache     = cache    ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public long fileSize(final SqlPath file)
+		{
+			return this.cache.fileSize(file.fullQualifiedName(), () -> this.connector.fileSize(file));
+		}
+
+		@Override
+		public boolean fileExists(final SqlPath file)
+		{
+			return this.connector.fileExists(file);
+		}
+
+		@Override
+		public boolean directoryExists(final SqlPath directory)
+		{
+			return this.connector.directoryExists(directory);
+		}
+
+		@Override
+		public void visitDirectories(final SqlPath directory, final SqlPathVisitor visitor)
+		{
+			this.connector.visitDirectories(directory, visitor);
+		}
+
+		@Override
+		public void visitFiles(final SqlPath directory, final SqlPathVisitor visitor)
+		{
+			this.connector.visitFiles(directory, visitor);
+		}
+
+		@Override
+		public boolean isEmpty(final SqlPath directory)
+		{
+			return this.connector.isEmpty(directory);
+		}
+
+		@Override
+		public boolean createDirectory(final SqlPath directory)
+		{
+			return this.connector.createDirectory(directory);
+		}
+
+		@Override
+		public boolean deleteFile(final SqlPath file)
+		{
+			try
+			{
+				return this.connector.deleteFile(file);
+			}
+			finally
+			{
+				this.cache.invalidate(file.fullQualifiedName());
+			}
+		}
+
+		@Override
+		public ByteBuffer readData(
+			final SqlPath file  ,
+			final long    offset,
+			final long    length
+		)
+		{
+			if(length <= 0L)
+			{
+				// whole remaining file, not worth caching
+				return this.connector.readData(file, offset, length);
+			}
+
+			final long fileSize = this.fileSize(file);
+			final long amount   = Math.min(length, fileSize - offset);
+			if(amount <= 0L)
+			{
+				return ByteBuffer.allocateDirect(0);
+			}
+
+			final ByteBuffer buffer = ByteBuffer.allocateDirect(Math.toIntExact(amount));
+			this.readCached(file, fileSize, buffer, offset, amount);
+			buffer.flip();
+			return buffer;
+		}
+
+		@Override
+		public long readData(
+			final SqlPath    file        ,
+			final ByteBuffer targetBuffer,
+			final long       offset      ,
+			final long       length
+		)
+		{
+			if(length <= 0L)
+			{
+				return this.connector.readData(file, targetBuffer, offset, length);
+			}
+
+			return this.readCached(file, this.fileSize(file), targetBuffer, offset, length);
+		}
+
+		private long readCached(
+			final SqlPath    file        ,
+			final long       fileSize    ,
+			final ByteBuffer targetBuffer,
+			final long       offset      ,
+			final long       length
+		)
+		{
+			return this.cache.read(
+				file.fullQualifiedName(),
+				fileSize,
+				targetBuffer,
+				offset,
+				length,
+				(buffer, blockOffset, blockLength) ->
+					this.connector.readData(file, buffer, blockOffset, blockLength)
+			);
+		}
+
+		@Override
+		public long writeData(
+			final SqlPath                        file         ,
+			final Iterable<? extends ByteBuffer> sourceBuffers
+		)
+		{
+			// only the locally known size is used, a write must not cost an additional remote request
+			final String name     = file.fullQualifiedName();
+			final long   fileSize = this.cache.cachedFileSize(name);
+			final long   written;
+			try
+			{
+				written = this.connector.writeData(file, sourceBuffers);
+			}
+			catch(final RuntimeException | Error e)
+			{
+				this.cache.invalidate(name);
+				throw e;
+			}
+
+			if(fileSize < 0)
+			{
+				// unknown old end: nothing cached for the file can be trusted to be unaffected
+				this.cache.invalidate(name);
+			}
+			else
+			{
+				// appending keeps the cached blocks before the old end, only an incomplete trailing block is affected
+				this.cache.invalidate(name, fileSize, fileSize + written);
+			}
+
+			return written;
+		}
+
+		@Override
+		public void moveFile(
+			final SqlPath sourceFile,
+			final SqlPath targetFile
+		)
+		{
+			try
+			{
+				this.connector.moveFile(sourceFile, targetFile);
+			}
+			finally
+			{
+				this.cache.invalidate(sourceFile.fullQualifiedName());
+				this.cache.invalidate(targetFile.fullQualifiedName());
+			}
+		}
+
+		@Override
+		public long copyFile(
+			final SqlPath sourceFile,
+			final SqlPath targetFile,
+			final long    offset    ,
+			final long    length
+		)
+		{
+			try
+			{
+				return this.connector.copyFile(sourceFile, targetFile, offset, length);
+			}
+			finally
+			{
+				this.cache.invalidate(targetFile.fullQualifiedName());
+			}
+		}
+
+		@Override
+		public void truncateFile(
+			final SqlPath file     ,
+			final long    newLength
+		)
+		{
+			try
+			{
+				this.connector.truncateFile(file, newLength);
+			}
+			catch(final RuntimeException | Error e)
+			{
+				this.cache.invalidate(file.fullQualifiedName());
+				throw e;
+			}
+
+			this.cache.invalidate(file.fullQualifiedName(), newLength, newLength);
+		}
+
+	}
+
+}
@@ -23,11 +23,14 @@ package one.microstream.afs.sql.types;
 import static one.microstream.chars.XChars.notEmpty;
 
 import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Paths;
 
 import javax.sql.DataSource;
 
 import one.microstream.afs.types.AFileSystem;
+import one.microstream.afs.types.ALocalCache;
 import one.microstream.configuration.exceptions.ConfigurationException;
+import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
 import one.microstream.configuration.types.ConfigurationBasedCreator;
 
@@ -73,10 +76,11 @@ public abstract class SqlFileSystemCreator extends ConfigurationBasedCreator.Abs
 				dataSourceProvider.provideDataSource(sqlConfiguration.detach())
 			);
 			final boolean cache = configuration.optBoolean("cache").orElse(true);
-			return SqlFileSystem.New(cache
+			final SqlConnector connector = cache
 				? SqlConnector.Caching(sqlProvider)
 				: SqlConnector.New(sqlProvider)
-			);
+			;
+			return SqlFileSystem.New(this.localCaching(configuration, connector));
 		}
 		catch(InstantiationException | IllegalAccessException |
 			  ClassNotFoundException | IllegalArgumentException |
@@ -92,5 +96,31 @@ public abstract class SqlFileSystemCreator extends ConfigurationBasedCreator.Abs
 		Configuration sqlConfiguration,
 		DataSource    dataSource
 	);
-	
+
+	private SqlConnector localCaching(
+		final Configuration configuration,
+		final SqlConnector  connector
+	)
+	{
+		final Configuration localCacheConfiguration = configuration.child("local-cache");
+		if(localCacheConfiguration == null)
+		{
+			return connector;
+		}
+
+		final String directory = localCacheConfiguration.opt("directory").orElseThrow(
+			() -> new ConfigurationException(localCacheConfiguration, "local-cache.directory must be set")
+		);
+		final ALocalCache cache = ALocalCache.New(
+			Paths.get(directory),
+			localCacheConfiguration.opt("capacity", ByteSize.class)
+				.map(ByteSize::bytes)
+				.orElse(ALocalCache.Defaults.defaultCapacity()),
+			localCacheConfiguration.opt("block-size", ByteSize.class)
+				.map(size -> Math.toIntExact(size.bytes()))
+				.orElse(ALocalCache.Defaults.defaultBlockSize())
+		);
+		return SqlConnectorLocalCaching.New(connector, cache);
+	}
+
 }
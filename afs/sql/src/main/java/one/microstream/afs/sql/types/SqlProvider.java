@@ -66,6 +66,16 @@ public interface SqlProvider
 	public <T> T execute(SqlOperation<T> operation);
 
 	public void setBlob(PreparedStatement statement, int index, InputStream inputStream, long length) throws SQLException;
+
+	/**
+	 * Returns the maximum size of a single data row's blob. Files are written in segments of at most this size,
+	 * so a larger size means less rows and round trips per write.
+	 * 
+	 * @param connection the connection to query the database's limits, if needed
+	 * @return the maximum blob size in bytes
+	 * @throws SQLException if a database access error occurs
+	 */
+	public long maxBlobSize(Connection connection) throws SQLException;
 	
 	public boolean queryDirectoryExists(Connection connection, String tableName) throws SQLException;
 	
@@ -288,13 +298,30 @@ public interface SqlProvider
 	 */
 	public String copyFileQuery(String sourceTableName, String targetTableName);
 
+	/**
+	 * <pre>
+	 * insert into [targetTableName]
+	 * ('identifier', 'start', 'end', 'data')
+	 * select ?, 'start' + ?, 'end' + ?, 'data'
+	 * from [sourceTableName]
+	 * where 'identifier' = ?
+	 * and 'start' &gt;= ? and 'end' &lt;= ?
+	 * </pre>
+	 * 
+	 * @param sourceTableName the source table name to query
+	 * @param targetTableName the target table name to query
+	 * @return the native query string
+	 */
+	public String copyFileQueryWithRange(String sourceTableName, String targetTableName);
+
 
 
 	public static abstract class Abstract implements SqlProvider
 	{
-		private final String     catalog   ;
-		private final String     schema    ;
-		private final DataSource dataSource;
+		private final    String     catalog                 ;
+		private final    String     schema                  ;
+		private final    DataSource dataSource              ;
+		private volatile boolean    binaryStreamNotSupported;
 
 		protected Abstract(
 			final String     catalog   ,
@@ -411,6 +438,18 @@ public interface SqlProvider
 			}
 		}
 
+		/**
+		 * Determines if blobs are passed to the driver as stream, see
+		 * {@link PreparedStatement#setBinaryStream(int, InputStream, long)}, or as byte array otherwise.
+		 * Streaming avoids a copy of the data, if the driver supports it.
+		 * 
+		 * @return <code>true</code> if blobs should be set as stream
+		 */
+		protected boolean useBinaryStream()
+		{
+			return true;
+		}
+
 		@Override
 		public void setBlob(
 			final PreparedStatement statement  ,
@@ -420,27 +459,52 @@ public interface SqlProvider
 		)
 			throws SQLException
 		{
-			try
+			if(this.useBinaryStream() && !this.binaryStreamNotSupported)
 			{
-				statement.setBinaryStream(index, inputStream, length);
+				try
+				{
+					statement.setBinaryStream(index, inputStream, length);
+					return;
+				}
+				catch(final SQLFeatureNotSupportedException featureNotSupported)
+				{
+					// don't try again for every blob
+					this.binaryStreamNotSupported = true;
+				}
 			}
-			catch(final SQLFeatureNotSupportedException featureNotSupported)
+
+			try
 			{
-				try
+				final byte[] bytes = new byte[checkArrayRange(length)];
+				int offset = 0;
+				while(offset < bytes.length)
 				{
-					final byte[] bytes = new byte[checkArrayRange(length)];
-					int offset = 0;
-					while(offset < bytes.length - 1)
+					final int read = inputStream.read(bytes, offset, bytes.length - offset);
+					if(read < 0)
 					{
-						offset += inputStream.read(bytes, offset, bytes.length - offset);
+						throw new IOException("Unexpected end of stream: " + offset + " < " + length);
 					}
-					statement.setBytes(index, bytes);
-				}
-				catch(final IOException e)
-				{
-					throw new IORuntimeException(e);
+					offset += read;
 				}
+				statement.setBytes(index, bytes);
 			}
+			catch(final IOException e)
+			{
+				throw new IORuntimeException(e);
+			}
+		}
+
+		@Override
+		public long maxBlobSize(
+			final Connection connection
+		)
+			throws SQLException
+		{
+			final long maxLobSize = connection.getMetaData().getMaxLogicalLobSize();
+			return maxLobSize > 0L
+				? maxLobSize
+				: 1048576L // 1MB
+			;
 		}
 		
 		@Override
@@ -759,6 +823,43 @@ public interface SqlProvider
 			return vs.toString();
 		}
 
+		@Override
+		public String copyFileQueryWithRange(
+			final String sourceTableName,
+			final String targetTableName
+		)
+		{
+			final VarString vs = VarString.New();
+
+			vs.add("insert into ");
+			this.addSqlTableName(vs, targetTableName);
+			vs.add(" (");
+			this.addSqlColumnName(vs, IDENTIFIER_COLUMN_NAME);
+			vs.add(", ");
+			this.addSqlColumnName(vs, START_COLUMN_NAME);
+			vs.add(", ");
+			this.addSqlColumnName(vs, END_COLUMN_NAME);
+			vs.add(", ");
+			this.addSqlColumnName(vs, DATA_COLUMN_NAME);
+			vs.add(") select ?, ");
+			this.addSqlColumnName(vs, START_COLUMN_NAME);
+			vs.add(" + ?, ");
+			this.addSqlColumnName(vs, END_COLUMN_NAME);
+			vs.add(" + ?, ");
+			this.addSqlColumnName(vs, DATA_COLUMN_NAME);
+			vs.add(" from ");
+			this.addSqlTableName(vs, sourceTableName);
+			vs.add(" where ");
+			this.addSqlColumnName(vs, IDENTIFIER_COLUMN_NAME);
+			vs.add("=? and ");
+			this.addSqlColumnName(vs, START_COLUMN_NAME);
+			vs.add(">=? and ");
+			this.addSqlColumnName(vs, END_COLUMN_NAME);
+			vs.add("<=?");
+
+			return vs.toString();
+		}
+
 	}
 
 }
@@ -23,6 +23,10 @@ package one.microstream.afs.sql.types;
 import static one.microstream.X.mayNull;
 import static one.microstream.X.notNull;
 
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.Arrays;
 
 import javax.sql.DataSource;
@@ -54,6 +58,9 @@ public interface SqlProviderMariaDb extends SqlProvider
 
 	public static class Default extends SqlProvider.Abstract implements SqlProviderMariaDb
 	{
+		private final static long MAX_BLOB_SIZE   = 64L * 1024L * 1024L;
+		private final static long PACKET_OVERHEAD = 1024L;
+
 		Default(
 			final String     catalog   ,
 			final String     schema    ,
@@ -79,6 +86,33 @@ public interface SqlProviderMariaDb extends SqlProvider
 			return '`';
 		}
 
+		@Override
+		public long maxBlobSize(
+			final Connection connection
+		)
+			throws SQLException
+		{
+			/*
+			 * A whole insert statement has to fit into one packet,
+			 * and blobs may be sent escaped, which can double their size.
+			 */
+			try(final Statement statement = connection.createStatement();
+				final ResultSet result    = statement.executeQuery("select @@max_allowed_packet")
+			)
+			{
+				if(result.next())
+				{
+					final long maxPacketSize = result.getLong(1);
+					if(maxPacketSize > PACKET_OVERHEAD)
+					{
+						return Math.min((maxPacketSize - PACKET_OVERHEAD) / 2L, MAX_BLOB_SIZE);
+					}
+				}
+			}
+
+			return super.maxBlobSize(connection);
+		}
+
 		@Override
 		public Iterable<String> createDirectoryQueries(
 			final String tableName
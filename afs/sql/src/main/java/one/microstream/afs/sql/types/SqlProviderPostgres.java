@@ -24,6 +24,8 @@ import static one.microstream.X.mayNull;
 import static one.microstream.X.notNull;
 import static one.microstream.chars.XChars.isEmpty;
 
+import java.sql.Connection;
+import java.sql.SQLException;
 import java.util.Arrays;
 
 import javax.sql.DataSource;
@@ -55,6 +57,8 @@ public interface SqlProviderPostgres extends SqlProvider
 
 	public static class Default extends SqlProvider.Abstract implements SqlProviderPostgres
 	{
+		private final static long MAX_BLOB_SIZE = 16L * 1024L * 1024L;
+
 		Default(
 			final String     catalog   ,
 			final String     schema    ,
@@ -80,6 +84,19 @@ public interface SqlProviderPostgres extends SqlProvider
 			return super.addSqlTableName(vs, tableName);
 		}
 
+		@Override
+		public long maxBlobSize(
+			final Connection connection
+		)
+			throws SQLException
+		{
+			/*
+			 * The driver doesn't report a limit, bytea values can hold up to 1GB.
+			 * Larger segments mean less rows per write, but each segment is read as a whole.
+			 */
+			return MAX_BLOB_SIZE;
+		}
+
 		@Override
 		public Iterable<String> createDirectoryQueries(
 			final String tableName
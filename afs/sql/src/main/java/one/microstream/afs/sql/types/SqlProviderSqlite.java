@@ -67,6 +67,13 @@ public interface SqlProviderSqlite extends SqlProvider
 			);
 		}
 
+		@Override
+		protected boolean useBinaryStream()
+		{
+			// the driver works in-process and copies streams into byte arrays anyway
+			return false;
+		}
+
 		@Override
 		public Iterable<String> createDirectoryQueries(
 			final String tableName
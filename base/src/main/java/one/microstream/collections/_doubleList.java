@@ -0,0 +1,234 @@
+package one.microstream.collections;
+
+/*-
+ * #%L
+ * microstream-base
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import one.microstream.chars.VarString;
+import one.microstream.exceptions.ArrayCapacityException;
+import one.microstream.exceptions.IndexBoundsException;
+import one.microstream.functional._doubleProcedure;
+import one.microstream.math.XMath;
+import one.microstream.typing.Composition;
+
+
+/**
+ * Simple primitive double list implementation.
+ * <p>
+ * As opposed to a list of {@link Double} instances, the elements are held in a single primitive array,
+ * which also allows a persistence layer to store them inlined as a single entity.
+ */
+public final class _doubleList implements Composition
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static final _doubleList New()
+	{
+		return new _doubleList(1);
+	}
+
+	public static final _doubleList New(final double... values)
+	{
+		return NewCustom(values.length).addAll(values, 0, values.length);
+	}
+
+	public static final _doubleList NewCustom(final int initialCapacity)
+	{
+		return new _doubleList(XMath.pow2BoundMaxed(initialCapacity));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private double[] data; // the storage array containing the elements
+	private int    size; // the current element count (logical size)
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	private _doubleList(final int uncheckedInitialCapacity)
+	{
+		super();
+		this.data = new double[uncheckedInitialCapacity];
+		this.size = 0;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// declared methods //
+	/////////////////////
+
+	private void internalCheckIndex(final int index)
+	{
+		if(index < 0 || index >= this.size)
+		{
+			throw new IndexBoundsException(this.size, index);
+		}
+	}
+
+	public final int size()
+	{
+		return this.size;
+	}
+
+	public final boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	public final double get(final int index)
+	{
+		this.internalCheckIndex(index);
+		return this.data[index];
+	}
+
+	public final double set(final int index, final double value)
+	{
+		this.internalCheckIndex(index);
+		final double oldValue = this.data[index];
+		this.data[index] = value;
+		return oldValue;
+	}
+
+	public final boolean add(final double value)
+	{
+		if(this.size == this.data.length)
+		{
+			this.ensureFreeCapacity(1);
+		}
+		this.data[this.size++] = value;
+		return true;
+	}
+
+	public final _doubleList addAll(final double... values)
+	{
+		return this.addAll(values, 0, values.length);
+	}
+
+	public final _doubleList addAll(final double[] values, final int offset, final int length)
+	{
+		this.ensureFreeCapacity(length);
+		System.arraycopy(values, offset, this.data, this.size, length); // automatic bounds checks
+		this.size += length;
+		return this;
+	}
+
+	public final double removeAt(final int index)
+	{
+		this.internalCheckIndex(index);
+		final double oldValue = this.data[index];
+
+		final int moveCount;
+		if((moveCount = this.size - 1 - index) > 0)
+		{
+			System.arraycopy(this.data, index + 1, this.data, index, moveCount);
+		}
+		this.size--;
+
+		return oldValue;
+	}
+
+	public final int indexOf(final double value)
+	{
+		final double[] data = this.data;
+		for(int i = 0; i < this.size; i++)
+		{
+			if(data[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public final boolean contains(final double value)
+	{
+		return this.indexOf(value) >= 0;
+	}
+
+	public final void clear()
+	{
+		// remaining values are irrelevant as long as size is used correctly
+		this.size = 0;
+	}
+
+	public final _doubleList ensureCapacity(final int minimumCapacity)
+	{
+		if(minimumCapacity > this.data.length)
+		{
+			final double[] data = new double[XMath.pow2BoundMaxed(minimumCapacity)];
+			System.arraycopy(this.data, 0, data, 0, this.size);
+			this.data = data;
+		}
+		return this;
+	}
+
+	public final _doubleList ensureFreeCapacity(final int freeCapacity)
+	{
+		// overflow-safe check for unreachable capacity
+		if(Integer.MAX_VALUE - this.size < freeCapacity)
+		{
+			throw new ArrayCapacityException((long)freeCapacity + this.size);
+		}
+		return this.ensureCapacity(this.size + freeCapacity);
+	}
+
+	public final <P extends _doubleProcedure> P iterate(final P procedure)
+	{
+		final double[] data = this.data;
+		for(int i = 0; i < this.size; i++)
+		{
+			procedure.accept(data[i]);
+		}
+		return procedure;
+	}
+
+	public final double[] toArray()
+	{
+		final double[] array;
+		System.arraycopy(this.data, 0, array = new double[this.size], 0, this.size);
+		return array;
+	}
+
+	@Override
+	public final String toString()
+	{
+		if(this.size == 0)
+		{
+			return "[]";
+		}
+
+		final VarString vs = VarString.New(this.size * 4).add('[');
+		for(int i = 0; i < this.size; i++)
+		{
+			vs.add(this.data[i]).add(',');
+		}
+		return vs.setLast(']').toString();
+	}
+
+}
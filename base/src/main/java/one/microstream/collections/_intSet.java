@@ -303,14 +303,14 @@ public final class _intSet implements Composition
 			this.internalAddNewLine(value);
 			return true;
 		}
-		for(final int i : line)
+		for(int i = 0; i < line.length; i++)
 		{
-			if(i == value)
+			if(line[i] == value)
 			{
 				// case: value already contained
 				return false;
 			}
-			if(i == 0)
+			if(line[i] == 0)
 			{
 				// case: new value and hash line has still enough room
 				this.internalAddToLine(line, i, value);
@@ -340,7 +340,7 @@ public final class _intSet implements Composition
 				this.internalRemoveFromLine(line, i);
 				return true;
 			}
-			if(line[0] == 0)
+			if(line[i] == 0)
 			{
 				break;
 			}
@@ -355,6 +355,7 @@ public final class _intSet implements Composition
 		{
 			lines[i] = null;
 		}
+		this.has0 = false;
 		this.size = 0;
 	}
 
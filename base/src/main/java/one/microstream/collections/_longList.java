@@ -0,0 +1,234 @@
+package one.microstream.collections;
+
+/*-
+ * #%L
+ * microstream-base
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import one.microstream.chars.VarString;
+import one.microstream.exceptions.ArrayCapacityException;
+import one.microstream.exceptions.IndexBoundsException;
+import one.microstream.functional._longProcedure;
+import one.microstream.math.XMath;
+import one.microstream.typing.Composition;
+
+
+/**
+ * Simple primitive long list implementation.
+ * <p>
+ * As opposed to a list of {@link Long} instances, the elements are held in a single primitive array,
+ * which also allows a persistence layer to store them inlined as a single entity.
+ */
+public final class _longList implements Composition
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static final _longList New()
+	{
+		return new _longList(1);
+	}
+
+	public static final _longList New(final long... values)
+	{
+		return NewCustom(values.length).addAll(values, 0, values.length);
+	}
+
+	public static final _longList NewCustom(final int initialCapacity)
+	{
+		return new _longList(XMath.pow2BoundMaxed(initialCapacity));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private long[] data; // the storage array containing the elements
+	private int    size; // the current element count (logical size)
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	private _longList(final int uncheckedInitialCapacity)
+	{
+		super();
+		this.data = new long[uncheckedInitialCapacity];
+		this.size = 0;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// declared methods //
+	/////////////////////
+
+	private void internalCheckIndex(final int index)
+	{
+		if(index < 0 || index >= this.size)
+		{
+			throw new IndexBoundsException(this.size, index);
+		}
+	}
+
+	public final int size()
+	{
+		return this.size;
+	}
+
+	public final boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	public final long get(final int index)
+	{
+		this.internalCheckIndex(index);
+		return this.data[index];
+	}
+
+	public final long set(final int index, final long value)
+	{
+		this.internalCheckIndex(index);
+		final long oldValue = this.data[index];
+		this.data[index] = value;
+		return oldValue;
+	}
+
+	public final boolean add(final long value)
+	{
+		if(this.size == this.data.length)
+		{
+			this.ensureFreeCapacity(1);
+		}
+		this.data[this.size++] = value;
+		return true;
+	}
+
+	public final _longList addAll(final long... values)
+	{
+		return this.addAll(values, 0, values.length);
+	}
+
+	public final _longList addAll(final long[] values, final int offset, final int length)
+	{
+		this.ensureFreeCapacity(length);
+		System.arraycopy(values, offset, this.data, this.size, length); // automatic bounds checks
+		this.size += length;
+		return this;
+	}
+
+	public final long removeAt(final int index)
+	{
+		this.internalCheckIndex(index);
+		final long oldValue = this.data[index];
+
+		final int moveCount;
+		if((moveCount = this.size - 1 - index) > 0)
+		{
+			System.arraycopy(this.data, index + 1, this.data, index, moveCount);
+		}
+		this.size--;
+
+		return oldValue;
+	}
+
+	public final int indexOf(final long value)
+	{
+		final long[] data = this.data;
+		for(int i = 0; i < this.size; i++)
+		{
+			if(data[i] == value)
+			{
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	public final boolean contains(final long value)
+	{
+		return this.indexOf(value) >= 0;
+	}
+
+	public final void clear()
+	{
+		// remaining values are irrelevant as long as size is used correctly
+		this.size = 0;
+	}
+
+	public final _longList ensureCapacity(final int minimumCapacity)
+	{
+		if(minimumCapacity > this.data.length)
+		{
+			final long[] data = new long[XMath.pow2BoundMaxed(minimumCapacity)];
+			System.arraycopy(this.data, 0, data, 0, this.size);
+			this.data = data;
+		}
+		return this;
+	}
+
+	public final _longList ensureFreeCapacity(final int freeCapacity)
+	{
+		// overflow-safe check for unreachable capacity
+		if(Integer.MAX_VALUE - this.size < freeCapacity)
+		{
+			throw new ArrayCapacityException((long)freeCapacity + this.size);
+		}
+		return this.ensureCapacity(this.size + freeCapacity);
+	}
+
+	public final <P extends _longProcedure> P iterate(final P procedure)
+	{
+		final long[] data = this.data;
+		for(int i = 0; i < this.size; i++)
+		{
+			procedure.accept(data[i]);
+		}
+		return procedure;
+	}
+
+	public final long[] toArray()
+	{
+		final long[] array;
+		System.arraycopy(this.data, 0, array = new long[this.size], 0, this.size);
+		return array;
+	}
+
+	@Override
+	public final String toString()
+	{
+		if(this.size == 0)
+		{
+			return "[]";
+		}
+
+		final VarString vs = VarString.New(this.size * 4).add('[');
+		for(int i = 0; i < this.size; i++)
+		{
+			vs.add(this.data[i]).add(',');
+		}
+		return vs.setLast(']').toString();
+	}
+
+}
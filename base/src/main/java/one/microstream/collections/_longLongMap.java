@@ -0,0 +1,338 @@
+package one.microstream.collections;
+
+/*-
+ * #%L
+ * microstream-base
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.Arrays;
+
+import one.microstream.chars.VarString;
+import one.microstream.exceptions.ArrayCapacityException;
+import one.microstream.functional._longLongProcedure;
+import one.microstream.math.XMath;
+import one.microstream.typing.Composition;
+
+
+/**
+ * Simple primitive long to long map implementation.
+ * <p>
+ * Keys and values are held in two parallel primitive arrays (open addressing with linear probing),
+ * so no entry or boxing instances are created and a persistence layer can store all entries inlined
+ * as a single entity.
+ */
+public final class _longLongMap implements Composition
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static final _longLongMap New()
+	{
+		return new _longLongMap(2);
+	}
+
+	public static final _longLongMap NewCustom(final int initialCapacity)
+	{
+		return new _longLongMap(capacityFor(initialCapacity));
+	}
+
+	private static int capacityFor(final int entryCount)
+	{
+		// load factor 0.75, so there is always at least one free slot to terminate probing.
+		final long minimumCapacity = ((long)entryCount * 4 + 2) / 3;
+		if(minimumCapacity > MAXIMUM_CAPACITY)
+		{
+			throw new ArrayCapacityException(minimumCapacity);
+		}
+		return Math.max(2, XMath.pow2BoundMaxed((int)minimumCapacity));
+	}
+
+	private static int hash(final long key)
+	{
+		// spread the bits, otherwise sequential ids would form long probing clusters.
+		final int h = (int)(key ^ key >>> 32) * 0x9E3779B9;
+		return h ^ h >>> 16;
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+
+	private long[] keys, values;
+	private int    size, range, threshold;
+
+	// 0 is treated as "null" (free slot) in algorithms, so 0 as key has to be special-cased.
+	private boolean has0  ;
+	private long    value0;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	private _longLongMap(final int uncheckedCapacity)
+	{
+		super();
+		this.internalCreateStorage(uncheckedCapacity);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// declared methods //
+	/////////////////////
+
+	private void internalCreateStorage(final int capacity)
+	{
+		this.keys      = new long[capacity];
+		this.values    = new long[capacity];
+		this.range     = capacity - 1;
+		this.threshold = (int)((long)capacity * 3 / 4);
+	}
+
+	private void internalRebuildStorage(final int newCapacity)
+	{
+		final long[] oldKeys = this.keys, oldValues = this.values;
+		this.internalCreateStorage(newCapacity);
+
+		final long[] keys = this.keys, values = this.values;
+		final int    range = this.range;
+		for(int o = 0; o < oldKeys.length; o++)
+		{
+			final long key;
+			if((key = oldKeys[o]) == 0)
+			{
+				continue;
+			}
+			int i = hash(key) & range;
+			while(keys[i] != 0)
+			{
+				i = i + 1 & range;
+			}
+			keys[i]   = key;
+			values[i] = oldValues[o];
+		}
+	}
+
+	/**
+	 * Returns the index of the passed (non-zero) key or, if not contained, the bitwise complement of the
+	 * free slot index it would have to be put at.
+	 */
+	private int internalIndexOf(final long key)
+	{
+		final long[] keys  = this.keys ;
+		final int    range = this.range;
+		for(int i = hash(key) & range;; i = i + 1 & range)
+		{
+			final long k;
+			if((k = keys[i]) == key)
+			{
+				return i;
+			}
+			if(k == 0)
+			{
+				return ~i;
+			}
+		}
+	}
+
+	private void internalRemoveAt(final int index)
+	{
+		// backward shift deletion: move following entries of the probing cluster into the gap, no tombstones.
+		final long[] keys = this.keys, values = this.values;
+		final int    range = this.range;
+
+		int gap = index;
+		for(int i = gap + 1 & range;; i = i + 1 & range)
+		{
+			final long key;
+			if((key = keys[i]) == 0)
+			{
+				break;
+			}
+			// the entry may only be moved to the gap if the gap does not lie before its hash slot
+			if((i - (hash(key) & range) & range) >= (i - gap & range))
+			{
+				keys[gap]   = key;
+				values[gap] = values[i];
+				gap = i;
+			}
+		}
+		keys[gap]   = 0;
+		values[gap] = 0;
+		this.size--;
+	}
+
+	public final int size()
+	{
+		return this.size;
+	}
+
+	public final boolean isEmpty()
+	{
+		return this.size == 0;
+	}
+
+	public final boolean containsKey(final long key)
+	{
+		return key == 0
+			? this.has0
+			: this.internalIndexOf(key) >= 0
+		;
+	}
+
+	public final long get(final long key, final long substitute)
+	{
+		if(key == 0)
+		{
+			return this.has0 ? this.value0 : substitute;
+		}
+		final int index;
+		return (index = this.internalIndexOf(key)) >= 0
+			? this.values[index]
+			: substitute
+		;
+	}
+
+	/**
+	 * Associates the passed value with the passed key.
+	 *
+	 * @param key the key.
+	 * @param value the value.
+	 * @return {@code true} if the key was newly added, {@code false} if an existing key's value was replaced.
+	 */
+	public final boolean put(final long key, final long value)
+	{
+		if(key == 0)
+		{
+			final boolean added = !this.has0;
+			this.has0   = true;
+			this.value0 = value;
+			if(added)
+			{
+				this.size++;
+			}
+			return added;
+		}
+
+		int index;
+		if((index = this.internalIndexOf(key)) >= 0)
+		{
+			this.values[index] = value;
+			return false;
+		}
+		if(this.size >= this.threshold)
+		{
+			this.ensureFreeCapacity(1);
+			index = this.internalIndexOf(key);
+		}
+		this.keys[~index]   = key;
+		this.values[~index] = value;
+		this.size++;
+		return true;
+	}
+
+	public final boolean remove(final long key)
+	{
+		if(key == 0)
+		{
+			if(!this.has0)
+			{
+				return false;
+			}
+			this.has0   = false;
+			this.value0 = 0;
+			this.size--;
+			return true;
+		}
+
+		final int index;
+		if((index = this.internalIndexOf(key)) < 0)
+		{
+			return false;
+		}
+		this.internalRemoveAt(index);
+		return true;
+	}
+
+	public final void clear()
+	{
+		Arrays.fill(this.keys, 0);
+		Arrays.fill(this.values, 0);
+		this.has0   = false;
+		this.value0 = 0;
+		this.size   = 0;
+	}
+
+	public final _longLongMap ensureFreeCapacity(final int freeCapacity)
+	{
+		// overflow-safe check for unreachable capacity
+		if(Integer.MAX_VALUE - this.size < freeCapacity)
+		{
+			throw new ArrayCapacityException((long)freeCapacity + this.size);
+		}
+		if(this.size + freeCapacity > this.threshold)
+		{
+			this.internalRebuildStorage(capacityFor(this.size + freeCapacity));
+		}
+		return this;
+	}
+
+	public final <P extends _longLongProcedure> P iterate(final P procedure)
+	{
+		if(this.has0)
+		{
+			procedure.accept(0, this.value0);
+		}
+		final long[] keys = this.keys, values = this.values;
+		for(int i = 0; i < keys.length; i++)
+		{
+			if(keys[i] != 0)
+			{
+				procedure.accept(keys[i], values[i]);
+			}
+		}
+		return procedure;
+	}
+
+	@Override
+	public final String toString()
+	{
+		if(this.size == 0)
+		{
+			return "[]";
+		}
+
+		final VarString vs = VarString.New(this.size * 8).add('[');
+		this.iterate((k, v) -> vs.add(k).add('=').add(v).add(','));
+		return vs.setLast(']').toString();
+	}
+
+}
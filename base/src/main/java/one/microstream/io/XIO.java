@@ -1121,6 +1121,19 @@ public final class XIO
 		fileChannel.truncate(newSize);
 	}
 	
+	/**
+	 * Forces all content written to the passed {@link FileChannel} to be written to the storage device.
+	 * Metadata is only forced as far as required to read the content again, i.e. the file size.
+	 * 
+	 * @param fileChannel the file channel to be forced
+	 * @throws IOException if an IO error occurs
+	 */
+	public static void force(final FileChannel fileChannel)
+		throws IOException
+	{
+		fileChannel.force(false);
+	}
+	
 	private static long writeToChannel(
 		final FileChannel fileChannel,
 		final ByteBuffer  buffer
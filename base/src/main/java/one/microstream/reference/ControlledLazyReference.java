@@ -82,7 +82,7 @@ public interface ControlledLazyReference<T> extends Lazy<T>
 		}
 		
 		@Override
-		public final synchronized T clear()
+		public final T clear()
 		{
 			if(this.lazyClearController.allowClear())
 			{
@@ -94,7 +94,7 @@ public interface ControlledLazyReference<T> extends Lazy<T>
 		}
 		
 		@Override
-		public final synchronized boolean clear(final ClearingEvaluator clearingEvaluator)
+		public final boolean clear(final ClearingEvaluator clearingEvaluator)
 		{
 			if(this.lazyClearController.allowClear())
 			{
@@ -24,12 +24,19 @@ import static one.microstream.X.mayNull;
 import static one.microstream.chars.XChars.systemString;
 import static one.microstream.util.logging.Logging.LazyArg;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
+
 import org.slf4j.Logger;
 
+import one.microstream.X;
 import one.microstream.chars.VarString;
 import one.microstream.chars.XChars;
+import one.microstream.collections.BulkList;
+import one.microstream.collections.HashTable;
 import one.microstream.memory.MemoryStatistics;
 import one.microstream.memory.MemoryStatisticsProvider;
+import one.microstream.typing.KeyValue;
 import one.microstream.util.logging.Logging;
 
 
@@ -225,6 +232,55 @@ public interface Lazy<T> extends Referencing<T>
 		
 		return reference.isLoaded();
 	}
+	
+	/**
+	 * Loads the subjects of all passed lazy references that are not loaded yet. In contrast to calling
+	 * {@link Lazy#get()} for every reference, the subjects are retrieved with one
+	 * {@link ObjectSwizzling#collect(java.util.function.Consumer, long...)} call per loader, i.e. typically
+	 * with a single request to the storage instead of one request per reference.
+	 * <p>
+	 * <code>null</code> elements as well as already loaded references are skipped. References of other
+	 * implementations than {@link Lazy.Default} are loaded individually via {@link Lazy#get()}.
+	 * 
+	 * @param references the lazy references to be loaded
+	 * 
+	 * @see Lazy#get()
+	 */
+	public static void loadAll(final Iterable<? extends Lazy<?>> references)
+	{
+		// references are grouped by their loader, which is practically always the same single instance.
+		final HashTable<ObjectSwizzling, BulkList<Lazy.Default<?>>> loadables = HashTable.New();
+		for(final Lazy<?> reference : references)
+		{
+			if(reference == null)
+			{
+				continue;
+			}
+			if(!(reference instanceof Lazy.Default))
+			{
+				reference.get();
+				continue;
+			}
+			
+			final ObjectSwizzling loader = ((Lazy.Default<?>)reference).loaderIfUnloaded();
+			if(loader == null)
+			{
+				continue;
+			}
+			
+			BulkList<Lazy.Default<?>> group = loadables.get(loader);
+			if(group == null)
+			{
+				loadables.add(loader, group = BulkList.New());
+			}
+			group.add((Lazy.Default<?>)reference);
+		}
+		
+		for(final KeyValue<ObjectSwizzling, BulkList<Lazy.Default<?>>> entry : loadables)
+		{
+			Lazy.Default.loadAll(entry.key(), entry.value());
+		}
+	}
 
 	
 	/**
@@ -283,10 +339,28 @@ public interface Lazy<T> extends Referencing<T>
 	}
 	
 	
+	/**
+	 * The default {@link Lazy} implementation.
+	 * <p>
+	 * All accesses are lock-free: the subject is held in a volatile field, so querying an already loaded
+	 * reference is a single volatile read. Loading is guarded by a compare-and-set once-initializer,
+	 * meaning concurrent callers wait for the one thread loading the subject instead of loading it again.
+	 * Like a monitor, loading is reentrant: if the loading thread itself calls {@link #get()} on the same
+	 * reference during the loading, that call loads the subject on its own instead of waiting for itself.
+	 * Neither loading nor clearing holds a monitor, so a virtual thread is never pinned to its carrier
+	 * thread while waiting for the storage.
+	 *
+	 * @param <T> the type of the lazily referenced element
+	 */
 	public class Default<T> implements Lazy<T>
 	{
 		private final static Logger logger = Logging.getLogger(Default.class);
 		
+		@SuppressWarnings("rawtypes")
+		private static final AtomicReferenceFieldUpdater<Lazy.Default, Loading> LOADING =
+			AtomicReferenceFieldUpdater.newUpdater(Lazy.Default.class, Loading.class, "loading")
+		;
+		
 		
 		@SuppressWarnings("all")
 		public static final Class<Lazy.Default<?>> genericType()
@@ -304,12 +378,15 @@ public interface Lazy<T> extends Referencing<T>
 		/**
 		 * The actual subject to be referenced.
 		 */
-		private T subject;
+		private volatile T subject;
 		
 		/**
 		 * The timestamp in milliseconds when this reference has last been touched (created or queried).
 		 * If an instance is deemed timed out by a {@link LazyReferenceManager} based on the current time
 		 * and some arbitrary timeout threshold, its subject gets cleared.
+		 * <p>
+		 * Intentionally not volatile to keep the writes in {@link #get()} cheap. A slightly outdated value
+		 * only shifts the time when the reference gets cleared.
 		 */
 		transient long lastTouched;
 
@@ -321,7 +398,7 @@ public interface Lazy<T> extends Referencing<T>
 		 * A "not found" id (id < 0) here means not yet persisted (the id assigned via persisting is not yet present).
 		 */
 		// CHECKSTYLE.OFF: VisibilityModifier CheckStyle false positive for same package in another project
-		transient long objectId;
+		transient volatile long objectId;
 		// CHECKSTYLE.ON: VisibilityModifier
 
 		/**
@@ -330,7 +407,13 @@ public interface Lazy<T> extends Referencing<T>
 		 * in the first place but did not to do its work later lazyely. Apart from this idea,
 		 * there is no "hard" contract on what the loader instance should specifically be.
 		 */
-		private transient ObjectSwizzling loader;
+		private transient volatile ObjectSwizzling loader;
+		
+		/**
+		 * The pending loading of the subject, if any. Set via {@link #LOADING} by the thread loading the subject
+		 * and completed and reset when it is done, so concurrent callers can wait for it.
+		 */
+		private transient volatile Loading loading;
 
 
 
@@ -362,7 +445,7 @@ public interface Lazy<T> extends Referencing<T>
 			this.subject  = subject ;
 			this.objectId = objectId;
 			this.loader   = loader  ;
-			this.touch();
+			this.touch(subject);
 		}
 
 
@@ -383,14 +466,14 @@ public interface Lazy<T> extends Referencing<T>
 		}
 		
 		@Override
-		public final synchronized boolean isStored()
+		public final boolean isStored()
 		{
 			// A "not found" id (id < 0) here means not yet persisted (the id assigned via persisting is not yet present).
 			return Swizzling.isFoundId(this.objectId);
 		}
 		
 		@Override
-		public final synchronized boolean isLoaded()
+		public final boolean isLoaded()
 		{
 			/* Sounds trivial, but there are a lot of cases, here:
 			 * 1.) Not yet persisted cases (id < 0) are implicitly always "loaded".
@@ -401,13 +484,13 @@ public interface Lazy<T> extends Referencing<T>
 		}
 
 		@Override
-		public final synchronized T peek()
+		public final T peek()
 		{
 			return this.subject;
 		}
 
 		@Override
-		public synchronized T clear()
+		public T clear()
 		{
 			final T subject = this.subject;
 			this.internalClear();
@@ -415,7 +498,7 @@ public interface Lazy<T> extends Referencing<T>
 		}
 		
 		@Override
-		public synchronized boolean clear(final ClearingEvaluator clearingEvaluator)
+		public boolean clear(final ClearingEvaluator clearingEvaluator)
 		{
 			// must be stored and not already cleared to even consider asking the evaluator
 			if(this.isStored() && this.subject != null && clearingEvaluator.needsClearing(this))
@@ -428,9 +511,9 @@ public interface Lazy<T> extends Referencing<T>
 			return false;
 		}
 
-		private void touch()
+		private void touch(final T subject)
 		{
-			this.lastTouched = this.subject != null
+			this.lastTouched = subject != null
 				? System.currentTimeMillis()
 				: Long.MAX_VALUE
 			;
@@ -453,13 +536,18 @@ public interface Lazy<T> extends Referencing<T>
 			}
 			
 			this.subject = null;
-			this.touch();
+			this.touch(null);
 		}
 
 
 		///////////////////////////////////////////////////////////////////////////
 		// Hooks for TypeHandler //
 		//////////////////////////
+		
+		/* The linking hooks are only called by persistence logic and never do any I/O, so they simply keep being
+		 * mutually exclusive via the monitor. The loader is always set before the object id, so that a concurrent
+		 * #get seeing a proper object id is guaranteed to see the loader as well.
+		 */
 
 		public final synchronized void $link(final long objectId, final ObjectSwizzling loader)
 		{
@@ -500,12 +588,15 @@ public interface Lazy<T> extends Referencing<T>
 		/////////////////////
 
 		@Override
-		public final synchronized T get()
+		public final T get()
 		{
+			// the subject is read exactly once to keep the already loaded case a single volatile read
+			T subject = this.subject;
+			
 			// no need to "load" a persisted null value (id == 0) or a not yet persisted null value (id < 0)
-			if(this.subject == null && Swizzling.isProperId(this.objectId))
+			if(subject == null && Swizzling.isProperId(this.objectId))
 			{
-				this.load();
+				subject = this.load();
 			}
 			
 			/* There are 3 possible cases at this point:
@@ -513,27 +604,135 @@ public interface Lazy<T> extends Referencing<T>
 			 * 2.) subject was lazily null but has been successfully thread-safely loaded, set and can now be returned
 			 * 3.) subject was null in the first place (one way or another) and null gets returned.
 			 */
-			this.touch();
+			this.touch(subject);
 			
-			return this.subject;
+			return subject;
 		}
 
+		private T load()
+		{
+			while(true)
+			{
+				final Loading pendingLoading = this.loading;
+				if(pendingLoading != null)
+				{
+					if(pendingLoading.thread == Thread.currentThread())
+					{
+						// reentrant call from within the loading, waiting for it would never return.
+						return this.loadExclusively();
+					}
+					
+					// another thread is already loading the subject. Parking instead of blocking on a monitor.
+					pendingLoading.join();
+				}
+				else
+				{
+					final Loading loading = new Loading();
+					if(LOADING.compareAndSet(this, null, loading))
+					{
+						try
+						{
+							return this.loadExclusively();
+						}
+						finally
+						{
+							this.loading = null;
+							loading.complete(null);
+						}
+					}
+				}
+				
+				// loaded by another thread in the meantime. If that loading failed, the loop tries again.
+				final T subject = this.subject;
+				if(subject != null)
+				{
+					return subject;
+				}
+			}
+		}
+		
 		@SuppressWarnings("unchecked") // safety of cast guaranteed by logic
-		private synchronized void load()
+		private T loadExclusively()
 		{
+			// the subject might have been loaded by another thread between the caller's check and becoming the loader
+			final T current = this.subject;
+			if(current != null)
+			{
+				return current;
+			}
+			
 			logger.debug("Lazy loading {}", this.objectId);
 			
 			// this context doesn't have to do anything on an exception inside the get(), just pass it along
-			this.subject = (T)this.loader.getObject(this.objectId);
+			final T subject = (T)this.loader.getObject(this.objectId);
+			this.subject = subject;
 			
 			logger.debug(
 				"Lazy loaded {}: {}",
 				this.objectId,
-				LazyArg(() -> systemString(this.subject))
+				LazyArg(() -> systemString(subject))
 			);
+			
+			return subject;
+		}
+
+		/**
+		 * A pending loading, remembering the loading thread to detect reentrant calls.
+		 */
+		static final class Loading extends CompletableFuture<Void>
+		{
+			final Thread thread = Thread.currentThread();
+		}
+
+		/**
+		 * Returns the loader to be used to load the subject or <code>null</code> if there is nothing to load.
+		 * 
+		 * @return the loader or <code>null</code>.
+		 */
+		final ObjectSwizzling loaderIfUnloaded()
+		{
+			return this.subject == null && Swizzling.isProperId(this.objectId)
+				? this.loader
+				: null
+			;
+		}
+		
+		@SuppressWarnings("unchecked") // safety of cast guaranteed by logic
+		final void linkLoaded(final Object subject)
+		{
+			// the subject might have been loaded concurrently in the meantime, in which case it is the same instance
+			if(this.subject == null)
+			{
+				this.subject = (T)subject;
+			}
+			this.touch((T)subject);
+		}
+		
+		static final void loadAll(final ObjectSwizzling loader, final BulkList<Lazy.Default<?>> references)
+		{
+			final long[] objectIds = new long[X.checkArrayRange(references.size())];
+			int i = 0;
+			for(final Lazy.Default<?> reference : references)
+			{
+				objectIds[i++] = reference.objectId();
+			}
+			
+			logger.debug("Lazy loading {} references", objectIds.length);
+			
+			/*
+			 * The references' monitors are deliberately not held while loading to not block concurrent
+			 * accesses for the whole time. The loaded instances are linked afterwards in the same order.
+			 */
+			final BulkList<Object> subjects = loader.collect(BulkList.New(objectIds.length), objectIds);
+			
+			i = 0;
+			for(final Lazy.Default<?> reference : references)
+			{
+				reference.linkLoaded(subjects.at(i++));
+			}
 		}
 
-		final synchronized boolean clearIfTimedout(final long millisecondThreshold)
+		final boolean clearIfTimedout(final long millisecondThreshold)
 		{
 			logger.trace(
 				"Checking lazy {} ({} vs {}): {}",
@@ -20,6 +20,8 @@ package one.microstream.reference;
  * #L%
  */
 
+import java.util.function.Consumer;
+
 public interface ObjectSwizzling
 {
 	/**
@@ -32,4 +34,30 @@ public interface ObjectSwizzling
 	 * @return the instance associated with the passed {@literal objectId}.
 	 */
 	public Object getObject(long objectId);
+	
+	/**
+	 * Retrieves the instances associated with the passed {@literal objectIds} in the same way as
+	 * {@link #getObject(long)} and passes them to the passed {@literal collector} in the order of the
+	 * passed {@literal objectIds}.
+	 * <p>
+	 * Implementations are expected to retrieve all instances in one go (e.g. with a single request to the
+	 * underlying storage) instead of handling each {@literal objectId} individually.
+	 * The default implementation just calls {@link #getObject(long)} for each {@literal objectId}.
+	 * 
+	 * @param <C> the type of the collector
+	 * @param collector the collector to pass the retrieved instances to.
+	 * @param objectIds the {@literal objectIds} defining which instances to retrieve.
+	 * 
+	 * @return the passed {@literal collector}.
+	 */
+	public default <C extends Consumer<Object>> C collect(final C collector, final long... objectIds)
+	{
+		for(final long objectId : objectIds)
+		{
+			collector.accept(this.getObject(objectId));
+		}
+		
+		return collector;
+	}
+	
 }
@@ -0,0 +1,140 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import one.microstream.configuration.types.ByteSize;
+import one.microstream.configuration.types.ByteUnit;
+import one.microstream.storage.embedded.configuration.types.EmbeddedStorageConfiguration;
+import one.microstream.storage.embedded.configuration.types.EmbeddedStorageConfigurationBuilder;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Shared setup logic for all benchmarks: every benchmark trial works on its own storage
+ * in a freshly created temporary directory, which is deleted again after the trial.
+ * <p>
+ * Housekeeping is configured with an interval long enough to not interfere with the measurements,
+ * benchmarks covering housekeeping trigger it explicitly.
+ */
+public final class BenchmarkStorage
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+	
+	public static Path createDirectory()
+	{
+		try
+		{
+			return Files.createTempDirectory("microstream-benchmark");
+		}
+		catch(final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	public static EmbeddedStorageConfigurationBuilder configuration(final Path directory)
+	{
+		return EmbeddedStorageConfiguration.Builder()
+			.setStorageDirectory(directory.toString())
+			.setHousekeepingInterval(Duration.ofHours(1))
+		;
+	}
+	
+	public static EmbeddedStorageConfigurationBuilder configurationSmallFiles(final Path directory)
+	{
+		return configuration(directory)
+			.setDataFileMinimumSize(ByteSize.New(64, ByteUnit.KiB))
+			.setDataFileMaximumSize(ByteSize.New(256, ByteUnit.KiB))
+		;
+	}
+	
+	public static EmbeddedStorageManager start(
+		final EmbeddedStorageConfigurationBuilder configuration,
+		final Object                              root
+	)
+	{
+		return configuration.createEmbeddedStorageFoundation().start(root);
+	}
+	
+	public static EmbeddedStorageManager start(final Path directory, final Object root)
+	{
+		return start(configuration(directory), root);
+	}
+	
+	public static void shutdown(final EmbeddedStorageManager storage, final Path directory)
+	{
+		if(storage != null)
+		{
+			storage.shutdown();
+		}
+		if(directory != null)
+		{
+			deleteRecursively(directory);
+		}
+	}
+	
+	public static void deleteRecursively(final Path directory)
+	{
+		if(!Files.exists(directory))
+		{
+			return;
+		}
+		
+		try(final Stream<Path> paths = Files.walk(directory))
+		{
+			for(final Path path : (Iterable<Path>)paths.sorted(Comparator.reverseOrder())::iterator)
+			{
+				Files.delete(path);
+			}
+		}
+		catch(final IOException e)
+		{
+			throw new UncheckedIOException(e);
+		}
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 * 
+	 * @throws UnsupportedOperationException when called
+	 */
+	private BenchmarkStorage()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+	
+}
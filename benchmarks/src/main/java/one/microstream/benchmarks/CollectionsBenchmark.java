@@ -0,0 +1,142 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import one.microstream.collections.BulkList;
+import one.microstream.collections.HashTable;
+
+/**
+ * Measures the basic operations of the {@link HashTable} and {@link BulkList} implementations,
+ * which are used extensively by the persistence layer and are common choices for persisted entity graphs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class CollectionsBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"1000", "100000"})
+	int size;
+	
+	Long[]                  keys ;
+	HashTable<Long, String> table;
+	BulkList<Long>          list ;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.keys  = new Long[this.size];
+		this.table = HashTable.New();
+		this.list  = BulkList.New(this.size);
+		for(int i = 0; i < this.size; i++)
+		{
+			// spread the keys to not benefit from sequential hash values
+			this.keys[i] = Long.valueOf(i * 0x9E3779B97F4A7C15L);
+			this.table.put(this.keys[i], "value-" + i);
+			this.list.add(this.keys[i]);
+		}
+	}
+	
+	@Benchmark
+	public HashTable<Long, String> hashTablePut()
+	{
+		final HashTable<Long, String> table = HashTable.New();
+		for(final Long key : this.keys)
+		{
+			table.put(key, "");
+		}
+		
+		return table;
+	}
+	
+	@Benchmark
+	public void hashTableGet(final Blackhole blackhole)
+	{
+		final HashTable<Long, String> table = this.table;
+		for(final Long key : this.keys)
+		{
+			blackhole.consume(table.get(key));
+		}
+	}
+	
+	@Benchmark
+	public void hashTableIterate(final Blackhole blackhole)
+	{
+		this.table.iterate(blackhole::consume);
+	}
+	
+	@Benchmark
+	public BulkList<Long> bulkListAdd()
+	{
+		final BulkList<Long> list = BulkList.New();
+		for(final Long key : this.keys)
+		{
+			list.add(key);
+		}
+		
+		return list;
+	}
+	
+	@Benchmark
+	public void bulkListAt(final Blackhole blackhole)
+	{
+		final BulkList<Long> list = this.list;
+		for(int i = 0; i < this.size; i++)
+		{
+			blackhole.consume(list.at(i));
+		}
+	}
+	
+	@Benchmark
+	public void bulkListIterate(final Blackhole blackhole)
+	{
+		this.list.iterate(blackhole::consume);
+	}
+	
+}
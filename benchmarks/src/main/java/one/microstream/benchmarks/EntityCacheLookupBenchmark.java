@@ -0,0 +1,142 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import one.microstream.persistence.types.PersistenceIdSet;
+import one.microstream.persistence.types.PersistenceObjectRegistry;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures entity lookups in the storage's entity cache by requesting the raw entity data for a set of
+ * object ids, bypassing the materialization done by the loader.
+ * <p>
+ * With {@link #cached} set to {@code false}, all cached entity data is cleared via a full cache check before
+ * every invocation, so the lookups include reading the data from the data files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EntityCacheLookupBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"1", "4"})
+	int channelCount;
+	
+	@Param({"1000", "100000"})
+	int size;
+	
+	@Param({"true", "false"})
+	boolean cached;
+	
+	Path                   directory;
+	EmbeddedStorageManager storage  ;
+	long[]                 objectIds;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.directory = BenchmarkStorage.createDirectory();
+		this.storage   = BenchmarkStorage.start(
+			BenchmarkStorage.configuration(this.directory).setChannelCount(this.channelCount),
+			null
+		);
+		
+		final Node root = Node.Shape.FLAT.create(this.size);
+		this.storage.store(root);
+		
+		final PersistenceObjectRegistry registry = this.storage.persistenceManager().objectRegistry();
+		this.objectIds = new long[this.size];
+		this.objectIds[0] = registry.lookupObjectId(root);
+		for(int i = 1; i < this.size; i++)
+		{
+			this.objectIds[i] = registry.lookupObjectId(root.children()[i - 1]);
+		}
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupInvocation()
+	{
+		if(!this.cached)
+		{
+			this.storage.issueFullCacheCheck((cacheSize, evaluationTime, entity) -> true);
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(this.storage, this.directory);
+	}
+	
+	@Benchmark
+	public Object lookupEntities()
+	{
+		return this.storage.persistenceManager().source().readByObjectIds(this.createIdSets());
+	}
+	
+	private PersistenceIdSet[] createIdSets()
+	{
+		// object ids are distributed to the channels by the same bit masking the storage uses
+		final PersistenceIdSet.Default[] idSets = new PersistenceIdSet.Default[this.channelCount];
+		for(int i = 0; i < idSets.length; i++)
+		{
+			idSets[i] = new PersistenceIdSet.Default();
+		}
+		
+		final long channelHashModulo = this.channelCount - 1;
+		for(final long objectId : this.objectIds)
+		{
+			idSets[(int)(objectId & channelHashModulo)].accept(objectId);
+		}
+		
+		return idSets;
+	}
+	
+}
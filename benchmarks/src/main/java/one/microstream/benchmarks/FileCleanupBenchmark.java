@@ -0,0 +1,114 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import one.microstream.persistence.types.Storer;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures a full file check, i.e. the dissolving of data files with too little live data, on a storage
+ * with small data files. Before every invocation, the whole graph is stored again with an eager storer
+ * several times, so that the previously written data files consist mostly of outdated entity records.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class FileCleanupBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"1", "4"})
+	int channelCount;
+	
+	@Param({"10000"})
+	int size;
+	
+	@Param({"4"})
+	int rewriteCount;
+	
+	Path                   directory;
+	EmbeddedStorageManager storage  ;
+	Node                   root     ;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.root      = Node.Shape.FLAT.create(this.size);
+		this.directory = BenchmarkStorage.createDirectory();
+		this.storage   = BenchmarkStorage.start(
+			BenchmarkStorage.configurationSmallFiles(this.directory).setChannelCount(this.channelCount),
+			this.root
+		);
+		this.storage.storeRoot();
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupInvocation()
+	{
+		for(int i = 0; i < this.rewriteCount; i++)
+		{
+			final Storer storer = this.storage.createEagerStorer();
+			storer.store(this.root);
+			storer.commit();
+		}
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(this.storage, this.directory);
+	}
+	
+	@Benchmark
+	public void fullFileCheck()
+	{
+		this.storage.issueFullFileCheck();
+	}
+	
+}
@@ -0,0 +1,110 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures a full garbage collection run (incremental marking and sweeping in all channels) on a storage
+ * containing a live graph and a garbage graph of the same size, the latter being recreated before every
+ * invocation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class GarbageCollectionBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"1", "4"})
+	int channelCount;
+	
+	@Param({"0", "4"})
+	int markingParallelism;
+	
+	@Param({"100000"})
+	int size;
+	
+	Path                   directory;
+	EmbeddedStorageManager storage  ;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.directory = BenchmarkStorage.createDirectory();
+		this.storage   = BenchmarkStorage.start(
+			BenchmarkStorage.configuration(this.directory)
+				.setChannelCount(this.channelCount)
+				.setGcMarkingParallelism(this.markingParallelism)
+			,
+			Node.Shape.TREE.create(this.size)
+		);
+		this.storage.storeRoot();
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupInvocation()
+	{
+		// stored, but not referenced by the root, hence garbage for the next collection
+		this.storage.store(Node.Shape.TREE.create(this.size));
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(this.storage, this.directory);
+	}
+	
+	@Benchmark
+	public void fullGarbageCollection()
+	{
+		this.storage.issueFullGarbageCollection();
+	}
+	
+}
@@ -0,0 +1,177 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import one.microstream.reference.Lazy;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures {@link Lazy#get()} for a number of lazily referenced subgraphs, both cold (the storage is restarted
+ * before every invocation, so every subgraph is loaded from the storage) and warm (all subgraphs are already loaded).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LazyBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"100", "10000"})
+	int referenceCount;
+	
+	@Param({"1", "100"})
+	int subgraphSize;
+	
+	Path directory;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		@SuppressWarnings("unchecked")
+		final Lazy<Node>[] references = new Lazy[this.referenceCount];
+		for(int i = 0; i < references.length; i++)
+		{
+			references[i] = Lazy.Reference(Node.Shape.TREE.create(this.subgraphSize));
+		}
+		
+		this.directory = BenchmarkStorage.createDirectory();
+		
+		// the benchmark states work on their own storage instances, started from the stored data
+		final EmbeddedStorageManager storage = BenchmarkStorage.start(this.directory, references);
+		storage.storeRoot();
+		storage.shutdown();
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(null, this.directory);
+	}
+	
+	@Benchmark
+	public void getCold(final ColdReferences cold, final Blackhole blackhole)
+	{
+		for(final Lazy<Node> reference : cold.references)
+		{
+			blackhole.consume(reference.get());
+		}
+	}
+	
+	@Benchmark
+	public void getWarm(final WarmReferences warm, final Blackhole blackhole)
+	{
+		for(final Lazy<Node> reference : warm.references)
+		{
+			blackhole.consume(reference.get());
+		}
+	}
+	
+	@SuppressWarnings("unchecked")
+	static Lazy<Node>[] references(final EmbeddedStorageManager storage)
+	{
+		return (Lazy<Node>[])storage.root();
+	}
+	
+	
+	
+	/**
+	 * Restarts the storage before every invocation of the benchmark method using it, so all lazy references
+	 * are unloaded and no instance of their subgraphs is registered yet.
+	 */
+	@State(Scope.Benchmark)
+	public static class ColdReferences
+	{
+		EmbeddedStorageManager storage   ;
+		Lazy<Node>[]           references;
+		
+		@Setup(Level.Invocation)
+		public void start(final LazyBenchmark benchmark)
+		{
+			this.storage    = BenchmarkStorage.start(benchmark.directory, null);
+			this.references = references(this.storage);
+		}
+		
+		@TearDown(Level.Invocation)
+		public void shutdown()
+		{
+			BenchmarkStorage.shutdown(this.storage, null);
+		}
+		
+	}
+	
+	/**
+	 * Loads all lazy references once per trial.
+	 */
+	@State(Scope.Benchmark)
+	public static class WarmReferences
+	{
+		EmbeddedStorageManager storage   ;
+		Lazy<Node>[]           references;
+		
+		@Setup(Level.Trial)
+		public void start(final LazyBenchmark benchmark)
+		{
+			this.storage    = BenchmarkStorage.start(benchmark.directory, null);
+			this.references = references(this.storage);
+			for(final Lazy<Node> reference : this.references)
+			{
+				reference.get();
+			}
+		}
+		
+		@TearDown(Level.Trial)
+		public void shutdown()
+		{
+			BenchmarkStorage.shutdown(this.storage, null);
+		}
+		
+	}
+	
+}
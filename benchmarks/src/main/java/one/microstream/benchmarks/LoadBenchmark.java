@@ -0,0 +1,113 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import one.microstream.reference.Lazy;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures loading (i.e. reading the entity data from the storage and {@code BinaryLoader} materialization)
+ * of object graphs of different shapes. The storage is restarted before every invocation, so every
+ * node has to be loaded and materialized again.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LoadBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"FLAT", "DEEP", "TREE"})
+	Node.Shape shape;
+	
+	@Param({"1000", "100000"})
+	int size;
+	
+	Path                   directory;
+	EmbeddedStorageManager storage  ;
+	long                   objectId ;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.directory = BenchmarkStorage.createDirectory();
+		
+		// the lazy root keeps the graph reachable, but not loaded after a restart
+		final Node                   graph   = this.shape.create(this.size);
+		final EmbeddedStorageManager storage = BenchmarkStorage.start(this.directory, Lazy.Reference(graph));
+		storage.storeRoot();
+		this.objectId = storage.persistenceManager().objectRegistry().lookupObjectId(graph);
+		storage.shutdown();
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupInvocation()
+	{
+		this.storage = BenchmarkStorage.start(this.directory, null);
+	}
+	
+	@TearDown(Level.Invocation)
+	public void tearDownInvocation()
+	{
+		BenchmarkStorage.shutdown(this.storage, null);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(null, this.directory);
+	}
+	
+	@Benchmark
+	public Object loadGraph()
+	{
+		return this.storage.persistenceManager().getObject(this.objectId);
+	}
+	
+}
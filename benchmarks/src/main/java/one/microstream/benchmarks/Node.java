@@ -0,0 +1,148 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+/**
+ * Simple entity type used to build benchmark object graphs of different shapes.
+ */
+public final class Node
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	long   value   ;
+	String name    ;
+	Node[] children;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	Node(final long value, final int childCount)
+	{
+		super();
+		this.value    = value;
+		this.name     = "node-" + value;
+		this.children = new Node[childCount];
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	public final long value()
+	{
+		return this.value;
+	}
+	
+	public final Node[] children()
+	{
+		return this.children;
+	}
+	
+	public final void update(final long value)
+	{
+		this.value = value;
+	}
+	
+	
+	
+	/**
+	 * The graph shapes a benchmark can be parameterized with.
+	 * All shapes create the same number of {@link Node}s for the same size to keep the results comparable.
+	 */
+	public enum Shape
+	{
+		/**
+		 * One root node referencing all other nodes directly.
+		 */
+		FLAT
+		{
+			@Override
+			public Node create(final int size)
+			{
+				final Node root = new Node(0, size - 1);
+				for(int i = 1; i < size; i++)
+				{
+					root.children[i - 1] = new Node(i, 0);
+				}
+				
+				return root;
+			}
+		},
+		
+		/**
+		 * A linear chain of nodes, each referencing the next one.
+		 */
+		DEEP
+		{
+			@Override
+			public Node create(final int size)
+			{
+				// built from the tail to the head to avoid a recursive construction
+				Node current = new Node(size - 1, 0);
+				for(int i = size - 2; i >= 0; i--)
+				{
+					final Node node = new Node(i, 1);
+					node.children[0] = current;
+					current = node;
+				}
+				
+				return current;
+			}
+		},
+		
+		/**
+		 * A balanced tree with a branching factor of {@value Shape#TREE_WIDTH}.
+		 */
+		TREE
+		{
+			@Override
+			public Node create(final int size)
+			{
+				final Node[] nodes = new Node[size];
+				for(int i = 0; i < size; i++)
+				{
+					final int firstChild = i * TREE_WIDTH + 1;
+					nodes[i] = new Node(i, Math.max(0, Math.min(TREE_WIDTH, size - firstChild)));
+				}
+				for(int i = 1; i < size; i++)
+				{
+					final int parent = (i - 1) / TREE_WIDTH;
+					nodes[parent].children[(i - 1) % TREE_WIDTH] = nodes[i];
+				}
+				
+				return nodes[0];
+			}
+		};
+		
+		static final int TREE_WIDTH = 8;
+		
+		public abstract Node create(int size);
+		
+	}
+	
+}
@@ -0,0 +1,141 @@
+package one.microstream.benchmarks;
+
+/*-
+ * #%L
+ * microstream-benchmarks
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import one.microstream.persistence.types.Storer;
+import one.microstream.storage.embedded.types.EmbeddedStorageManager;
+
+/**
+ * Measures storing (i.e. {@code BinaryStorer} traversal, serialization and commit) of object graphs
+ * of different shapes, both for new graphs and for updating an already stored graph.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StoreBenchmark
+{
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	@Param({"FLAT", "DEEP", "TREE"})
+	Node.Shape shape;
+	
+	@Param({"1000", "100000"})
+	int size;
+	
+	Path                   directory;
+	EmbeddedStorageManager storage  ;
+	Node                   stored   ;
+	Node                   fresh    ;
+	long                   version  ;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	@Setup(Level.Trial)
+	public void setupTrial()
+	{
+		this.directory = BenchmarkStorage.createDirectory();
+		this.storage   = BenchmarkStorage.start(this.directory, null);
+		this.stored    = this.shape.create(this.size);
+		this.storage.store(this.stored);
+	}
+	
+	@Setup(Level.Invocation)
+	public void setupInvocation()
+	{
+		this.fresh = this.shape.create(this.size);
+	}
+	
+	@TearDown(Level.Trial)
+	public void tearDownTrial()
+	{
+		BenchmarkStorage.shutdown(this.storage, this.directory);
+	}
+	
+	/**
+	 * Stores a graph that is not yet known to the storage, so every node gets a new object id
+	 * and is written.
+	 */
+	@Benchmark
+	public long storeNewGraph()
+	{
+		return this.storage.store(this.fresh);
+	}
+	
+	/**
+	 * Stores an already stored graph with an eager storer, so every node is written again.
+	 */
+	@Benchmark
+	public long storeChangedGraph()
+	{
+		final long version = ++this.version;
+		for(final Node child : this.stored.children())
+		{
+			child.update(version);
+		}
+		
+		final Storer storer   = this.storage.createEagerStorer();
+		final long   objectId = storer.store(this.stored);
+		storer.commit();
+		
+		return objectId;
+	}
+	
+	/**
+	 * Stores an already stored and unchanged graph with a lazy storer, which only writes the root.
+	 * This measures the traversal and registry lookup overhead of the storer.
+	 */
+	@Benchmark
+	public long storeKnownGraph()
+	{
+		final Storer storer   = this.storage.createStorer();
+		final long   objectId = storer.store(this.stored);
+		storer.commit();
+		
+		return objectId;
+	}
+	
+}
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class CollectionsBenchmark_jmhType extends CollectionsBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class EntityCacheLookupBenchmark_jmhType extends EntityCacheLookupBenchmark_jmhType_B3 {
+}
+
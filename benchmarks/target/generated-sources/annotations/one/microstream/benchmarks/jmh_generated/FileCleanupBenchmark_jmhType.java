@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class FileCleanupBenchmark_jmhType extends FileCleanupBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class GarbageCollectionBenchmark_jmhType extends GarbageCollectionBenchmark_jmhType_B3 {
+}
+
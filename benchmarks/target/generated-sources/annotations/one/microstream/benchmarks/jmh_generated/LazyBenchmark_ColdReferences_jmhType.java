@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class LazyBenchmark_ColdReferences_jmhType extends LazyBenchmark_ColdReferences_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class LazyBenchmark_WarmReferences_jmhType extends LazyBenchmark_WarmReferences_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class LazyBenchmark_jmhType extends LazyBenchmark_jmhType_B3 {
+}
+
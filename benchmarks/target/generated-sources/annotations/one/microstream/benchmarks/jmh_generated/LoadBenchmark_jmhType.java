@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class LoadBenchmark_jmhType extends LoadBenchmark_jmhType_B3 {
+}
+
@@ -0,0 +1,4 @@
+package one.microstream.benchmarks.jmh_generated;
+public class StoreBenchmark_jmhType extends StoreBenchmark_jmhType_B3 {
+}
+
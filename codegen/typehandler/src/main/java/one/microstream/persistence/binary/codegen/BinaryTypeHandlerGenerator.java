@@ -0,0 +1,516 @@
+package one.microstream.persistence.binary.codegen;
+
+/*-
+ * #%L
+ * microstream-codegen-typehandler
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.ProcessingEnvironment;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.tools.Diagnostic.Kind;
+import javax.tools.JavaFileObject;
+
+import one.microstream.chars.VarString;
+import one.microstream.exceptions.IORuntimeException;
+
+
+class BinaryTypeHandlerGenerator
+{
+	private final static String HANDLER_PREFIX = "BinaryHandler";
+
+	private final static String[] IMPORTS =
+	{
+		"java.util.function.Consumer",
+		"one.microstream.X",
+		"one.microstream.memory.XMemory",
+		"one.microstream.persistence.binary.internal.AbstractBinaryHandlerCustom",
+		"one.microstream.persistence.binary.types.Binary",
+		"one.microstream.persistence.types.PersistenceFunction",
+		"one.microstream.persistence.types.PersistenceLoadHandler",
+		"one.microstream.persistence.types.PersistenceReferenceLoader",
+		"one.microstream.persistence.types.PersistenceStoreHandler",
+		"one.microstream.persistence.types.PersistenceTypeDefinitionMemberFieldReflective"
+	};
+
+	static class Member
+	{
+		final String  name          ;
+		final String  declaringName ;
+		final int     hierarchyDepth;
+		final boolean isReference   ;
+		final String  primitiveName ;
+
+		String        suffix        ;
+
+		Member(final VariableElement element, final TypeElement declaringType, final int hierarchyDepth)
+		{
+			super();
+			this.name           = element.getSimpleName().toString();
+			this.declaringName  = declaringType.getSimpleName().toString();
+			this.hierarchyDepth = hierarchyDepth;
+			this.isReference    = !element.asType().getKind().isPrimitive();
+			this.primitiveName  = this.isReference
+				? null
+				: element.asType().getKind().name().toLowerCase()
+			;
+		}
+
+		String binaryLength()
+		{
+			if(this.isReference)
+			{
+				return "Binary.referenceBinaryLength(1)";
+			}
+
+			switch(this.primitiveName)
+			{
+				case "boolean": return "Byte.BYTES"; // Boolean.BYTES does not exist
+				case "char"   : return "Character.BYTES";
+				case "int"    : return "Integer.BYTES";
+				default       : return Character.toUpperCase(this.primitiveName.charAt(0))
+					+ this.primitiveName.substring(1) + ".BYTES";
+			}
+		}
+
+	}
+
+
+
+	final ProcessingEnvironment environment;
+	final TypeElement           typeElement;
+	final List<Member>          members    ;
+	final String                packageName;
+	final String                typeName   ;
+	final String                handlerName;
+	final String                handledType;
+	final boolean               isGeneric  ;
+
+	private final VarString     source     = VarString.New();
+
+	BinaryTypeHandlerGenerator(
+		final ProcessingEnvironment environment,
+		final TypeElement           typeElement,
+		final List<Member>          members
+	)
+	{
+		super();
+		this.environment = environment;
+		this.typeElement = typeElement;
+
+		this.packageName = environment.getElementUtils().getPackageOf(typeElement).getQualifiedName().toString();
+		final String qualifiedName = typeElement.getQualifiedName().toString();
+		this.typeName    = this.packageName.isEmpty()
+			? qualifiedName
+			: qualifiedName.substring(this.packageName.length() + 1)
+		;
+		this.handlerName = HANDLER_PREFIX + this.typeName.replace(".", "");
+		this.isGeneric   = !typeElement.getTypeParameters().isEmpty();
+		this.handledType = this.isGeneric
+			? typeWithWildcards(this.typeName, typeElement.getTypeParameters().size())
+			: this.typeName
+		;
+
+		// persistent order is all reference fields in declared order, then all primitive fields in declared order.
+		final List<Member> ordered = new ArrayList<>(members.size());
+		members.stream().filter(m -> m.isReference).forEach(ordered::add);
+		members.stream().filter(m -> !m.isReference).forEach(ordered::add);
+		this.members = ordered;
+
+		// shadowed fields get a qualified constant suffix
+		final Set<String> names = new HashSet<>();
+		members.forEach(m ->
+			m.suffix = members.stream().filter(o -> o.name.equals(m.name)).count() > 1
+				? m.name + "_" + m.declaringName
+				: m.name
+		);
+		members.forEach(m ->
+		{
+			while(!names.add(m.suffix))
+			{
+				m.suffix = m.suffix + "_" + m.hierarchyDepth;
+			}
+		});
+	}
+
+	private static String typeWithWildcards(final String typeName, final int typeParameterCount)
+	{
+		final VarString vs = VarString.New(typeName).add('<');
+		for(int i = 0; i < typeParameterCount; i++)
+		{
+			vs.add(i == 0 ? "?" : ", ?");
+		}
+		return vs.add('>').toString();
+	}
+
+	final void generateType()
+	{
+		if(this.members.isEmpty())
+		{
+			this.environment.getMessager().printMessage(Kind.WARNING,
+				"No persistable fields, the generic stateless type handler is sufficient.",
+				this.typeElement
+			);
+			return;
+		}
+
+		this.environment.getMessager().printMessage(Kind.NOTE,
+			VarString.New("Generating ").add(this.packageName).add('.').add(this.handlerName).toString());
+
+		this.generateCode();
+		this.writeFile();
+	}
+
+	private String typeLiteral()
+	{
+		return this.isGeneric
+			? "handledType()"
+			: this.typeName + ".class"
+		;
+	}
+
+	private String declaringClassLiteral(final Member member)
+	{
+		final VarString vs = VarString.New(this.typeName).add(".class");
+		for(int i = 0; i < member.hierarchyDepth; i++)
+		{
+			vs.add(".getSuperclass()");
+		}
+		return vs.toString();
+	}
+
+	private void generateCode()
+	{
+		final int maxSuffixLength = this.members.stream().mapToInt(m -> m.suffix.length()).max().getAsInt();
+
+		this.add("/**").newline()
+			.add(" * Generated binary type handler for {@link ").add(this.typeName).add("}.").newline()
+			.add(" * Do not edit, changes are overwritten when the type handler is generated again.").newline()
+			.add(" */").newline()
+			.add("public final class ").add(this.handlerName)
+			.add(" extends AbstractBinaryHandlerCustom<").add(this.handledType).add(">").newline()
+			.add("{").newline();
+
+		this.generateConstants(maxSuffixLength);
+		this.generateStaticMethods();
+		this.generateConstructor();
+		this.generateMethods();
+
+		this.add("}").newline();
+	}
+
+	private void generateConstants(final int maxSuffixLength)
+	{
+		this.banner("constants");
+
+		this.tab().add("static final PersistenceTypeDefinitionMemberFieldReflective").newline();
+		this.forEachMember((m, last) ->
+			this.tab(2).add(pad("MEMBER_" + m.suffix, maxSuffixLength + 7))
+				.add(" = declaredField(").add(this.declaringClassLiteral(m)).add(", \"").add(m.name).add("\")")
+				.add(last ? "" : ",").newline()
+		);
+		this.tab().add(";").newline().newline();
+
+		this.tab().add("static final long").newline();
+		this.forEachMember((m, last) ->
+			this.tab(2).add(pad("OFFSET_" + m.suffix, maxSuffixLength + 7))
+				.add(" = XMemory.objectFieldOffset(").add(this.typeName).add(".class, MEMBER_").add(m.suffix)
+				.add(".field())").add(last ? "" : ",").newline()
+		);
+		this.tab().add(";").newline().newline();
+
+		final int binaryPadding = Math.max(maxSuffixLength + 14, "BINARY_LENGTH".length());
+		this.tab().add("static final long").newline();
+		Member previous = null;
+		for(final Member m : this.members)
+		{
+			this.tab(2).add(pad("BINARY_OFFSET_" + m.suffix, binaryPadding)).add(" = ");
+			if(previous == null)
+			{
+				this.add("0");
+			}
+			else
+			{
+				this.add("BINARY_OFFSET_").add(previous.suffix).add(" + ").add(previous.binaryLength());
+			}
+			this.add(",").newline();
+			previous = m;
+		}
+		this.tab(2).add(pad("BINARY_LENGTH", binaryPadding)).add(" = BINARY_OFFSET_").add(previous.suffix)
+			.add(" + ").add(previous.binaryLength()).newline();
+		this.tab().add(";").newline().newline().newline().newline();
+	}
+
+	private void generateStaticMethods()
+	{
+		this.banner("static methods");
+
+		if(this.isGeneric)
+		{
+			this.tab().add("@SuppressWarnings({\"unchecked\", \"rawtypes\"})").newline()
+				.tab().add("private static Class<").add(this.handledType).add("> handledType()").newline()
+				.tab().add("{").newline()
+				.tab(2).add("return (Class)").add(this.typeName).add(".class;").newline()
+				.tab().add("}").newline().newline();
+		}
+
+		this.tab().add("public static ").add(this.handlerName).add(" New()").newline()
+			.tab().add("{").newline()
+			.tab(2).add("return new ").add(this.handlerName).add("();").newline()
+			.tab().add("}").newline().newline().newline().newline();
+	}
+
+	private void generateConstructor()
+	{
+		this.banner("constructors");
+
+		this.tab().add(this.handlerName).add("()").newline()
+			.tab().add("{").newline()
+			.tab(2).add("super(").newline()
+			.tab(3).add(this.typeLiteral()).add(",").newline()
+			.tab(3).add("X.ConstList(").newline();
+		this.forEachMember((m, last) ->
+			this.tab(4).add("MEMBER_").add(m.suffix).add(last ? "" : ",").newline()
+		);
+		this.tab(3).add(")").newline()
+			.tab(2).add(");").newline()
+			.tab(2).add("XMemory.ensureClassInitialized(").add(this.typeName).add(".class);").newline()
+			.tab().add("}").newline().newline().newline().newline();
+	}
+
+	private void generateMethods()
+	{
+		this.banner("methods");
+
+		// store
+		this.override().tab().add("public void store(").newline()
+			.tab(2).add("final Binary                          data    ,").newline()
+			.tab(2).add("final ").add(pad(this.handledType, 31)).add(" instance,").newline()
+			.tab(2).add("final long                            objectId,").newline()
+			.tab(2).add("final PersistenceStoreHandler<Binary> handler").newline()
+			.tab().add(")").newline()
+			.tab().add("{").newline()
+			.tab(2).add("data.storeEntityHeader(BINARY_LENGTH, this.typeId(), objectId);").newline();
+		for(final Member m : this.members)
+		{
+			this.tab(2);
+			if(m.isReference)
+			{
+				this.add("data.store_long(").add("BINARY_OFFSET_").add(m.suffix)
+					.add(", handler.apply(XMemory.getObject(instance, OFFSET_").add(m.suffix).add(")));");
+			}
+			else
+			{
+				this.add("data.store_").add(m.primitiveName).add("(").add("BINARY_OFFSET_").add(m.suffix)
+					.add(", XMemory.get_").add(m.primitiveName).add("(instance, OFFSET_").add(m.suffix).add("));");
+			}
+			this.newline();
+		}
+		this.tab().add("}").newline().newline();
+
+		// create
+		this.override().tab().add("public ").add(this.handledType)
+			.add(" create(final Binary data, final PersistenceLoadHandler handler)").newline()
+			.tab().add("{").newline()
+			.tab(2).add("return XMemory.instantiateBlank(").add(this.typeLiteral()).add(");").newline()
+			.tab().add("}").newline().newline();
+
+		// updateState
+		this.override().tab().add("public void updateState(").newline()
+			.tab(2).add("final Binary                 data    ,").newline()
+			.tab(2).add("final ").add(pad(this.handledType, 22)).add(" instance,").newline()
+			.tab(2).add("final PersistenceLoadHandler handler").newline()
+			.tab().add(")").newline()
+			.tab().add("{").newline();
+		for(final Member m : this.members)
+		{
+			this.tab(2);
+			if(m.isReference)
+			{
+				this.add("XMemory.setObject(instance, OFFSET_").add(m.suffix)
+					.add(", handler.lookupObject(data.read_long(").add("BINARY_OFFSET_").add(m.suffix).add(")));");
+			}
+			else
+			{
+				this.add("XMemory.set_").add(m.primitiveName).add("(instance, OFFSET_").add(m.suffix)
+					.add(", data.read_").add(m.primitiveName).add("(").add("BINARY_OFFSET_").add(m.suffix).add("));");
+			}
+			this.newline();
+		}
+		this.tab().add("}").newline().newline();
+
+		final boolean hasReferences = this.members.stream().anyMatch(m -> m.isReference);
+
+		// iterateInstanceReferences
+		this.override().tab().add("public void iterateInstanceReferences(final ").add(this.handledType)
+			.add(" instance, final PersistenceFunction iterator)").newline()
+			.tab().add("{").newline();
+		if(!hasReferences)
+		{
+			this.tab(2).add("// no references").newline();
+		}
+		this.members.stream().filter(m -> m.isReference).forEach(m ->
+			this.tab(2).add("iterator.apply(XMemory.getObject(instance, OFFSET_").add(m.suffix).add("));").newline()
+		);
+		this.tab().add("}").newline().newline();
+
+		// iterateLoadableReferences
+		this.override().tab()
+			.add("public void iterateLoadableReferences(final Binary data, final PersistenceReferenceLoader iterator)")
+			.newline()
+			.tab().add("{").newline();
+		if(!hasReferences)
+		{
+			this.tab(2).add("// no references").newline();
+		}
+		this.members.stream().filter(m -> m.isReference).forEach(m ->
+			this.tab(2).add("iterator.acceptObjectId(data.read_long(").add("BINARY_OFFSET_").add(m.suffix)
+				.add("));").newline()
+		);
+		this.tab().add("}").newline().newline();
+
+		// iterateMemberTypes
+		this.override().tab().add("public <C extends Consumer<? super Class<?>>> C iterateMemberTypes(final C logic)")
+			.newline()
+			.tab().add("{").newline();
+		this.members.forEach(m ->
+			this.tab(2).add("logic.accept(MEMBER_").add(m.suffix).add(".type());").newline()
+		);
+		this.tab(2).add("return logic;").newline()
+			.tab().add("}").newline().newline();
+
+		this.override().tab().add("public boolean hasPersistedReferences()").newline()
+			.tab().add("{").newline()
+			.tab(2).add("return ").add(Boolean.toString(hasReferences)).add(";").newline()
+			.tab().add("}").newline().newline();
+
+		this.override().tab().add("public boolean hasVaryingPersistedLengthInstances()").newline()
+			.tab().add("{").newline()
+			.tab(2).add("return false;").newline()
+			.tab().add("}").newline().newline();
+	}
+
+	@FunctionalInterface
+	interface MemberGenerator
+	{
+		public void generate(Member member, boolean isLast);
+	}
+
+	private void forEachMember(final MemberGenerator generator)
+	{
+		for(int i = 0; i < this.members.size(); i++)
+		{
+			generator.generate(this.members.get(i), i == this.members.size() - 1);
+		}
+	}
+
+	private static String pad(final String string, final int length)
+	{
+		return string.length() >= length
+			? string
+			: VarString.New(string).blank(length - string.length()).toString();
+	}
+
+	private BinaryTypeHandlerGenerator banner(final String title)
+	{
+		final String line = "///////////////////////////////////////////////////////////////////////////";
+		final VarString vs = VarString.New("// ").add(title).add(" //");
+		return this.tab().add(line).newline()
+			.tab().add(vs.toString()).newline()
+			.tab().add(line.substring(0, vs.length() - 1)).newline()
+			.newline();
+	}
+
+	private BinaryTypeHandlerGenerator override()
+	{
+		return this.tab().add("@Override").newline();
+	}
+
+	private BinaryTypeHandlerGenerator add(final String code)
+	{
+		this.source.add(code);
+		return this;
+	}
+
+	private BinaryTypeHandlerGenerator tab()
+	{
+		this.source.tab();
+		return this;
+	}
+
+	private BinaryTypeHandlerGenerator tab(final int amount)
+	{
+		this.source.tab(amount);
+		return this;
+	}
+
+	private BinaryTypeHandlerGenerator newline()
+	{
+		this.source.add(System.lineSeparator());
+		return this;
+	}
+
+	String getCode()
+	{
+		final String    lineSeparator = System.lineSeparator();
+
+		final VarString vs            = VarString.New();
+		if(!this.packageName.isEmpty())
+		{
+			vs.add("package ").add(this.packageName).add(";").add(lineSeparator);
+			vs.add(lineSeparator);
+		}
+		for(final String path : IMPORTS)
+		{
+			vs.add("import ").add(path).add(";").add(lineSeparator);
+		}
+		vs.add(lineSeparator);
+		vs.add(lineSeparator);
+		vs.add(this.source);
+		return vs.toString();
+	}
+
+	private void writeFile()
+	{
+		try
+		{
+			final JavaFileObject file = this.environment.getFiler().createSourceFile(
+				this.packageName.isEmpty()
+					? this.handlerName
+					: this.packageName + "." + this.handlerName,
+				this.typeElement
+			);
+			try(Writer writer = file.openWriter())
+			{
+				writer.write(this.getCode());
+			}
+		}
+		catch(final IOException e)
+		{
+			throw new IORuntimeException(e);
+		}
+	}
+
+}
@@ -0,0 +1,180 @@
+package one.microstream.persistence.binary.codegen;
+
+/*-
+ * #%L
+ * microstream-codegen-typehandler
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic.Kind;
+
+import one.microstream.persistence.binary.types.GenerateBinaryTypeHandler;
+
+
+/**
+ * Annotation processor generating non-reflective binary type handlers for classes annotated with
+ * {@link GenerateBinaryTypeHandler}.
+ * <p>
+ * The persisted fields are determined the same way the generic type analysis does by default:
+ * all non-static, non-transient fields of the class and its super classes, super classes' fields first,
+ * each class' fields in declaration order.
+ */
+@SuppressWarnings("exports")
+public class BinaryTypeHandlerProcessor extends AbstractProcessor
+{
+	public BinaryTypeHandlerProcessor()
+	{
+		super();
+	}
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public Set<String> getSupportedAnnotationTypes()
+	{
+		return Collections.singleton(GenerateBinaryTypeHandler.class.getName());
+	}
+
+	@Override
+	public boolean process(final Set<? extends TypeElement> annotations, final RoundEnvironment roundEnv)
+	{
+		roundEnv.getElementsAnnotatedWith(GenerateBinaryTypeHandler.class).stream()
+			.filter(this::validateType)
+			.map(TypeElement.class::cast)
+			.forEach(this::generateTypeHandler);
+
+		return false;
+	}
+
+	private boolean validateType(final Element element)
+	{
+		if(element.getKind() != ElementKind.CLASS)
+		{
+			return this.error(element, "Only classes can have a binary type handler generated.");
+		}
+
+		final TypeElement typeElement = (TypeElement)element;
+		if(typeElement.getModifiers().contains(Modifier.ABSTRACT))
+		{
+			return this.error(element, "Abstract classes cannot be instantiated by a binary type handler.");
+		}
+
+		for(Element e = typeElement; e instanceof TypeElement; e = e.getEnclosingElement())
+		{
+			if(e.getModifiers().contains(Modifier.PRIVATE))
+			{
+				return this.error(element, "Private classes are not accessible for a generated binary type handler.");
+			}
+			if(((TypeElement)e).getNestingKind() != NestingKind.TOP_LEVEL
+				&& !e.getModifiers().contains(Modifier.STATIC))
+			{
+				return this.error(element, "Inner classes cannot have a binary type handler generated.");
+			}
+		}
+
+		for(TypeElement t = this.superClass(typeElement); t != null; t = this.superClass(t))
+		{
+			// JDK classes' fields are internals that the generic type analysis handles specifically, if at all.
+			final String name = t.getQualifiedName().toString();
+			if(name.startsWith("java.") || name.startsWith("javax."))
+			{
+				return this.error(element, "Classes extending JDK classes cannot have a binary type handler generated.");
+			}
+		}
+
+		return true;
+	}
+
+	private boolean error(final Element element, final String message)
+	{
+		this.processingEnv.getMessager().printMessage(Kind.ERROR, message, element);
+		return false;
+	}
+
+	private TypeElement superClass(final TypeElement typeElement)
+	{
+		final TypeMirror superclass = typeElement.getSuperclass();
+		if(superclass.getKind() != TypeKind.DECLARED)
+		{
+			return null;
+		}
+
+		final TypeElement element = (TypeElement)((DeclaredType)superclass).asElement();
+		return element.getQualifiedName().contentEquals(Object.class.getName())
+			? null
+			: element;
+	}
+
+	private void generateTypeHandler(final TypeElement typeElement)
+	{
+		new BinaryTypeHandlerGenerator(
+			this.processingEnv,
+			typeElement,
+			this.collectPersistableFields(typeElement)
+		)
+		.generateType();
+	}
+
+	private List<BinaryTypeHandlerGenerator.Member> collectPersistableFields(final TypeElement typeElement)
+	{
+		final List<TypeElement> hierarchy = new ArrayList<>();
+		for(TypeElement t = typeElement; t != null; t = this.superClass(t))
+		{
+			hierarchy.add(0, t);
+		}
+
+		final List<BinaryTypeHandlerGenerator.Member> members = new ArrayList<>();
+		for(final TypeElement declaringType : hierarchy)
+		{
+			final int depth = hierarchy.size() - 1 - hierarchy.indexOf(declaringType);
+			members.addAll(
+				declaringType.getEnclosedElements().stream()
+					.filter(e -> e.getKind() == ElementKind.FIELD)
+					.filter(e -> !e.getModifiers().contains(Modifier.STATIC))
+					.filter(e -> !e.getModifiers().contains(Modifier.TRANSIENT))
+					.map(VariableElement.class::cast)
+					.map(e -> new BinaryTypeHandlerGenerator.Member(e, declaringType, depth))
+					.collect(Collectors.toList())
+			);
+		}
+
+		return members;
+	}
+
+}
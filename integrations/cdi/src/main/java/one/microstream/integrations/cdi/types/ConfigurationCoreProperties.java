@@ -25,6 +25,7 @@ import one.microstream.storage.embedded.configuration.types.EmbeddedStorageConfi
 import org.eclipse.microprofile.config.Config;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
@@ -225,6 +226,156 @@ public enum ConfigurationCoreProperties
 	DATA_FILE_CLEANUP_HEAD_FILE(
 			Constants.PREFIX + "data.file.cleanup.head.file",
 			EmbeddedStorageConfigurationPropertyNames.DATA_FILE_CLEANUP_HEAD_FILE
+	),
+	
+	/**
+	 * The entity cache evaluation strategy: "default", "segmented-lru" or "frequency". Default is "default".
+	 */
+	ENTITY_CACHE_EVALUATOR(
+			Constants.PREFIX + "entity.cache.evaluator",
+		EmbeddedStorageConfigurationPropertyNames.ENTITY_CACHE_EVALUATOR
+	),
+	
+	/**
+	 * Entity cache size per channel which is not exceeded permanently by the "segmented-lru" and "frequency"
+	 * evaluators. Default is 1 GB.
+	 */
+	ENTITY_CACHE_CAPACITY(
+			Constants.PREFIX + "entity.cache.capacity",
+		EmbeddedStorageConfigurationPropertyNames.ENTITY_CACHE_CAPACITY
+	),
+	
+	/**
+	 * Time after the last read in which an entity is always kept in the cache by the "frequency" evaluator.
+	 * Default is one minute.
+	 */
+	ENTITY_CACHE_ADMISSION_WINDOW(
+			Constants.PREFIX + "entity.cache.admission.window",
+		EmbeddedStorageConfigurationPropertyNames.ENTITY_CACHE_ADMISSION_WINDOW
+	),
+	
+	/**
+	 * Maximum cached data sizes per channel for certain types as a comma separated list of type name and size pairs,
+	 * e.g. "com.my.app.Order: 200 MB, com.my.app.Invoice: 50 MB".
+	 */
+	ENTITY_CACHE_TYPE_BUDGETS(
+			Constants.PREFIX + "entity.cache.type.budgets",
+		EmbeddedStorageConfigurationPropertyNames.ENTITY_CACHE_TYPE_BUDGETS
+	),
+	
+	/**
+	 * Defines when written data is synchronized with the storage medium: "sync-per-commit", "periodic-sync" or
+	 * "no-sync". Default is "no-sync".
+	 */
+	DURABILITY(
+			Constants.PREFIX + "durability",
+		EmbeddedStorageConfigurationPropertyNames.DURABILITY
+	),
+	
+	/**
+	 * Maximum time that stored data may stay unsynchronized with the "periodic-sync" durability. Default is 200 ms.
+	 */
+	DURABILITY_SYNC_INTERVAL(
+			Constants.PREFIX + "durability.sync.interval",
+		EmbeddedStorageConfigurationPropertyNames.DURABILITY_SYNC_INTERVAL
+	),
+	
+	/**
+	 * Time in which concurrently issued stores are collected to be written and flushed together as one group commit.
+	 * Default is zero, which disables group commits.
+	 */
+	GROUP_COMMIT_WINDOW(
+			Constants.PREFIX + "group.commit.window",
+		EmbeddedStorageConfigurationPropertyNames.GROUP_COMMIT_WINDOW
+	),
+	
+	/**
+	 * Amount of data after which a group commit is issued before its window has elapsed. Default is 1 MB.
+	 */
+	GROUP_COMMIT_BYTE_BUDGET(
+			Constants.PREFIX + "group.commit.byte.budget",
+		EmbeddedStorageConfigurationPropertyNames.GROUP_COMMIT_BYTE_BUDGET
+	),
+	
+	/**
+	 * Number of threads shared by all channels to mark reachable entities in parallel during garbage collection.
+	 * Default is 0, which means every channel marks its entities exclusively in its own thread.
+	 */
+	GC_MARKING_PARALLELISM(
+			Constants.PREFIX + "gc.marking.parallelism",
+		EmbeddedStorageConfigurationPropertyNames.GC_MARKING_PARALLELISM
+	),
+	
+	/**
+	 * Number of young collections following every full garbage collection. Default is 0, which means every
+	 * collection is a full collection.
+	 */
+	GC_YOUNG_COLLECTION_COUNT(
+			Constants.PREFIX + "gc.young.collection.count",
+		EmbeddedStorageConfigurationPropertyNames.GC_YOUNG_COLLECTION_COUNT
+	),
+	
+	/**
+	 * Number of threads shared by all storers to store very large object graphs in parallel.
+	 * Default is 0, which means every store is done single-threaded.
+	 */
+	STORING_PARALLELISM(
+			Constants.PREFIX + "storing.parallelism",
+		EmbeddedStorageConfigurationPropertyNames.STORING_PARALLELISM
+	),
+	
+	/**
+	 * Amount of serialized data after which a store is handed over to the storage in parts.
+	 * Default is zero, which means every store is handed over as a whole.
+	 */
+	STORING_STREAMING_WINDOW(
+			Constants.PREFIX + "storing.streaming.window",
+		EmbeddedStorageConfigurationPropertyNames.STORING_STREAMING_WINDOW
+	),
+	
+	/**
+	 * If true, storers skip entities whose serialized form has not changed since their last store.
+	 * Default is false.
+	 */
+	STORING_CHANGE_DETECTION(
+			Constants.PREFIX + "storing.change.detection",
+		EmbeddedStorageConfigurationPropertyNames.STORING_CHANGE_DETECTION
+	),
+	
+	/**
+	 * Number of data files every channel reads ahead in a worker thread during initialization.
+	 * Default is 0, which means all data files are read and registered sequentially.
+	 */
+	DATA_FILE_READ_AHEAD_COUNT(
+			Constants.PREFIX + "data.file.read.ahead.count",
+		EmbeddedStorageConfigurationPropertyNames.DATA_FILE_READ_AHEAD_COUNT
+	),
+	
+	/**
+	 * If true, every channel writes a snapshot of its entity index on a clean shutdown to speed up the next startup.
+	 * Default is false.
+	 */
+	ENTITY_INDEX_SNAPSHOT(
+			Constants.PREFIX + "entity.index.snapshot",
+		EmbeddedStorageConfigurationPropertyNames.ENTITY_INDEX_SNAPSHOT
+	),
+	
+	/**
+	 * Interval of the object registry's housekeeping, which removes the entries of objects collected by the
+	 * JVM's garbage collector. Default is 0, which means no housekeeping.
+	 */
+	OBJECT_REGISTRY_HOUSEKEEPING_INTERVAL(
+			Constants.PREFIX + "object.registry.housekeeping.interval",
+		EmbeddedStorageConfigurationPropertyNames.OBJECT_REGISTRY_HOUSEKEEPING_INTERVAL
+	),
+	
+	/**
+	 * Maximum number of entries and buckets processed in one cycle of the object registry's housekeeping.
+	 * Default is 10000.
+	 */
+	OBJECT_REGISTRY_HOUSEKEEPING_SAMPLE_SIZE(
+			Constants.PREFIX + "object.registry.housekeeping.sample.size",
+		EmbeddedStorageConfigurationPropertyNames.OBJECT_REGISTRY_HOUSEKEEPING_SAMPLE_SIZE
 	);
 
 	private final String microProfile;
@@ -263,9 +414,10 @@ public enum ConfigurationCoreProperties
 	public static Optional<ConfigurationCoreProperties> get(final String value)
 	{
 		Objects.requireNonNull(value);
+		// the longest matching key wins, e.g. 'durability.sync.interval' over 'durability'
 		return Arrays.stream(ConfigurationCoreProperties.values())
 				.filter(ccp -> value.startsWith(ccp.getMicroProfile()))
-				.findAny();
+				.max(Comparator.comparingInt(ccp -> ccp.getMicroProfile().length()));
 	}
 
 	public static Map<String, String> getProperties(final Config config)
@@ -185,6 +185,17 @@ class ConfigurationCorePropertiesTest
 		Assertions.assertEquals("storage-filesystem.sql.postgres.data-source-provider", property.get().getMicroStream(key));
 	}
 
+	@Test
+	void findEnumValue_longestMatch()
+	{
+		// Not using CDI
+		String key = "one.microstream.durability.sync.interval";
+		final Optional<ConfigurationCoreProperties> property = ConfigurationCoreProperties.get(key);
+		Assertions.assertTrue(property.isPresent());
+		Assertions.assertEquals(ConfigurationCoreProperties.DURABILITY_SYNC_INTERVAL,  property.get());
+		Assertions.assertEquals("durability-sync-interval", property.get().getMicroStream(key));
+	}
+
 	@Test
 	void findEnumValue_NotCaseSensitive()
 	{
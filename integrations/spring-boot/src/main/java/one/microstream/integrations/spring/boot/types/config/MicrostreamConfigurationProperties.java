@@ -145,6 +145,105 @@ public class MicrostreamConfigurationProperties
      */
     private String dataFileCleanupHeadFile;
 
+    /**
+     * The entity cache evaluation strategy: "default", "segmented-lru" or "frequency". Default is "default".
+     */
+    private String entityCacheEvaluator;
+
+    /**
+     * Entity cache size per channel which is not exceeded permanently by the "segmented-lru" and "frequency"
+     * evaluators. Default is 1 GB.
+     */
+    private String entityCacheCapacity;
+
+    /**
+     * Time after the last read in which an entity is always kept in the cache by the "frequency" evaluator.
+     * Default is one minute.
+     */
+    private String entityCacheAdmissionWindow;
+
+    /**
+     * Maximum cached data sizes per channel for certain types as a comma separated list of type name and size pairs,
+     * e.g. "com.my.app.Order: 200 MB, com.my.app.Invoice: 50 MB".
+     */
+    private String entityCacheTypeBudgets;
+
+    /**
+     * Defines when written data is synchronized with the storage medium: "sync-per-commit", "periodic-sync" or
+     * "no-sync". Default is "no-sync".
+     */
+    private String durability;
+
+    /**
+     * Maximum time that stored data may stay unsynchronized with the "periodic-sync" durability. Default is 200 ms.
+     */
+    private String durabilitySyncInterval;
+
+    /**
+     * Time in which concurrently issued stores are collected to be written and flushed together as one group commit.
+     * Default is zero, which disables group commits.
+     */
+    private String groupCommitWindow;
+
+    /**
+     * Amount of data after which a group commit is issued before its window has elapsed. Default is 1 MB.
+     */
+    private String groupCommitByteBudget;
+
+    /**
+     * Number of threads shared by all channels to mark reachable entities in parallel during garbage collection.
+     * Default is 0, which means every channel marks its entities exclusively in its own thread.
+     */
+    private String gcMarkingParallelism;
+
+    /**
+     * Number of young collections following every full garbage collection. Default is 0, which means every
+     * collection is a full collection.
+     */
+    private String gcYoungCollectionCount;
+
+    /**
+     * Number of threads shared by all storers to store very large object graphs in parallel.
+     * Default is 0, which means every store is done single-threaded.
+     */
+    private String storingParallelism;
+
+    /**
+     * Amount of serialized data after which a store is handed over to the storage in parts.
+     * Default is zero, which means every store is handed over as a whole.
+     */
+    private String storingStreamingWindow;
+
+    /**
+     * If true, storers skip entities whose serialized form has not changed since their last store.
+     * Default is false.
+     */
+    private String storingChangeDetection;
+
+    /**
+     * Number of data files every channel reads ahead in a worker thread during initialization.
+     * Default is 0, which means all data files are read and registered sequentially.
+     */
+    private String dataFileReadAheadCount;
+
+    /**
+     * If true, every channel writes a snapshot of its entity index on a clean shutdown to speed up the next startup.
+     * Default is false.
+     */
+    private String entityIndexSnapshot;
+
+    /**
+     * Interval of the object registry's housekeeping, which removes the entries of objects collected by the
+     * JVM's garbage collector. Default is 0, which means no housekeeping.
+     */
+    private String objectRegistryHousekeepingInterval;
+
+    /**
+     * Maximum number of entries and buckets processed in one cycle of the object registry's housekeeping.
+     * Default is 10000.
+     */
+    private String objectRegistryHousekeepingSampleSize;
+
     /**
      * Is the {@code StorageManager} started when the CDI bean for the instance is created or not.
      * Be aware that when you don't rely on the autostart of the StorageManager, you are responsible for starting it
@@ -374,6 +473,176 @@ public class MicrostreamConfigurationProperties
         this.dataFileCleanupHeadFile = dataFileCleanupHeadFile;
     }
 
+    public String getEntityCacheEvaluator()
+    {
+        return this.entityCacheEvaluator;
+    }
+
+    public void setEntityCacheEvaluator(final String entityCacheEvaluator)
+    {
+        this.entityCacheEvaluator = entityCacheEvaluator;
+    }
+
+    public String getEntityCacheCapacity()
+    {
+        return this.entityCacheCapacity;
+    }
+
+    public void setEntityCacheCapacity(final String entityCacheCapacity)
+    {
+        this.entityCacheCapacity = entityCacheCapacity;
+    }
+
+    public String getEntityCacheAdmissionWindow()
+    {
+        return this.entityCacheAdmissionWindow;
+    }
+
+    public void setEntityCacheAdmissionWindow(final String entityCacheAdmissionWindow)
+    {
+        this.entityCacheAdmissionWindow = entityCacheAdmissionWindow;
+    }
+
+    public String getEntityCacheTypeBudgets()
+    {
+        return this.entityCacheTypeBudgets;
+    }
+
+    public void setEntityCacheTypeBudgets(final String entityCacheTypeBudgets)
+    {
+        this.entityCacheTypeBudgets = entityCacheTypeBudgets;
+    }
+
+    public String getDurability()
+    {
+        return this.durability;
+    }
+
+    public void setDurability(final String durability)
+    {
+        this.durability = durability;
+    }
+
+    public String getDurabilitySyncInterval()
+    {
+        return this.durabilitySyncInterval;
+    }
+
+    public void setDurabilitySyncInterval(final String durabilitySyncInterval)
+    {
+        this.durabilitySyncInterval = durabilitySyncInterval;
+    }
+
+    public String getGroupCommitWindow()
+    {
+        return this.groupCommitWindow;
+    }
+
+    public void setGroupCommitWindow(final String groupCommitWindow)
+    {
+        this.groupCommitWindow = groupCommitWindow;
+    }
+
+    public String getGroupCommitByteBudget()
+    {
+        return this.groupCommitByteBudget;
+    }
+
+    public void setGroupCommitByteBudget(final String groupCommitByteBudget)
+    {
+        this.groupCommitByteBudget = groupCommitByteBudget;
+    }
+
+    public String getGcMarkingParallelism()
+    {
+        return this.gcMarkingParallelism;
+    }
+
+    public void setGcMarkingParallelism(final String gcMarkingParallelism)
+    {
+        this.gcMarkingParallelism = gcMarkingParallelism;
+    }
+
+    public String getGcYoungCollectionCount()
+    {
+        return this.gcYoungCollectionCount;
+    }
+
+    public void setGcYoungCollectionCount(final String gcYoungCollectionCount)
+    {
+        this.gcYoungCollectionCount = gcYoungCollectionCount;
+    }
+
+    public String getStoringParallelism()
+    {
+        return this.storingParallelism;
+    }
+
+    public void setStoringParallelism(final String storingParallelism)
+    {
+        this.storingParallelism = storingParallelism;
+    }
+
+    public String getStoringStreamingWindow()
+    {
+        return this.storingStreamingWindow;
+    }
+
+    public void setStoringStreamingWindow(final String storingStreamingWindow)
+    {
+        this.storingStreamingWindow = storingStreamingWindow;
+    }
+
+    public String getStoringChangeDetection()
+    {
+        return this.storingChangeDetection;
+    }
+
+    public void setStoringChangeDetection(final String storingChangeDetection)
+    {
+        this.storingChangeDetection = storingChangeDetection;
+    }
+
+    public String getDataFileReadAheadCount()
+    {
+        return this.dataFileReadAheadCount;
+    }
+
+    public void setDataFileReadAheadCount(final String dataFileReadAheadCount)
+    {
+        this.dataFileReadAheadCount = dataFileReadAheadCount;
+    }
+
+    public String getEntityIndexSnapshot()
+    {
+        return this.entityIndexSnapshot;
+    }
+
+    public void setEntityIndexSnapshot(final String entityIndexSnapshot)
+    {
+        this.entityIndexSnapshot = entityIndexSnapshot;
+    }
+
+    public String getObjectRegistryHousekeepingInterval()
+    {
+        return this.objectRegistryHousekeepingInterval;
+    }
+
+    public void setObjectRegistryHousekeepingInterval(final String objectRegistryHousekeepingInterval)
+    {
+        this.objectRegistryHousekeepingInterval = objectRegistryHousekeepingInterval;
+    }
+
+    public String getObjectRegistryHousekeepingSampleSize()
+    {
+        return this.objectRegistryHousekeepingSampleSize;
+    }
+
+    public void setObjectRegistryHousekeepingSampleSize(final String objectRegistryHousekeepingSampleSize)
+    {
+        this.objectRegistryHousekeepingSampleSize = objectRegistryHousekeepingSampleSize;
+    }
+
     public Boolean getAutoStart()
     {
         return this.autoStart;
@@ -0,0 +1,327 @@
+package one.microstream.persistence.binary.java.util;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+
+import one.microstream.X;
+import one.microstream.collections.types.XGettingSequence;
+import one.microstream.persistence.binary.exceptions.BinaryPersistenceException;
+import one.microstream.persistence.binary.internal.AbstractBinaryHandlerCustomCollection;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryHashCodeStabilityEvaluator;
+import one.microstream.persistence.types.PersistenceLoadHandler;
+import one.microstream.persistence.types.PersistenceReferenceLoader;
+import one.microstream.persistence.types.PersistenceStoreHandler;
+import one.microstream.persistence.types.PersistenceTypeDefinitionMemberFieldGeneric;
+
+
+/**
+ * Abstract type handler for hash based collections that persists every element's hash code alongside the element
+ * in the collection's iteration order, which is the order of its hash buckets.
+ * <p>
+ * If the hash codes of all loaded keys are stable according to the {@link BinaryHashCodeStabilityEvaluator},
+ * the collection's hash table is rebuilt in a single pass while updating the instance's state, without calling
+ * {@link Object#hashCode()} and without rehashing. Otherwise, the elements are added the common way after all
+ * of them have been completed.
+ *
+ * @param <T> the handled type
+ */
+public abstract class AbstractBinaryHandlerPrehashed<T>
+extends AbstractBinaryHandlerCustomCollection<T>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	static final long
+		BINARY_OFFSET_LOAD_FACTOR =                                       0,
+		BINARY_OFFSET_ELEMENTS    = BINARY_OFFSET_LOAD_FACTOR + Float.BYTES
+	;
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+	
+	protected static final XGettingSequence<? extends PersistenceTypeDefinitionMemberFieldGeneric>
+	prehashedKeyValuesFields()
+	{
+		return CustomFields(
+			CustomField(float.class, "loadFactor"),
+			Complex("elements",
+				CustomField(int.class   , "hash" ),
+				CustomField(Object.class, "key"  ),
+				CustomField(Object.class, "value")
+			)
+		);
+	}
+	
+	protected static final XGettingSequence<? extends PersistenceTypeDefinitionMemberFieldGeneric>
+	prehashedElementsFields()
+	{
+		return CustomFields(
+			CustomField(float.class, "loadFactor"),
+			Complex("elements",
+				CustomField(int.class   , "hash"   ),
+				CustomField(Object.class, "element")
+			)
+		);
+	}
+	
+	static final float getLoadFactor(final Binary data)
+	{
+		return data.read_float(BINARY_OFFSET_LOAD_FACTOR);
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	private final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator;
+	private final boolean                          keyValue                  ;
+	private final long                             elementLength             ;
+
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	/**
+	 * @param type the handled type
+	 * @param keyValue {@code true} for key-value entries, {@code false} for single elements
+	 * @param hashCodeStabilityEvaluator the evaluator deciding if the persisted hash codes can be used
+	 */
+	protected AbstractBinaryHandlerPrehashed(
+		final Class<T>                         type                      ,
+		final boolean                          keyValue                  ,
+		final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator
+	)
+	{
+		super(
+			type,
+			keyValue
+				? prehashedKeyValuesFields()
+				: prehashedElementsFields()
+		);
+		this.hashCodeStabilityEvaluator = notNull(hashCodeStabilityEvaluator);
+		this.keyValue                   = keyValue;
+		this.elementLength              = Integer.BYTES + Binary.referenceBinaryLength(keyValue ? 2 : 1);
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	public final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator()
+	{
+		return this.hashCodeStabilityEvaluator;
+	}
+	
+	protected final int getElementCount(final Binary data)
+	{
+		return X.checkArrayRange(data.getBinaryListElementCountValidating(BINARY_OFFSET_ELEMENTS, this.elementLength));
+	}
+	
+	/**
+	 * Stores the passed elements with their hash codes.
+	 * 
+	 * @param data the binary data to store to
+	 * @param objectId the instance's object id
+	 * @param loadFactor the instance's load factor
+	 * @param size the number of elements to be stored
+	 * @param elements the {@link Map.Entry} instances for key-value entries or the elements themselves
+	 * @param handler the handler to store the references
+	 */
+	protected final void storeElements(
+		final Binary                          data      ,
+		final long                            objectId  ,
+		final float                           loadFactor,
+		final int                             size      ,
+		final Iterator<?>                     elements  ,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		final long elementsBinaryRange = size * this.elementLength;
+		
+		data.storeEntityHeader(
+			BINARY_OFFSET_ELEMENTS + Binary.toBinaryListTotalByteLength(elementsBinaryRange),
+			this.typeId(),
+			objectId
+		);
+		data.store_float(BINARY_OFFSET_LOAD_FACTOR, loadFactor);
+		data.storeListHeader(BINARY_OFFSET_ELEMENTS, elementsBinaryRange, size);
+		
+		final long referenceLength = Binary.referenceBinaryLength(1);
+		final long elementsStart   = Binary.toBinaryListElementsOffset(BINARY_OFFSET_ELEMENTS);
+		final long elementsBound   = elementsStart + elementsBinaryRange;
+		
+		/*
+		 * must check the bound on every element because under no circumstances may the memory be set
+		 * beyond the reserved range (e.g. concurrent modification of the passed collection)
+		 */
+		long offset = elementsStart;
+		while(offset < elementsBound && elements.hasNext())
+		{
+			final Object element = elements.next();
+			final Object key     = this.keyValue ? ((Map.Entry<?, ?>)element).getKey() : element;
+			data.store_int(offset, Objects.hashCode(key));
+			data.store_long(offset + Integer.BYTES, handler.apply(key));
+			if(this.keyValue)
+			{
+				data.store_long(offset + Integer.BYTES + referenceLength, handler.apply(((Map.Entry<?, ?>)element).getValue()));
+			}
+			offset += this.elementLength;
+		}
+		
+		if(offset != elementsBound || elements.hasNext())
+		{
+			throw new BinaryPersistenceException(
+				"Inconsistent element count: specified " + size
+				+ " vs. iterated " + (offset - elementsStart) / this.elementLength
+			);
+		}
+	}
+	
+	@Override
+	public void updateState(
+		final Binary                 data    ,
+		final T                      instance,
+		final PersistenceLoadHandler handler
+	)
+	{
+		this.clear(instance);
+		
+		final int size = this.getElementCount(data);
+		if(size == 0)
+		{
+			return;
+		}
+		
+		final int[]    hashCodes = new int[size];
+		final Object[] keys      = new Object[size];
+		final Object[] values    = this.keyValue ? new Object[size] : null;
+		
+		final long referenceLength = Binary.referenceBinaryLength(1);
+		boolean    stable          = true;
+		
+		long offset = Binary.toBinaryListElementsOffset(BINARY_OFFSET_ELEMENTS);
+		for(int i = 0; i < size; i++, offset += this.elementLength)
+		{
+			hashCodes[i] = data.read_int(offset);
+			keys[i]      = handler.lookupObject(data.read_long(offset + Integer.BYTES));
+			if(values != null)
+			{
+				values[i] = handler.lookupObject(data.read_long(offset + Integer.BYTES + referenceLength));
+			}
+			stable &= keys[i] == null || this.hashCodeStabilityEvaluator.isStable(keys[i].getClass());
+		}
+		
+		if(stable && this.populateHashed(instance, hashCodes, keys, values, size))
+		{
+			return;
+		}
+		
+		// unstable hash codes: the elements have to be added when they are complete, i.e. hashable.
+		data.registerHelper(instance, values == null ? keys : interleave(keys, values));
+	}
+	
+	private static Object[] interleave(final Object[] keys, final Object[] values)
+	{
+		final Object[] keyValues = new Object[keys.length << 1];
+		for(int i = 0; i < keys.length; i++)
+		{
+			keyValues[i << 1      ] = keys[i];
+			keyValues[(i << 1) + 1] = values[i];
+		}
+		
+		return keyValues;
+	}
+	
+	@Override
+	public void complete(
+		final Binary                 data    ,
+		final T                      instance,
+		final PersistenceLoadHandler handler
+	)
+	{
+		final Object helper = data.getHelper(instance);
+		if(helper != null)
+		{
+			this.populateUnhashed(instance, helper);
+		}
+	}
+	
+	@Override
+	public void iterateLoadableReferences(
+		final Binary                     data  ,
+		final PersistenceReferenceLoader loader
+	)
+	{
+		Binary.iterateListStructureCompositeElements(
+			data                  ,
+			BINARY_OFFSET_ELEMENTS,
+			Integer.BYTES         ,
+			this.keyValue ? 2 : 1 ,
+			0                     ,
+			loader
+		);
+	}
+	
+	/**
+	 * Removes all elements from the passed instance before its state is updated.
+	 * 
+	 * @param instance the instance to be cleared
+	 */
+	protected abstract void clear(T instance);
+	
+	/**
+	 * Rebuilds the passed empty instance's hash table from the persisted hash codes.
+	 * 
+	 * @param instance the empty instance to be populated
+	 * @param hashCodes the persisted hash codes
+	 * @param keys the keys or elements
+	 * @param values the values or {@code null} if the handled type has no key-value entries
+	 * @param size the number of elements
+	 * @return {@code true} if the instance has been populated, {@code false} to fall back to
+	 *         {@link #populateUnhashed(Object, Object)}
+	 */
+	protected abstract boolean populateHashed(T instance, int[] hashCodes, Object[] keys, Object[] values, int size);
+	
+	/**
+	 * Populates the passed instance the common way, when all elements are complete.
+	 * 
+	 * @param instance the instance to be populated
+	 * @param helper the elements or the interleaved keys and values
+	 */
+	protected abstract void populateUnhashed(T instance, Object helper);
+	
+}
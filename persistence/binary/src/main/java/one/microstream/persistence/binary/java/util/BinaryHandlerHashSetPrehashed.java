@@ -0,0 +1,137 @@
+package one.microstream.persistence.binary.java.util;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.HashSet;
+
+import one.microstream.collections.old.OldCollections;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryHashCodeStabilityEvaluator;
+import one.microstream.persistence.types.Persistence;
+import one.microstream.persistence.types.PersistenceFunction;
+import one.microstream.persistence.types.PersistenceLoadHandler;
+import one.microstream.persistence.types.PersistenceStoreHandler;
+
+
+/**
+ * Type handler for {@link HashSet} persisting the elements' hash codes to rebuild the hash table without rehashing.
+ * Note that its persistent form differs from the one of {@link BinaryHandlerHashSet}.
+ * 
+ * @see AbstractBinaryHandlerPrehashed
+ */
+public final class BinaryHandlerHashSetPrehashed extends AbstractBinaryHandlerPrehashed<HashSet<?>>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Class<HashSet<?>> handledType()
+	{
+		return (Class)HashSet.class; // no idea how to get ".class" to work otherwise
+	}
+	
+	public static BinaryHandlerHashSetPrehashed New()
+	{
+		return New(BinaryHashCodeStabilityEvaluator.New());
+	}
+	
+	public static BinaryHandlerHashSetPrehashed New(
+		final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator
+	)
+	{
+		return new BinaryHandlerHashSetPrehashed(hashCodeStabilityEvaluator);
+	}
+	
+	
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	BinaryHandlerHashSetPrehashed(final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator)
+	{
+		super(handledType(), false, hashCodeStabilityEvaluator);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public void store(
+		final Binary                          data    ,
+		final HashSet<?>                      instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		this.storeElements(
+			data                                         ,
+			objectId                                     ,
+			JavaUtilHashInternals.getLoadFactor(instance),
+			instance.size()                              ,
+			instance.iterator()                          ,
+			handler
+		);
+	}
+
+	@Override
+	public HashSet<?> create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		// the table is only allocated on the first put, so presizing costs nothing if the table gets replaced.
+		final float loadFactor = getLoadFactor(data);
+		return new HashSet<>((int)(this.getElementCount(data) / loadFactor) + 1, loadFactor);
+	}
+	
+	@Override
+	protected void clear(final HashSet<?> instance)
+	{
+		instance.clear();
+	}
+	
+	@Override
+	protected boolean populateHashed(
+		final HashSet<?> instance ,
+		final int[]      hashCodes,
+		final Object[]   keys     ,
+		final Object[]   values   ,
+		final int        size
+	)
+	{
+		return JavaUtilHashInternals.populate(instance, hashCodes, keys, size);
+	}
+	
+	@Override
+	protected void populateUnhashed(final HashSet<?> instance, final Object helper)
+	{
+		OldCollections.populateCollectionFromHelperArray(instance, helper);
+	}
+	
+	@Override
+	public void iterateInstanceReferences(final HashSet<?> instance, final PersistenceFunction iterator)
+	{
+		Persistence.iterateReferencesIterable(iterator, instance);
+	}
+
+}
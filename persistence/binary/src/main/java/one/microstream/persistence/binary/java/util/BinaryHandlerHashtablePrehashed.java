@@ -0,0 +1,140 @@
+package one.microstream.persistence.binary.java.util;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.Hashtable;
+
+import one.microstream.collections.old.OldCollections;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryHashCodeStabilityEvaluator;
+import one.microstream.persistence.types.Persistence;
+import one.microstream.persistence.types.PersistenceFunction;
+import one.microstream.persistence.types.PersistenceLoadHandler;
+import one.microstream.persistence.types.PersistenceStoreHandler;
+
+
+/**
+ * Type handler for {@link Hashtable} persisting the keys' hash codes to rebuild the hash table without rehashing.
+ * Note that its persistent form differs from the one of {@link BinaryHandlerHashtable}.
+ * 
+ * @see AbstractBinaryHandlerPrehashed
+ */
+public final class BinaryHandlerHashtablePrehashed extends AbstractBinaryHandlerPrehashed<Hashtable<?, ?>>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	private static Class<Hashtable<?, ?>> handledType()
+	{
+		return (Class)Hashtable.class; // no idea how to get ".class" to work otherwise
+	}
+	
+	public static BinaryHandlerHashtablePrehashed New()
+	{
+		return New(BinaryHashCodeStabilityEvaluator.New());
+	}
+	
+	public static BinaryHandlerHashtablePrehashed New(
+		final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator
+	)
+	{
+		return new BinaryHandlerHashtablePrehashed(hashCodeStabilityEvaluator);
+	}
+	
+	
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	BinaryHandlerHashtablePrehashed(final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator)
+	{
+		super(handledType(), true, hashCodeStabilityEvaluator);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public void store(
+		final Binary                          data    ,
+		final Hashtable<?, ?>                 instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		this.storeElements(
+			data                                         ,
+			objectId                                     ,
+			JavaUtilHashInternals.getLoadFactor(instance),
+			instance.size()                              ,
+			instance.entrySet().iterator()               ,
+			handler
+		);
+	}
+
+	@Override
+	public Hashtable<?, ?> create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		// the table is reused when populating if it is big enough.
+		final float loadFactor = getLoadFactor(data);
+		return new Hashtable<>((int)(this.getElementCount(data) / loadFactor) + 1, loadFactor);
+	}
+	
+	@Override
+	protected void clear(final Hashtable<?, ?> instance)
+	{
+		instance.clear();
+	}
+	
+	@Override
+	protected boolean populateHashed(
+		final Hashtable<?, ?> instance ,
+		final int[]           hashCodes,
+		final Object[]        keys     ,
+		final Object[]        values   ,
+		final int             size
+	)
+	{
+		JavaUtilHashInternals.populate(instance, hashCodes, keys, values, size);
+		
+		// Hashtable has no tree bins, so plain bucket chains are always applicable.
+		return true;
+	}
+	
+	@Override
+	protected void populateUnhashed(final Hashtable<?, ?> instance, final Object helper)
+	{
+		OldCollections.populateMapFromHelperArray(instance, helper);
+	}
+	
+	@Override
+	public void iterateInstanceReferences(final Hashtable<?, ?> instance, final PersistenceFunction iterator)
+	{
+		Persistence.iterateReferencesMap(iterator, instance);
+	}
+
+}
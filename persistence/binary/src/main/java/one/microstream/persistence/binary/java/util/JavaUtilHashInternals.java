@@ -0,0 +1,329 @@
+package one.microstream.persistence.binary.java.util;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Hashtable;
+
+import one.microstream.memory.XMemory;
+import one.microstream.memory.sun.JdkInternals;
+
+/**
+ * Access to the internal hash tables of {@link HashMap}, {@link HashSet} and {@link Hashtable} to populate them
+ * from persisted hash codes without calling {@link Object#hashCode()} or rehashing.
+ * <p>
+ * The internal structures used here have been unchanged since Java 8.
+ */
+final class JavaUtilHashInternals
+{
+	// CHECKSTYLE.OFF: ConstantName: type names are intentionally unchanged
+	private static final Class<?>
+		CLASS_HashMap_Node    = getClass("java.util.HashMap$Node"  ),
+		CLASS_Hashtable_Entry = getClass("java.util.Hashtable$Entry")
+	;
+	
+	private static final long
+		OFFSET_HashMap_table         = getFieldOffset(HashMap.class        , "table"     ),
+		OFFSET_HashMap_size          = getFieldOffset(HashMap.class        , "size"      ),
+		OFFSET_HashMap_modCount      = getFieldOffset(HashMap.class        , "modCount"  ),
+		OFFSET_HashMap_threshold     = getFieldOffset(HashMap.class        , "threshold" ),
+		OFFSET_HashMap_loadFactor    = getFieldOffset(HashMap.class        , "loadFactor"),
+		OFFSET_HashMap_Node_hash     = getFieldOffset(CLASS_HashMap_Node   , "hash"      ),
+		OFFSET_HashMap_Node_key      = getFieldOffset(CLASS_HashMap_Node   , "key"       ),
+		OFFSET_HashMap_Node_value    = getFieldOffset(CLASS_HashMap_Node   , "value"     ),
+		OFFSET_HashMap_Node_next     = getFieldOffset(CLASS_HashMap_Node   , "next"      ),
+		OFFSET_HashSet_map           = getFieldOffset(HashSet.class        , "map"       ),
+		OFFSET_Hashtable_table       = getFieldOffset(Hashtable.class      , "table"     ),
+		OFFSET_Hashtable_count       = getFieldOffset(Hashtable.class      , "count"     ),
+		OFFSET_Hashtable_modCount    = getFieldOffset(Hashtable.class      , "modCount"  ),
+		OFFSET_Hashtable_threshold   = getFieldOffset(Hashtable.class      , "threshold" ),
+		OFFSET_Hashtable_loadFactor  = getFieldOffset(Hashtable.class      , "loadFactor"),
+		OFFSET_Hashtable_Entry_hash  = getFieldOffset(CLASS_Hashtable_Entry, "hash"      ),
+		OFFSET_Hashtable_Entry_key   = getFieldOffset(CLASS_Hashtable_Entry, "key"       ),
+		OFFSET_Hashtable_Entry_value = getFieldOffset(CLASS_Hashtable_Entry, "value"     ),
+		OFFSET_Hashtable_Entry_next  = getFieldOffset(CLASS_Hashtable_Entry, "next"      )
+	;
+	
+	// values copied from HashMap and Hashtable
+	private static final int
+		HashMap_MAXIMUM_CAPACITY  = 1 << 30,
+		HashMap_TREEIFY_THRESHOLD = 8,
+		Hashtable_MAX_ARRAY_SIZE  = Integer.MAX_VALUE - 8
+	;
+	// CHECKSTYLE.ON: ConstantName
+	
+	/**
+	 * The value HashSet uses for all entries of its internal map. Since it is private, it is queried from
+	 * a sample instance instead of accessing the static field.
+	 */
+	private static final Object HashSet_PRESENT = queryHashSetPresent();
+	
+	static final Class<?> getClass(final String className)
+	{
+		try
+		{
+			return Class.forName(className);
+		}
+		catch(final ClassNotFoundException e)
+		{
+			throw new Error(e); // explode and die :)
+		}
+	}
+	
+	static final long getFieldOffset(final Class<?> type, final String declaredFieldName)
+	{
+		// minimal algorithm, only for local use
+		for(Class<?> c = type; c != null && c != Object.class; c = c.getSuperclass())
+		{
+			try
+			{
+				for(final Field field : c.getDeclaredFields())
+				{
+					if(field.getName().equals(declaredFieldName))
+					{
+						return JdkInternals.VM().objectFieldOffset(field);
+					}
+				}
+			}
+			catch(final Exception e)
+			{
+				throw new Error(e); // explode and die :)
+			}
+		}
+		throw new Error("Field not found: " + type.getName() + '#' + declaredFieldName);
+	}
+	
+	private static Object queryHashSetPresent()
+	{
+		final HashSet<Object> sample = new HashSet<>();
+		sample.add(Boolean.TRUE);
+		
+		return getMap(sample).get(Boolean.TRUE);
+	}
+	
+	
+	
+	public static float getLoadFactor(final HashMap<?, ?> hashMap)
+	{
+		// must check not null here explictely to prevent VM crashes
+		return XMemory.get_float(notNull(hashMap), OFFSET_HashMap_loadFactor);
+	}
+	
+	public static float getLoadFactor(final HashSet<?> hashSet)
+	{
+		return getLoadFactor(getMap(hashSet));
+	}
+	
+	public static float getLoadFactor(final Hashtable<?, ?> hashtable)
+	{
+		// must check not null here explictely to prevent VM crashes
+		return XMemory.get_float(notNull(hashtable), OFFSET_Hashtable_loadFactor);
+	}
+	
+	@SuppressWarnings("unchecked")
+	static HashMap<Object, Object> getMap(final HashSet<?> hashSet)
+	{
+		// must check not null here explictely to prevent VM crashes
+		return (HashMap<Object, Object>)XMemory.getObject(notNull(hashSet), OFFSET_HashSet_map);
+	}
+	
+	/**
+	 * Replaces the hash table of the passed empty {@link HashSet} by one containing the passed elements with the
+	 * passed hash codes, as returned by {@link Object#hashCode()}.
+	 * 
+	 * @param hashSet the empty set to be populated
+	 * @param hashCodes the elements' hash codes
+	 * @param elements the elements
+	 * @param size the number of elements
+	 * @return {@code true} if the table has been populated, {@code false} if the hash codes are not distributed
+	 *         well enough for plain bucket chains and the set has been left unchanged
+	 */
+	public static boolean populate(
+		final HashSet<?> hashSet  ,
+		final int[]      hashCodes,
+		final Object[]   elements ,
+		final int        size
+	)
+	{
+		return populate(getMap(hashSet), hashCodes, elements, null, size);
+	}
+	
+	/**
+	 * Replaces the hash table of the passed empty {@link HashMap} by one containing the passed entries with the
+	 * passed key hash codes, as returned by {@link Object#hashCode()}.
+	 * <p>
+	 * The entries are chained in each bucket in the order they are passed. Buckets which would become long enough
+	 * to be converted to tree bins by {@link HashMap} cause the whole population to be aborted instead.
+	 * 
+	 * @param hashMap the empty map to be populated
+	 * @param hashCodes the keys' hash codes
+	 * @param keys the keys
+	 * @param values the values or {@code null} to use {@link HashSet}'s internal placeholder value.
+	 * @param size the number of entries
+	 * @return {@code true} if the table has been populated, {@code false} if the hash codes are not distributed
+	 *         well enough for plain bucket chains and the map has been left unchanged
+	 */
+	public static boolean populate(
+		final HashMap<?, ?> hashMap  ,
+		final int[]         hashCodes,
+		final Object[]      keys     ,
+		final Object[]      values   ,
+		final int           size
+	)
+	{
+		final float    loadFactor = getLoadFactor(hashMap);
+		final int      capacity   = hashMapCapacity(size, loadFactor);
+		final Object[] table      = (Object[])Array.newInstance(CLASS_HashMap_Node, capacity);
+		
+		// iterating backwards and prepending each node preserves the passed order in every bucket.
+		for(int i = size; i-- > 0;)
+		{
+			// same as HashMap#hash(Object)
+			final int    hash  = hashCodes[i] ^ hashCodes[i] >>> 16;
+			final int    index = hash & capacity - 1;
+			final Object next  = table[index];
+			if(exceedsTreeifyThreshold(next))
+			{
+				return false;
+			}
+			
+			final Object node = XMemory.instantiateBlank(CLASS_HashMap_Node);
+			XMemory.set_int(node, OFFSET_HashMap_Node_hash, hash);
+			XMemory.setObject(node, OFFSET_HashMap_Node_key, keys[i]);
+			XMemory.setObject(node, OFFSET_HashMap_Node_value, values == null ? HashSet_PRESENT : values[i]);
+			XMemory.setObject(node, OFFSET_HashMap_Node_next, next);
+			table[index] = node;
+		}
+		
+		final float threshold = capacity * loadFactor;
+		XMemory.setObject(hashMap, OFFSET_HashMap_table, table);
+		XMemory.set_int(hashMap, OFFSET_HashMap_size, size);
+		XMemory.set_int(hashMap, OFFSET_HashMap_threshold,
+			capacity < HashMap_MAXIMUM_CAPACITY && threshold < HashMap_MAXIMUM_CAPACITY
+			? (int)threshold
+			: Integer.MAX_VALUE
+		);
+		XMemory.set_int(hashMap, OFFSET_HashMap_modCount, XMemory.get_int(hashMap, OFFSET_HashMap_modCount) + 1);
+		
+		return true;
+	}
+	
+	private static boolean exceedsTreeifyThreshold(final Object node)
+	{
+		int length = 0;
+		for(Object n = node; n != null; n = XMemory.getObject(n, OFFSET_HashMap_Node_next))
+		{
+			if(++length >= HashMap_TREEIFY_THRESHOLD)
+			{
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	private static int hashMapCapacity(final int size, final float loadFactor)
+	{
+		// same as HashMap#putMapEntries and HashMap#tableSizeFor
+		final float minimum = size / loadFactor + 1.0f;
+		if(minimum >= HashMap_MAXIMUM_CAPACITY)
+		{
+			return HashMap_MAXIMUM_CAPACITY;
+		}
+		
+		return Math.max(Integer.highestOneBit((int)minimum - 1) << 1, 1);
+	}
+	
+	/**
+	 * Populates the hash table of the passed empty {@link Hashtable} with the passed entries with the
+	 * passed key hash codes, as returned by {@link Object#hashCode()}.
+	 * <p>
+	 * The entries are chained in each bucket in the order they are passed.
+	 * 
+	 * @param hashtable the empty hashtable to be populated
+	 * @param hashCodes the keys' hash codes
+	 * @param keys the keys
+	 * @param values the values
+	 * @param size the number of entries
+	 */
+	public static void populate(
+		final Hashtable<?, ?> hashtable,
+		final int[]           hashCodes,
+		final Object[]        keys     ,
+		final Object[]        values   ,
+		final int             size
+	)
+	{
+		final float loadFactor = getLoadFactor(hashtable);
+		
+		// the current table can be reused if it is big enough to never exceed the threshold
+		final Object[] current  = (Object[])XMemory.getObject(hashtable, OFFSET_Hashtable_table);
+		final Object[] table    = current.length > size / loadFactor
+			? current
+			: (Object[])Array.newInstance(CLASS_Hashtable_Entry, (int)(size / loadFactor) + 1)
+		;
+		final int      capacity = table.length;
+		
+		// iterating backwards and prepending each entry preserves the passed order in every bucket.
+		for(int i = size; i-- > 0;)
+		{
+			// same as Hashtable#put
+			final int index = (hashCodes[i] & 0x7FFFFFFF) % capacity;
+			
+			final Object entry = XMemory.instantiateBlank(CLASS_Hashtable_Entry);
+			XMemory.set_int(entry, OFFSET_Hashtable_Entry_hash, hashCodes[i]);
+			XMemory.setObject(entry, OFFSET_Hashtable_Entry_key, keys[i]);
+			XMemory.setObject(entry, OFFSET_Hashtable_Entry_value, values[i]);
+			XMemory.setObject(entry, OFFSET_Hashtable_Entry_next, table[index]);
+			table[index] = entry;
+		}
+		
+		XMemory.setObject(hashtable, OFFSET_Hashtable_table, table);
+		XMemory.set_int(hashtable, OFFSET_Hashtable_count, size);
+		XMemory.set_int(hashtable, OFFSET_Hashtable_threshold,
+			(int)Math.min(capacity * loadFactor, Hashtable_MAX_ARRAY_SIZE + 1)
+		);
+		XMemory.set_int(hashtable, OFFSET_Hashtable_modCount, XMemory.get_int(hashtable, OFFSET_Hashtable_modCount) + 1);
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	private JavaUtilHashInternals()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+	
+}
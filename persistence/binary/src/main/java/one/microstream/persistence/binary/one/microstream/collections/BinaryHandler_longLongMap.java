@@ -0,0 +1,193 @@
+package one.microstream.persistence.binary.one.microstream.collections;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import java.util.ConcurrentModificationException;
+
+import one.microstream.X;
+import one.microstream.collections._longLongMap;
+import one.microstream.functional._longLongProcedure;
+import one.microstream.persistence.binary.internal.AbstractBinaryHandlerCustomNonReferentialVariableLength;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.types.PersistenceLoadHandler;
+import one.microstream.persistence.types.PersistenceStoreHandler;
+
+
+/**
+ * Stores all entries of a {@link _longLongMap} inlined as a list of primitive key/value pairs
+ * instead of one entity per entry and boxed key and value. The hash structure is rebuilt when loading.
+ */
+public final class BinaryHandler_longLongMap
+extends AbstractBinaryHandlerCustomNonReferentialVariableLength<_longLongMap>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+
+	static final long
+		BINARY_OFFSET_ENTRIES = 0                         ,
+		ENTRY_LENGTH          = Long.BYTES + Long.BYTES
+	;
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static BinaryHandler_longLongMap New()
+	{
+		return new BinaryHandler_longLongMap();
+	}
+
+	private static int getEntryCount(final Binary data)
+	{
+		return X.checkArrayRange(data.getBinaryListElementCountValidating(BINARY_OFFSET_ENTRIES, ENTRY_LENGTH));
+	}
+
+	private static void populate(final Binary data, final _longLongMap instance)
+	{
+		final int entryCount = getEntryCount(data);
+		instance.ensureFreeCapacity(entryCount);
+
+		long offset = Binary.toBinaryListElementsOffset(BINARY_OFFSET_ENTRIES);
+		for(int i = 0; i < entryCount; i++, offset += ENTRY_LENGTH)
+		{
+			instance.put(data.read_long(offset), data.read_long(offset + Long.BYTES));
+		}
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	BinaryHandler_longLongMap()
+	{
+		super(
+			_longLongMap.class,
+			CustomFields(
+				Complex("entries",
+					CustomField(long.class, "key"  ),
+					CustomField(long.class, "value")
+				)
+			)
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public final void store(
+		final Binary                          data    ,
+		final _longLongMap                    instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		final long entryCount = instance.size();
+		data.storeEntityHeader(
+			BINARY_OFFSET_ENTRIES + Binary.toBinaryListTotalByteLength(entryCount * ENTRY_LENGTH),
+			this.typeId(),
+			objectId
+		);
+		data.storeListHeader(BINARY_OFFSET_ENTRIES, entryCount * ENTRY_LENGTH, entryCount);
+
+		final EntryStorer storer = instance.iterate(
+			new EntryStorer(data, Binary.toBinaryListElementsOffset(BINARY_OFFSET_ENTRIES), entryCount)
+		);
+
+		// the map is not thread-safe, but a concurrent modification must at least not produce corrupt data.
+		if(storer.count != entryCount)
+		{
+			throw new ConcurrentModificationException();
+		}
+	}
+
+	@Override
+	public final _longLongMap create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		// the entries are read only once, by updateState.
+		return _longLongMap.NewCustom(getEntryCount(data));
+	}
+
+	@Override
+	public final void updateState(final Binary data, final _longLongMap instance, final PersistenceLoadHandler handler)
+	{
+		instance.clear();
+		populate(data, instance);
+	}
+
+
+
+	static final class EntryStorer implements _longLongProcedure
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final Binary data  ;
+		private final long   limit ;
+		private       long   offset;
+		              long   count ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		EntryStorer(final Binary data, final long offset, final long limit)
+		{
+			super();
+			this.data   = data  ;
+			this.offset = offset;
+			this.limit  = limit ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public final void accept(final long key, final long value)
+		{
+			if(this.count == this.limit)
+			{
+				throw new ConcurrentModificationException();
+			}
+			this.data.store_long(this.offset             , key  );
+			this.data.store_long(this.offset + Long.BYTES, value);
+			this.offset += ENTRY_LENGTH;
+			this.count++;
+		}
+
+	}
+
+}
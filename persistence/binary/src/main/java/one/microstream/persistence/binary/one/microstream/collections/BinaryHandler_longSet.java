@@ -0,0 +1,103 @@
+package one.microstream.persistence.binary.one.microstream.collections;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import one.microstream.X;
+import one.microstream.collections._longSet;
+import one.microstream.persistence.binary.internal.AbstractBinaryHandlerCustomNonReferentialVariableLength;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.types.PersistenceLoadHandler;
+import one.microstream.persistence.types.PersistenceStoreHandler;
+
+
+/**
+ * Stores all elements of a {@link _longSet} inlined as a primitive list, i.e. in the same layout as a
+ * {@code long[]}, instead of one entity per boxed element. The hash structure is rebuilt when loading.
+ */
+public final class BinaryHandler_longSet extends AbstractBinaryHandlerCustomNonReferentialVariableLength<_longSet>
+{
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+
+	public static BinaryHandler_longSet New()
+	{
+		return new BinaryHandler_longSet();
+	}
+
+	private static int getElementCount(final Binary data)
+	{
+		return X.checkArrayRange(data.getBinaryListElementCountValidating(0, Long.BYTES));
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+
+	BinaryHandler_longSet()
+	{
+		super(
+			_longSet.class,
+			CustomFields(
+				Complex("elements",
+					CustomField(long.class, "element")
+				)
+			)
+		);
+	}
+
+
+
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+
+	@Override
+	public final void store(
+		final Binary                          data    ,
+		final _longSet                        instance,
+		final long                            objectId,
+		final PersistenceStoreHandler<Binary> handler
+	)
+	{
+		data.store_longs(this.typeId(), objectId, instance.toArray());
+	}
+
+	@Override
+	public final _longSet create(final Binary data, final PersistenceLoadHandler handler)
+	{
+		// the elements are read only once, by updateState.
+		return _longSet.NewCustom(getElementCount(data));
+	}
+
+	@Override
+	public final void updateState(final Binary data, final _longSet instance, final PersistenceLoadHandler handler)
+	{
+		final long[] elements = data.build_longs();
+		instance.clear();
+		instance.ensureFreeCapacity(elements.length);
+		instance.addAll(elements);
+	}
+
+}
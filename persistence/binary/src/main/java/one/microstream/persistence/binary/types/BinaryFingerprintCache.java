@@ -0,0 +1,314 @@
+package one.microstream.persistence.binary.types;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import one.microstream.math.XMath;
+import one.microstream.memory.XMemory;
+
+/**
+ * Remembers a fingerprint of the persistent form of every entity that has been stored successfully, so that
+ * storers can detect and skip entities that have not changed since they were stored last.
+ * <p>
+ * A fingerprint is a 64 bit hash of the entity's complete persistent form (including its length), so a changed
+ * entity is mistaken for an unchanged one only in the case of a hash collision.
+ * <p>
+ * Note that skipping is based on the same assumption as lazy storing: an entity that has been stored once
+ * remains in the storage as long as it is registered in the object registry.
+ * Beyond that, the cache assumes that it sees all writes to the storage. Whoever changes or deletes stored
+ * entities without a storer, e.g. the storage's garbage collector or an import, must {@link #remove(long)}
+ * the affected fingerprints or {@link #clear()} the cache. Otherwise, the next store of such an entity is skipped
+ * and its current state is lost. The storage must not be written to by other processes.
+ * <p>
+ * An instance is shared by all storers of a persistence manager and is thread-safe.
+ */
+public interface BinaryFingerprintCache
+{
+	/**
+	 * Queries if the passed fingerprint is the one of the last stored state of the entity with the passed object id.
+	 * 
+	 * @param objectId the entity's object id.
+	 * @param fingerprint the fingerprint of the entity's current persistent form.
+	 * @return whether the entity has not changed since it was stored last.
+	 */
+	public boolean isUnchanged(long objectId, long fingerprint);
+	
+	/**
+	 * Registers the fingerprints of successfully stored entities.
+	 * 
+	 * @param objectIdsAndFingerprints alternating object ids and fingerprints.
+	 * @param bound the bound index of the used part of the passed array.
+	 */
+	public void putAll(long[] objectIdsAndFingerprints, int bound);
+	
+	/**
+	 * Forgets the fingerprint of the entity with the passed object id, e.g. after the entity has been deleted
+	 * from the storage. The consequence is merely that the next store of the entity is not skipped.
+	 * 
+	 * @param objectId the entity's object id.
+	 */
+	public void remove(long objectId);
+	
+	public long size();
+	
+	public long maximumSize();
+	
+	/**
+	 * Forgets all fingerprints, e.g. after the storage's data has been changed externally. The consequence is merely
+	 * that the next store of every entity is not skipped.
+	 */
+	public void clear();
+	
+	
+	
+	/**
+	 * Calculates the fingerprint of the persistent form in the passed memory range.
+	 * 
+	 * @param address the start address of the entity.
+	 * @param bound the bound address of the entity.
+	 * @return the fingerprint.
+	 */
+	public static long fingerprint(final long address, final long bound)
+	{
+		// simple multiply-rotate hash over 8 byte words with a final avalanche, see e.g. xxHash.
+		long hash = 0x9E3779B97F4A7C15L ^ (bound - address);
+		long adr = address;
+		for(; adr + Long.BYTES <= bound; adr += Long.BYTES)
+		{
+			hash = Long.rotateLeft(hash ^ XMemory.get_long(adr) * 0xC2B2AE3D27D4EB4FL, 31) * 0x9E3779B185EBCA87L;
+		}
+		for(; adr < bound; adr++)
+		{
+			hash = Long.rotateLeft(hash ^ XMemory.get_byte(adr) * 0x27D4EB2F165667C5L, 11) * 0x9E3779B185EBCA87L;
+		}
+		
+		hash ^= hash >>> 33;
+		hash *= 0xC2B2AE3D27D4EB4FL;
+		hash ^= hash >>> 29;
+		hash *= 0x165667B19E3779F9L;
+		hash ^= hash >>> 32;
+		
+		return hash;
+	}
+	
+	
+	
+	public static long defaultMaximumSize()
+	{
+		// 16 bytes per entry plus load factor: at most about 100 MB
+		return 4_000_000;
+	}
+	
+	public static BinaryFingerprintCache New()
+	{
+		return New(defaultMaximumSize());
+	}
+	
+	/**
+	 * Creates a new {@link BinaryFingerprintCache} that is cleared whenever the passed number of fingerprints
+	 * is exceeded.
+	 * 
+	 * @param maximumSize the maximum number of fingerprints.
+	 * @return a new {@link BinaryFingerprintCache}.
+	 */
+	public static BinaryFingerprintCache New(final long maximumSize)
+	{
+		return new BinaryFingerprintCache.Default(
+			Math.min(XMath.positive(maximumSize), Default.MAXIMUM_CAPACITY / 2)
+		);
+	}
+	
+	public final class Default implements BinaryFingerprintCache
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+		
+		static final int MAXIMUM_CAPACITY = 1 << 29;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final long maximumSize;
+		
+		// open addressing table of alternating object ids and fingerprints. 0 is never a valid object id.
+		private long[] table;
+		private int    range;
+		private int    size ;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(final long maximumSize)
+		{
+			super();
+			this.maximumSize = maximumSize;
+			this.clear();
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		private static int index(final long objectId, final int range)
+		{
+			// object ids are mostly sequential, so the lower bits spread well enough after some mixing
+			return (int)(objectId ^ objectId >>> 29) * 0x9E3779B9 & range;
+		}
+		
+		@Override
+		public final synchronized boolean isUnchanged(final long objectId, final long fingerprint)
+		{
+			final long[] table = this.table;
+			for(int i = index(objectId, this.range); table[i << 1] != 0; i = i + 1 & this.range)
+			{
+				if(table[i << 1] == objectId)
+				{
+					return table[(i << 1) + 1] == fingerprint;
+				}
+			}
+			
+			return false;
+		}
+		
+		@Override
+		public final synchronized void putAll(final long[] objectIdsAndFingerprints, final int bound)
+		{
+			for(int i = 0; i < bound; i += 2)
+			{
+				this.put(objectIdsAndFingerprints[i], objectIdsAndFingerprints[i + 1]);
+			}
+		}
+		
+		private void put(final long objectId, final long fingerprint)
+		{
+			final long[] table = this.table;
+			int i = index(objectId, this.range);
+			for(; table[i << 1] != 0; i = i + 1 & this.range)
+			{
+				if(table[i << 1] == objectId)
+				{
+					table[(i << 1) + 1] = fingerprint;
+					return;
+				}
+			}
+			
+			if(this.size >= this.maximumSize)
+			{
+				// forgetting is always safe, it merely causes the entities to be stored again.
+				this.clear();
+				this.put(objectId, fingerprint);
+				return;
+			}
+			
+			table[i << 1]       = objectId   ;
+			table[(i << 1) + 1] = fingerprint;
+			
+			// keep the load factor at most 0.5 to keep probe sequences short
+			if(++this.size > this.range >>> 1)
+			{
+				this.rebuild();
+			}
+		}
+		
+		@Override
+		public final synchronized void remove(final long objectId)
+		{
+			final long[] table = this.table;
+			int i = index(objectId, this.range);
+			for(; table[i << 1] != objectId; i = i + 1 & this.range)
+			{
+				if(table[i << 1] == 0)
+				{
+					return;
+				}
+			}
+			
+			// close the gap by moving back every following entry whose probe sequence passes it
+			for(int j = i + 1 & this.range; table[j << 1] != 0; j = j + 1 & this.range)
+			{
+				if((j - index(table[j << 1], this.range) & this.range) >= (j - i & this.range))
+				{
+					table[i << 1]       = table[j << 1]      ;
+					table[(i << 1) + 1] = table[(j << 1) + 1];
+					i = j;
+				}
+			}
+			
+			table[i << 1]       = 0;
+			table[(i << 1) + 1] = 0;
+			this.size--;
+		}
+		
+		private void rebuild()
+		{
+			final long[] oldTable = this.table;
+			this.table = new long[oldTable.length << 1];
+			this.range = (this.range << 1) + 1;
+			
+			final long[] table = this.table;
+			for(int j = 0; j < oldTable.length; j += 2)
+			{
+				if(oldTable[j] == 0)
+				{
+					continue;
+				}
+				int i = index(oldTable[j], this.range);
+				while(table[i << 1] != 0)
+				{
+					i = i + 1 & this.range;
+				}
+				table[i << 1]       = oldTable[j]    ;
+				table[(i << 1) + 1] = oldTable[j + 1];
+			}
+		}
+		
+		@Override
+		public final synchronized long size()
+		{
+			return this.size;
+		}
+		
+		@Override
+		public final long maximumSize()
+		{
+			return this.maximumSize;
+		}
+		
+		@Override
+		public final synchronized void clear()
+		{
+			this.table = new long[2 * 1024];
+			this.range = 1024 - 1;
+			this.size  = 0;
+		}
+		
+	}
+	
+}
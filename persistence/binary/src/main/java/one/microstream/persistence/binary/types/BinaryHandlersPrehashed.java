@@ -0,0 +1,80 @@
+package one.microstream.persistence.binary.types;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import one.microstream.X;
+import one.microstream.persistence.binary.java.util.BinaryHandlerHashMapPrehashed;
+import one.microstream.persistence.binary.java.util.BinaryHandlerHashSetPrehashed;
+import one.microstream.persistence.binary.java.util.BinaryHandlerHashtablePrehashed;
+import one.microstream.persistence.types.PersistenceTypeHandlerRegistration;
+
+/**
+ * Optional type handlers for {@link java.util.HashMap}, {@link java.util.HashSet} and {@link java.util.Hashtable}
+ * which persist the hash codes of the keys in bucket order. When loading keys with stable hash codes, the hash tables
+ * are rebuilt in a single pass, without calling {@link Object#hashCode()} and without rehashing.
+ * <p>
+ * The persistent form of these handlers differs from the default handlers' one, so they have to be registered
+ * before the first instance of the handled types is stored.
+ * 
+ * @see BinaryHashCodeStabilityEvaluator
+ */
+public final class BinaryHandlersPrehashed
+{
+	public static <F extends PersistenceTypeHandlerRegistration.Executor<Binary>> F registerPrehashedTypeHandlers(
+		final F executor
+	)
+	{
+		return registerPrehashedTypeHandlers(executor, BinaryHashCodeStabilityEvaluator.New());
+	}
+	
+	public static <F extends PersistenceTypeHandlerRegistration.Executor<Binary>> F registerPrehashedTypeHandlers(
+		final F                                executor                  ,
+		final BinaryHashCodeStabilityEvaluator hashCodeStabilityEvaluator
+	)
+	{
+		executor.executeTypeHandlerRegistration((r, c) ->
+			r.registerTypeHandlers(X.List(
+				BinaryHandlerHashtablePrehashed.New(hashCodeStabilityEvaluator),
+				BinaryHandlerHashSetPrehashed.New(hashCodeStabilityEvaluator)  ,
+				BinaryHandlerHashMapPrehashed.New(hashCodeStabilityEvaluator)
+			))
+		);
+		
+		return executor;
+	}
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	/**
+	 * Dummy constructor to prevent instantiation of this static-only utility class.
+	 *
+	 * @throws UnsupportedOperationException when called
+	 */
+	protected BinaryHandlersPrehashed()
+	{
+		// static only
+		throw new UnsupportedOperationException();
+	}
+	
+}
@@ -0,0 +1,134 @@
+package one.microstream.persistence.binary.types;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import one.microstream.X;
+import one.microstream.collections.ConstHashEnum;
+import one.microstream.collections.types.XGettingSet;
+
+
+/**
+ * Decides if the hash codes of a type's instances are stable, meaning they only depend on the instance's persisted
+ * state and are therefore the same in every JVM process. Only such hash codes can be persisted and reused
+ * when loading, e.g. by the {@link BinaryHandlersPrehashed prehashed} type handlers.
+ * <p>
+ * Note that identity-based hash codes, as of {@link Object#hashCode()} and all {@link Enum}s, are never stable.
+ */
+@FunctionalInterface
+public interface BinaryHashCodeStabilityEvaluator
+{
+	public boolean isStable(Class<?> type);
+	
+	
+	
+	/**
+	 * Returns the types of the JDK whose hash codes are specified to depend only on their value:
+	 * {@link String}, the primitive wrapper types, {@link BigInteger}, {@link BigDecimal}, {@link UUID}
+	 * and the common {@code java.time} value types.
+	 * 
+	 * @return the JDK's stable hash code types
+	 */
+	public static XGettingSet<Class<?>> defaultStableTypes()
+	{
+		return X.<Class<?>>ConstEnum(
+			String.class       ,
+			Boolean.class      ,
+			Byte.class         ,
+			Short.class        ,
+			Character.class    ,
+			Integer.class      ,
+			Long.class         ,
+			Float.class        ,
+			Double.class       ,
+			BigInteger.class   ,
+			BigDecimal.class   ,
+			UUID.class         ,
+			Instant.class      ,
+			LocalDate.class    ,
+			LocalTime.class    ,
+			LocalDateTime.class
+		);
+	}
+	
+	public static BinaryHashCodeStabilityEvaluator New()
+	{
+		return New(defaultStableTypes());
+	}
+	
+	/**
+	 * Creates a new evaluator which considers exactly the passed types as stable.
+	 * Subclasses of the passed types are not considered stable, since they might override {@link Object#hashCode()}.
+	 * 
+	 * @param stableTypes the types whose hash codes are stable
+	 * @return a new evaluator
+	 */
+	public static BinaryHashCodeStabilityEvaluator New(final XGettingSet<Class<?>> stableTypes)
+	{
+		return new BinaryHashCodeStabilityEvaluator.Default(
+			ConstHashEnum.New(notNull(stableTypes))
+		);
+	}
+	
+	public final class Default implements BinaryHashCodeStabilityEvaluator
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final XGettingSet<Class<?>> stableTypes;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(final XGettingSet<Class<?>> stableTypes)
+		{
+			super();
+			this.stableTypes = stableTypes;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public boolean isStable(final Class<?> type)
+		{
+			return this.stableTypes.contains(type);
+		}
+		
+	}
+	
+}
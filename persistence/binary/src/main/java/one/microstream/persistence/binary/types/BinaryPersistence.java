@@ -116,6 +116,10 @@ import one.microstream.persistence.binary.one.microstream.collections.BinaryHand
 import one.microstream.persistence.binary.one.microstream.collections.BinaryHandlerHashTable;
 import one.microstream.persistence.binary.one.microstream.collections.BinaryHandlerLimitList;
 import one.microstream.persistence.binary.one.microstream.collections.BinaryHandlerSingleton;
+import one.microstream.persistence.binary.one.microstream.collections.BinaryHandler_doubleList;
+import one.microstream.persistence.binary.one.microstream.collections.BinaryHandler_longList;
+import one.microstream.persistence.binary.one.microstream.collections.BinaryHandler_longLongMap;
+import one.microstream.persistence.binary.one.microstream.collections.BinaryHandler_longSet;
 import one.microstream.persistence.binary.one.microstream.collections.lazy.BinaryHandlerLazyArrayList;
 import one.microstream.persistence.binary.one.microstream.collections.lazy.BinaryHandlerLazyHashMap;
 import one.microstream.persistence.binary.one.microstream.collections.lazy.BinaryHandlerLazyHashMapSegmentEntryList;
@@ -373,7 +377,11 @@ public final class BinaryPersistence extends Persistence
 			BinaryHandlerEqHashTable.New()          ,
 			BinaryHandlerEqConstHashTable.New()     ,
 			BinaryHandlerSingleton.New()            ,
-			BinaryHandlerSubstituterDefault.New()
+			BinaryHandlerSubstituterDefault.New()   ,
+			BinaryHandler_longList.New()            ,
+			BinaryHandler_doubleList.New()          ,
+			BinaryHandler_longSet.New()             ,
+			BinaryHandler_longLongMap.New()
 			/* (29.10.2013 TM)TODO: more MicroStream default custom handlers
 			 * - VarString
 			 * - VarByte
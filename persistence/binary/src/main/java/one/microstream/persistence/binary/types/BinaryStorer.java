@@ -21,16 +21,23 @@ package one.microstream.persistence.binary.types;
  */
 
 import static java.lang.System.identityHashCode;
+import static one.microstream.X.mayNull;
 import static one.microstream.X.notNull;
 import static one.microstream.chars.XChars.systemString;
 import static one.microstream.persistence.types.PersistenceLogging.STORER_CONTEXT;
 import static one.microstream.util.logging.Logging.LazyArg;
 import static one.microstream.util.logging.Logging.LazyArgInContext;
 
+import java.lang.ref.Cleaner;
+import java.util.Arrays;
+import java.util.concurrent.RejectedExecutionException;
+
 import org.slf4j.Logger;
 
+import one.microstream.X;
 import one.microstream.hashing.XHashing;
 import one.microstream.math.XMath;
+import one.microstream.persistence.exceptions.PersistenceException;
 import one.microstream.persistence.types.PersistenceAcceptor;
 import one.microstream.persistence.types.PersistenceEagerStoringFieldEvaluator;
 import one.microstream.persistence.types.PersistenceLocalObjectIdRegistry;
@@ -38,6 +45,7 @@ import one.microstream.persistence.types.PersistenceObjectIdRequestor;
 import one.microstream.persistence.types.PersistenceObjectManager;
 import one.microstream.persistence.types.PersistenceStoreHandler;
 import one.microstream.persistence.types.PersistenceStorer;
+import one.microstream.persistence.types.PersistenceStreamingTarget;
 import one.microstream.persistence.types.PersistenceTarget;
 import one.microstream.persistence.types.PersistenceTypeHandler;
 import one.microstream.persistence.types.PersistenceTypeHandlerManager;
@@ -87,6 +95,12 @@ public interface BinaryStorer extends PersistenceStorer
 			// why permanently occupy additional memory with fields and instances for constant values?
 			return 1024; // anything below 1024 doesn't pay of
 		}
+		
+		protected static long parallelStoringThreshold()
+		{
+			// number of items a commit must reach before storing is distributed to the storing pool.
+			return 10_000;
+		}
 
 		
 
@@ -107,6 +121,52 @@ public interface BinaryStorer extends PersistenceStorer
 		// cannot be final since every commit needs to pass an independent instance.
 		private ChunksBuffer[] chunks;
 		
+		// optional pool for storing large graphs in parallel. Null means single-threaded storing.
+		private final BinaryStoringPool storingPool;
+		
+		/*
+		 * Parallel storing:
+		 * - every worker of the storing pool fills its own chunks, which are appended to the storer's chunks
+		 *   when completing the commit. The calling thread keeps using the storer's chunks.
+		 * - the items to be processed are taken from the item chain under the lock on head, newly registered items
+		 *   are appended to it as usual. Processing ends if there is no next item and no worker is processing
+		 *   an item (and thus possibly registering new ones) anymore.
+		 * - a worker only counts once it has actually started. The pool may be busy with other storers' workers,
+		 *   so the calling thread never waits for a worker that has not started, it processes the items itself.
+		 *   Workers starting after their phase has ended return immediately.
+		 */
+		private ChunksBuffer[][] workerChunks        ;
+		private Item             parallelCursor      ; // the item last taken for processing.
+		private long             parallelPhase       ;
+		private int              activeWorkerCount   ; // workers currently processing an item.
+		private int              runningWorkerCount  ; // workers started in the current phase and not yet returned.
+		private int              waitingWorkerCount  ;
+		private Throwable        parallelStoringError;
+		
+		/*
+		 * Streaming:
+		 * - if the target supports it, completed chunks are handed over as a part of the store whenever their
+		 *   length reaches the streaming window, so the serialized graph never has to be held in memory as a whole.
+		 * - the stream is opened with the first part and committed with the remaining chunks.
+		 * - a failing store or commit aborts the stream. The aborted stream is kept until the storer is cleared,
+		 *   so that a commit attempt after a failed store can never commit only the remaining part.
+		 * - clearing the storer aborts an open stream. So does the stream guard if the storer is discarded
+		 *   without being committed or cleared, as the open stream occupies the storage.
+		 */
+		private final long                                      streamingWindow; // 0 means no streaming.
+		private       PersistenceStreamingTarget.Stream<Binary> stream         ;
+		private       StreamGuard                               streamGuard    ;
+		
+		/*
+		 * Change detection:
+		 * - every stored entity's fingerprint is compared to the one of its last successfully stored state.
+		 *   Unchanged entities are removed from the chunks right away, their references have been handled anyway.
+		 * - the fingerprints of changed entities are registered only after the commit succeeded.
+		 */
+		private final BinaryFingerprintCache fingerprints           ; // null means no change detection.
+		private       long[]                 pendingFingerprints    ; // alternating object ids and fingerprints.
+		private       int                    pendingFingerprintBound;
+		
 		/*
 		 * Concurrency / thread-safety concept:
 		 * - head is the internal mutex instance since it hints to the mutable state but is final and immutable itself.
@@ -148,6 +208,33 @@ public interface BinaryStorer extends PersistenceStorer
 			final int                                   channelCount      ,
 			final boolean                               switchByteOrder
 		)
+		{
+			this(
+				objectManager     ,
+				objectRetriever   ,
+				typeManager       ,
+				target            ,
+				bufferSizeProvider,
+				channelCount      ,
+				switchByteOrder   ,
+				null              ,
+				0                 ,
+				null
+			);
+		}
+		
+		protected Default(
+			final PersistenceObjectManager<Binary>      objectManager     ,
+			final ObjectSwizzling                       objectRetriever   ,
+			final PersistenceTypeHandlerManager<Binary> typeManager       ,
+			final PersistenceTarget<Binary>             target            ,
+			final BufferSizeProviderIncremental         bufferSizeProvider,
+			final int                                   channelCount      ,
+			final boolean                               switchByteOrder   ,
+			final BinaryStoringPool                     storingPool       ,
+			final long                                  streamingWindow   ,
+			final BinaryFingerprintCache                fingerprints
+		)
 		{
 			super();
 			this.objectManager      = notNull(objectManager)     ;
@@ -157,6 +244,9 @@ public interface BinaryStorer extends PersistenceStorer
 			this.bufferSizeProvider = notNull(bufferSizeProvider);
 			this.chunksHashRange    =         channelCount - 1   ;
 			this.switchByteOrder    =         switchByteOrder    ;
+			this.storingPool        = mayNull(storingPool)       ;
+			this.streamingWindow    = XMath.notNegative(streamingWindow);
+			this.fingerprints       = mayNull(fingerprints)      ;
 			
 			this.defaultInitialize();
 		}
@@ -214,6 +304,7 @@ public interface BinaryStorer extends PersistenceStorer
 			{
 				chunk.complete();
 			}
+			this.synchMergeWorkerChunks();
 
 			// all chunks know the array internally, so passing one means passing all. And there is always at least one.
 			return this.chunks[0];
@@ -254,6 +345,12 @@ public interface BinaryStorer extends PersistenceStorer
 		{
 			synchronized(this.head)
 			{
+				this.synchAbortStream(new PersistenceException("Storer has been cleared before committing."));
+				this.synchReleaseStream();
+				
+				this.pendingFingerprints     = null;
+				this.pendingFingerprintBound = 0;
+				
 				this.hashSlots = new Item[hashLength];
 				this.hashRange = hashLength - 1;
 				
@@ -274,7 +371,13 @@ public interface BinaryStorer extends PersistenceStorer
 			 * or ultimately by the garbage collector (or by some tailored additional logic)
 			 */
 			
-			final ChunksBuffer[] chunks = this.chunks = new ChunksBuffer[this.chunksHashRange + 1];
+			this.chunks       = this.createChunksBuffers();
+			this.workerChunks = null;
+		}
+		
+		private ChunksBuffer[] createChunksBuffers()
+		{
+			final ChunksBuffer[] chunks = new ChunksBuffer[this.chunksHashRange + 1];
 			for(int i = 0; i < chunks.length; i++)
 			{
 				chunks[i] = this.switchByteOrder
@@ -282,6 +385,42 @@ public interface BinaryStorer extends PersistenceStorer
 					: ChunksBuffer.New(chunks, this.bufferSizeProvider)
 				;
 			}
+			
+			return chunks;
+		}
+		
+		private ChunksBuffer[][] synchEnsureWorkerChunks()
+		{
+			if(this.workerChunks == null)
+			{
+				// worker chunks are kept across store calls until the commit is completed.
+				this.workerChunks = new ChunksBuffer[this.storingPool.parallelism()][];
+				for(int i = 0; i < this.workerChunks.length; i++)
+				{
+					this.workerChunks[i] = this.createChunksBuffers();
+				}
+			}
+			
+			return this.workerChunks;
+		}
+		
+		private void synchMergeWorkerChunks()
+		{
+			if(this.workerChunks == null)
+			{
+				return;
+			}
+			
+			for(final ChunksBuffer[] workerChunks : this.workerChunks)
+			{
+				for(int i = 0; i < workerChunks.length; i++)
+				{
+					this.chunks[i].appendCompleted(workerChunks[i].complete());
+				}
+			}
+			
+			// the merged worker chunks' buffers now belong to the storer's chunks.
+			this.workerChunks = null;
 		}
 
 		@Override
@@ -426,16 +565,358 @@ public interface BinaryStorer extends PersistenceStorer
 			// initial registration. After that, storing adds via recursion the graph and processing items iteratively.
 			rootOid = this.registerGuaranteed(notNull(root));
 
-			// process and collect required instances uniquely in item chain (graph recursion transformed to iteration)
-			for(Item item = this.tail; item != null; item = item.next)
+			try
+			{
+				// process and collect required instances uniquely in item chain (graph recursion transformed to iteration)
+				for(Item item = this.tail; item != null; item = item.next)
+				{
+					if(this.isParallelStoringDue())
+					{
+						// the current item and all following ones are processed in parallel.
+						this.storeItemsParallel(item);
+						break;
+					}
+					
+					// locks internally. May not lock the whole loop or other storers can't look up concurrently.
+					this.storeItem(item);
+					
+					if(this.isStreamingDue())
+					{
+						this.streamPart();
+					}
+				}
+			}
+			catch(final RuntimeException | Error e)
 			{
-				// locks internally. May not lock the whole loop or other storers can't look up concurrently.
-				this.storeItem(item);
+				// already streamed parts must not be committed without the rest of the graph.
+				this.abortStream(e);
+				throw e;
 			}
 
 			return rootOid;
 		}
 		
+		private boolean isStreaming()
+		{
+			return this.streamingWindow > 0 && this.target instanceof PersistenceStreamingTarget;
+		}
+		
+		private boolean isStreamingDue()
+		{
+			if(!this.isStreaming())
+			{
+				return false;
+			}
+			
+			// only the thread using the storer fills the storer's chunks, so no locking is required.
+			long length = 0;
+			for(final ChunksBuffer chunk : this.chunks)
+			{
+				length += chunk.currentLength();
+			}
+			
+			return length >= this.streamingWindow;
+		}
+		
+		@SuppressWarnings("unchecked")
+		private void streamPart()
+		{
+			final Binary part;
+			synchronized(this.head)
+			{
+				part = this.synchComplete();
+				
+				// the streamed chunks are released by the target, the rest of the graph is stored into new ones.
+				this.chunks = this.createChunksBuffers();
+			}
+			
+			// the first part opens the stream. Writing blocks until the target is ready for another part.
+			if(this.stream == null)
+			{
+				final PersistenceStreamingTarget.Stream<Binary> stream =
+					((PersistenceStreamingTarget<Binary>)this.target).openStream()
+				;
+				synchronized(this.head)
+				{
+					this.stream      = stream;
+					this.streamGuard = StreamGuard.New(this, stream);
+				}
+			}
+			this.stream.write(part);
+		}
+		
+		private void synchReleaseStream()
+		{
+			if(this.streamGuard != null)
+			{
+				this.streamGuard.release();
+				this.streamGuard = null;
+			}
+			this.stream = null;
+		}
+		
+		private void abortStream(final Throwable cause)
+		{
+			synchronized(this.head)
+			{
+				this.synchAbortStream(cause);
+			}
+		}
+		
+		private void synchAbortStream(final Throwable cause)
+		{
+			if(this.stream != null)
+			{
+				// idempotent, the stream reference is kept to prevent a partial commit.
+				this.stream.abort(cause);
+			}
+		}
+		
+		private boolean isParallelStoringDue()
+		{
+			/*
+			 * Only the thread using the storer modifies the item count, so no locking is required.
+			 * Storing while holding the lock (e.g. for pending roots while committing) must remain single-threaded
+			 * as the workers require the lock.
+			 */
+			return this.storingPool != null
+				&& this.itemCount >= parallelStoringThreshold()
+				&& !Thread.holdsLock(this.head)
+				&& !this.isStreaming() // bounding the memory takes precedence over speed
+			;
+		}
+		
+		private void storeItemsParallel(final Item first)
+		{
+			final ChunksBuffer[][] workerChunks;
+			final long             phase       ;
+			synchronized(this.head)
+			{
+				workerChunks = this.synchEnsureWorkerChunks();
+				
+				// only the calling thread is active initially, it processes the first item.
+				phase = ++this.parallelPhase;
+				this.parallelCursor       = first;
+				this.activeWorkerCount    = 1;
+				this.runningWorkerCount   = 0;
+				this.parallelStoringError = null;
+			}
+			
+			try
+			{
+				for(final ChunksBuffer[] chunks : workerChunks)
+				{
+					this.storingPool.pool().execute(() -> this.runParallelWorker(phase, chunks));
+				}
+			}
+			catch(final RejectedExecutionException e)
+			{
+				// the pool has been shut down concurrently, the calling thread processes the remaining items alone.
+			}
+			this.storeItemsParallel(this.chunks, first);
+			
+			final Throwable error;
+			synchronized(this.head)
+			{
+				// workers that have not started yet must not join anymore, started ones are about to return.
+				this.parallelPhase++;
+				this.synchAwaitRunningWorkers();
+				
+				error = this.parallelStoringError;
+				this.parallelCursor       = null;
+				this.parallelStoringError = null;
+			}
+			if(error instanceof Error)
+			{
+				throw (Error)error;
+			}
+			if(error != null)
+			{
+				throw (RuntimeException)error;
+			}
+		}
+		
+		private void runParallelWorker(final long phase, final ChunksBuffer[] chunks)
+		{
+			synchronized(this.head)
+			{
+				if(phase != this.parallelPhase)
+				{
+					// started too late, the calling thread has already processed the items.
+					return;
+				}
+				this.runningWorkerCount++;
+			}
+			try
+			{
+				this.storeItemsParallel(chunks, null);
+			}
+			finally
+			{
+				synchronized(this.head)
+				{
+					this.runningWorkerCount--;
+					this.head.notifyAll();
+				}
+			}
+		}
+		
+		private void synchAwaitRunningWorkers()
+		{
+			// the workers use this storer's chunks, so waiting cannot be abandoned. It only lasts a single item.
+			boolean interrupted = false;
+			while(this.runningWorkerCount != 0)
+			{
+				try
+				{
+					this.head.wait();
+				}
+				catch(final InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+			if(interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		private void storeItemsParallel(final ChunksBuffer[] chunks, final Item first)
+		{
+			try
+			{
+				// a worker has not taken an item yet, the calling thread has taken the first one.
+				for(Item item = first != null ? first : this.nextParallelItem(false); item != null; item = this.nextParallelItem(true))
+				{
+					// no lock here: the chunks are exclusive to this worker and the callbacks lock internally.
+					this.storeItem(chunks[(int)(item.oid & this.chunksHashRange)], item);
+				}
+			}
+			catch(final RuntimeException | Error e)
+			{
+				// only storing an item can fail, so the failing worker is still active.
+				synchronized(this.head)
+				{
+					this.activeWorkerCount--;
+					this.synchAbortParallelStoring(e);
+				}
+			}
+		}
+		
+		private void storeItem(final ChunksBuffer chunk, final Item item)
+		{
+			logger.debug(
+				"Storing     {}: {}({})",
+				item.oid,
+				LazyArg(() -> systemString(item.instance)),
+				LazyArgInContext(STORER_CONTEXT, item.instance)
+			);
+			
+			item.typeHandler.store(chunk, item.instance, item.oid, this);
+			if(this.fingerprints != null)
+			{
+				this.skipUnchanged(chunk, item.oid);
+			}
+		}
+		
+		private void skipUnchanged(final ChunksBuffer chunk, final long objectId)
+		{
+			final long fingerprint = chunk.fingerprintLastEntity();
+			if(fingerprint == 0)
+			{
+				// the handler did not store an entity on its own, nothing to track.
+				return;
+			}
+			if(this.fingerprints.isUnchanged(objectId, fingerprint))
+			{
+				chunk.removeLastEntity();
+				return;
+			}
+			chunk.keepLastEntity();
+			
+			synchronized(this.head)
+			{
+				if(this.pendingFingerprints == null)
+				{
+					this.pendingFingerprints = new long[256];
+				}
+				else if(this.pendingFingerprintBound == this.pendingFingerprints.length)
+				{
+					this.pendingFingerprints = Arrays.copyOf(
+						this.pendingFingerprints,
+						X.checkArrayRange(this.pendingFingerprints.length * 2L)
+					);
+				}
+				this.pendingFingerprints[this.pendingFingerprintBound    ] = objectId   ;
+				this.pendingFingerprints[this.pendingFingerprintBound + 1] = fingerprint;
+				this.pendingFingerprintBound += 2;
+			}
+		}
+		
+		private void synchAbortParallelStoring(final Throwable error)
+		{
+			// the first error is reported, the others are most probably consequential errors.
+			if(this.parallelStoringError == null)
+			{
+				this.parallelStoringError = error;
+			}
+			this.head.notifyAll();
+		}
+		
+		private Item nextParallelItem(final boolean itemDone)
+		{
+			synchronized(this.head)
+			{
+				if(itemDone)
+				{
+					this.activeWorkerCount--;
+				}
+				
+				Item item;
+				while((item = this.parallelCursor.next) == null && this.parallelStoringError == null)
+				{
+					if(this.activeWorkerCount == 0)
+					{
+						// no more items can be registered, so the graph is done.
+						this.head.notifyAll();
+						return null;
+					}
+					this.synchAwaitItem();
+				}
+				if(this.parallelStoringError != null)
+				{
+					return null;
+				}
+				
+				this.parallelCursor = item;
+				this.activeWorkerCount++;
+				
+				return item;
+			}
+		}
+		
+		private void synchAwaitItem()
+		{
+			this.waitingWorkerCount++;
+			try
+			{
+				this.head.wait();
+			}
+			catch(final InterruptedException e)
+			{
+				// restore the flag and abort like any other error would.
+				Thread.currentThread().interrupt();
+				this.synchAbortParallelStoring(
+					new PersistenceException("Interrupted while waiting for items to be stored.", e)
+				);
+			}
+			finally
+			{
+				this.waitingWorkerCount--;
+			}
+		}
+		
 		protected final void storeItem(final Item item)
 		{
 			logger.debug(
@@ -447,7 +928,12 @@ public interface BinaryStorer extends PersistenceStorer
 			
 			synchronized(this.head)
 			{
-				item.typeHandler.store(this.synchLookupChunk(item.oid), item.instance, item.oid, this);
+				final ChunksBuffer chunk = this.synchLookupChunk(item.oid);
+				item.typeHandler.store(chunk, item.instance, item.oid, this);
+				if(this.fingerprints != null)
+				{
+					this.skipUnchanged(chunk, item.oid);
+				}
 			}
 		}
 
@@ -507,22 +993,39 @@ public interface BinaryStorer extends PersistenceStorer
 			// isEmpty locks internally
 			if(!this.isEmpty())
 			{
-				// must validate here, too, in case the WriteController disabled writing during the storer's existence.
-				this.target.validateIsStoringEnabled();
-				
-				final Binary writeData;
-				synchronized(this.head)
+				try
+				{
+					// must validate here, too, in case the WriteController disabled writing during the storer's existence.
+					this.target.validateIsStoringEnabled();
+					
+					final Binary writeData;
+					synchronized(this.head)
+					{
+						this.typeManager.checkForPendingRootInstances();
+						this.typeManager.checkForPendingRootsStoring(this);
+						writeData = this.synchComplete();
+					}
+					
+					// very costly IO-operation does not need to occupy the lock
+					if(this.fingerprints != null)
+					{
+						this.writeTracked(writeData);
+					}
+					else
+					{
+						this.write(writeData);
+					}
+				}
+				catch(final RuntimeException | Error e)
 				{
-					this.typeManager.checkForPendingRootInstances();
-					this.typeManager.checkForPendingRootsStoring(this);
-					writeData = this.synchComplete();
+					// parts that have already been streamed are discarded, the storer has to be cleared to store again.
+					this.abortStream(e);
+					throw e;
 				}
 				
-				// very costly IO-operation does not need to occupy the lock
-				this.target.write(writeData);
-				
 				synchronized(this.head)
 				{
+					this.synchReleaseStream();
 					this.typeManager.clearStorePendingRoots();
 					this.objectManager.mergeEntries(this);
 				}
@@ -535,6 +1038,35 @@ public interface BinaryStorer extends PersistenceStorer
 			return null;
 		}
 		
+		private void write(final Binary writeData)
+		{
+			if(this.stream != null)
+			{
+				this.stream.commit(writeData);
+			}
+			else
+			{
+				this.target.write(writeData);
+			}
+		}
+		
+		private void writeTracked(final Binary writeData)
+		{
+			/*
+			 * Writing and registering the new fingerprints must be atomic among all change detecting storers.
+			 * Otherwise, two concurrent commits of the same entity could register their fingerprints in the
+			 * opposite order than the one of their writes, causing a later change to be missed.
+			 */
+			synchronized(this.fingerprints)
+			{
+				this.write(writeData);
+				if(this.pendingFingerprints != null)
+				{
+					this.fingerprints.putAll(this.pendingFingerprints, this.pendingFingerprintBound);
+				}
+			}
+		}
+		
 		public final long lookupOid(final Object object)
 		{
 			synchronized(this.head)
@@ -610,6 +1142,12 @@ public interface BinaryStorer extends PersistenceStorer
 				;
 				final Item item = this.synchRegisterObjectId(instance, typeHandler, objectId);
 				this.tail = this.tail.next = item;
+				
+				if(this.waitingWorkerCount != 0)
+				{
+					// a worker of a parallel storing waits for the next item.
+					this.head.notify();
+				}
 			}
 		}
 		
@@ -768,7 +1306,10 @@ public interface BinaryStorer extends PersistenceStorer
 			final PersistenceTarget<Binary>             target            ,
 			final BufferSizeProviderIncremental         bufferSizeProvider,
 			final int                                   channelCount      ,
-			final boolean                               switchByteOrder
+			final boolean                               switchByteOrder   ,
+			final BinaryStoringPool                     storingPool       ,
+			final long                                  streamingWindow   ,
+			final BinaryFingerprintCache                fingerprints
 		)
 		{
 			super(
@@ -778,7 +1319,10 @@ public interface BinaryStorer extends PersistenceStorer
 				target            ,
 				bufferSizeProvider,
 				channelCount      ,
-				switchByteOrder
+				switchByteOrder   ,
+				storingPool       ,
+				streamingWindow   ,
+				fingerprints
 			);
 		}
 		
@@ -818,6 +1362,82 @@ public interface BinaryStorer extends PersistenceStorer
 		
 	}
 
+	/**
+	 * Aborts the open stream of a storer that has been discarded without being committed or cleared.
+	 * Must not reference the storer itself, otherwise the storer could never become unreachable.
+	 */
+	static final class StreamGuard implements Runnable
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// static fields //
+		//////////////////
+		
+		// the cleaner's daemon thread is only started once the first stream gets opened.
+		private static final Cleaner CLEANER = Cleaner.create(runnable ->
+		{
+			final Thread thread = new Thread(
+				runnable,
+				BinaryStorer.class.getSimpleName() + "-" + StreamGuard.class.getSimpleName()
+			);
+			thread.setDaemon(true);
+			
+			return thread;
+		});
+		
+		static StreamGuard New(final BinaryStorer storer, final PersistenceStreamingTarget.Stream<Binary> stream)
+		{
+			final StreamGuard guard = new StreamGuard(stream);
+			guard.cleanable = CLEANER.register(storer, guard);
+			
+			return guard;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private volatile PersistenceStreamingTarget.Stream<Binary> stream   ;
+		private          Cleaner.Cleanable                         cleanable;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		StreamGuard(final PersistenceStreamingTarget.Stream<Binary> stream)
+		{
+			super();
+			this.stream = stream;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		final void release()
+		{
+			// the stream has been committed or aborted by the storer, so nothing is left to be done on cleaning.
+			this.stream = null;
+			this.cleanable.clean();
+		}
+		
+		@Override
+		public final void run()
+		{
+			final PersistenceStreamingTarget.Stream<Binary> stream = this.stream;
+			if(stream != null)
+			{
+				stream.abort(new PersistenceException("Storer has been discarded before committing."));
+			}
+		}
+		
+	}
+
 	static final class Item
 	{
 		final PersistenceTypeHandler<Binary, Object> typeHandler;
@@ -848,7 +1468,135 @@ public interface BinaryStorer extends PersistenceStorer
 	{
 		return new BinaryStorer.Creator.Default(
 			notNull(channelCountProvider),
-			        switchByteOrder
+			        switchByteOrder      ,
+			        null                 ,
+			        0                    ,
+			        null
+		);
+	}
+	
+	/**
+	 * Creates a {@link BinaryStorer.Creator} whose storers store very large object graphs in parallel.
+	 * <p>
+	 * Once a storer has collected a certain number of instances, the remaining graph traversal is distributed
+	 * among the calling thread and the threads of a pool with the passed parallelism, which is shared by all
+	 * storers created by the returned creator. Every thread serializes into its own buffers. Object ids are
+	 * still assigned by the object manager, the commit stays one atomic write.
+	 * <p>
+	 * A parallelism of 0 disables parallel storing.
+	 * 
+	 * @param channelCountProvider the provider of the storage's channel count
+	 * @param switchByteOrder if the byte order of the persistent form has to be switched
+	 * @param storingParallelism the number of threads of the shared storing pool or 0.
+	 * @return a new {@link BinaryStorer.Creator}
+	 */
+	public static BinaryStorer.Creator Creator(
+		final BinaryChannelCountProvider channelCountProvider,
+		final boolean                    switchByteOrder     ,
+		final int                        storingParallelism
+	)
+	{
+		return Creator(channelCountProvider, switchByteOrder, storingParallelism, 0);
+	}
+	
+	/**
+	 * Creates a {@link BinaryStorer.Creator} whose storers can store very large object graphs in parallel
+	 * (see {@link #Creator(BinaryChannelCountProvider, boolean, int)}) and/or with bounded memory.
+	 * <p>
+	 * With a positive streaming window, a storer whose target is a {@link PersistenceStreamingTarget} hands its
+	 * serialized data over to the target as a part of the store whenever it has reached the window's length.
+	 * The parts become effective atomically on commit, but the whole store never has to be held in memory.
+	 * Note that an embedded storage is occupied by a streamed store from its first part until it is committed,
+	 * so the thread using the storer must not issue any other storage request in the meantime. A storer that is
+	 * discarded without being committed or cleared aborts its stream once it is garbage collected.
+	 * Streaming takes precedence over parallel storing.
+	 * <p>
+	 * A streaming window of 0 disables streaming.
+	 * 
+	 * @param channelCountProvider the provider of the storage's channel count
+	 * @param switchByteOrder if the byte order of the persistent form has to be switched
+	 * @param storingParallelism the number of threads of the shared storing pool or 0.
+	 * @param storingStreamingWindow the length in bytes after which serialized data is streamed or 0.
+	 * @return a new {@link BinaryStorer.Creator}
+	 */
+	public static BinaryStorer.Creator Creator(
+		final BinaryChannelCountProvider channelCountProvider  ,
+		final boolean                    switchByteOrder       ,
+		final int                        storingParallelism    ,
+		final long                       storingStreamingWindow
+	)
+	{
+		return Creator(channelCountProvider, switchByteOrder, storingParallelism, storingStreamingWindow, null);
+	}
+	
+	/**
+	 * Creates a {@link BinaryStorer.Creator} whose storers can store in parallel and/or streamed
+	 * (see {@link #Creator(BinaryChannelCountProvider, boolean, int, long)}) and skip unchanged entities.
+	 * <p>
+	 * With a {@link BinaryFingerprintCache}, the serialized form of every entity is fingerprinted and compared
+	 * to the fingerprint of its last committed state. Unchanged entities are not stored again, which makes
+	 * eager or deep stores of large, mostly unchanged graphs cheap in IO. The cache is shared by all storers
+	 * created by the returned creator, their commits are serialized on it.<br>
+	 * Like lazy storing, this assumes that the committed state of an entity is the persisted one, so the cache
+	 * must not be shared among different storages.
+	 * <p>
+	 * A {@literal null} fingerprint cache disables change detection.
+	 * 
+	 * @param channelCountProvider the provider of the storage's channel count
+	 * @param switchByteOrder if the byte order of the persistent form has to be switched
+	 * @param storingParallelism the number of threads of the shared storing pool or 0.
+	 * @param storingStreamingWindow the length in bytes after which serialized data is streamed or 0.
+	 * @param fingerprintCache the cache of the fingerprints of stored entities or {@literal null}.
+	 * @return a new {@link BinaryStorer.Creator}
+	 */
+	public static BinaryStorer.Creator Creator(
+		final BinaryChannelCountProvider channelCountProvider  ,
+		final boolean                    switchByteOrder       ,
+		final int                        storingParallelism    ,
+		final long                       storingStreamingWindow,
+		final BinaryFingerprintCache     fingerprintCache
+	)
+	{
+		return Creator(
+			channelCountProvider,
+			switchByteOrder,
+			XMath.notNegative(storingParallelism) > 0
+				? BinaryStoringPool.New(storingParallelism)
+				: null,
+			storingStreamingWindow,
+			fingerprintCache
+		);
+	}
+	
+	/**
+	 * Creates a {@link BinaryStorer.Creator} like
+	 * {@link #Creator(BinaryChannelCountProvider, boolean, int, long, BinaryFingerprintCache)}, but with an
+	 * explicitly passed {@link BinaryStoringPool}, e.g. one with named threads that is shut down together
+	 * with the storage.
+	 * <p>
+	 * A {@literal null} storing pool disables parallel storing.
+	 * 
+	 * @param channelCountProvider the provider of the storage's channel count
+	 * @param switchByteOrder if the byte order of the persistent form has to be switched
+	 * @param storingPool the storing pool shared by all created storers or {@literal null}.
+	 * @param storingStreamingWindow the length in bytes after which serialized data is streamed or 0.
+	 * @param fingerprintCache the cache of the fingerprints of stored entities or {@literal null}.
+	 * @return a new {@link BinaryStorer.Creator}
+	 */
+	public static BinaryStorer.Creator Creator(
+		final BinaryChannelCountProvider channelCountProvider  ,
+		final boolean                    switchByteOrder       ,
+		final BinaryStoringPool          storingPool           ,
+		final long                       storingStreamingWindow,
+		final BinaryFingerprintCache     fingerprintCache
+	)
+	{
+		return new BinaryStorer.Creator.Default(
+			notNull(channelCountProvider),
+			        switchByteOrder      ,
+			mayNull(storingPool)         ,
+			XMath.notNegative(storingStreamingWindow),
+			mayNull(fingerprintCache)
 		);
 	}
 		
@@ -932,13 +1680,39 @@ public interface BinaryStorer extends PersistenceStorer
 		
 		public final class Default extends Abstract
 		{
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+			
+			private final BinaryStoringPool      storingPool           ;
+			private final long                   storingStreamingWindow;
+			private final BinaryFingerprintCache fingerprintCache      ;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+			
 			Default(
-				final BinaryChannelCountProvider channelCountProvider,
-				final boolean                    switchByteOrder
+				final BinaryChannelCountProvider channelCountProvider  ,
+				final boolean                    switchByteOrder       ,
+				final BinaryStoringPool          storingPool           ,
+				final long                       storingStreamingWindow,
+				final BinaryFingerprintCache     fingerprintCache
 			)
 			{
 				super(channelCountProvider, switchByteOrder);
+				this.storingPool            = storingPool           ;
+				this.storingStreamingWindow = storingStreamingWindow;
+				this.fingerprintCache       = fingerprintCache      ;
 			}
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
 
 			@Override
 			public final BinaryStorer createLazyStorer(
@@ -958,7 +1732,10 @@ public interface BinaryStorer extends PersistenceStorer
 					target                ,
 					bufferSizeProvider    ,
 					this.channelCount()   ,
-					this.switchByteOrder()
+					this.switchByteOrder(),
+					this.storingPool      ,
+					this.storingStreamingWindow,
+					this.fingerprintCache
 				);
 				objectManager.registerLocalRegistry(storer);
 				
@@ -982,7 +1759,10 @@ public interface BinaryStorer extends PersistenceStorer
 					target                ,
 					bufferSizeProvider    ,
 					this.channelCount()   ,
-					this.switchByteOrder()
+					this.switchByteOrder(),
+					this.storingPool      ,
+					this.storingStreamingWindow,
+					this.fingerprintCache
 				);
 				objectManager.registerLocalRegistry(storer);
 				
@@ -0,0 +1,159 @@
+package one.microstream.persistence.binary.types;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinPool.ForkJoinWorkerThreadFactory;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The pool of threads that storers use to store very large object graphs in parallel,
+ * see {@link BinaryStorer#Creator(BinaryChannelCountProvider, boolean, BinaryStoringPool, long, BinaryFingerprintCache)}.
+ * <p>
+ * The actual {@link ForkJoinPool} is created on first use. It can be shut down together with the storage it is
+ * used for and is created anew if it is used again afterwards, e.g. after a restart of the storage.
+ */
+public interface BinaryStoringPool
+{
+	public int parallelism();
+	
+	/**
+	 * Returns the current pool, creating it if necessary.
+	 * 
+	 * @return the current pool.
+	 */
+	public ForkJoinPool pool();
+	
+	/**
+	 * Shuts down the current pool, if any. Tasks that have already been submitted are still executed.
+	 */
+	public void shutdown();
+	
+	
+	
+	public static String defaultPoolName()
+	{
+		return BinaryStorer.class.getSimpleName();
+	}
+	
+	public static BinaryStoringPool New(final int parallelism)
+	{
+		return New(parallelism, Default.threadFactory(defaultPoolName()));
+	}
+	
+	public static BinaryStoringPool New(
+		final int                         parallelism  ,
+		final ForkJoinWorkerThreadFactory threadFactory
+	)
+	{
+		return new BinaryStoringPool.Default(
+			positive(parallelism),
+			notNull(threadFactory)
+		);
+	}
+	
+	public final class Default implements BinaryStoringPool
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// static methods //
+		///////////////////
+		
+		static ForkJoinWorkerThreadFactory threadFactory(final String poolName)
+		{
+			// the pool index of a worker thread is only assigned once it runs, so it can't be used for naming.
+			final AtomicInteger threadNumber = new AtomicInteger();
+			
+			return pool ->
+			{
+				// pool worker threads are daemon threads by default.
+				final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+				thread.setName(poolName + "-" + threadNumber.getAndIncrement());
+				
+				return thread;
+			};
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final int                         parallelism  ;
+		private final ForkJoinWorkerThreadFactory threadFactory;
+		private       ForkJoinPool                pool         ;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(
+			final int                         parallelism  ,
+			final ForkJoinWorkerThreadFactory threadFactory
+		)
+		{
+			super();
+			this.parallelism   = parallelism  ;
+			this.threadFactory = threadFactory;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public final int parallelism()
+		{
+			return this.parallelism;
+		}
+		
+		@Override
+		public final synchronized ForkJoinPool pool()
+		{
+			if(this.pool == null)
+			{
+				this.pool = new ForkJoinPool(this.parallelism, this.threadFactory, null, false);
+			}
+			
+			return this.pool;
+		}
+		
+		@Override
+		public final synchronized void shutdown()
+		{
+			if(this.pool != null)
+			{
+				this.pool.shutdown();
+				this.pool = null;
+			}
+		}
+		
+	}
+	
+}
@@ -73,6 +73,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 	private long         currentAddress           ;
 	private long         currentBound             ;
 	private long         totalLength              ;
+	private long         lastEntityAddress        ;
 
 
 
@@ -115,6 +116,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 	{
 		this.currentBufferStartAddress = XMemory.getDirectByteBufferAddress(this.currentBuffer = byteBuffer);
 		this.currentBound = (this.currentAddress = this.currentBufferStartAddress) + byteBuffer.capacity();
+		this.lastEntityAddress = 0L;
 		byteBuffer.clear();
 	}
 	
@@ -210,6 +212,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		this.ensureFreeStoreCapacity(length);
 		XMemory.copyRange(address, this.currentAddress, length);
 		this.currentAddress += length;
+		this.lastEntityAddress = 0L;
 	}
 
 	@Override
@@ -232,6 +235,7 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		this.ensureFreeStoreCapacity(entityTotalLength);
 		
 		this.storeEntityHeaderToAddress(this.currentAddress, entityTotalLength, entityTypeId, entityObjectId);
+		this.lastEntityAddress = this.currentAddress;
 				
 		// currentAddress is advanced to next entity, but this entity's content address has to be returned
 		this.address = (this.currentAddress += entityTotalLength) - entityContentLength;
@@ -265,10 +269,89 @@ public class ChunksBuffer extends Binary implements MemoryRangeReader
 		this.currentAddress            =   0L;
 		this.address                   =   0L;
 		this.currentBound              =   0L;
+		this.lastEntityAddress         =   0L;
 		
 		return this;
 	}
 	
+	/**
+	 * Appends the buffers of the passed completed instance to this completed instance, e.g. to merge chunks
+	 * that have been filled concurrently. The buffers are taken over, so the passed instance may not be
+	 * used any more afterwards.
+	 *
+	 * @param other the completed chunks to be appended.
+	 * @return this
+	 */
+	final ChunksBuffer appendCompleted(final ChunksBuffer other)
+	{
+		if(this.currentBuffer != null || other.currentBuffer != null)
+		{
+			throw new IllegalStateException("Cannot append incomplete chunks");
+		}
+
+		for(int i = 0; i <= other.currentBuffersIndex; i++)
+		{
+			// empty buffers (e.g. of channels that received no entities) are not worth appending
+			if(other.buffers[i].hasRemaining())
+			{
+				this.incrementBuffersCount();
+				this.buffers[this.currentBuffersIndex] = other.buffers[i];
+			}
+		}
+		this.totalLength += other.totalLength;
+
+		return this;
+	}
+
+	/**
+	 * Calculates the {@link BinaryFingerprintCache#fingerprint(long, long)} of the entity stored last,
+	 * if it is still the last data in this instance.
+	 * 
+	 * @return the fingerprint or 0 if there is no such entity.
+	 */
+	final long fingerprintLastEntity()
+	{
+		return this.lastEntityAddress == 0
+			? 0L
+			: BinaryFingerprintCache.fingerprint(this.lastEntityAddress, this.currentAddress)
+		;
+	}
+	
+	/**
+	 * Removes the entity stored last, e.g. because it has not changed and does not need to be stored again.
+	 */
+	final void removeLastEntity()
+	{
+		if(this.lastEntityAddress == 0)
+		{
+			throw new IllegalStateException("No last entity to be removed.");
+		}
+		this.currentAddress    = this.lastEntityAddress;
+		this.lastEntityAddress = 0L;
+	}
+	
+	/**
+	 * Keeps the entity stored last, so that it cannot be fingerprinted or removed anymore.
+	 */
+	final void keepLastEntity()
+	{
+		this.lastEntityAddress = 0L;
+	}
+	
+	/**
+	 * The length of all data contained in this instance, including that of the current buffer if it is
+	 * not completed yet.
+	 * 
+	 * @return the length of all contained data.
+	 */
+	final long currentLength()
+	{
+		return this.currentBuffer == null
+			? this.totalLength
+			: this.totalLength + this.currentAddress - this.currentBufferStartAddress
+		;
+	}
+
 	private void iterateEntityDataLocal(final BinaryEntityDataReader reader)
 	{
 		if(this.currentBuffer != null)
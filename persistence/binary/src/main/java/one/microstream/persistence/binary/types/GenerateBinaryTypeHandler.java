@@ -0,0 +1,52 @@
+package one.microstream.persistence.binary.types;
+
+/*-
+ * #%L
+ * microstream-persistence-binary
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+
+/**
+ * Marker annotation for classes for which the type handler annotation processor should generate a
+ * non-reflective binary type handler.
+ * <p>
+ * The generated handler is named "BinaryHandler" plus the class' simple name and is placed in the class' package.
+ * It persists exactly the fields the generic, reflection-based handler would persist, in the same order and with
+ * the same type definition, so it can replace the generic handler for existing data. Instead of iterating
+ * field descriptors, it stores, loads and iterates the fields in straight-line code.
+ * <p>
+ * Like every custom type handler, it must be registered, either via
+ * {@link one.microstream.persistence.types.PersistenceFoundation#registerCustomTypeHandler(one.microstream.persistence.types.PersistenceTypeHandler)}
+ * or by a static method in the annotated class returning the handler's {@code New()} instance.
+ * <p>
+ * Note that the generated handler does not consult a configured
+ * {@link one.microstream.persistence.types.PersistenceEagerStoringFieldEvaluator}
+ * or {@link one.microstream.persistence.types.PersistenceFieldEvaluator}: all non-static, non-transient
+ * fields are persisted, references are stored lazily.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.CLASS)
+public @interface GenerateBinaryTypeHandler
+{
+	// Marker annotation
+}
@@ -25,6 +25,8 @@ import static one.microstream.X.KeyValue;
 import java.lang.ref.Reference;
 import java.lang.ref.ReferenceQueue;
 import java.lang.ref.WeakReference;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadLocalRandom;
 
 import org.slf4j.Logger;
 
@@ -68,14 +70,17 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 	 * 2.00f: 52/ 88 bytes per entry,  80% performance.
 	 */
 
-	/* (27.11.2018 TM)TODO: ObjectRegistry housekeeping thread
-	 * - tryCleanUp() method to random-sample-check for trimmable buckets arrays (empty buckets and/or orphans)
-	 * - thread with weak back-reference to this registry to make it stop automatically.
-	 * - "lastRegister" timestamp to not interrupt registering-heavy phases.
-	 * - some special methods like ensureCapacity must set the timestamp, too, to avoid counterproductive behavior.
-	 * - the usual config values for check intervals, sample size, etc.
-	 * - start() and stop() method in the registry for explicit control.
-	 * - a size increase ensures the thread is running, any clear/truncate terminates it.
+	/* Notes on housekeeping:
+	 * Orphaned entries are normally only removed in #cleanUp, which is called after storing, so after large
+	 * transient loads without subsequent storing, the registry can stay huge.
+	 * The optional housekeeping (see #startHousekeeping) closes that gap:
+	 * - #tryCleanUp removes a limited number of orphans per call (from the reference queue and from a randomly
+	 *   chosen range of buckets) and shrinks the hash tables if possible.
+	 * - a daemon thread with a weak back-reference to the registry calls it periodically and terminates
+	 *   automatically if the registry is no longer used.
+	 * - registering-heavy phases (and #ensureCapacity calls) are detected via the registration count and skip
+	 *   housekeeping to avoid counterproductive shrinking.
+	 * - while enabled, a size increase ensures the thread is running, any clear/truncate terminates it.
 	 */
 
 	///////////////////////////////////////////////////////////////////////////
@@ -87,6 +92,16 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return 1.0f;
 	}
 	
+	public static final long defaultHousekeepingIntervalMs()
+	{
+		return 1_000;
+	}
+	
+	public static final int defaultHousekeepingSampleSize()
+	{
+		return 10_000;
+	}
+	
 	
 
 	///////////////////////////////////////////////////////////////////////////
@@ -123,12 +138,12 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return System.identityHashCode(object);
 	}
 	
-	private static Entry[] createHashTable(final int hashLength)
+	static Entry[] createHashTable(final int hashLength)
 	{
 		return new Entry[hashLength];
 	}
 
-	private static int calculateRequiredHashLength(final long minimumCapacity, final float hashDensity)
+	static int calculateRequiredHashLength(final long minimumCapacity, final float hashDensity)
 	{
 		return XHashing.padHashLength((long)(minimumCapacity / hashDensity));
 	}
@@ -206,6 +221,16 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 	private long[]                    constantsColdStorageObjectIds;
 
 	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	
+	// housekeeping
+	private long          housekeepingIntervalMs    = defaultHousekeepingIntervalMs();
+	private int           housekeepingSampleSize    = defaultHousekeepingSampleSize();
+	private ThreadFactory housekeepingThreadFactory ; // null for the default daemon thread.
+	private boolean       housekeepingEnabled       ;
+	private Housekeeper   housekeeper               ; // the current housekeeping task, null if not running.
+	private long          registrationCount         ; // total count of registrations to detect registering-heavy phases.
+	private long          housekeptRegistrations    ; // registration count at the time of the last housekeeping check.
+	private long          reclaimedCount            ; // total count of entries reclaimed by housekeeping.
 
 	///////////////////////////////////////////////////////////////////////////
 	// constructors //
@@ -413,6 +438,10 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 			 * Instead, the actual hash length is checked to determine if the tables really are too small.
 			 */
 			validateCapacity(desiredCapacity);
+			
+			// the desired capacity announces that many registrations, so housekeeping must not shrink in between.
+			this.registrationCount += desiredCapacity;
+			
 			final int requiredHashLength = calculateRequiredHashLength(desiredCapacity, this.hashDensity);
 			if(requiredHashLength > this.synchHashLength())
 			{
@@ -647,6 +676,12 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		{
 			this.synchIncreaseStorage();
 		}
+		
+		if(this.housekeepingEnabled && this.housekeeper == null)
+		{
+			this.synchStartHousekeeper();
+		}
+		this.registrationCount++;
 	}
 	
 	private boolean synchAddCheck(final long objectId, final Object object)
@@ -705,18 +740,22 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return false;
 	}
 	
-	private void synchRemoveEntry(final Entry entry)
+	private boolean synchRemoveEntry(final Entry entry)
 	{
 		logger.debug("remove entry {}", entry.objectId);
 		final boolean removeOid = removeFromOidTable(this.oidHashTable, (int)entry.objectId & this.hashRange, entry);
 		final boolean removeRef = removeFromRefTable(this.refHashTable,      entry.refHash  & this.hashRange, entry);
-		if(removeOid || removeRef)
+		
+		// the primary branch (per objectIds) determines the size, just like in #synchConsolidate.
+		if(removeOid)
 		{
 			this.size--;
 		}
+		
+		return removeOid || removeRef;
 	}
 	
-	private static boolean removeFromOidTable(final Entry[] table, final int index, final Entry entry)
+	static boolean removeFromOidTable(final Entry[] table, final int index, final Entry entry)
 	{
 		for(Entry e = table[index], last = null; e != null; e = (last = e).oidNext)
 		{
@@ -736,7 +775,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return false;
 	}
 	
-	private static boolean removeFromRefTable(final Entry[] table, final int index, final Entry entry)
+	static boolean removeFromRefTable(final Entry[] table, final int index, final Entry entry)
 	{
 		for(Entry e = table[index], last = null; e != null; e = (last = e).refNext)
 		{
@@ -814,7 +853,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return this.checkForDecrease();
 	}
 	
-	private static int consolidateOidHashChain(final Entry[] oidHashTable, final int h)
+	static int consolidateOidHashChain(final Entry[] oidHashTable, final int h)
 	{
 		int orphanCount = 0;
 		for(Entry e = oidHashTable[h], lastProper = null; e != null; e = e.oidNext)
@@ -841,7 +880,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return orphanCount;
 	}
 	
-	private static void consolidateRefHashChain(final Entry[] refHashTable, final int h)
+	static void consolidateRefHashChain(final Entry[] refHashTable, final int h)
 	{
 		for(Entry e = refHashTable[h], lastProper = null; e != null; e = e.refNext)
 		{
@@ -976,6 +1015,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 			this.synchEnsureConstantsColdStorage();
 			this.synchClear();
 			this.synchReregisterConstants();
+			this.synchStopHousekeeper();
 		}
 	}
 	
@@ -985,6 +1025,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		synchronized(this.mutex)
 		{
 			this.synchClear();
+			this.synchStopHousekeeper();
 		}
 	}
 
@@ -1010,6 +1051,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 			this.synchEnsureConstantsColdStorage();
 			this.synchReset(Math.max(this.constantsColdStorageObjects.length, this.minCapacity));
 			this.synchReregisterConstants();
+			this.synchStopHousekeeper();
 		}
 	}
 	
@@ -1020,6 +1062,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		{
 			// hash table reset, no constants reregistering.
 			this.synchReset();
+			this.synchStopHousekeeper();
 		}
 	}
 	
@@ -1184,7 +1227,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		);
 	}
 	
-	private static Long countOidChainLength(final Entry firstEntry)
+	static Long countOidChainLength(final Entry firstEntry)
 	{
 		long count = 0;
 		for(Entry e = firstEntry; e != null; e = e.oidNext)
@@ -1198,7 +1241,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return count;
 	}
 	
-	private static Long countRefChainLength(final Entry firstEntry)
+	static Long countRefChainLength(final Entry firstEntry)
 	{
 		long count = 0;
 		for(Entry e = firstEntry; e != null; e = e.refNext)
@@ -1212,7 +1255,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		return count;
 	}
 	
-	private static void registerDistribution(
+	static void registerDistribution(
 		final EqHashTable<Long, Long> distributionTable,
 		final Long                    bucketLength
 	)
@@ -1229,7 +1272,7 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 		}
 	}
 	
-	private static void complete(final EqHashTable<Long, Long> distributionTable)
+	static void complete(final EqHashTable<Long, Long> distributionTable)
 	{
 		distributionTable.keys().sort(XSort::compare);
 		final Long highest = distributionTable.last().key();
@@ -1261,11 +1304,314 @@ public final class DefaultObjectRegistry implements PersistenceObjectRegistry
 			this.checkForDecrease();
 		}
 	}
+	
+	// housekeeping //
+	
+	public final long housekeepingIntervalMs()
+	{
+		synchronized(this.mutex)
+		{
+			return this.housekeepingIntervalMs;
+		}
+	}
+	
+	public final int housekeepingSampleSize()
+	{
+		synchronized(this.mutex)
+		{
+			return this.housekeepingSampleSize;
+		}
+	}
+	
+	/**
+	 * @return the total number of orphaned entries reclaimed by {@link #tryCleanUp(int)}, including the
+	 *         calls of the housekeeping thread.
+	 */
+	public final long reclaimedCount()
+	{
+		synchronized(this.mutex)
+		{
+			return this.reclaimedCount;
+		}
+	}
+	
+	/**
+	 * Sets the configuration for the housekeeping, which is applied beginning with the next housekeeping cycle.
+	 * 
+	 * @param intervalMs the time in milliseconds to wait between two housekeeping cycles.
+	 * @param sampleSize the maximum number of orphans and buckets to be processed in one housekeeping cycle.
+	 * @return this
+	 */
+	public final DefaultObjectRegistry setHousekeepingConfiguration(
+		final long intervalMs,
+		final int  sampleSize
+	)
+	{
+		synchronized(this.mutex)
+		{
+			// both values are checked before modifying any state
+			XMath.positive(intervalMs);
+			XMath.positive(sampleSize);
+			
+			this.housekeepingIntervalMs = intervalMs;
+			this.housekeepingSampleSize = sampleSize;
+			
+			return this;
+		}
+	}
+	
+	/**
+	 * Sets the {@link ThreadFactory} used to create the housekeeping thread, e.g. to integrate the thread
+	 * into the thread management of a surrounding system. The factory is used beginning with the next start
+	 * of the housekeeping thread. Passing {@literal null} restores the default, a daemon thread named after
+	 * this registry.
+	 * 
+	 * @param threadFactory the thread factory to be used or {@literal null}.
+	 * @return this
+	 */
+	public final DefaultObjectRegistry setHousekeepingThreadFactory(final ThreadFactory threadFactory)
+	{
+		synchronized(this.mutex)
+		{
+			this.housekeepingThreadFactory = threadFactory;
+			
+			return this;
+		}
+	}
+	
+	public final boolean isHousekeepingEnabled()
+	{
+		synchronized(this.mutex)
+		{
+			return this.housekeepingEnabled;
+		}
+	}
+	
+	public final boolean isHousekeepingRunning()
+	{
+		synchronized(this.mutex)
+		{
+			return this.housekeeper != null;
+		}
+	}
+	
+	/**
+	 * Enables the housekeeping, which periodically removes orphaned entries and shrinks the hash tables
+	 * in a background thread, see {@link #tryCleanUp(int)}.
+	 * <p>
+	 * The thread is only running while there are entries to be housekept: clearing or truncating the registry
+	 * terminates it, the next registration starts it again. It terminates automatically as well if this registry
+	 * instance is no longer in use.
+	 * 
+	 * @return this
+	 */
+	public final DefaultObjectRegistry startHousekeeping()
+	{
+		synchronized(this.mutex)
+		{
+			this.housekeepingEnabled = true;
+			if(this.housekeeper == null && this.size > 0)
+			{
+				this.synchStartHousekeeper();
+			}
+			
+			return this;
+		}
+	}
+	
+	public final DefaultObjectRegistry stopHousekeeping()
+	{
+		synchronized(this.mutex)
+		{
+			this.housekeepingEnabled = false;
+			this.synchStopHousekeeper();
+			
+			return this;
+		}
+	}
+	
+	private void synchStartHousekeeper()
+	{
+		final Housekeeper housekeeper = new Housekeeper(new WeakReference<>(this));
+		final Thread      thread      = this.createHousekeepingThread(housekeeper);
+		housekeeper.thread = thread;
+		
+		this.housekeeper            = housekeeper;
+		this.housekeptRegistrations = this.registrationCount;
+		thread.start();
+	}
+	
+	private Thread createHousekeepingThread(final Housekeeper housekeeper)
+	{
+		if(this.housekeepingThreadFactory != null)
+		{
+			return this.housekeepingThreadFactory.newThread(housekeeper);
+		}
+		
+		final Thread thread = new Thread(
+			housekeeper,
+			DefaultObjectRegistry.class.getSimpleName() + "-Housekeeper@" + System.identityHashCode(this)
+		);
+		thread.setDaemon(true);
+		
+		return thread;
+	}
+	
+	private void synchStopHousekeeper()
+	{
+		if(this.housekeeper == null)
+		{
+			return;
+		}
+		
+		// the thread recognizes that it is no longer the current housekeeper and terminates.
+		final Housekeeper housekeeper = this.housekeeper;
+		this.housekeeper = null;
+		housekeeper.thread.interrupt();
+	}
+	
+	/**
+	 * Tries to remove up to {@literal sampleSize} orphaned entries, i.e. entries whose object has been
+	 * collected by the GC, and shrinks the hash tables if possible.
+	 * <p>
+	 * Orphans are taken from the reference queue and additionally searched for in a randomly chosen range
+	 * of {@literal sampleSize} buckets. If more than {@literal sampleSize} objects have been registered since the
+	 * last call, nothing is done as there is a registering-heavy phase going on that shrinking
+	 * would only interfere with.
+	 * 
+	 * @param sampleSize the maximum number of orphans and buckets to be processed.
+	 * @return the number of reclaimed entries.
+	 */
+	public final long tryCleanUp(final int sampleSize)
+	{
+		synchronized(this.mutex)
+		{
+			return this.synchTryCleanUp(XMath.positive(sampleSize));
+		}
+	}
+	
+	private long synchTryCleanUp(final int sampleSize)
+	{
+		final long registrations = this.registrationCount - this.housekeptRegistrations;
+		this.housekeptRegistrations = this.registrationCount;
+		if(registrations > sampleSize)
+		{
+			logger.debug("Skipped housekeeping due to {} recent registrations", registrations);
+			return 0;
+		}
+		
+		final long initialSize = this.size;
+		
+		// entries already known to be orphans come first
+		int removed = 0;
+		for(Reference<? extends Object> e; removed < sampleSize && (e = this.queue.poll()) != null;)
+		{
+			if(this.synchRemoveEntry((Entry)e))
+			{
+				removed++;
+			}
+		}
+		
+		// orphans still pending in the queue in a random range of buckets. Each removed entry is still enqueued later.
+		final Entry[] oidHashTable = this.oidHashTable;
+		final int     sampleRange  = Math.min(sampleSize, oidHashTable.length);
+		final int     start        = ThreadLocalRandom.current().nextInt(oidHashTable.length);
+		for(int i = 0; i < sampleRange; i++)
+		{
+			for(Entry e = oidHashTable[start + i & this.hashRange], next; e != null; e = next)
+			{
+				next = e.oidNext;
+				if(e.get() == null && this.synchRemoveEntry(e))
+				{
+					removed++;
+				}
+			}
+		}
+		
+		if(removed == 0)
+		{
+			return 0;
+		}
+		
+		// shrinking rebuilds the hash tables, which discards all remaining orphans as well.
+		this.checkForDecrease();
+		
+		final long reclaimed = initialSize - this.size;
+		this.reclaimedCount += reclaimed;
+		logger.debug("Housekeeping reclaimed {} entries, new size: {}", reclaimed, this.size);
+		
+		return reclaimed;
+	}
+	
+	final long housekeep(final Housekeeper housekeeper)
+	{
+		synchronized(this.mutex)
+		{
+			if(this.housekeeper != housekeeper)
+			{
+				// this thread has been stopped (and maybe replaced in the meantime)
+				return -1;
+			}
+			this.synchTryCleanUp(this.housekeepingSampleSize);
+			
+			return this.housekeepingIntervalMs;
+		}
+	}
 
 	///////////////////////////////////////////////////////////////////////////
 	// member types //
 	/////////////////
 
+	static final class Housekeeper implements Runnable
+	{
+		// weak reference for automatic thread termination
+		private final WeakReference<DefaultObjectRegistry> parent;
+		
+		// the thread executing this task, set before the thread is started.
+		Thread thread;
+		
+		Housekeeper(final WeakReference<DefaultObjectRegistry> parent)
+		{
+			super();
+			this.parent = parent;
+		}
+		
+		@Override
+		public void run()
+		{
+			logger.debug("{} started", Thread.currentThread().getName());
+			
+			DefaultObjectRegistry parent;
+			while((parent = this.parent.get()) != null)
+			{
+				try
+				{
+					final long intervalMs = parent.housekeep(this);
+					if(intervalMs < 0)
+					{
+						break;
+					}
+					
+					// must clear the reference from the stack in order for the WeakReference to work
+					parent = null;
+					Thread.sleep(intervalMs);
+				}
+				catch(final InterruptedException e)
+				{
+					// interrupted by stopping, the next housekeeping call recognizes that
+				}
+				catch(final Exception e)
+				{
+					// thread may not die on any exception, just continue looping as long as the parent needs it.
+					logger.error("Object registry housekeeping failed", e);
+				}
+			}
+			
+			logger.debug("{} stopped", Thread.currentThread().getName());
+		}
+		
+	}
+	
 	static final class Entry extends WeakReference<Object>
 	{
 		final long objectId;
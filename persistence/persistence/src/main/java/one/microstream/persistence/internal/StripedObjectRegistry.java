@@ -0,0 +1,1253 @@
+package one.microstream.persistence.internal;
+
+/*-
+ * #%L
+ * microstream-persistence
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ *
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.KeyValue;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.StampedLock;
+
+import org.slf4j.Logger;
+
+import one.microstream.collections.EqHashTable;
+import one.microstream.collections.Set_long;
+import one.microstream.collections.types.XGettingTable;
+import one.microstream.hashing.HashStatisticsBucketBased;
+import one.microstream.hashing.XHashing;
+import one.microstream.math.XMath;
+import one.microstream.persistence.exceptions.PersistenceExceptionConsistency;
+import one.microstream.persistence.exceptions.PersistenceExceptionConsistencyObject;
+import one.microstream.persistence.exceptions.PersistenceExceptionConsistencyObjectId;
+import one.microstream.persistence.exceptions.PersistenceExceptionImproperObjectId;
+import one.microstream.persistence.internal.DefaultObjectRegistry.Entry;
+import one.microstream.persistence.types.ObjectIdsProcessor;
+import one.microstream.persistence.types.PersistenceAcceptor;
+import one.microstream.persistence.types.PersistenceObjectRegistry;
+import one.microstream.reference.Swizzling;
+import one.microstream.typing.KeyValue;
+import one.microstream.util.logging.Logging;
+
+/**
+ * A {@link PersistenceObjectRegistry} implementation for highly concurrent applications.
+ * <p>
+ * In contrast to {@link DefaultObjectRegistry}, which guards all accesses with a single mutex, the entries
+ * are distributed over a fixed number of stripes, each with its own pair of hash tables and its own lock.
+ * An entry is located in the objectId hash table of the stripe selected by its objectId and in the
+ * object hash table of the stripe selected by its object's identity hash code.
+ * <p>
+ * Lookups are lock-free in the common case: they traverse a stripe's hash chain optimistically and only fall
+ * back to a read lock if the stripe has been modified concurrently. Registrations lock the (at most two)
+ * affected stripes in a fixed order.
+ * <p>
+ * Orphaned entries (entries whose object has been collected) are skipped by all lookups and removed
+ * via the reference queue in {@link #cleanUp()} as well as when a stripe's hash table gets rebuilt or consolidated,
+ * but never in the course of a registration, so registering never has to lock a third stripe.
+ * <p>
+ * The entries are the same as those of {@link DefaultObjectRegistry}, so the memory consumption per entry is
+ * the same as well.
+ * <p>
+ * To use it, set it via {@link one.microstream.persistence.types.PersistenceFoundation#setObjectRegistry}, e.g.
+ * <pre>
+ * foundation.setObjectRegistry(Persistence.registerJavaConstants(StripedObjectRegistry.New()));
+ * </pre>
+ */
+public final class StripedObjectRegistry implements PersistenceObjectRegistry
+{
+	///////////////////////////////////////////////////////////////////////////
+	// constants //
+	//////////////
+	
+	public static final float defaultHashDensity()
+	{
+		return DefaultObjectRegistry.defaultHashDensity();
+	}
+	
+	public static final int defaultStripeCount()
+	{
+		// a multiple of the available processors to make two threads hitting the same stripe unlikely.
+		return XHashing.padHashLength(Runtime.getRuntime().availableProcessors() * 4L);
+	}
+	
+	public static final int maximumStripeCount()
+	{
+		// the stripe bits are taken from the hash values, so they must not be "used up" by striping.
+		return 1 << 10;
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// static methods //
+	///////////////////
+	
+	public static final boolean isValidStripeCount(final int stripeCount)
+	{
+		return stripeCount > 0
+			&& stripeCount <= maximumStripeCount()
+			&& XMath.isPow2(stripeCount)
+		;
+	}
+	
+	public static final int validateStripeCount(final int stripeCount)
+	{
+		if(!isValidStripeCount(stripeCount))
+		{
+			throw new IllegalArgumentException(
+				"Stripe count must be a power of 2 in the range [1; " + maximumStripeCount() + "]: " + stripeCount
+			);
+		}
+		
+		return stripeCount;
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// static constructors //
+	////////////////////////
+	
+	public static StripedObjectRegistry New()
+	{
+		return New(defaultStripeCount());
+	}
+	
+	public static StripedObjectRegistry New(final int stripeCount)
+	{
+		return New(defaultHashDensity(), 1, stripeCount);
+	}
+	
+	/**
+	 * @param hashDensity reasonable values are within [0.75; 2.00].
+	 * @param minimumCapacity the initial minimum capacity
+	 * @param stripeCount the number of independently locked stripes, must be a power of 2.
+	 * @return the newly created {@link StripedObjectRegistry}
+	 */
+	public static StripedObjectRegistry New(
+		final float hashDensity    ,
+		final long  minimumCapacity,
+		final int   stripeCount
+	)
+	{
+		return new StripedObjectRegistry(
+			DefaultObjectRegistry.validateHashDensity(hashDensity),
+			DefaultObjectRegistry.validateCapacity(minimumCapacity),
+			validateStripeCount(stripeCount)
+		);
+	}
+	
+	
+	private final static Logger logger = Logging.getLogger(StripedObjectRegistry.class);
+	
+	///////////////////////////////////////////////////////////////////////////
+	// instance fields //
+	////////////////////
+	
+	private final Stripe[] stripes    ;
+	private final int      stripeMask ;
+	private final int      stripeShift; // stripe bits to be skipped when calculating the hash index inside a stripe
+	
+	private volatile float hashDensity;
+	private volatile long  minCapacity;
+	
+	// constants are registered rarely, so a simple mutex suffices. Never held while locking any stripe.
+	private final Object                    constantsMutex = new Object();
+	private final EqHashTable<Long, Object> constants      = EqHashTable.New();
+	
+	private final ReferenceQueue<Object> queue = new ReferenceQueue<>();
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// constructors //
+	/////////////////
+	
+	StripedObjectRegistry(final float hashDensity, final long minimumCapacity, final int stripeCount)
+	{
+		super();
+		this.hashDensity = hashDensity;
+		this.minCapacity = minimumCapacity;
+		this.stripeMask  = stripeCount - 1;
+		this.stripeShift = Integer.numberOfTrailingZeros(stripeCount);
+		this.stripes     = new Stripe[stripeCount];
+		
+		for(int i = 0; i < stripeCount; i++)
+		{
+			this.stripes[i] = new Stripe(i);
+			this.stripes[i].reset(this.stripeMinimumCapacity(), hashDensity);
+		}
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// methods //
+	////////////
+	
+	/* note on locking:
+	 *
+	 * All Stripe methods require the caller to hold the stripe's lock, either a read lock or optimistic read
+	 * (for the querying methods) or the write lock (for the modifying methods).
+	 * Locking more than one stripe is always done in ascending stripe index order to avoid deadlocks.
+	 */
+	
+	private long stripeMinimumCapacity()
+	{
+		return Math.max(1, this.minCapacity / this.stripes.length);
+	}
+	
+	private Stripe oidStripe(final long objectId)
+	{
+		return this.stripes[(int)objectId & this.stripeMask];
+	}
+	
+	private Stripe refStripe(final int refHash)
+	{
+		return this.stripes[refHash & this.stripeMask];
+	}
+	
+	private static void lockWrite(final Stripe stripe1, final Stripe stripe2)
+	{
+		if(stripe1.index < stripe2.index)
+		{
+			stripe1.writeLock.lock();
+			stripe2.writeLock.lock();
+		}
+		else
+		{
+			stripe2.writeLock.lock();
+			if(stripe1 != stripe2)
+			{
+				stripe1.writeLock.lock();
+			}
+		}
+	}
+	
+	private static void unlockWrite(final Stripe stripe1, final Stripe stripe2)
+	{
+		stripe1.writeLock.unlock();
+		if(stripe1 != stripe2)
+		{
+			stripe2.writeLock.unlock();
+		}
+	}
+	
+	private static void lockRead(final Stripe stripe1, final Stripe stripe2)
+	{
+		if(stripe1.index < stripe2.index)
+		{
+			stripe1.readLock.lock();
+			stripe2.readLock.lock();
+		}
+		else
+		{
+			stripe2.readLock.lock();
+			if(stripe1 != stripe2)
+			{
+				stripe1.readLock.lock();
+			}
+		}
+	}
+	
+	private static void unlockRead(final Stripe stripe1, final Stripe stripe2)
+	{
+		stripe1.readLock.unlock();
+		if(stripe1 != stripe2)
+		{
+			stripe2.readLock.unlock();
+		}
+	}
+	
+	private void lockWriteAll()
+	{
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.writeLock.lock();
+		}
+	}
+	
+	private void unlockWriteAll()
+	{
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.writeLock.unlock();
+		}
+	}
+	
+	@Override
+	public final StripedObjectRegistry Clone()
+	{
+		return StripedObjectRegistry.New(this.hashDensity, this.minCapacity, this.stripes.length);
+	}
+	
+	public final int stripeCount()
+	{
+		return this.stripes.length;
+	}
+	
+	@Override
+	public final int hashRange()
+	{
+		int hashRange = 0;
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.readLock.lock();
+			try
+			{
+				hashRange += stripe.oidTable.length;
+			}
+			finally
+			{
+				stripe.readLock.unlock();
+			}
+		}
+		
+		return hashRange;
+	}
+	
+	@Override
+	public final float hashDensity()
+	{
+		return this.hashDensity;
+	}
+	
+	@Override
+	public final long minimumCapacity()
+	{
+		return this.minCapacity;
+	}
+	
+	@Override
+	public final long capacity()
+	{
+		long capacity = 0;
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.readLock.lock();
+			try
+			{
+				capacity = XMath.addCapped(capacity, stripe.oidCapacity);
+			}
+			finally
+			{
+				stripe.readLock.unlock();
+			}
+		}
+		
+		return capacity;
+	}
+	
+	@Override
+	public final long size()
+	{
+		long size = 0;
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.readLock.lock();
+			try
+			{
+				size += stripe.oidSize;
+			}
+			finally
+			{
+				stripe.readLock.unlock();
+			}
+		}
+		
+		return size;
+	}
+	
+	@Override
+	public final boolean isEmpty()
+	{
+		return this.size() == 0;
+	}
+	
+	@Override
+	public final boolean setHashDensity(final float hashDensity)
+	{
+		return this.setConfiguration(hashDensity, this.minCapacity);
+	}
+	
+	@Override
+	public final boolean setMinimumCapacity(final long minimumCapacity)
+	{
+		return this.setConfiguration(this.hashDensity, minimumCapacity);
+	}
+	
+	@Override
+	public final boolean setConfiguration(
+		final float hashDensity    ,
+		final long  minimumCapacity
+	)
+	{
+		// both values are checked before modifying any state
+		DefaultObjectRegistry.validateHashDensity(hashDensity);
+		DefaultObjectRegistry.validateCapacity(minimumCapacity);
+		
+		this.lockWriteAll();
+		try
+		{
+			this.hashDensity = hashDensity;
+			this.minCapacity = minimumCapacity;
+			
+			boolean rebuilt = false;
+			for(final Stripe stripe : this.stripes)
+			{
+				stripe.updateCapacities(hashDensity);
+				rebuilt |= stripe.ensureCapacity(this.stripeMinimumCapacity(), hashDensity, this.stripeShift);
+			}
+			
+			return rebuilt;
+		}
+		finally
+		{
+			this.unlockWriteAll();
+		}
+	}
+	
+	@Override
+	public final boolean ensureCapacity(final long desiredCapacity)
+	{
+		DefaultObjectRegistry.validateCapacity(desiredCapacity);
+		final long stripeCapacity = Math.max(1, desiredCapacity / this.stripes.length);
+		
+		boolean rebuilt = false;
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.writeLock.lock();
+			try
+			{
+				rebuilt |= stripe.ensureCapacity(stripeCapacity, this.hashDensity, this.stripeShift);
+			}
+			finally
+			{
+				stripe.writeLock.unlock();
+			}
+		}
+		
+		return rebuilt;
+	}
+	
+	@Override
+	public final boolean containsObjectId(final long objectId)
+	{
+		final Stripe stripe = this.oidStripe(objectId);
+		
+		final long stamp = stripe.lock.tryOptimisticRead();
+		if(stamp != 0)
+		{
+			final boolean result = stripe.containsObjectId(objectId, this.stripeShift, stamp);
+			if(stripe.lock.validate(stamp))
+			{
+				return result;
+			}
+		}
+		
+		stripe.readLock.lock();
+		try
+		{
+			return stripe.containsObjectId(objectId, this.stripeShift, Stripe.LOCKED);
+		}
+		finally
+		{
+			stripe.readLock.unlock();
+		}
+	}
+	
+	@Override
+	public final long lookupObjectId(final Object object)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		final int    refHash = DefaultObjectRegistry.hash(object);
+		final Stripe stripe  = this.refStripe(refHash);
+		
+		final long stamp = stripe.lock.tryOptimisticRead();
+		if(stamp != 0)
+		{
+			final long result = stripe.lookupObjectId(object, refHash, this.stripeShift, stamp);
+			if(stripe.lock.validate(stamp))
+			{
+				return result;
+			}
+		}
+		
+		stripe.readLock.lock();
+		try
+		{
+			return stripe.lookupObjectId(object, refHash, this.stripeShift, Stripe.LOCKED);
+		}
+		finally
+		{
+			stripe.readLock.unlock();
+		}
+	}
+	
+	@Override
+	public final Object lookupObject(final long objectId)
+	{
+		final Stripe stripe = this.oidStripe(objectId);
+		
+		final long stamp = stripe.lock.tryOptimisticRead();
+		if(stamp != 0)
+		{
+			final Object result = stripe.lookupObject(objectId, this.stripeShift, stamp);
+			if(stripe.lock.validate(stamp))
+			{
+				return result;
+			}
+		}
+		
+		stripe.readLock.lock();
+		try
+		{
+			return stripe.lookupObject(objectId, this.stripeShift, Stripe.LOCKED);
+		}
+		finally
+		{
+			stripe.readLock.unlock();
+		}
+	}
+	
+	@Override
+	public final boolean isValid(final long objectId, final Object object)
+	{
+		return this.internalValidate(objectId, object, false);
+	}
+	
+	@Override
+	public final void validate(final long objectId, final Object object)
+	{
+		this.internalValidate(objectId, object, true);
+	}
+	
+	private boolean internalValidate(final long objectId, final Object object, final boolean throwException)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+		
+		final int    refHash   = DefaultObjectRegistry.hash(object);
+		final Stripe oidStripe = this.oidStripe(objectId);
+		final Stripe refStripe = this.refStripe(refHash);
+		
+		lockRead(oidStripe, refStripe);
+		try
+		{
+			final long registeredObjectId = refStripe.lookupObjectId(object, refHash, this.stripeShift, Stripe.LOCKED);
+			if(registeredObjectId == objectId)
+			{
+				// already registered entry
+				return true;
+			}
+			
+			if(Swizzling.isNotFoundId(registeredObjectId))
+			{
+				final Object registeredObject = oidStripe.lookupObject(objectId, this.stripeShift, Stripe.LOCKED);
+				if(registeredObject == null)
+				{
+					// consistently not registered object
+					return true;
+				}
+				
+				if(!throwException)
+				{
+					return false;
+				}
+				if(registeredObject == object)
+				{
+					throw new PersistenceExceptionConsistency("Inconsistent object registry for objectId " + objectId);
+				}
+				throw new PersistenceExceptionConsistencyObject(objectId, registeredObject, object);
+			}
+			
+			if(!throwException)
+			{
+				return false;
+			}
+			throw new PersistenceExceptionConsistencyObjectId(object, registeredObjectId, objectId);
+		}
+		finally
+		{
+			unlockRead(oidStripe, refStripe);
+		}
+	}
+	
+	private static void validateRegistration(final long objectId, final Object object)
+	{
+		if(object == null)
+		{
+			throw new NullPointerException();
+		}
+		if(Swizzling.isNotProperId(objectId))
+		{
+			throw new PersistenceExceptionImproperObjectId();
+		}
+	}
+	
+	@Override
+	public final boolean registerObject(final long objectId, final Object object)
+	{
+		validateRegistration(objectId, object);
+		
+		final int    refHash   = DefaultObjectRegistry.hash(object);
+		final Stripe oidStripe = this.oidStripe(objectId);
+		final Stripe refStripe = this.refStripe(refHash);
+		
+		lockWrite(oidStripe, refStripe);
+		try
+		{
+			final Object registered = oidStripe.lookupObject(objectId, this.stripeShift, Stripe.LOCKED);
+			if(registered == object)
+			{
+				return false;
+			}
+			if(registered != null)
+			{
+				throw new PersistenceExceptionConsistencyObject(objectId, registered, object);
+			}
+			
+			this.putNewEntry(objectId, object, refHash, oidStripe, refStripe);
+			
+			return true;
+		}
+		finally
+		{
+			unlockWrite(oidStripe, refStripe);
+		}
+	}
+	
+	@Override
+	public final Object optionalRegisterObject(final long objectId, final Object object)
+	{
+		validateRegistration(objectId, object);
+		
+		final int    refHash   = DefaultObjectRegistry.hash(object);
+		final Stripe oidStripe = this.oidStripe(objectId);
+		final Stripe refStripe = this.refStripe(refHash);
+		
+		lockWrite(oidStripe, refStripe);
+		try
+		{
+			final Object registered = oidStripe.lookupObject(objectId, this.stripeShift, Stripe.LOCKED);
+			if(registered != null)
+			{
+				return registered;
+			}
+			
+			this.putNewEntry(objectId, object, refHash, oidStripe, refStripe);
+			
+			return object;
+		}
+		finally
+		{
+			unlockWrite(oidStripe, refStripe);
+		}
+	}
+	
+	private void putNewEntry(
+		final long   objectId ,
+		final Object object   ,
+		final int    refHash  ,
+		final Stripe oidStripe,
+		final Stripe refStripe
+	)
+	{
+		final long registeredObjectId = refStripe.lookupObjectId(object, refHash, this.stripeShift, Stripe.LOCKED);
+		if(Swizzling.isFoundId(registeredObjectId))
+		{
+			throw new PersistenceExceptionConsistencyObjectId(object, registeredObjectId, objectId);
+		}
+		
+		final Entry entry = new Entry(objectId, object, null, null, this.queue);
+		oidStripe.putOidEntry(entry, this.hashDensity, this.stripeShift);
+		refStripe.putRefEntry(entry, this.hashDensity, this.stripeShift);
+	}
+	
+	@Override
+	public final boolean registerConstant(final long objectId, final Object constant)
+	{
+		synchronized(this.constantsMutex)
+		{
+			if(!this.registerObject(objectId, constant))
+			{
+				return false;
+			}
+			this.constants.add(objectId, constant);
+			
+			return true;
+		}
+	}
+	
+	@Override
+	public final <A extends PersistenceAcceptor> A iterateEntries(final A acceptor)
+	{
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.readLock.lock();
+			try
+			{
+				stripe.iterateEntries(acceptor);
+			}
+			finally
+			{
+				stripe.readLock.unlock();
+			}
+		}
+		
+		return acceptor;
+	}
+	
+	// rebuilding and consolidation //
+	
+	@Override
+	public final boolean consolidate()
+	{
+		long    orphanCount = 0;
+		boolean rebuilt     = false;
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.writeLock.lock();
+			try
+			{
+				orphanCount += stripe.consolidate();
+				rebuilt |= stripe.checkForDecrease(this.stripeMinimumCapacity(), this.hashDensity, this.stripeShift);
+			}
+			finally
+			{
+				stripe.writeLock.unlock();
+			}
+		}
+		logger.debug("removed {} orphans", orphanCount);
+		
+		return rebuilt;
+	}
+	
+	// clearing //
+	
+	@Override
+	public final void clear()
+	{
+		synchronized(this.constantsMutex)
+		{
+			this.clearAll();
+			
+			for(final KeyValue<Long, Object> constant : this.constants)
+			{
+				// NOT registerConstant() at this point!
+				this.registerObject(constant.key(), constant.value());
+			}
+		}
+	}
+	
+	@Override
+	public final void clearAll()
+	{
+		this.lockWriteAll();
+		try
+		{
+			for(final Stripe stripe : this.stripes)
+			{
+				stripe.clear();
+			}
+		}
+		finally
+		{
+			this.unlockWriteAll();
+		}
+	}
+	
+	@Override
+	public final void truncate()
+	{
+		synchronized(this.constantsMutex)
+		{
+			this.truncateAll();
+			
+			for(final KeyValue<Long, Object> constant : this.constants)
+			{
+				this.registerObject(constant.key(), constant.value());
+			}
+		}
+	}
+	
+	@Override
+	public final void truncateAll()
+	{
+		this.lockWriteAll();
+		try
+		{
+			for(final Stripe stripe : this.stripes)
+			{
+				stripe.reset(this.stripeMinimumCapacity(), this.hashDensity);
+			}
+		}
+		finally
+		{
+			this.unlockWriteAll();
+		}
+	}
+	
+	@Override
+	public boolean processLiveObjectIds(final ObjectIdsProcessor processor)
+	{
+		// every single check locks (if at all) only the stripe it needs.
+		processor.processObjectIdsByFilter(this::containsObjectId);
+		
+		return true;
+	}
+	
+	@Override
+	public Set_long selectLiveObjectIds(final Set_long objectIdsBaseSet)
+	{
+		return objectIdsBaseSet.filter(this::containsObjectId);
+	}
+	
+	// HashStatistics //
+	
+	@Override
+	public final XGettingTable<String, HashStatisticsBucketBased> createHashStatistics()
+	{
+		final EqHashTable<Long, Long> oidDistribution = EqHashTable.New();
+		final EqHashTable<Long, Long> refDistribution = EqHashTable.New();
+		long hashLength = 0, size = 0;
+		
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.readLock.lock();
+			try
+			{
+				for(final Entry e : stripe.oidTable)
+				{
+					DefaultObjectRegistry.registerDistribution(oidDistribution, DefaultObjectRegistry.countOidChainLength(e));
+				}
+				for(final Entry e : stripe.refTable)
+				{
+					DefaultObjectRegistry.registerDistribution(refDistribution, DefaultObjectRegistry.countRefChainLength(e));
+				}
+				hashLength += stripe.oidTable.length;
+				size       += stripe.oidSize;
+			}
+			finally
+			{
+				stripe.readLock.unlock();
+			}
+		}
+		DefaultObjectRegistry.complete(oidDistribution);
+		DefaultObjectRegistry.complete(refDistribution);
+		
+		return EqHashTable.New(
+			KeyValue("PerObjectIds", HashStatisticsBucketBased.New(
+				hashLength, size, this.hashDensity, oidDistribution.keys().last(), oidDistribution
+			)),
+			KeyValue("PerObjects", HashStatisticsBucketBased.New(
+				hashLength, size, this.hashDensity, refDistribution.keys().last(), refDistribution
+			))
+		);
+	}
+	
+	@Override
+	public void cleanUp()
+	{
+		long counter = 0;
+		for(Reference<? extends Object> reference; (reference = this.queue.poll()) != null;)
+		{
+			final Entry  entry     = (Entry)reference;
+			final Stripe oidStripe = this.oidStripe(entry.objectId);
+			final Stripe refStripe = this.refStripe(entry.refHash);
+			
+			lockWrite(oidStripe, refStripe);
+			try
+			{
+				oidStripe.removeOidEntry(entry, this.stripeShift);
+				refStripe.removeRefEntry(entry, this.stripeShift);
+			}
+			finally
+			{
+				unlockWrite(oidStripe, refStripe);
+			}
+			counter++;
+		}
+		
+		if(counter == 0)
+		{
+			return;
+		}
+		logger.debug("Cleaned {} gc entries", counter);
+		
+		for(final Stripe stripe : this.stripes)
+		{
+			stripe.writeLock.lock();
+			try
+			{
+				stripe.checkForDecrease(this.stripeMinimumCapacity(), this.hashDensity, this.stripeShift);
+			}
+			finally
+			{
+				stripe.writeLock.unlock();
+			}
+		}
+	}
+	
+	
+	
+	///////////////////////////////////////////////////////////////////////////
+	// member types //
+	/////////////////
+	
+	/**
+	 * One stripe of the registry, holding the objectId hash table for the objectIds mapped to it and the
+	 * object hash table for the objects mapped to it. Both tables are sized independently.
+	 * <p>
+	 * The querying methods are safe to be called optimistically (without any lock, validated afterwards):
+	 * they only read the table reference once, derive the hash range from the table itself and abort
+	 * the traversal of a hash chain as soon as the passed stamp becomes invalid, so a chain that is
+	 * concurrently relinked can never be followed indefinitely.
+	 */
+	static final class Stripe
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+		
+		// marker "stamp" for querying while holding a lock, i.e. without the need to validate.
+		static final long LOCKED = 0L;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		final int         index    ;
+		final StampedLock lock     ;
+		final Lock        readLock ;
+		final Lock        writeLock;
+		
+		Entry[] oidTable   ;
+		Entry[] refTable   ;
+		long    oidSize    ;
+		long    refSize    ;
+		long    oidCapacity;
+		long    refCapacity;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Stripe(final int index)
+		{
+			super();
+			this.index     = index;
+			this.lock      = new StampedLock();
+			this.readLock  = this.lock.asReadLock();
+			this.writeLock = this.lock.asWriteLock();
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		static int oidIndex(final long objectId, final int stripeShift, final Entry[] table)
+		{
+			return (int)(objectId >>> stripeShift) & table.length - 1;
+		}
+		
+		static int refIndex(final int refHash, final int stripeShift, final Entry[] table)
+		{
+			return refHash >>> stripeShift & table.length - 1;
+		}
+		
+		private static long capacity(final Entry[] table, final float hashDensity)
+		{
+			return table.length >= XMath.highestPowerOf2_int()
+				? Long.MAX_VALUE
+				: (long)(table.length * hashDensity)
+			;
+		}
+		
+		final boolean isValid(final long stamp)
+		{
+			return stamp == LOCKED || this.lock.validate(stamp);
+		}
+		
+		final boolean containsObjectId(final long objectId, final int stripeShift, final long stamp)
+		{
+			final Entry[] table = this.oidTable;
+			for(Entry e = table[oidIndex(objectId, stripeShift, table)]; e != null && this.isValid(stamp); e = e.oidNext)
+			{
+				if(e.objectId == objectId)
+				{
+					return true;
+				}
+			}
+			
+			return false;
+		}
+		
+		final Object lookupObject(final long objectId, final int stripeShift, final long stamp)
+		{
+			final Entry[] table = this.oidTable;
+			for(Entry e = table[oidIndex(objectId, stripeShift, table)]; e != null && this.isValid(stamp); e = e.oidNext)
+			{
+				final Object object;
+				// orphans are skipped since a live entry for the same objectId might come later in the chain.
+				if(e.objectId == objectId && (object = e.get()) != null)
+				{
+					return object;
+				}
+			}
+			
+			return null;
+		}
+		
+		final long lookupObjectId(final Object object, final int refHash, final int stripeShift, final long stamp)
+		{
+			final Entry[] table = this.refTable;
+			for(Entry e = table[refIndex(refHash, stripeShift, table)]; e != null && this.isValid(stamp); e = e.refNext)
+			{
+				if(e.get() == object)
+				{
+					return e.objectId;
+				}
+			}
+			
+			return Swizzling.notFoundId();
+		}
+		
+		final void putOidEntry(final Entry entry, final float hashDensity, final int stripeShift)
+		{
+			final int index = oidIndex(entry.objectId, stripeShift, this.oidTable);
+			entry.oidNext = this.oidTable[index];
+			this.oidTable[index] = entry;
+			
+			if(++this.oidSize > this.oidCapacity)
+			{
+				this.rebuildOidTable(this.oidTable.length << 1, hashDensity, stripeShift);
+			}
+		}
+		
+		final void putRefEntry(final Entry entry, final float hashDensity, final int stripeShift)
+		{
+			final int index = refIndex(entry.refHash, stripeShift, this.refTable);
+			entry.refNext = this.refTable[index];
+			this.refTable[index] = entry;
+			
+			if(++this.refSize > this.refCapacity)
+			{
+				this.rebuildRefTable(this.refTable.length << 1, hashDensity, stripeShift);
+			}
+		}
+		
+		final void removeOidEntry(final Entry entry, final int stripeShift)
+		{
+			final int index = oidIndex(entry.objectId, stripeShift, this.oidTable);
+			if(DefaultObjectRegistry.removeFromOidTable(this.oidTable, index, entry))
+			{
+				this.oidSize--;
+			}
+		}
+		
+		final void removeRefEntry(final Entry entry, final int stripeShift)
+		{
+			final int index = refIndex(entry.refHash, stripeShift, this.refTable);
+			if(DefaultObjectRegistry.removeFromRefTable(this.refTable, index, entry))
+			{
+				this.refSize--;
+			}
+		}
+		
+		final void reset(final long minimumCapacity, final float hashDensity)
+		{
+			final int hashLength = DefaultObjectRegistry.calculateRequiredHashLength(minimumCapacity, hashDensity);
+			this.oidTable = DefaultObjectRegistry.createHashTable(hashLength);
+			this.refTable = DefaultObjectRegistry.createHashTable(hashLength);
+			this.oidSize  = 0;
+			this.refSize  = 0;
+			this.updateCapacities(hashDensity);
+		}
+		
+		final void updateCapacities(final float hashDensity)
+		{
+			this.oidCapacity = capacity(this.oidTable, hashDensity);
+			this.refCapacity = capacity(this.refTable, hashDensity);
+		}
+		
+		final void clear()
+		{
+			final Entry[] oidTable = this.oidTable;
+			final Entry[] refTable = this.refTable;
+			for(int i = 0; i < oidTable.length; i++)
+			{
+				oidTable[i] = null;
+			}
+			for(int i = 0; i < refTable.length; i++)
+			{
+				refTable[i] = null;
+			}
+			this.oidSize = 0;
+			this.refSize = 0;
+		}
+		
+		final boolean ensureCapacity(final long capacity, final float hashDensity, final int stripeShift)
+		{
+			final int requiredHashLength = DefaultObjectRegistry.calculateRequiredHashLength(capacity, hashDensity);
+			
+			boolean rebuilt = false;
+			if(requiredHashLength > this.oidTable.length)
+			{
+				this.rebuildOidTable(requiredHashLength, hashDensity, stripeShift);
+				rebuilt = true;
+			}
+			if(requiredHashLength > this.refTable.length)
+			{
+				this.rebuildRefTable(requiredHashLength, hashDensity, stripeShift);
+				rebuilt = true;
+			}
+			
+			return rebuilt;
+		}
+		
+		final boolean checkForDecrease(final long minimumCapacity, final float hashDensity, final int stripeShift)
+		{
+			boolean rebuilt = false;
+			
+			final int oidHashLength = DefaultObjectRegistry.calculateRequiredHashLength(
+				Math.max(this.oidSize, minimumCapacity),
+				hashDensity
+			);
+			if(oidHashLength < this.oidTable.length)
+			{
+				this.rebuildOidTable(oidHashLength, hashDensity, stripeShift);
+				rebuilt = true;
+			}
+			
+			final int refHashLength = DefaultObjectRegistry.calculateRequiredHashLength(
+				Math.max(this.refSize, minimumCapacity),
+				hashDensity
+			);
+			if(refHashLength < this.refTable.length)
+			{
+				this.rebuildRefTable(refHashLength, hashDensity, stripeShift);
+				rebuilt = true;
+			}
+			
+			return rebuilt;
+		}
+		
+		final long consolidate()
+		{
+			long orphanCount = 0;
+			for(int h = 0; h < this.oidTable.length; h++)
+			{
+				orphanCount += DefaultObjectRegistry.consolidateOidHashChain(this.oidTable, h);
+			}
+			this.oidSize -= orphanCount;
+			
+			// ref chains are counted separately as they can contain orphans of other stripes' objectIds.
+			for(int h = 0; h < this.refTable.length; h++)
+			{
+				final long chainLength = DefaultObjectRegistry.countRefChainLength(this.refTable[h]);
+				DefaultObjectRegistry.consolidateRefHashChain(this.refTable, h);
+				this.refSize -= chainLength - DefaultObjectRegistry.countRefChainLength(this.refTable[h]);
+			}
+			
+			return orphanCount;
+		}
+		
+		private void rebuildOidTable(final int hashLength, final float hashDensity, final int stripeShift)
+		{
+			final Entry[] oldTable = this.oidTable;
+			final Entry[] newTable = DefaultObjectRegistry.createHashTable(hashLength);
+			
+			// orphaned entries are discarded along the way.
+			long size = 0;
+			for(int i = 0; i < oldTable.length; i++)
+			{
+				for(Entry e = oldTable[i], next; e != null; e = next)
+				{
+					next = e.oidNext;
+					if(e.get() != null)
+					{
+						final int index = oidIndex(e.objectId, stripeShift, newTable);
+						e.oidNext = newTable[index];
+						newTable[index] = e;
+						size++;
+					}
+				}
+			}
+			
+			this.oidTable    = newTable;
+			this.oidSize     = size;
+			this.oidCapacity = capacity(newTable, hashDensity);
+		}
+		
+		private void rebuildRefTable(final int hashLength, final float hashDensity, final int stripeShift)
+		{
+			final Entry[] oldTable = this.refTable;
+			final Entry[] newTable = DefaultObjectRegistry.createHashTable(hashLength);
+			
+			// orphaned entries are discarded along the way.
+			long size = 0;
+			for(int i = 0; i < oldTable.length; i++)
+			{
+				for(Entry e = oldTable[i], next; e != null; e = next)
+				{
+					next = e.refNext;
+					if(e.get() != null)
+					{
+						final int index = refIndex(e.refHash, stripeShift, newTable);
+						e.refNext = newTable[index];
+						newTable[index] = e;
+						size++;
+					}
+				}
+			}
+			
+			this.refTable    = newTable;
+			this.refSize     = size;
+			this.refCapacity = capacity(newTable, hashDensity);
+		}
+		
+		final void iterateEntries(final PersistenceAcceptor acceptor)
+		{
+			for(final Entry first : this.oidTable)
+			{
+				for(Entry e = first; e != null; e = e.oidNext)
+				{
+					acceptor.accept(e.objectId, e.get());
+				}
+			}
+		}
+		
+	}
+	
+}
@@ -27,6 +27,7 @@ import java.nio.ByteOrder;
 import java.util.function.Consumer;
 
 import one.microstream.X;
+import one.microstream.collections.BulkList;
 import one.microstream.util.BufferSizeProviderIncremental;
 
 
@@ -403,7 +404,39 @@ ByteOrderTargeting<PersistenceManager<D>>
 		@Override
 		public final <C extends Consumer<Object>> C collect(final C collector, final long... objectIds)
 		{
-			return this.createLoader().collect(collector, objectIds);
+			// consistent with #getObject: already registered instances are used as they are instead of being reloaded
+			final Object[] instances      = new Object[objectIds.length];
+			final int[]    missingIndices = new int[objectIds.length];
+			int missingCount = 0;
+			for(int i = 0; i < objectIds.length; i++)
+			{
+				if((instances[i] = this.objectManager.lookupObject(objectIds[i])) == null)
+				{
+					missingIndices[missingCount++] = i;
+				}
+			}
+			
+			if(missingCount > 0)
+			{
+				final long[] missingObjectIds = new long[missingCount];
+				for(int i = 0; i < missingCount; i++)
+				{
+					missingObjectIds[i] = objectIds[missingIndices[i]];
+				}
+				
+				final BulkList<Object> loaded = this.createLoader().collect(BulkList.New(missingCount), missingObjectIds);
+				for(int i = 0; i < missingCount; i++)
+				{
+					instances[missingIndices[i]] = loaded.at(i);
+				}
+			}
+			
+			for(final Object instance : instances)
+			{
+				collector.accept(instance);
+			}
+			
+			return collector;
 		}
 
 		@Override
@@ -0,0 +1,71 @@
+package one.microstream.persistence.types;
+
+/*-
+ * #%L
+ * microstream-persistence
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import one.microstream.persistence.exceptions.PersistenceExceptionTransfer;
+
+/**
+ * A {@link PersistenceTarget} that can receive the data of a single store in several parts, so that very large
+ * stores do not have to be held in memory as a whole. The parts become effective atomically when the stream
+ * is committed.
+ *
+ * @param <D> the data type
+ */
+public interface PersistenceStreamingTarget<D> extends PersistenceTarget<D>
+{
+	/**
+	 * Opens a new stream for the parts of a single store.
+	 * 
+	 * @return the new stream.
+	 * @throws PersistenceExceptionTransfer if the stream cannot be opened.
+	 */
+	public PersistenceStreamingTarget.Stream<D> openStream() throws PersistenceExceptionTransfer;
+	
+	
+	
+	public interface Stream<D>
+	{
+		/**
+		 * Writes the next part of the store. May block until the target is ready to accept it.
+		 * 
+		 * @param data the part's data.
+		 * @throws PersistenceExceptionTransfer if writing the part fails.
+		 */
+		public void write(D data) throws PersistenceExceptionTransfer;
+		
+		/**
+		 * Writes the last part of the store and commits all parts.
+		 * 
+		 * @param data the last part's data.
+		 * @throws PersistenceExceptionTransfer if writing or committing fails.
+		 */
+		public void commit(D data) throws PersistenceExceptionTransfer;
+		
+		/**
+		 * Discards all parts written so far.
+		 * 
+		 * @param cause the reason for aborting.
+		 */
+		public void abort(Throwable cause);
+	}
+	
+}
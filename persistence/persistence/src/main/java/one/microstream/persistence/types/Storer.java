@@ -37,6 +37,10 @@ public interface Storer extends PersistenceStoring
 	 * <p>
 	 * This is an atomatic all-or-nothing operation: either all collected data will be persisted successfully,
 	 * or non of it will be persisted. Partially persisted data will be reverted / rolled back in case of a failure.
+	 * <p>
+	 * Note that a storage may write the data of concurrent commits together as one unit, e.g. an embedded storage
+	 * with group commits enabled. In that case, the all-or-nothing semantic applies to the whole group:
+	 * a failure caused by any of the group's commits lets all of them fail, including this one.
 	 *
 	 * @return some kind of status information, potentially null.
 	 */
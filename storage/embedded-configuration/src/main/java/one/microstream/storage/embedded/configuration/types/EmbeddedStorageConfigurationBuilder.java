@@ -30,6 +30,7 @@ import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
 import one.microstream.configuration.types.ConfigurationValueMapperProvider;
 import one.microstream.storage.embedded.types.EmbeddedStorageFoundation;
+import one.microstream.storage.types.StorageDurability;
 import one.microstream.storage.types.StorageEntityCacheEvaluator;
 import one.microstream.typing.KeyValue;
 
@@ -276,6 +277,56 @@ public interface EmbeddedStorageConfigurationBuilder extends Configuration.Build
 	 */
 	public EmbeddedStorageConfigurationBuilder setEntityCacheTimeout(Duration entityCacheTimeout);
 
+	/**
+	 * The entity cache evaluation strategy. Possible values are:
+	 * <ul>
+	 * <li><code>default</code>: see {@link StorageEntityCacheEvaluator#New(long, long)}</li>
+	 * <li><code>segmented-lru</code>: see {@link StorageEntityCacheEvaluator#NewSegmentedLru(long, long)}</li>
+	 * <li><code>frequency</code>: see {@link StorageEntityCacheEvaluator#NewFrequencyBased(long, long, long)}</li>
+	 * </ul>
+	 * Default is <code>default</code>.
+	 *
+	 * @param entityCacheEvaluator the name of the evaluation strategy
+	 * @return this
+	 *
+	 * @see #setEntityCacheCapacity(ByteSize)
+	 * @see #setEntityCacheAdmissionWindow(Duration)
+	 */
+	public EmbeddedStorageConfigurationBuilder setEntityCacheEvaluator(String entityCacheEvaluator);
+
+	/**
+	 * Entity cache size per channel which is not exceeded permanently by the <code>segmented-lru</code> and
+	 * <code>frequency</code> evaluators. Default is 1 GB.
+	 *
+	 * @param entityCacheCapacity the new capacity
+	 * @return this
+	 *
+	 * @see #setEntityCacheEvaluator(String)
+	 */
+	public EmbeddedStorageConfigurationBuilder setEntityCacheCapacity(ByteSize entityCacheCapacity);
+
+	/**
+	 * Time after the last read in which an entity is always kept in the cache by the <code>frequency</code>
+	 * evaluator. Default is one minute.
+	 *
+	 * @param entityCacheAdmissionWindow the new admission window
+	 * @return this
+	 *
+	 * @see #setEntityCacheEvaluator(String)
+	 */
+	public EmbeddedStorageConfigurationBuilder setEntityCacheAdmissionWindow(Duration entityCacheAdmissionWindow);
+
+	/**
+	 * Maximum cached data sizes per channel for certain types, regardless of the entity cache evaluator.
+	 * The budgets are specified as a comma separated list of type name and size pairs,
+	 * e.g. <code>com.my.app.Order: 200 MB, com.my.app.Invoice: 50 MB</code>.
+	 * See {@link StorageEntityCacheEvaluator#NewTypeBudget(one.microstream.collections.types.XGettingMap, StorageEntityCacheEvaluator)}.
+	 *
+	 * @param entityCacheTypeBudgets the type budgets
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setEntityCacheTypeBudgets(String entityCacheTypeBudgets);
+
 	/**
 	 * Minimum file size for a data file to avoid cleaning it up. Default is 1 MiB.
 	 *
@@ -327,6 +378,159 @@ public interface EmbeddedStorageConfigurationBuilder extends Configuration.Build
 	 * @see #setDataFileMinimumUseRatio(double)
 	 */
 	public EmbeddedStorageConfigurationBuilder setTransactionFileMaximumSize(ByteSize transactionFileMaximumSize);
+
+	/**
+	 * Defines when written data is synchronized with the storage medium. Possible values are:
+	 * <ul>
+	 * <li><code>sync-per-commit</code>: see {@link StorageDurability#SyncPerCommit()}</li>
+	 * <li><code>periodic-sync</code>: see {@link StorageDurability#PeriodicSync(long)}</li>
+	 * <li><code>no-sync</code>: see {@link StorageDurability#NoSync()}</li>
+	 * </ul>
+	 * Default is <code>no-sync</code>.
+	 * <code>periodic-sync</code> is only supported for a channel count of 1.
+	 *
+	 * @param durability the name of the durability level
+	 * @return this
+	 *
+	 * @see #setDurabilitySyncInterval(Duration)
+	 */
+	public EmbeddedStorageConfigurationBuilder setDurability(String durability);
+
+	/**
+	 * Maximum time that stored data may stay unsynchronized with the <code>periodic-sync</code> durability.
+	 * Default is 200 ms.
+	 *
+	 * @param durabilitySyncInterval the new sync interval
+	 * @return this
+	 *
+	 * @see #setDurability(String)
+	 */
+	public EmbeddedStorageConfigurationBuilder setDurabilitySyncInterval(Duration durabilitySyncInterval);
+
+	/**
+	 * Time in which concurrently issued stores are collected to be written and flushed together
+	 * as one group commit. Every store of a group is delayed by up to this time, but the number of
+	 * writes and flushes under many small concurrent commits is reduced considerably.
+	 * A group commit is atomic as a whole: if it fails, all stores of the group fail,
+	 * including those whose own data was valid.
+	 * Default is zero, which disables group commits.
+	 *
+	 * @param groupCommitWindow the new group commit window
+	 * @return this
+	 *
+	 * @see #setGroupCommitByteBudget(ByteSize)
+	 */
+	public EmbeddedStorageConfigurationBuilder setGroupCommitWindow(Duration groupCommitWindow);
+
+	/**
+	 * Amount of data after which a group commit is issued before its window has elapsed. Default is 1 MB.
+	 *
+	 * @param groupCommitByteBudget the new group commit byte budget
+	 * @return this
+	 *
+	 * @see #setGroupCommitWindow(Duration)
+	 */
+	public EmbeddedStorageConfigurationBuilder setGroupCommitByteBudget(ByteSize groupCommitByteBudget);
+
+	/**
+	 * Number of threads shared by all channels to mark reachable entities in parallel during garbage collection.
+	 * Marking still happens within the housekeeping time budget, but channels with many pending marks
+	 * get help from otherwise idle threads. Default is <code>0</code>, which means every channel marks
+	 * its entities exclusively in its own thread.
+	 *
+	 * @param gcMarkingParallelism the new marking parallelism
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setGcMarkingParallelism(int gcMarkingParallelism);
+
+	/**
+	 * Number of young collections following every full garbage collection. A young collection only marks
+	 * the part of the entity graph that changed recently and only deletes recently created entities, so
+	 * short-lived data is collected without marking the whole, mostly stable entity graph every time.
+	 * Default is <code>0</code>, which means every collection is a full collection.
+	 *
+	 * @param gcYoungCollectionCount the new young collection count
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setGcYoungCollectionCount(int gcYoungCollectionCount);
+
+	/**
+	 * Number of threads shared by all storers to store very large object graphs (e.g. initial imports)
+	 * in parallel. Once a single store has collected a large number of instances, the remaining graph
+	 * is serialized by the storing thread and the pool's threads together, the commit stays atomic.
+	 * Default is <code>0</code>, which means every store is done single-threaded.
+	 *
+	 * @param storingParallelism the new storing parallelism
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setStoringParallelism(int storingParallelism);
+	
+	/**
+	 * Amount of serialized data after which a store is handed over to the storage in parts, while the rest of
+	 * the object graph is still being serialized. This bounds the memory required for very large stores,
+	 * the commit stays atomic. Note that the storage is occupied by such a store until it is committed,
+	 * so the storing thread must not issue any other storage request in the meantime.
+	 * Streaming takes precedence over parallel storing.
+	 * Default is zero, which means every store is handed over as a whole.
+	 *
+	 * @param storingStreamingWindow the new storing streaming window
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setStoringStreamingWindow(ByteSize storingStreamingWindow);
+	
+	/**
+	 * If true, storers skip entities whose serialized form has not changed since their last store.
+	 * This makes eager or deep stores of large, mostly unchanged object graphs cheap in IO,
+	 * at the cost of fingerprinting every stored entity and keeping the fingerprints in memory.
+	 * Default is <code>false</code>.
+	 *
+	 * @param storingChangeDetection whether unchanged entities are skipped when storing
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setStoringChangeDetection(boolean storingChangeDetection);
+	
+	/**
+	 * Number of data files every channel reads ahead in a worker thread during initialization, overlapping
+	 * file I/O with the registration of the entities. Every file read ahead requires an additional buffer
+	 * of the size of the largest data file.
+	 * Default is zero, which means all data files are read and registered sequentially.
+	 *
+	 * @param dataFileReadAheadCount the new number of data files to read ahead
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setDataFileReadAheadCount(int dataFileReadAheadCount);
+	
+	/**
+	 * If true, every channel writes a snapshot of its entity index on a clean shutdown, so that the next
+	 * startup only has to scan the data written after it instead of all data files.
+	 * Default is <code>false</code>.
+	 *
+	 * @param entityIndexSnapshot whether entity index snapshots are written and used
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setEntityIndexSnapshot(boolean entityIndexSnapshot);
+	
+	/**
+	 * Interval of the object registry's housekeeping, which removes the entries of objects collected by the
+	 * JVM's garbage collector and shrinks the registry's hash tables in a background thread while the storage
+	 * is running. Default is 0, meaning no housekeeping.
+	 *
+	 * @param objectRegistryHousekeepingInterval the new interval
+	 * @return this
+	 *
+	 * @see #setObjectRegistryHousekeepingSampleSize(int)
+	 */
+	public EmbeddedStorageConfigurationBuilder setObjectRegistryHousekeepingInterval(Duration objectRegistryHousekeepingInterval);
+	
+	/**
+	 * Maximum number of entries and buckets processed in one cycle of the object registry's housekeeping.
+	 * Only effective if {@link #setObjectRegistryHousekeepingInterval(Duration)} is set.
+	 * Default is 10000.
+	 *
+	 * @param objectRegistryHousekeepingSampleSize the new sample size
+	 * @return this
+	 */
+	public EmbeddedStorageConfigurationBuilder setObjectRegistryHousekeepingSampleSize(int objectRegistryHousekeepingSampleSize);
 	
 	/**
 	 * Creates an {@link EmbeddedStorageFoundation} based on the settings of this builder.
@@ -614,6 +818,38 @@ public interface EmbeddedStorageConfigurationBuilder extends Configuration.Build
 			return this.set(ENTITY_CACHE_TIMEOUT, entityCacheTimeout.toString());
 		}
 
+		@Override
+		public EmbeddedStorageConfigurationBuilder setEntityCacheEvaluator(
+			final String entityCacheEvaluator
+		)
+		{
+			return this.set(ENTITY_CACHE_EVALUATOR, entityCacheEvaluator);
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setEntityCacheCapacity(
+			final ByteSize entityCacheCapacity
+		)
+		{
+			return this.set(ENTITY_CACHE_CAPACITY, entityCacheCapacity.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setEntityCacheAdmissionWindow(
+			final Duration entityCacheAdmissionWindow
+		)
+		{
+			return this.set(ENTITY_CACHE_ADMISSION_WINDOW, entityCacheAdmissionWindow.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setEntityCacheTypeBudgets(
+			final String entityCacheTypeBudgets
+		)
+		{
+			return this.set(ENTITY_CACHE_TYPE_BUDGETS, entityCacheTypeBudgets);
+		}
+
 		@Override
 		public EmbeddedStorageConfigurationBuilder setDataFileMinimumSize(
 			final ByteSize dataFileMinimumSize
@@ -654,6 +890,110 @@ public interface EmbeddedStorageConfigurationBuilder extends Configuration.Build
 			return this.set(TRANSACTION_FILE_MAXIMUM_SIZE, transactionFileMaximumSize.toString());
 		}
 
+		@Override
+		public EmbeddedStorageConfigurationBuilder setDurability(
+			final String durability
+		)
+		{
+			return this.set(DURABILITY, durability);
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setDurabilitySyncInterval(
+			final Duration durabilitySyncInterval
+		)
+		{
+			return this.set(DURABILITY_SYNC_INTERVAL, durabilitySyncInterval.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setGroupCommitWindow(
+			final Duration groupCommitWindow
+		)
+		{
+			return this.set(GROUP_COMMIT_WINDOW, groupCommitWindow.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setGroupCommitByteBudget(
+			final ByteSize groupCommitByteBudget
+		)
+		{
+			return this.set(GROUP_COMMIT_BYTE_BUDGET, groupCommitByteBudget.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setGcMarkingParallelism(
+			final int gcMarkingParallelism
+		)
+		{
+			return this.set(GC_MARKING_PARALLELISM, Integer.toString(gcMarkingParallelism));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setGcYoungCollectionCount(
+			final int gcYoungCollectionCount
+		)
+		{
+			return this.set(GC_YOUNG_COLLECTION_COUNT, Integer.toString(gcYoungCollectionCount));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setStoringParallelism(
+			final int storingParallelism
+		)
+		{
+			return this.set(STORING_PARALLELISM, Integer.toString(storingParallelism));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setStoringStreamingWindow(
+			final ByteSize storingStreamingWindow
+		)
+		{
+			return this.set(STORING_STREAMING_WINDOW, storingStreamingWindow.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setStoringChangeDetection(
+			final boolean storingChangeDetection
+		)
+		{
+			return this.set(STORING_CHANGE_DETECTION, Boolean.toString(storingChangeDetection));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setDataFileReadAheadCount(
+			final int dataFileReadAheadCount
+		)
+		{
+			return this.set(DATA_FILE_READ_AHEAD_COUNT, Integer.toString(dataFileReadAheadCount));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setEntityIndexSnapshot(
+			final boolean entityIndexSnapshot
+		)
+		{
+			return this.set(ENTITY_INDEX_SNAPSHOT, Boolean.toString(entityIndexSnapshot));
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setObjectRegistryHousekeepingInterval(
+			final Duration objectRegistryHousekeepingInterval
+		)
+		{
+			return this.set(OBJECT_REGISTRY_HOUSEKEEPING_INTERVAL, objectRegistryHousekeepingInterval.toString());
+		}
+
+		@Override
+		public EmbeddedStorageConfigurationBuilder setObjectRegistryHousekeepingSampleSize(
+			final int objectRegistryHousekeepingSampleSize
+		)
+		{
+			return this.set(OBJECT_REGISTRY_HOUSEKEEPING_SAMPLE_SIZE, Integer.toString(objectRegistryHousekeepingSampleSize));
+		}
+
 	}
 
 }
@@ -137,6 +137,26 @@ public interface EmbeddedStorageConfigurationPropertyNames
 	 */
 	public final static String ENTITY_CACHE_TIMEOUT          = "entity-cache-timeout";
 
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setEntityCacheEvaluator(String)
+	 */
+	public final static String ENTITY_CACHE_EVALUATOR        = "entity-cache-evaluator";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setEntityCacheCapacity(one.microstream.configuration.types.ByteSize)
+	 */
+	public final static String ENTITY_CACHE_CAPACITY         = "entity-cache-capacity";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setEntityCacheAdmissionWindow(java.time.Duration)
+	 */
+	public final static String ENTITY_CACHE_ADMISSION_WINDOW = "entity-cache-admission-window";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setEntityCacheTypeBudgets(String)
+	 */
+	public final static String ENTITY_CACHE_TYPE_BUDGETS     = "entity-cache-type-budgets";
+
 	/**
 	 * @see EmbeddedStorageConfigurationBuilder#setDataFileMinimumSize(one.microstream.configuration.types.ByteSize)
 	 */
@@ -162,4 +182,69 @@ public interface EmbeddedStorageConfigurationPropertyNames
 	 */
 	public final static String DATA_FILE_CLEANUP_HEAD_FILE   = "data-file-cleanup-head-file";
 
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setDurability(String)
+	 */
+	public final static String DURABILITY                    = "durability";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setDurabilitySyncInterval(java.time.Duration)
+	 */
+	public final static String DURABILITY_SYNC_INTERVAL      = "durability-sync-interval";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setGroupCommitWindow(java.time.Duration)
+	 */
+	public final static String GROUP_COMMIT_WINDOW           = "group-commit-window";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setGroupCommitByteBudget(one.microstream.configuration.types.ByteSize)
+	 */
+	public final static String GROUP_COMMIT_BYTE_BUDGET      = "group-commit-byte-budget";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setGcMarkingParallelism(int)
+	 */
+	public final static String GC_MARKING_PARALLELISM        = "gc-marking-parallelism";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setGcYoungCollectionCount(int)
+	 */
+	public final static String GC_YOUNG_COLLECTION_COUNT     = "gc-young-collection-count";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setStoringParallelism(int)
+	 */
+	public final static String STORING_PARALLELISM           = "storing-parallelism";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setStoringStreamingWindow(one.microstream.configuration.types.ByteSize)
+	 */
+	public final static String STORING_STREAMING_WINDOW      = "storing-streaming-window";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setStoringChangeDetection(boolean)
+	 */
+	public final static String STORING_CHANGE_DETECTION      = "storing-change-detection";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setDataFileReadAheadCount(int)
+	 */
+	public final static String DATA_FILE_READ_AHEAD_COUNT    = "data-file-read-ahead-count";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setEntityIndexSnapshot(boolean)
+	 */
+	public final static String ENTITY_INDEX_SNAPSHOT         = "entity-index-snapshot";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setObjectRegistryHousekeepingInterval(java.time.Duration)
+	 */
+	public final static String OBJECT_REGISTRY_HOUSEKEEPING_INTERVAL    = "object-registry-housekeeping-interval";
+
+	/**
+	 * @see EmbeddedStorageConfigurationBuilder#setObjectRegistryHousekeepingSampleSize(int)
+	 */
+	public final static String OBJECT_REGISTRY_HOUSEKEEPING_SAMPLE_SIZE = "object-registry-housekeeping-sample-size";
+
 }
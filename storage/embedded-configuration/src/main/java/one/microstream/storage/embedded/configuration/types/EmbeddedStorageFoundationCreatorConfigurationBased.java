@@ -30,6 +30,7 @@ import one.microstream.afs.nio.types.NioFileSystem;
 import one.microstream.afs.types.ADirectory;
 import one.microstream.afs.types.AFileSystem;
 import one.microstream.chars.XChars;
+import one.microstream.collections.EqHashTable;
 import one.microstream.configuration.exceptions.ConfigurationException;
 import one.microstream.configuration.types.ByteSize;
 import one.microstream.configuration.types.Configuration;
@@ -38,12 +39,17 @@ import one.microstream.storage.embedded.types.EmbeddedStorage;
 import one.microstream.storage.embedded.types.EmbeddedStorageFoundation;
 import one.microstream.storage.types.Storage;
 import one.microstream.storage.types.StorageChannelCountProvider;
+import one.microstream.storage.types.StorageChannelsCreator;
 import one.microstream.storage.types.StorageConfiguration;
 import one.microstream.storage.types.StorageDataFileEvaluator;
+import one.microstream.storage.types.StorageDurability;
 import one.microstream.storage.types.StorageEntityCacheEvaluator;
+import one.microstream.storage.types.StorageEntityInitializer;
+import one.microstream.storage.types.StorageEntityMarkMonitor;
 import one.microstream.storage.types.StorageFileNameProvider;
 import one.microstream.storage.types.StorageHousekeepingController;
 import one.microstream.storage.types.StorageLiveFileProvider;
+import one.microstream.storage.types.StorageTaskBroker;
 
 /**
  * Creator for a storage foundation, based on a configuration.
@@ -114,6 +120,7 @@ public interface EmbeddedStorageFoundationCreatorConfigurationBased extends Embe
 				.setHousekeepingController(this.createHousekeepingController(foundation))
 				.setDataFileEvaluator     (this.createDataFileEvaluator()               )
 				.setEntityCacheEvaluator  (this.createEntityCacheEvaluator()            )
+				.setDurability            (this.createDurability()                      )
 			;
 
 			this.configuration.opt(BACKUP_DIRECTORY)
@@ -133,6 +140,89 @@ public interface EmbeddedStorageFoundationCreatorConfigurationBased extends Embe
 
 			foundation.setConfiguration(configBuilder.createConfiguration());
 			
+			this.configuration.opt(GROUP_COMMIT_WINDOW, Duration.class)
+				.map(Duration::toNanos)
+				.filter(groupCommitWindowNs -> groupCommitWindowNs > 0)
+				.ifPresent(groupCommitWindowNs ->
+					foundation.setTaskBrokerCreator(StorageTaskBroker.Creator.New(
+						groupCommitWindowNs,
+						this.configuration.opt(GROUP_COMMIT_BYTE_BUDGET, ByteSize.class)
+							.map(ByteSize::bytes)
+							.orElse(StorageTaskBroker.Defaults.defaultGroupCommitByteBudget())
+					))
+				)
+			;
+			
+			final int gcMarkingParallelism = this.configuration.optInteger(GC_MARKING_PARALLELISM)
+				.orElse(StorageEntityMarkMonitor.Creator.Defaults.defaultMarkingParallelism())
+			;
+			final int gcYoungCollectionCount = this.configuration.optInteger(GC_YOUNG_COLLECTION_COUNT)
+				.orElse(StorageEntityMarkMonitor.Creator.Defaults.defaultYoungCollectionCount())
+			;
+			if(gcMarkingParallelism > 0 || gcYoungCollectionCount > 0)
+			{
+				foundation.setEntityMarkMonitorCreator(StorageEntityMarkMonitor.Creator(
+					StorageEntityMarkMonitor.Creator.Defaults.defaultReferenceCacheLength(),
+					gcMarkingParallelism,
+					gcYoungCollectionCount
+				));
+			}
+			
+			this.configuration.optInteger(STORING_PARALLELISM)
+				.filter(storingParallelism -> storingParallelism > 0)
+				.ifPresent(storingParallelism ->
+					foundation.onConnectionFoundation(connectionFoundation ->
+						connectionFoundation.setStoringParallelism(storingParallelism)
+					)
+				)
+			;
+			
+			this.configuration.opt(STORING_STREAMING_WINDOW, ByteSize.class)
+				.map(ByteSize::bytes)
+				.filter(storingStreamingWindow -> storingStreamingWindow > 0)
+				.ifPresent(storingStreamingWindow ->
+					foundation.onConnectionFoundation(connectionFoundation ->
+						connectionFoundation.setStoringStreamingWindow(storingStreamingWindow)
+					)
+				)
+			;
+			
+			if(this.configuration.optBoolean(STORING_CHANGE_DETECTION).orElse(false))
+			{
+				foundation.onConnectionFoundation(connectionFoundation ->
+					connectionFoundation.setStoringChangeDetection(true)
+				);
+			}
+			
+			this.configuration.opt(OBJECT_REGISTRY_HOUSEKEEPING_INTERVAL, Duration.class)
+				.map(Duration::toMillis)
+				.filter(housekeepingIntervalMs -> housekeepingIntervalMs > 0)
+				.ifPresent(housekeepingIntervalMs ->
+					foundation.onConnectionFoundation(connectionFoundation ->
+					{
+						connectionFoundation.setObjectRegistryHousekeepingInterval(housekeepingIntervalMs);
+						this.configuration.optInteger(OBJECT_REGISTRY_HOUSEKEEPING_SAMPLE_SIZE)
+							.ifPresent(connectionFoundation::setObjectRegistryHousekeepingSampleSize)
+						;
+					})
+				)
+			;
+			
+			final boolean entityIndexSnapshot = this.configuration.optBoolean(ENTITY_INDEX_SNAPSHOT)
+				.orElse(false)
+			;
+			final int dataFileReadAheadCount = this.configuration.optInteger(DATA_FILE_READ_AHEAD_COUNT)
+				.orElse(StorageEntityInitializer.Defaults.defaultReadAheadFileCount())
+			;
+			if(entityIndexSnapshot || dataFileReadAheadCount > 0)
+			{
+				foundation.setChannelCreator(new StorageChannelsCreator.Default(
+					false,
+					entityIndexSnapshot,
+					Math.max(dataFileReadAheadCount, 0)
+				));
+			}
+			
 			return foundation;
 		}
 		
@@ -266,15 +356,129 @@ public interface EmbeddedStorageFoundationCreatorConfigurationBased extends Embe
 			);
 		}
 
+		private StorageDurability createDurability()
+		{
+			final String durability = this.configuration.opt(DURABILITY)
+				.filter(name -> !XChars.isEmpty(name))
+				.orElse("no-sync")
+			;
+			switch(durability)
+			{
+				case "sync-per-commit":
+				{
+					return StorageDurability.SyncPerCommit();
+				}
+				case "periodic-sync":
+				{
+					return StorageDurability.PeriodicSync(
+						this.configuration.opt(DURABILITY_SYNC_INTERVAL, Duration.class)
+							.map(Duration::toMillis)
+							.orElse(StorageDurability.Defaults.defaultSyncIntervalMs())
+					);
+				}
+				case "no-sync":
+				{
+					return StorageDurability.NoSync();
+				}
+				default:
+				{
+					throw new ConfigurationException(
+						this.configuration,
+						"Unknown " + DURABILITY + ": " + durability
+					);
+				}
+			}
+		}
+
 		private StorageEntityCacheEvaluator createEntityCacheEvaluator()
 		{
-			return Storage.EntityCacheEvaluator(
-				this.configuration.opt(ENTITY_CACHE_TIMEOUT, Duration.class)
-					.map(Duration::toMillis)
-					.orElse(StorageEntityCacheEvaluator.Defaults.defaultTimeoutMs()),
-				this.configuration.optLong(ENTITY_CACHE_THRESHOLD)
-					.orElse(StorageEntityCacheEvaluator.Defaults.defaultCacheThreshold())
-			);
+			final StorageEntityCacheEvaluator evaluator = this.createBaseEntityCacheEvaluator();
+			
+			return this.configuration.opt(ENTITY_CACHE_TYPE_BUDGETS)
+				.filter(typeBudgets -> !XChars.isEmpty(typeBudgets))
+				.map(typeBudgets -> (StorageEntityCacheEvaluator)StorageEntityCacheEvaluator.NewTypeBudget(
+					this.parseEntityCacheTypeBudgets(typeBudgets),
+					evaluator
+				))
+				.orElse(evaluator)
+			;
+		}
+		
+		private StorageEntityCacheEvaluator createBaseEntityCacheEvaluator()
+		{
+			final long timeoutMs = this.configuration.opt(ENTITY_CACHE_TIMEOUT, Duration.class)
+				.map(Duration::toMillis)
+				.orElse(StorageEntityCacheEvaluator.Defaults.defaultTimeoutMs())
+			;
+			final long capacity = this.configuration.opt(ENTITY_CACHE_CAPACITY, ByteSize.class)
+				.map(ByteSize::bytes)
+				.orElse(StorageEntityCacheEvaluator.Defaults.defaultCacheCapacity())
+			;
+			
+			final String evaluator = this.configuration.opt(ENTITY_CACHE_EVALUATOR)
+				.filter(name -> !XChars.isEmpty(name))
+				.orElse("default")
+			;
+			switch(evaluator)
+			{
+				case "default":
+				{
+					return Storage.EntityCacheEvaluator(
+						timeoutMs,
+						this.configuration.optLong(ENTITY_CACHE_THRESHOLD)
+							.orElse(StorageEntityCacheEvaluator.Defaults.defaultCacheThreshold())
+					);
+				}
+				case "segmented-lru":
+				{
+					return StorageEntityCacheEvaluator.NewSegmentedLru(timeoutMs, capacity);
+				}
+				case "frequency":
+				{
+					return StorageEntityCacheEvaluator.NewFrequencyBased(
+						timeoutMs,
+						capacity,
+						this.configuration.opt(ENTITY_CACHE_ADMISSION_WINDOW, Duration.class)
+							.map(Duration::toMillis)
+							.orElse(StorageEntityCacheEvaluator.Defaults.defaultAdmissionWindowMs())
+					);
+				}
+				default:
+				{
+					throw new ConfigurationException(
+						this.configuration,
+						"Unknown " + ENTITY_CACHE_EVALUATOR + ": " + evaluator
+					);
+				}
+			}
+		}
+		
+		private EqHashTable<String, Long> parseEntityCacheTypeBudgets(final String typeBudgets)
+		{
+			final EqHashTable<String, Long> budgets = EqHashTable.New();
+			for(final String typeBudget : typeBudgets.split(","))
+			{
+				if(XChars.isEmpty(typeBudget.trim()))
+				{
+					continue;
+				}
+				
+				final int separatorIndex = typeBudget.lastIndexOf(':');
+				if(separatorIndex < 0)
+				{
+					throw new ConfigurationException(
+						this.configuration,
+						"Invalid " + ENTITY_CACHE_TYPE_BUDGETS + " entry: " + typeBudget
+					);
+				}
+				
+				budgets.put(
+					typeBudget.substring(0, separatorIndex).trim(),
+					ByteSize.New(typeBudget.substring(separatorIndex + 1).trim()).bytes()
+				);
+			}
+			
+			return budgets;
 		}
 		
 		private String createDirectoryPath(
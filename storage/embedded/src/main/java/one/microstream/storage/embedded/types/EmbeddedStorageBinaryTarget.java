@@ -24,14 +24,18 @@ import static one.microstream.X.notNull;
 
 import one.microstream.persistence.binary.types.Binary;
 import one.microstream.persistence.exceptions.PersistenceExceptionTransfer;
-import one.microstream.persistence.types.PersistenceTarget;
+import one.microstream.persistence.types.PersistenceStreamingTarget;
 import one.microstream.storage.types.StorageRequestAcceptor;
+import one.microstream.storage.types.StorageRequestTaskStoreStream;
 import one.microstream.storage.types.StorageWriteController;
 
-public interface EmbeddedStorageBinaryTarget extends PersistenceTarget<Binary>
+public interface EmbeddedStorageBinaryTarget extends PersistenceStreamingTarget<Binary>
 {
 	@Override
 	public void write(Binary data) throws PersistenceExceptionTransfer;
+	
+	@Override
+	public PersistenceStreamingTarget.Stream<Binary> openStream() throws PersistenceExceptionTransfer;
 
 
 	
@@ -91,6 +95,25 @@ public interface EmbeddedStorageBinaryTarget extends PersistenceTarget<Binary>
 			}
 		}
 		
+		@Override
+		public final PersistenceStreamingTarget.Stream<Binary> openStream() throws PersistenceExceptionTransfer
+		{
+			try
+			{
+				this.writeController.validateIsWritable();
+				
+				return new EmbeddedStorageBinaryTarget.Stream(
+					this.requestAcceptor,
+					this.writeController,
+					this.requestAcceptor.openStoreStream()
+				);
+			}
+			catch(final Exception e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+		}
+		
 		@Override
 		public final void validateIsWritable()
 		{
@@ -116,5 +139,75 @@ public interface EmbeddedStorageBinaryTarget extends PersistenceTarget<Binary>
 		}
 
 	}
+	
+	public final class Stream implements PersistenceStreamingTarget.Stream<Binary>
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final StorageRequestAcceptor        requestAcceptor;
+		private final StorageWriteController        writeController;
+		private final StorageRequestTaskStoreStream storeStream    ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Stream(
+			final StorageRequestAcceptor        requestAcceptor,
+			final StorageWriteController        writeController,
+			final StorageRequestTaskStoreStream storeStream
+		)
+		{
+			super();
+			this.requestAcceptor = requestAcceptor;
+			this.writeController = writeController;
+			this.storeStream     = storeStream    ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public final void write(final Binary data) throws PersistenceExceptionTransfer
+		{
+			try
+			{
+				this.writeController.validateIsWritable();
+				this.requestAcceptor.storeDataPart(this.storeStream, data);
+			}
+			catch(final Exception e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+		}
+
+		@Override
+		public final void commit(final Binary data) throws PersistenceExceptionTransfer
+		{
+			try
+			{
+				this.writeController.validateIsWritable();
+				this.requestAcceptor.commitStoreStream(this.storeStream, data);
+			}
+			catch(final Exception e)
+			{
+				throw new PersistenceExceptionTransfer(e);
+			}
+		}
+
+		@Override
+		public final void abort(final Throwable cause)
+		{
+			this.storeStream.abort(cause);
+		}
+		
+	}
 
 }
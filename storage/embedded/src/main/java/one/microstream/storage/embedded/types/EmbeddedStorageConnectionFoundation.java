@@ -25,10 +25,14 @@ import static one.microstream.X.notNull;
 import java.util.function.Supplier;
 
 import one.microstream.exceptions.MissingFoundationPartException;
+import one.microstream.math.XMath;
 import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryFingerprintCache;
 import one.microstream.persistence.binary.types.BinaryLoader;
 import one.microstream.persistence.binary.types.BinaryPersistenceFoundation;
 import one.microstream.persistence.binary.types.BinaryStorer;
+import one.microstream.persistence.binary.types.BinaryStoringPool;
+import one.microstream.persistence.internal.DefaultObjectRegistry;
 import one.microstream.persistence.types.PersistenceLiveStorerRegistry;
 import one.microstream.persistence.types.PersistenceManager;
 import one.microstream.persistence.types.PersistenceStorer;
@@ -55,6 +59,34 @@ extends BinaryPersistenceFoundation<F>
 	public Reference<PersistenceLiveStorerRegistry> getLiveStorerRegistryReference();
 
 	public PersistenceLiveStorerRegistry getLiveStorerRegistry();
+	
+	public int getStoringParallelism();
+	
+	/**
+	 * Returns the pool used by storers to store very large object graphs in parallel or {@literal null}
+	 * if parallel storing is disabled. If none is set explicitly, a pool with the set storing parallelism
+	 * is created whose threads are provided by the storage system's thread provider.
+	 * 
+	 * @return the storing pool or {@literal null}.
+	 */
+	public BinaryStoringPool getStoringPool();
+	
+	public long getStoringStreamingWindow();
+	
+	public boolean isStoringChangeDetection();
+	
+	/**
+	 * Returns the cache of the fingerprints of stored entities used by storers to skip unchanged entities or
+	 * {@literal null} if change detection is disabled. The cache is kept consistent with the garbage collector
+	 * and imports of this storage, see {@link BinaryFingerprintCache}.
+	 * 
+	 * @return the fingerprint cache or {@literal null}.
+	 */
+	public BinaryFingerprintCache getFingerprintCache();
+	
+	public long getObjectRegistryHousekeepingInterval();
+	
+	public int getObjectRegistryHousekeepingSampleSize();
 
 	public F setStorageSystem(StorageSystem storageSystem);
 	
@@ -68,6 +100,85 @@ extends BinaryPersistenceFoundation<F>
 
 	public F setLiveStorerRegistry(PersistenceLiveStorerRegistry liveLiveStorerRegistry);
 	
+	/**
+	 * Sets the number of threads used to store very large object graphs in parallel,
+	 * see {@link BinaryStorer#Creator(one.microstream.persistence.binary.types.BinaryChannelCountProvider, boolean, int)}.
+	 * The default is 0, meaning single-threaded storing.
+	 * Only effective if no storer creator is set explicitly.
+	 * 
+	 * @param storingParallelism the number of threads of the shared storing pool or 0.
+	 * @return this
+	 */
+	public F setStoringParallelism(int storingParallelism);
+	
+	/**
+	 * Sets the pool used by storers to store very large object graphs in parallel,
+	 * see {@link BinaryStorer#Creator(one.microstream.persistence.binary.types.BinaryChannelCountProvider, boolean, BinaryStoringPool, long, BinaryFingerprintCache)}.
+	 * Takes precedence over the storing parallelism.
+	 * Only effective if no storer creator is set explicitly.
+	 * 
+	 * @param storingPool the storing pool to be used.
+	 * @return this
+	 */
+	public F setStoringPool(BinaryStoringPool storingPool);
+	
+	/**
+	 * Sets the length in bytes after which a storer hands its serialized data over to the storage as a part
+	 * of a streamed store, bounding the memory required to store very large object graphs,
+	 * see {@link BinaryStorer#Creator(one.microstream.persistence.binary.types.BinaryChannelCountProvider, boolean, int, long)}.
+	 * The default is 0, meaning every store is handed over as a whole on commit.
+	 * Only effective if no storer creator is set explicitly.
+	 * 
+	 * @param storingStreamingWindow the length in bytes after which serialized data is streamed or 0.
+	 * @return this
+	 */
+	public F setStoringStreamingWindow(long storingStreamingWindow);
+	
+	/**
+	 * Sets whether storers skip entities whose serialized form has not changed since their last store,
+	 * making eager or deep stores of large, mostly unchanged object graphs cheap in IO,
+	 * see {@link BinaryStorer#Creator(one.microstream.persistence.binary.types.BinaryChannelCountProvider, boolean, int, long, BinaryFingerprintCache)}.
+	 * The default is {@code false}.
+	 * Only effective if no storer creator is set explicitly.
+	 * 
+	 * @param storingChangeDetection whether unchanged entities are skipped when storing.
+	 * @return this
+	 */
+	public F setStoringChangeDetection(boolean storingChangeDetection);
+	
+	/**
+	 * Sets the cache of the fingerprints of stored entities used by storers to skip unchanged entities.
+	 * Takes precedence over the storing change detection flag.
+	 * Only effective if no storer creator is set explicitly.
+	 * 
+	 * @param fingerprintCache the fingerprint cache to be used.
+	 * @return this
+	 */
+	public F setFingerprintCache(BinaryFingerprintCache fingerprintCache);
+	
+	/**
+	 * Sets the interval in milliseconds in which the object registry's housekeeping removes the entries
+	 * of objects collected by the JVM's GC and shrinks the registry's hash tables,
+	 * see {@link DefaultObjectRegistry#startHousekeeping()}.
+	 * The housekeeping thread is provided by the storage system's thread provider and runs while the storage is
+	 * running. The default is 0, meaning no housekeeping.
+	 * Only effective if the object registry is a {@link DefaultObjectRegistry}.
+	 * 
+	 * @param objectRegistryHousekeepingInterval the housekeeping interval in milliseconds or 0.
+	 * @return this
+	 */
+	public F setObjectRegistryHousekeepingInterval(long objectRegistryHousekeepingInterval);
+	
+	/**
+	 * Sets the maximum number of entries and buckets processed in one cycle of the object registry's
+	 * housekeeping, see {@link DefaultObjectRegistry#setHousekeepingConfiguration(long, int)}.
+	 * The default is {@link DefaultObjectRegistry#defaultHousekeepingSampleSize()}.
+	 * 
+	 * @param objectRegistryHousekeepingSampleSize the housekeeping sample size.
+	 * @return this
+	 */
+	public F setObjectRegistryHousekeepingSampleSize(int objectRegistryHousekeepingSampleSize);
+	
 	public StorageConnection createStorageConnection();
 
 
@@ -85,13 +196,20 @@ extends BinaryPersistenceFoundation<F>
 		// instance fields //
 		////////////////////
 
-		private StorageSystem                            storageSystem          ;
-		private Supplier<? extends StorageSystem>        storageSystemSupplier  ;
-		private StorageWriteController                   writeController        ;
-		private transient StorageRequestAcceptor         storageRequestAcceptor ;
-		private EmbeddedStorageObjectRegistryCallback    objectRegistryCallback ;
-		private Reference<PersistenceLiveStorerRegistry> storerRegistryReference;
-		private PersistenceLiveStorerRegistry            liveLiveStorerRegistry ;
+		private StorageSystem                            storageSystem                       ;
+		private Supplier<? extends StorageSystem>        storageSystemSupplier               ;
+		private StorageWriteController                   writeController                     ;
+		private transient StorageRequestAcceptor         storageRequestAcceptor              ;
+		private EmbeddedStorageObjectRegistryCallback    objectRegistryCallback              ;
+		private Reference<PersistenceLiveStorerRegistry> storerRegistryReference             ;
+		private PersistenceLiveStorerRegistry            liveLiveStorerRegistry              ;
+		private int                                      storingParallelism                  ;
+		private BinaryStoringPool                        storingPool                         ;
+		private long                                     storingStreamingWindow              ;
+		private boolean                                  storingChangeDetection              ;
+		private BinaryFingerprintCache                   fingerprintCache                    ;
+		private long                                     objectRegistryHousekeepingInterval  ;
+		private int                                      objectRegistryHousekeepingSampleSize = DefaultObjectRegistry.defaultHousekeepingSampleSize();
 		
 		
 		
@@ -172,6 +290,46 @@ extends BinaryPersistenceFoundation<F>
 			return this.liveLiveStorerRegistry;
 		}
 		
+		@Override
+		public int getStoringParallelism()
+		{
+			return this.storingParallelism;
+		}
+		
+		@Override
+		public BinaryStoringPool getStoringPool()
+		{
+			if(this.storingPool == null)
+			{
+				this.storingPool = this.dispatch(this.ensureStoringPool());
+			}
+			return this.storingPool;
+		}
+		
+		@Override
+		public long getStoringStreamingWindow()
+		{
+			return this.storingStreamingWindow;
+		}
+		
+		@Override
+		public boolean isStoringChangeDetection()
+		{
+			return this.storingChangeDetection;
+		}
+		
+		@Override
+		public long getObjectRegistryHousekeepingInterval()
+		{
+			return this.objectRegistryHousekeepingInterval;
+		}
+		
+		@Override
+		public int getObjectRegistryHousekeepingSampleSize()
+		{
+			return this.objectRegistryHousekeepingSampleSize;
+		}
+		
 
 		///////////////////////////////////////////////////////////////////////////
 		// setters //
@@ -222,6 +380,65 @@ extends BinaryPersistenceFoundation<F>
 			return this.$();
 		}
 		
+		@Override
+		public F setStoringParallelism(final int storingParallelism)
+		{
+			this.storingParallelism = XMath.notNegative(storingParallelism);
+			return this.$();
+		}
+		
+		@Override
+		public F setStoringPool(final BinaryStoringPool storingPool)
+		{
+			this.storingPool = storingPool;
+			return this.$();
+		}
+		
+		@Override
+		public F setStoringStreamingWindow(final long storingStreamingWindow)
+		{
+			this.storingStreamingWindow = XMath.notNegative(storingStreamingWindow);
+			return this.$();
+		}
+		
+		@Override
+		public F setObjectRegistryHousekeepingInterval(final long objectRegistryHousekeepingInterval)
+		{
+			this.objectRegistryHousekeepingInterval = XMath.notNegative(objectRegistryHousekeepingInterval);
+			return this.$();
+		}
+		
+		@Override
+		public F setObjectRegistryHousekeepingSampleSize(final int objectRegistryHousekeepingSampleSize)
+		{
+			this.objectRegistryHousekeepingSampleSize = XMath.positive(objectRegistryHousekeepingSampleSize);
+			return this.$();
+		}
+		
+		@Override
+		public F setStoringChangeDetection(final boolean storingChangeDetection)
+		{
+			this.storingChangeDetection = storingChangeDetection;
+			return this.$();
+		}
+		
+		@Override
+		public BinaryFingerprintCache getFingerprintCache()
+		{
+			if(this.fingerprintCache == null)
+			{
+				this.fingerprintCache = this.dispatch(this.ensureFingerprintCache());
+			}
+			return this.fingerprintCache;
+		}
+		
+		@Override
+		public F setFingerprintCache(final BinaryFingerprintCache fingerprintCache)
+		{
+			this.fingerprintCache = fingerprintCache;
+			return this.$();
+		}
+		
 		
 		
 		///////////////////////////////////////////////////////////////////////////
@@ -270,14 +487,39 @@ extends BinaryPersistenceFoundation<F>
 			);
 		}
 
+		protected BinaryStoringPool ensureStoringPool()
+		{
+			if(this.getStoringParallelism() == 0)
+			{
+				return null;
+			}
+			
+			// named like the other storage threads, shut down together with the storage.
+			return BinaryStoringPool.New(
+				this.getStoringParallelism(),
+				this.getStorageSystem().threadProvider().providePoolThreadFactory(BinaryStoringPool.defaultPoolName())
+			);
+		}
+
 		@Override
 		protected BinaryStorer.Creator ensureStorerCreator()
 		{
 			return BinaryStorer.Creator(
 				this.getStorageSystem().channelCountProvider(),
-				this.isByteOrderMismatch()
+				this.isByteOrderMismatch()                    ,
+				this.getStoringPool()                         ,
+				this.getStoringStreamingWindow()              ,
+				this.getFingerprintCache()
 			);
 		}
+		
+		protected BinaryFingerprintCache ensureFingerprintCache()
+		{
+			return this.isStoringChangeDetection()
+				? BinaryFingerprintCache.New()
+				: null
+			;
+		}
 
 		@Override
 		protected EmbeddedStorageBinarySource ensurePersistenceSource()
@@ -298,7 +540,12 @@ extends BinaryPersistenceFoundation<F>
 		{
 			if(this.storageRequestAcceptor == null)
 			{
-				this.storageRequestAcceptor = this.storageSystem.createRequestAcceptor();
+				final StorageRequestAcceptor requestAcceptor  = this.storageSystem.createRequestAcceptor();
+				final BinaryFingerprintCache fingerprintCache = this.getFingerprintCache();
+				this.storageRequestAcceptor = fingerprintCache == null
+					? requestAcceptor
+					: EmbeddedStorageRequestAcceptorFingerprintClearing.New(requestAcceptor, fingerprintCache)
+				;
 			}
 			return this.storageRequestAcceptor;
 		}
@@ -332,6 +579,9 @@ extends BinaryPersistenceFoundation<F>
 
 			// reference explicitly the PM's object registry, just to be safe
 			this.getObjectRegistryCallback().initializeObjectRegistry(pm.objectRegistry());
+			
+			// entities deleted by the storage GC must not be skipped when they are stored again.
+			this.getObjectRegistryCallback().initializeFingerprintCache(this.getFingerprintCache());
 			// note: using more than 1 connection might cause consistency problems for the Storage GC using the callback
 
 			return pm;
@@ -34,8 +34,12 @@ import one.microstream.collections.XSort;
 import one.microstream.collections.types.XGettingEnum;
 import one.microstream.collections.types.XGettingTable;
 import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryFingerprintCache;
+import one.microstream.persistence.binary.types.BinaryStoringPool;
+import one.microstream.persistence.internal.DefaultObjectRegistry;
 import one.microstream.persistence.types.Persistence;
 import one.microstream.persistence.types.PersistenceManager;
+import one.microstream.persistence.types.PersistenceObjectRegistry;
 import one.microstream.persistence.types.PersistenceRootReference;
 import one.microstream.persistence.types.PersistenceRoots;
 import one.microstream.persistence.types.PersistenceRootsProvider;
@@ -59,6 +63,7 @@ import one.microstream.storage.types.StorageLiveFileProvider;
 import one.microstream.storage.types.StorageManager;
 import one.microstream.storage.types.StorageRawFileStatistics;
 import one.microstream.storage.types.StorageSystem;
+import one.microstream.storage.types.StorageThreadProvider;
 import one.microstream.storage.types.StorageTypeDictionary;
 import one.microstream.typing.KeyValue;
 import one.microstream.util.logging.Logging;
@@ -242,6 +247,9 @@ public interface EmbeddedStorageManager extends StorageManager
 			final LazyReferenceManager lazyReferenceManager = LazyReferenceManager.get();
 			final boolean lazyReferenceManagerIsRunning = lazyReferenceManager.isRunning();
 			
+			// the storage's files might have been changed while it was shut down.
+			this.clearFingerprintCache();
+			
 			this.storageSystem.start();
 			
 			try
@@ -253,6 +261,8 @@ public interface EmbeddedStorageManager extends StorageManager
 				
 				// this depends on completed initialization
 				this.ensureActiveLazyReferenceManager(lazyReferenceManager, lazyReferenceManagerIsRunning);
+				
+				this.startObjectRegistryHousekeeping();
 			}
 			catch(final Throwable t)
 			{
@@ -268,6 +278,8 @@ public interface EmbeddedStorageManager extends StorageManager
 					{
 						this.storageSystem.shutdown();
 					}
+					this.shutdownStoringPool();
+					this.stopObjectRegistryHousekeeping();
 				}
 				catch(final Throwable t1)
 				{
@@ -395,7 +407,75 @@ public interface EmbeddedStorageManager extends StorageManager
 		public final boolean shutdown()
 		{
 			LazyReferenceManager.get().removeController(this);
-			return this.storageSystem.shutdown();
+			final boolean success = this.storageSystem.shutdown();
+			this.shutdownStoringPool();
+			this.stopObjectRegistryHousekeeping();
+			
+			return success;
+		}
+		
+		private void shutdownStoringPool()
+		{
+			// the pool's threads are only created on demand, so this never starts any.
+			final BinaryStoringPool storingPool = this.connectionFoundation.getStoringPool();
+			if(storingPool != null)
+			{
+				storingPool.shutdown();
+			}
+		}
+
+		private DefaultObjectRegistry housekeptObjectRegistry()
+		{
+			if(this.connectionFoundation.getObjectRegistryHousekeepingInterval() == 0)
+			{
+				return null;
+			}
+			
+			final PersistenceObjectRegistry objectRegistry = this.connectionFoundation.getObjectRegistry();
+			
+			return objectRegistry instanceof DefaultObjectRegistry
+				? (DefaultObjectRegistry)objectRegistry
+				: null
+			;
+		}
+		
+		private void startObjectRegistryHousekeeping()
+		{
+			final DefaultObjectRegistry objectRegistry = this.housekeptObjectRegistry();
+			if(objectRegistry == null)
+			{
+				return;
+			}
+			
+			final StorageThreadProvider threadProvider = this.storageSystem.threadProvider();
+			objectRegistry
+				.setHousekeepingThreadFactory(housekeeper ->
+					threadProvider.provideWorkerThread(housekeeper, "ObjectRegistryHousekeeper")
+				)
+				.setHousekeepingConfiguration(
+					this.connectionFoundation.getObjectRegistryHousekeepingInterval(),
+					this.connectionFoundation.getObjectRegistryHousekeepingSampleSize()
+				)
+				.startHousekeeping()
+			;
+		}
+		
+		private void stopObjectRegistryHousekeeping()
+		{
+			final DefaultObjectRegistry objectRegistry = this.housekeptObjectRegistry();
+			if(objectRegistry != null)
+			{
+				objectRegistry.stopHousekeeping();
+			}
+		}
+
+		private void clearFingerprintCache()
+		{
+			final BinaryFingerprintCache fingerprintCache = this.connectionFoundation.getFingerprintCache();
+			if(fingerprintCache != null)
+			{
+				fingerprintCache.clear();
+			}
 		}
 
 		@Override
@@ -20,6 +20,9 @@ package one.microstream.storage.embedded.types;
  * #L%
  */
 
+import one.microstream.collections.Set_long;
+import one.microstream.functional._longPredicate;
+import one.microstream.persistence.binary.types.BinaryFingerprintCache;
 import one.microstream.persistence.types.ObjectIdsProcessor;
 import one.microstream.persistence.types.ObjectIdsSelector;
 import one.microstream.persistence.types.PersistenceObjectRegistry;
@@ -27,6 +30,14 @@ import one.microstream.persistence.types.PersistenceObjectRegistry;
 public interface EmbeddedStorageObjectRegistryCallback extends ObjectIdsSelector
 {
 	public void initializeObjectRegistry(PersistenceObjectRegistry objectRegistry);
+	
+	/**
+	 * Sets the cache of the fingerprints of stored entities, if any. The fingerprints of the entities deleted
+	 * by the storage's garbage collector are removed from it, see {@link BinaryFingerprintCache}.
+	 * 
+	 * @param fingerprintCache the fingerprint cache or {@literal null}.
+	 */
+	public void initializeFingerprintCache(BinaryFingerprintCache fingerprintCache);
 
 
 
@@ -41,7 +52,8 @@ public interface EmbeddedStorageObjectRegistryCallback extends ObjectIdsSelector
 		// instance fields //
 		////////////////////
 
-		private PersistenceObjectRegistry objectRegistry;
+		private PersistenceObjectRegistry objectRegistry  ;
+		private BinaryFingerprintCache    fingerprintCache;
 
 
 
@@ -77,18 +89,88 @@ public interface EmbeddedStorageObjectRegistryCallback extends ObjectIdsSelector
 			this.objectRegistry = objectRegistry;
 		}
 
+		@Override
+		public synchronized void initializeFingerprintCache(final BinaryFingerprintCache fingerprintCache)
+		{
+			this.fingerprintCache = fingerprintCache;
+		}
+
 		@Override
 		public synchronized boolean processSelected(final ObjectIdsProcessor processor)
 		{
+			final ObjectIdsProcessor sweepProcessor = this.fingerprintCache == null
+				? processor
+				: new FingerprintRemovingProcessor(processor, this.fingerprintCache)
+			;
+			
 			if(this.objectRegistry == null)
 			{
 				// object registry not yet initialized (i.e. no application-side storage connection yet)
-				processor.processObjectIdsByFilter(objectId -> false);
+				sweepProcessor.processObjectIdsByFilter(objectId -> false);
 				return true;
 			}
 
 			// efficient for embedded mode, but server mode should use #selectLiveObjectIds instead.
-			return this.objectRegistry.processLiveObjectIds(processor);
+			return this.objectRegistry.processLiveObjectIds(sweepProcessor);
+		}
+
+	}
+	
+	
+	
+	/**
+	 * The storage's sweep deletes the entities of all object ids that are not selected,
+	 * so their fingerprints are removed on the way.
+	 */
+	final class FingerprintRemovingProcessor implements ObjectIdsProcessor
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final ObjectIdsProcessor     processor       ;
+		private final BinaryFingerprintCache fingerprintCache;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		FingerprintRemovingProcessor(
+			final ObjectIdsProcessor     processor       ,
+			final BinaryFingerprintCache fingerprintCache
+		)
+		{
+			super();
+			this.processor        = processor       ;
+			this.fingerprintCache = fingerprintCache;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public void processObjectIdsByFilter(final _longPredicate objectIdsSelector)
+		{
+			this.processor.processObjectIdsByFilter(objectId ->
+			{
+				if(objectIdsSelector.test(objectId))
+				{
+					return true;
+				}
+				this.fingerprintCache.remove(objectId);
+				return false;
+			});
+		}
+
+		@Override
+		public Set_long provideObjectIdsBaseSet()
+		{
+			return this.processor.provideObjectIdsBaseSet();
 		}
 
 	}
@@ -0,0 +1,213 @@
+package one.microstream.storage.embedded.types;
+
+/*-
+ * #%L
+ * MicroStream Embedded Storage
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.X.notNull;
+
+import java.nio.ByteBuffer;
+import java.util.function.Predicate;
+
+import one.microstream.afs.types.AFile;
+import one.microstream.collections.types.XGettingEnum;
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.BinaryFingerprintCache;
+import one.microstream.persistence.types.PersistenceIdSet;
+import one.microstream.storage.types.StorageEntityCacheEvaluator;
+import one.microstream.storage.types.StorageEntityTypeExportFileProvider;
+import one.microstream.storage.types.StorageEntityTypeExportStatistics;
+import one.microstream.storage.types.StorageEntityTypeHandler;
+import one.microstream.storage.types.StorageLiveFileProvider;
+import one.microstream.storage.types.StorageRawFileStatistics;
+import one.microstream.storage.types.StorageRequestAcceptor;
+import one.microstream.storage.types.StorageRequestTaskStoreStream;
+
+/**
+ * Request acceptor decorator which clears a {@link BinaryFingerprintCache} whenever data is imported,
+ * since imported entities replace stored ones without a storer.
+ */
+public interface EmbeddedStorageRequestAcceptorFingerprintClearing extends StorageRequestAcceptor
+{
+	public static EmbeddedStorageRequestAcceptorFingerprintClearing New(
+		final StorageRequestAcceptor delegate        ,
+		final BinaryFingerprintCache fingerprintCache
+	)
+	{
+		return new EmbeddedStorageRequestAcceptorFingerprintClearing.Default(
+			notNull(delegate)        ,
+			notNull(fingerprintCache)
+		);
+	}
+
+
+
+	public final class Default implements EmbeddedStorageRequestAcceptorFingerprintClearing
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final StorageRequestAcceptor delegate        ;
+		private final BinaryFingerprintCache fingerprintCache;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		Default(
+			final StorageRequestAcceptor delegate        ,
+			final BinaryFingerprintCache fingerprintCache
+		)
+		{
+			super();
+			this.delegate         = delegate        ;
+			this.fingerprintCache = fingerprintCache;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public void storeData(final Binary data) throws InterruptedException
+		{
+			this.delegate.storeData(data);
+		}
+
+		@Override
+		public StorageRequestTaskStoreStream openStoreStream() throws InterruptedException
+		{
+			return this.delegate.openStoreStream();
+		}
+
+		@Override
+		public void storeDataPart(final StorageRequestTaskStoreStream stream, final Binary data)
+			throws InterruptedException
+		{
+			this.delegate.storeDataPart(stream, data);
+		}
+
+		@Override
+		public void commitStoreStream(final StorageRequestTaskStoreStream stream, final Binary data)
+			throws InterruptedException
+		{
+			this.delegate.commitStoreStream(stream, data);
+		}
+
+		@Override
+		public Binary queryByObjectIds(final PersistenceIdSet[] loadOids) throws InterruptedException
+		{
+			return this.delegate.queryByObjectIds(loadOids);
+		}
+
+		@Override
+		public Binary queryByTypeIds(final PersistenceIdSet loadTids) throws InterruptedException
+		{
+			return this.delegate.queryByTypeIds(loadTids);
+		}
+
+		@Override
+		public Binary recallRoots() throws InterruptedException
+		{
+			return this.delegate.recallRoots();
+		}
+
+		@Override
+		public boolean issueGarbageCollection(final long nanoTimeBudget) throws InterruptedException
+		{
+			return this.delegate.issueGarbageCollection(nanoTimeBudget);
+		}
+
+		@Override
+		public boolean issueFileCheck(final long nanoTimeBudget) throws InterruptedException
+		{
+			return this.delegate.issueFileCheck(nanoTimeBudget);
+		}
+
+		@Override
+		public boolean issueCacheCheck(final long nanoTimeBudget, final StorageEntityCacheEvaluator entityEvaluator)
+			throws InterruptedException
+		{
+			return this.delegate.issueCacheCheck(nanoTimeBudget, entityEvaluator);
+		}
+
+		@Override
+		public void issueTransactionsLogCleanup() throws InterruptedException
+		{
+			this.delegate.issueTransactionsLogCleanup();
+		}
+
+		@Override
+		public StorageEntityTypeExportStatistics exportTypes(
+			final StorageEntityTypeExportFileProvider         exportFileProvider,
+			final Predicate<? super StorageEntityTypeHandler> isExportType
+		)
+			throws InterruptedException
+		{
+			return this.delegate.exportTypes(exportFileProvider, isExportType);
+		}
+
+		@Override
+		public void exportChannels(final StorageLiveFileProvider fileProvider, final boolean performGarbageCollection)
+			throws InterruptedException
+		{
+			this.delegate.exportChannels(fileProvider, performGarbageCollection);
+		}
+
+		@Override
+		public void importFiles(final XGettingEnum<AFile> importFiles) throws InterruptedException
+		{
+			try
+			{
+				this.delegate.importFiles(importFiles);
+			}
+			finally
+			{
+				// even a failed import might have replaced some entities.
+				this.fingerprintCache.clear();
+			}
+		}
+
+		@Override
+		public void importData(final XGettingEnum<ByteBuffer> importData) throws InterruptedException
+		{
+			try
+			{
+				this.delegate.importData(importData);
+			}
+			finally
+			{
+				this.fingerprintCache.clear();
+			}
+		}
+
+		@Override
+		public StorageRawFileStatistics createStatistics() throws InterruptedException
+		{
+			return this.delegate.createStatistics();
+		}
+
+	}
+
+}
@@ -21,6 +21,7 @@ package one.microstream.storage.types;
  */
 
 import java.lang.ref.WeakReference;
+import java.util.function.Consumer;
 
 import one.microstream.chars.XChars;
 import one.microstream.persistence.types.Persister;
@@ -165,6 +166,14 @@ public interface Database extends DatabasePart, Persister
 			return storage.getObject(objectId);
 		}
 		
+		@Override
+		public final <C extends Consumer<Object>> C collect(final C collector, final long... objectIds)
+		{
+			final StorageManager storage = this.guaranteeActiveStorage();
+
+			return storage.collect(collector, objectIds);
+		}
+		
 		@Override
 		public final long store(final Object instance)
 		{
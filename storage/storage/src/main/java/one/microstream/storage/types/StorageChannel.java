@@ -40,6 +40,7 @@ import one.microstream.persistence.binary.types.ChunksBufferByteReversing;
 import one.microstream.persistence.types.PersistenceIdSet;
 import one.microstream.persistence.types.Unpersistable;
 import one.microstream.storage.exceptions.StorageExceptionConsistency;
+import one.microstream.storage.exceptions.StorageExceptionNotRunning;
 import one.microstream.time.XTime;
 import one.microstream.typing.Disposable;
 import one.microstream.typing.KeyValue;
@@ -53,6 +54,23 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 
 	public ChunksBuffer collectLoadByOids(ChunksBuffer[] channelChunks, PersistenceIdSet loadOids);
 
+	/**
+	 * Collects the data of the entities identified by the passed object ids directly in the calling thread,
+	 * bypassing the task queue. The channel's entity cache is guarded by a per-channel lock that the channel
+	 * thread holds while processing a task or doing housekeeping, so the loading interleaves with the channel's
+	 * task processing instead of waiting behind all previously enqueued tasks.
+	 * <p>
+	 * Since enqueued but not yet processed store tasks are not visible, only already committed entities
+	 * can be loaded this way. A requested object id that is not (yet) known to the channel causes a
+	 * {@link StorageExceptionConsistency}, leaving it to the caller to fall back to regular task processing.
+	 *
+	 * @param channelChunks the result array shared by all channels
+	 * @param loadOids the object ids of the entities to be loaded from this channel
+	 * @return the collected entity data
+	 * @throws StorageExceptionNotRunning if the channel is not processing anymore.
+	 */
+	public ChunksBuffer collectLoadByOidsConcurrently(ChunksBuffer[] channelChunks, PersistenceIdSet loadOids);
+
 	public ChunksBuffer collectLoadRoots(ChunksBuffer[] channelChunks);
 
 	public ChunksBuffer collectLoadByTids(ChunksBuffer[] channelChunks, PersistenceIdSet loadTids);
@@ -65,6 +83,20 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 
 	public void postStoreUpdateEntityCache(ByteBuffer[] chunks, long[] chunksStoragePositions)
 		throws InterruptedException;
+	
+	/**
+	 * Writes a part of a streamed store without committing it. The part's data is not needed anymore afterwards
+	 * and gets cleared. The store is completed by {@link #completeStoreEntitiesParts(long)} and then committed
+	 * or rolled back like any other store.
+	 * 
+	 * @param timestamp the timestamp of the streamed store.
+	 * @param chunkData the part's data for this channel.
+	 */
+	public void storeEntitiesPart(long timestamp, Chunk chunkData);
+	
+	public void completeStoreEntitiesParts(long timestamp);
+	
+	public void postStorePartsUpdateEntityCache() throws InterruptedException;
 
 	public StorageInventory readStorage();
 
@@ -105,6 +137,19 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 	);
 
 	public void signalGarbageCollectionSweepCompleted();
+	
+	/**
+	 * Writes a snapshot of this channel's entity index to speed up the next startup, if enabled.
+	 * Any problem is reported but never thrown, as the snapshot is merely an optimization.
+	 * 
+	 * @return whether a snapshot has been written.
+	 */
+	public boolean writeEntityIndexSnapshot();
+	
+	/**
+	 * Synchronizes all committed stores that are still pending due to a periodic sync {@link StorageDurability}.
+	 */
+	public void syncPendingStore();
 
 //	public void truncateData();
 
@@ -135,6 +180,14 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 
 		private final HousekeepingTask[] housekeepingTasks;
 		
+		/**
+		 * Guards the entity cache (and the file manager) against concurrent access by the channel thread and
+		 * application threads loading directly via {@link #collectLoadByOidsConcurrently(ChunksBuffer[], PersistenceIdSet)}.
+		 * The channel thread only holds it during the single operations on them that tasks call and during
+		 * housekeeping, never while waiting for other channels (e.g. before committing a store) or for new tasks.
+		 */
+		private final Object entityCacheLock = new Object();
+		
 		private int nextHouseKeepingIndex;
 
 		/**
@@ -352,13 +405,19 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		@Override
 		public final boolean issuedGarbageCollection(final long nanoTimeBudget)
 		{
-			return this.housekeepingBroker.performIssuedGarbageCollection(this, nanoTimeBudget);
+			synchronized(this.entityCacheLock)
+			{
+				return this.housekeepingBroker.performIssuedGarbageCollection(this, nanoTimeBudget);
+			}
 		}
 
 		@Override
 		public boolean issuedFileCleanupCheck(final long nanoTimeBudget)
 		{
-			return this.housekeepingBroker.performIssuedFileCleanupCheck(this, nanoTimeBudget);
+			synchronized(this.entityCacheLock)
+			{
+				return this.housekeepingBroker.performIssuedFileCleanupCheck(this, nanoTimeBudget);
+			}
 		}
 
 		@Override
@@ -367,13 +426,19 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 			final StorageEntityCacheEvaluator entityEvaluator
 		)
 		{
-			return this.housekeepingBroker.performIssuedEntityCacheCheck(this, nanoTimeBudget, entityEvaluator);
+			synchronized(this.entityCacheLock)
+			{
+				return this.housekeepingBroker.performIssuedEntityCacheCheck(this, nanoTimeBudget, entityEvaluator);
+			}
 		}
 		
 		@Override
 		public boolean issuedTransactionsLogCleanup()
 		{
-			return this.housekeepingBroker.performTransactionFileCheck(this, false);
+			synchronized(this.entityCacheLock)
+			{
+				return this.housekeepingBroker.performTransactionFileCheck(this, false);
+			}
 		}
 		
 		private long calculateSpecificHousekeepingTimeBudget(final long nanoTimeBudget)
@@ -418,6 +483,15 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 			return this.housekeepingBroker.performTransactionFileCheck(this, true);
 		}
 
+		private static long calculateWaitTimeMs(final long housekeepingIntervalMs, final long syncDueNs)
+		{
+			// a pending store must be synchronized in time even if no new task comes in
+			return syncDueNs < 0
+				? housekeepingIntervalMs
+				: Math.max(1, Math.min(housekeepingIntervalMs, (syncDueNs + 999_999) / 1_000_000))
+			;
+		}
+
 		private void work() throws InterruptedException
 		{
 			logger.debug("StorageChannel#{} started", this.channelIndex);
@@ -427,12 +501,14 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 
 			StorageTask processedTask = new StorageTask.DummyTask();
 			StorageTask currentTask   = notNull(this.taskBroker.currentTask());
+			long        syncDueNs     = -1;
 
 			while(true)
 			{
 				// ensure to process every task only once in case no new task came in in time (see below).
 				if(currentTask != processedTask)
 				{
+					// locks the entity cache in the single operations, not while waiting for other channels.
 					currentTask.processBy(this);
 					processedTask = currentTask;
 				}
@@ -459,7 +535,11 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 				 */
 				try
 				{
-					this.houseKeeping();
+					synchronized(this.entityCacheLock)
+					{
+						this.houseKeeping();
+						syncDueNs = this.fileManager.syncPendingStoreIfDue();
+					}
 				}
 				catch(final Throwable t)
 				{
@@ -474,7 +554,9 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 				
 
 				// check and wait for the next task to come in
-				if((currentTask = processedTask.awaitNext(housekeepingController.housekeepingIntervalMs())) == null)
+				if((currentTask = processedTask.awaitNext(
+					calculateWaitTimeMs(housekeepingController.housekeepingIntervalMs(), syncDueNs)
+				)) == null)
 				{
 					// revert to processed task to wait on it again for the next task
 					currentTask = processedTask;
@@ -558,29 +640,76 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		@Override
 		public void commitChunkStorage()
 		{
-			this.fileManager.commitWrite();
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.commitWrite();
+			}
 		}
 
 		@Override
 		public KeyValue<ByteBuffer[], long[]> storeEntities(final long timestamp, final Chunk chunkData)
 		{
-			// reset even if there is no new data to account for (potential) new data in other channel
-			this.entityCache.registerPendingStoreUpdate();
+			synchronized(this.entityCacheLock)
+			{
+				// reset even if there is no new data to account for (potential) new data in other channel
+				this.entityCache.registerPendingStoreUpdate();
 
-			final ByteBuffer[] buffers = chunkData.buffers();
-			
-			// (11.03.2019 TM)FIXME: priv#74: Pre-Write EntityValidator
-			
-			// set new data flag, even if chunk has no data to account for (potential) data in other channels
-			return X.KeyValue(buffers, this.fileManager.storeChunks(timestamp, buffers));
+				final ByteBuffer[] buffers = chunkData.buffers();
+				
+				// (11.03.2019 TM)FIXME: priv#74: Pre-Write EntityValidator
+				
+				// set new data flag, even if chunk has no data to account for (potential) data in other channels
+				return X.KeyValue(buffers, this.fileManager.storeChunks(timestamp, buffers));
+			}
 		}
 
 		@Override
 		public void postStoreUpdateEntityCache(final ByteBuffer[] chunks, final long[] chunksStoragePositions)
 			throws InterruptedException
 		{
-			// all chunks were written into the same file, so it is viable to pass the current file right here
-			this.entityCache.postStorePutEntities(chunks, chunksStoragePositions, this.fileManager.currentStorageFile());
+			synchronized(this.entityCacheLock)
+			{
+				// all chunks were written into the same file, so it is viable to pass the current file right here
+				this.entityCache.postStorePutEntities(chunks, chunksStoragePositions, this.fileManager.currentStorageFile());
+			}
+		}
+
+		@Override
+		public void storeEntitiesPart(final long timestamp, final Chunk chunkData)
+		{
+			synchronized(this.entityCacheLock)
+			{
+				// idempotent, keeps the GC from sweeping entities the stream might still reference until cleanup
+				this.entityCache.registerPendingStoreUpdate();
+				
+				final ByteBuffer[] buffers   = chunkData.buffers();
+				final long[]       positions = this.fileManager.storeChunksPart(timestamp, buffers);
+				this.entityCache.registerPendingStoreEntities(buffers, positions);
+				
+				// only the entity headers are required after writing, the part's memory can be released right away
+				chunkData.clear();
+			}
+		}
+		
+		@Override
+		public void completeStoreEntitiesParts(final long timestamp)
+		{
+			synchronized(this.entityCacheLock)
+			{
+				// even a stream that yielded no data for this channel must block sweeps until it has been committed
+				this.entityCache.registerPendingStoreUpdate();
+				this.fileManager.completeStoreChunks(timestamp);
+			}
+		}
+		
+		@Override
+		public void postStorePartsUpdateEntityCache() throws InterruptedException
+		{
+			synchronized(this.entityCacheLock)
+			{
+				// all parts were written into the same file, so it is viable to pass the current file right here
+				this.entityCache.postStorePutPendingEntities(this.fileManager.currentStorageFile());
+			}
 		}
 
 		@Override
@@ -606,71 +735,113 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		@Override
 		public final ChunksBuffer collectLoadByOids(final ChunksBuffer[] resultArray, final PersistenceIdSet loadOids)
 		{
-			logger.debug("StorageChannel#{} loading {} references", this.channelIndex, loadOids.size());
+			synchronized(this.entityCacheLock)
+			{
+				logger.debug("StorageChannel#{} loading {} references", this.channelIndex, loadOids.size());
+
+				/* it is probably best to start (any maybe continue) with lots of small, memory-agile
+				 * byte buffers than to estimate one sufficiently huge bulky byte buffer.
+				 */
+				final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
+				if(!loadOids.isEmpty())
+				{
+					// progress must have been incremented accordingly at task creation time
+					loadOids.iterate(new EntityCollectorByOid(this.entityCache, chunks));
+				}
+				
+				return chunks.complete();
+			}
+		}
 
-			/* it is probably best to start (any maybe continue) with lots of small, memory-agile
-			 * byte buffers than to estimate one sufficiently huge bulky byte buffer.
-			 */
-			final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
-			if(!loadOids.isEmpty())
+		@Override
+		public final ChunksBuffer collectLoadByOidsConcurrently(
+			final ChunksBuffer[]   resultArray,
+			final PersistenceIdSet loadOids
+		)
+		{
+			synchronized(this.entityCacheLock)
 			{
-				// progress must have been incremented accordingly at task creation time
-				loadOids.iterate(new EntityCollectorByOid(this.entityCache, chunks));
+				// checked under the lock since a shut down channel has already reset its entity cache
+				if(!this.isActive() || !this.operationController.checkProcessingEnabled())
+				{
+					throw new StorageExceptionNotRunning("StorageChannel#" + this.channelIndex + " is not running.");
+				}
+				
+				return this.collectLoadByOids(resultArray, loadOids);
 			}
-			
-			return chunks.complete();
 		}
 
 		@Override
 		public final ChunksBuffer collectLoadRoots(final ChunksBuffer[] resultArray)
 		{
-			// pretty straight forward: cram all root instances the entity cache knows of into the buffer
-			final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
-			this.entityCache.copyRoots(chunks);
-			return chunks.complete();
+			synchronized(this.entityCacheLock)
+			{
+				// pretty straight forward: cram all root instances the entity cache knows of into the buffer
+				final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
+				this.entityCache.copyRoots(chunks);
+				return chunks.complete();
+			}
 		}
 
 		@Override
 		public final ChunksBuffer collectLoadByTids(final ChunksBuffer[] resultArray, final PersistenceIdSet loadTids)
 		{
-			final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
-			if(!loadTids.isEmpty())
+			synchronized(this.entityCacheLock)
 			{
-				// progress must have been incremented accordingly at task creation time
-				loadTids.iterate(new EntityCollectorByTid(this.entityCache, chunks));
+				final ChunksBuffer chunks = this.createLoadingChunksBuffer(resultArray);
+				if(!loadTids.isEmpty())
+				{
+					// progress must have been incremented accordingly at task creation time
+					loadTids.iterate(new EntityCollectorByTid(this.entityCache, chunks));
+				}
+				return chunks.complete();
 			}
-			return chunks.complete();
 		}
 
 		@Override
 		public final void exportData(final StorageLiveFileProvider fileProvider)
 		{
-			this.fileManager.exportData(fileProvider);
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.exportData(fileProvider);
+			}
 		}
 
 		@Override
 		public StorageEntityCache.Default prepareImportData()
 		{
-			this.fileManager.prepareImport();
-			return this.entityCache;
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.prepareImport();
+				return this.entityCache;
+			}
 		}
 
 		@Override
 		public void importData(final StorageImportSource importSource)
 		{
-			this.fileManager.copyData(importSource);
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.copyData(importSource);
+			}
 		}
 
 		@Override
 		public void rollbackImportData(final Throwable cause)
 		{
-			this.fileManager.rollbackImport();
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.rollbackImport();
+			}
 		}
 
 		@Override
 		public void commitImportData(final long taskTimestamp)
 		{
-			this.fileManager.commitImport(taskTimestamp);
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.commitImport(taskTimestamp);
+			}
 		}
 
 		@Override
@@ -681,30 +852,33 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		)
 			throws IOException
 		{
-			final StorageEntityType.Default entities = this.entityCache.getType(type.typeId());
-			if(entities == null || entities.entityCount() == 0)
+			synchronized(this.entityCacheLock)
 			{
-				return X.KeyValue(0L, 0L);
-			}
-
-			final long byteCount = entities.iterateEntities(
-				new ThrowingProcedure<StorageEntity.Default, IOException>()
+				final StorageEntityType.Default entities = this.entityCache.getType(type.typeId());
+				if(entities == null || entities.entityCount() == 0)
 				{
-					long byteCount;
+					return X.KeyValue(0L, 0L);
+				}
 
-					@Override
-					public void accept(final StorageEntity.Default e) throws IOException
+				final long byteCount = entities.iterateEntities(
+					new ThrowingProcedure<StorageEntity.Default, IOException>()
 					{
-						if(!predicateEntity.test(e))
+						long byteCount;
+
+						@Override
+						public void accept(final StorageEntity.Default e) throws IOException
 						{
-							return;
+							if(!predicateEntity.test(e))
+							{
+								return;
+							}
+							this.byteCount += e.exportTo(file);
 						}
-						this.byteCount += e.exportTo(file);
 					}
-				}
-			).byteCount;
+				).byteCount;
 
-			return X.KeyValue(byteCount, entities.entityCount());
+				return X.KeyValue(byteCount, entities.entityCount());
+			}
 		}
 
 		// intentionally implemented redundantly to the other exportTypeEntities for performance reasons
@@ -715,44 +889,56 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		)
 			throws IOException
 		{
-			final StorageEntityType.Default entities = this.entityCache.getType(type.typeId());
-			if(entities == null || entities.entityCount() == 0)
+			synchronized(this.entityCacheLock)
 			{
-				return X.KeyValue(0L, 0L);
-			}
-
-			final long byteCount = entities.iterateEntities(
-				new ThrowingProcedure<StorageEntity.Default, IOException>()
+				final StorageEntityType.Default entities = this.entityCache.getType(type.typeId());
+				if(entities == null || entities.entityCount() == 0)
 				{
-					long byteCount;
+					return X.KeyValue(0L, 0L);
+				}
 
-					@Override
-					public void accept(final StorageEntity.Default e) throws IOException
+				final long byteCount = entities.iterateEntities(
+					new ThrowingProcedure<StorageEntity.Default, IOException>()
 					{
-						this.byteCount += e.exportTo(file);
+						long byteCount;
+
+						@Override
+						public void accept(final StorageEntity.Default e) throws IOException
+						{
+							this.byteCount += e.exportTo(file);
+						}
 					}
-				}
-			).byteCount;
+				).byteCount;
 
-			return X.KeyValue(byteCount, entities.entityCount());
+				return X.KeyValue(byteCount, entities.entityCount());
+			}
 		}
 
 		@Override
 		public final StorageRawFileStatistics.ChannelStatistics createRawFileStatistics()
 		{
-			return this.fileManager.createRawFileStatistics();
+			synchronized(this.entityCacheLock)
+			{
+				return this.fileManager.createRawFileStatistics();
+			}
 		}
 
 		@Override
 		public final void rollbackChunkStorage()
 		{
-			this.fileManager.rollbackWrite();
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.rollbackWrite();
+			}
 		}
 
 		@Override
 		public final StorageInventory readStorage()
 		{
-			return this.fileManager.readStorage();
+			synchronized(this.entityCacheLock)
+			{
+				return this.fileManager.readStorage();
+			}
 		}
 
 		@Override
@@ -762,12 +948,15 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 			final StorageInventory storageInventory
 		)
 		{
-			return this.fileManager.initializeStorage(
-				taskTimestamp           ,
-				consistentStoreTimestamp,
-				storageInventory        ,
-				this
-			);
+			synchronized(this.entityCacheLock)
+			{
+				return this.fileManager.initializeStorage(
+					taskTimestamp           ,
+					consistentStoreTimestamp,
+					storageInventory        ,
+					this
+				);
+			}
 		}
 
 		/**
@@ -776,27 +965,65 @@ public interface StorageChannel extends Runnable, StorageChannelResetablePart, S
 		@Override
 		public final void reset()
 		{
-			this.entityCache.reset();
-			this.fileManager.reset();
+			synchronized(this.entityCacheLock)
+			{
+				this.entityCache.reset();
+				this.fileManager.reset();
+			}
+		}
+
+		@Override
+		public final boolean writeEntityIndexSnapshot()
+		{
+			synchronized(this.entityCacheLock)
+			{
+				try
+				{
+					return this.fileManager.writeEntityIndexSnapshot();
+				}
+				catch(final Throwable t)
+				{
+					logger.error("StorageChannel#{} could not write entity index snapshot", this.channelIndex, t);
+					return false;
+				}
+			}
+		}
+		
+		@Override
+		public final void syncPendingStore()
+		{
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.syncPendingStore();
+			}
 		}
 
 		@Override
 		public final void signalGarbageCollectionSweepCompleted()
 		{
-			this.fileManager.restartFileCleanupCursor();
+			synchronized(this.entityCacheLock)
+			{
+				this.fileManager.restartFileCleanupCursor();
+			}
 		}
 
 		@Override
 		public void cleanupStore()
 		{
-			this.entityCache.clearPendingStoreUpdate();
+			synchronized(this.entityCacheLock)
+			{
+				this.entityCache.clearPendingStoreUpdate();
+			}
 		}
 
 		@Override
 		public final void dispose()
 		{
-			this.entityCache.reset();
-			this.fileManager.dispose();
+			synchronized(this.entityCacheLock)
+			{
+				this.entityCache.dispose();
+				this.fileManager.dispose();
+			}
 		}
 	}
 
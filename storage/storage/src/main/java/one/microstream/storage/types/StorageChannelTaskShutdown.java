@@ -48,6 +48,9 @@ public interface StorageChannelTaskShutdown extends StorageChannelTask
 		@Override
 		protected final Void internalProcessBy(final StorageChannel channel)
 		{
+			// pending stores must be durable before shutting down. A problem here lets the shutdown fail.
+			channel.syncPendingStore();
+			
 			// may not deactivate here as some channel threads would die before all others notice the progress
 			return null;
 		}
@@ -63,6 +66,9 @@ public interface StorageChannelTaskShutdown extends StorageChannelTask
 			 * so that the issuing shutdown method waits for the shutdown to actually complete.
 			 */
 
+			// all data is written at this point, so the entity index is final. Never throws an exception.
+			channel.writeEntityIndexSnapshot();
+			
 			// can / may never throw an exception
 			channel.reset();
 		}
@@ -20,6 +20,8 @@ package one.microstream.storage.types;
  * #L%
  */
 
+import static one.microstream.math.XMath.notNegative;
+
 import one.microstream.memory.XMemory;
 import one.microstream.persistence.types.ObjectIdsSelector;
 import one.microstream.persistence.types.PersistenceLiveStorerRegistry;
@@ -36,6 +38,7 @@ public interface StorageChannelsCreator
 		StorageDataFileEvaluator                   fileDissolver                ,
 		StorageLiveFileProvider                    liveFileProvider             ,
 		StorageEntityCacheEvaluator                entityCacheEvaluator         ,
+		StorageDurability                          durability                   ,
 		StorageTypeDictionary                      typeDictionary               ,
 		StorageTaskBroker                          taskBroker                   ,
 		StorageOperationController                 operationController          ,
@@ -49,6 +52,7 @@ public interface StorageChannelsCreator
 		StorageObjectIdMarkQueue.Creator           oidMarkQueueCreator          ,
 		StorageEntityMarkMonitor.Creator           entityMarkMonitorCreator     ,
 		StorageBackupHandler                       backupHandler                ,
+		StorageWorkerThreadProvider                workerThreadProvider         ,
 		StorageEventLogger                         eventLogger                  ,
 		ObjectIdsSelector                          liveObjectIdChecker          ,
 		Referencing<PersistenceLiveStorerRegistry> refStorerRegistry            ,
@@ -60,6 +64,76 @@ public interface StorageChannelsCreator
 
 	public static final class Default implements StorageChannelsCreator
 	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final boolean memoryMappedReading;
+		private final boolean entityIndexSnapshot;
+		private final int     readAheadFileCount ;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		public Default()
+		{
+			this(false);
+		}
+		
+		/**
+		 * Creates a channels creator with an optional memory mapped read mode: If enabled, cache misses
+		 * are resolved by referencing memory mapped read-only regions of NIO-based data files directly
+		 * instead of copying the entity data into newly allocated cache memory.
+		 * Data files of other file systems are read conventionally in any case.
+		 * 
+		 * @param memoryMappedReading whether memory mapped reading shall be used.
+		 */
+		public Default(final boolean memoryMappedReading)
+		{
+			this(memoryMappedReading, false);
+		}
+		
+		/**
+		 * Creates a channels creator with an optional memory mapped read mode (see {@link #Default(boolean)})
+		 * and optional entity index snapshots: If enabled, every channel writes a snapshot of its entity index
+		 * on shutdown and uses it on the next startup to only scan the data written after the snapshot
+		 * instead of all data files.
+		 * 
+		 * @param memoryMappedReading whether memory mapped reading shall be used.
+		 * @param entityIndexSnapshot whether entity index snapshots shall be used.
+		 */
+		public Default(final boolean memoryMappedReading, final boolean entityIndexSnapshot)
+		{
+			this(memoryMappedReading, entityIndexSnapshot, StorageEntityInitializer.Defaults.defaultReadAheadFileCount());
+		}
+		
+		/**
+		 * Creates a channels creator like {@link #Default(boolean, boolean)} whose channels read up to the passed
+		 * number of data files ahead during initialization in a worker thread, overlapping file I/O with the
+		 * registration of the entities. Every file read ahead requires an additional buffer of the size of
+		 * the largest data file.
+		 * 
+		 * @param memoryMappedReading whether memory mapped reading shall be used.
+		 * @param entityIndexSnapshot whether entity index snapshots shall be used.
+		 * @param readAheadFileCount the number of data files to read ahead or 0.
+		 */
+		public Default(
+			final boolean memoryMappedReading,
+			final boolean entityIndexSnapshot,
+			final int     readAheadFileCount
+		)
+		{
+			super();
+			this.memoryMappedReading = memoryMappedReading;
+			this.entityIndexSnapshot = entityIndexSnapshot;
+			this.readAheadFileCount  = notNegative(readAheadFileCount);
+		}
+		
+		
+		
 		///////////////////////////////////////////////////////////////////////////
 		// override methods //
 		/////////////////////
@@ -72,6 +146,7 @@ public interface StorageChannelsCreator
 			final StorageDataFileEvaluator                   dataFileEvaluator            ,
 			final StorageLiveFileProvider                    liveFileProvider             ,
 			final StorageEntityCacheEvaluator                entityCacheEvaluator         ,
+			final StorageDurability                          durability                   ,
 			final StorageTypeDictionary                      typeDictionary               ,
 			final StorageTaskBroker                          taskBroker                   ,
 			final StorageOperationController                 operationController          ,
@@ -85,6 +160,7 @@ public interface StorageChannelsCreator
 			final StorageObjectIdMarkQueue.Creator           oidMarkQueueCreator          ,
 			final StorageEntityMarkMonitor.Creator           entityMarkMonitorCreator     ,
 			final StorageBackupHandler                       backupHandler                ,
+			final StorageWorkerThreadProvider                workerThreadProvider         ,
 			final StorageEventLogger                         eventLogger                  ,
 			final ObjectIdsSelector                          liveObjectIdChecker          ,
 			final Referencing<PersistenceLiveStorerRegistry> refStorerRegistry            ,
@@ -108,7 +184,8 @@ public interface StorageChannelsCreator
 			final StorageEntityMarkMonitor markMonitor = entityMarkMonitorCreator.createEntityMarkMonitor(
 				markQueues,
 				eventLogger,
-				refStorerRegistry
+				refStorerRegistry,
+				workerThreadProvider
 			);
 			
 			final BufferSizeProviderIncremental loadingBufferSizeProvider = BufferSizeProviderIncremental.New(loadingBufferSize);
@@ -144,7 +221,12 @@ public interface StorageChannelsCreator
 					writeController                 ,
 					writerProvider.provideWriter(i) ,
 					readingDefaultBufferSizeProvider,
-					backupHandler
+					backupHandler                   ,
+					this.memoryMappedReading        ,
+					this.entityIndexSnapshot        ,
+					durability                      ,
+					this.readAheadFileCount         ,
+					workerThreadProvider
 				);
 
 				// required to resolve the initializer cyclic dependency
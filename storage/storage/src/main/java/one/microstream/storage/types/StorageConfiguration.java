@@ -42,6 +42,8 @@ public interface StorageConfiguration
 	public StorageDataFileEvaluator dataFileEvaluator();
 	
 	public StorageBackupSetup backupSetup();
+	
+	public StorageDurability durability();
 
 	
 	/**
@@ -94,6 +96,27 @@ public interface StorageConfiguration
 		final StorageEntityCacheEvaluator   entityCacheEvaluator  ,
 		final StorageBackupSetup            backupSetup
 	)
+	{
+		return New(
+			channelCountProvider    ,
+			housekeepingController  ,
+			fileProvider            ,
+			dataFileEvaluator       ,
+			entityCacheEvaluator    ,
+			backupSetup             ,
+			StorageDurability.New()
+		);
+	}
+	
+	public static StorageConfiguration New(
+		final StorageChannelCountProvider   channelCountProvider  ,
+		final StorageHousekeepingController housekeepingController,
+		final StorageLiveFileProvider       fileProvider          ,
+		final StorageDataFileEvaluator      dataFileEvaluator     ,
+		final StorageEntityCacheEvaluator   entityCacheEvaluator  ,
+		final StorageBackupSetup            backupSetup           ,
+		final StorageDurability             durability
+	)
 	{
 		return new StorageConfiguration.Default(
 			notNull(channelCountProvider)  ,
@@ -101,7 +124,11 @@ public interface StorageConfiguration
 			notNull(fileProvider)          ,
 			notNull(dataFileEvaluator)     ,
 			notNull(entityCacheEvaluator)  ,
-			mayNull(backupSetup)
+			mayNull(backupSetup)           ,
+			StorageDurability.validateChannelCount(
+				notNull(durability),
+				channelCountProvider.getChannelCount()
+			)
 		);
 	}
 
@@ -117,6 +144,7 @@ public interface StorageConfiguration
 		private final StorageDataFileEvaluator      dataFileEvaluator     ;
 		private final StorageEntityCacheEvaluator   entityCacheEvaluator  ;
 		private final StorageBackupSetup            backupSetup           ;
+		private final StorageDurability             durability            ;
 
 
 
@@ -130,7 +158,8 @@ public interface StorageConfiguration
 			final StorageLiveFileProvider           fileProvider          ,
 			final StorageDataFileEvaluator      dataFileEvaluator     ,
 			final StorageEntityCacheEvaluator   entityCacheEvaluator  ,
-			final StorageBackupSetup            backupSetup
+			final StorageBackupSetup            backupSetup           ,
+			final StorageDurability             durability
 		)
 		{
 			super();
@@ -140,6 +169,7 @@ public interface StorageConfiguration
 			this.fileProvider           = fileProvider          ;
 			this.dataFileEvaluator      = dataFileEvaluator     ;
 			this.backupSetup            = backupSetup           ;
+			this.durability             = durability            ;
 		}
 
 
@@ -183,6 +213,12 @@ public interface StorageConfiguration
 		{
 			return this.backupSetup;
 		}
+		
+		@Override
+		public StorageDurability durability()
+		{
+			return this.durability;
+		}
 
 		@Override
 		public String toString()
@@ -195,6 +231,7 @@ public interface StorageConfiguration
 				.add(this.entityCacheEvaluator  ).lf()
 				.add(this.dataFileEvaluator     ).lf()
 				.add(this.backupSetup == null ? StorageBackupSetup.class.getName() + ": null": this.backupSetup).lf()
+				.add(this.durability            ).lf()
 				.toString()
 			;
 		}
@@ -243,6 +280,10 @@ public interface StorageConfiguration
 		
 		public B setEntityCacheEvaluator(StorageEntityCacheEvaluator entityCacheEvaluator);
 		
+		public StorageDurability durability();
+		
+		public B setDurability(StorageDurability durability);
+		
 		public StorageConfiguration createConfiguration();
 		
 		
@@ -259,6 +300,7 @@ public interface StorageConfiguration
 			private StorageDataFileEvaluator      dataFileEvaluator      = this.initializeDataFileEvaluator();
 			private StorageEntityCacheEvaluator   entityCacheEvaluator   = this.initializeEntityCacheEvaluator();
 			private StorageBackupSetup            backupSetup           ; // optional
+			private StorageDurability             durability             = this.initializeDurability();
 			
 			
 			
@@ -302,6 +344,11 @@ public interface StorageConfiguration
 				return Storage.EntityCacheEvaluator();
 			}
 			
+			protected StorageDurability initializeDurability()
+			{
+				return StorageDurability.New();
+			}
+			
 			@SuppressWarnings("unchecked")
 			protected final B $()
 			{
@@ -403,6 +450,22 @@ public interface StorageConfiguration
 				return this.$();
 			}
 			
+			@Override
+			public StorageDurability durability()
+			{
+				return this.durability;
+			}
+			
+			@Override
+			public B setDurability(final StorageDurability durability)
+			{
+				this.durability = durability == null
+					? this.initializeDurability()
+					: durability
+				;
+				return this.$();
+			}
+			
 			@Override
 			public StorageConfiguration createConfiguration()
 			{
@@ -412,7 +475,8 @@ public interface StorageConfiguration
 					this.storageFileProvider   ,
 					this.dataFileEvaluator     ,
 					this.entityCacheEvaluator  ,
-					this.backupSetup
+					this.backupSetup           ,
+					this.durability
 				);
 			}
 			
@@ -23,6 +23,7 @@ package one.microstream.storage.types;
 import static one.microstream.X.notNull;
 
 import java.nio.ByteBuffer;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import one.microstream.afs.types.ADirectory;
@@ -465,6 +466,15 @@ public interface StorageConnection extends Persister
 		return this.persistenceManager().getObject(objectId);
 	}
 
+	/**
+	 * {@inheritDoc}
+	 */
+	@Override
+	public default <C extends Consumer<Object>> C collect(final C collector, final long... objectIds)
+	{
+		return this.persistenceManager().collect(collector, objectIds);
+	}
+
 
 	
 	public static StorageConnection New(
@@ -0,0 +1,199 @@
+package one.microstream.storage.types;
+
+/*-
+ * #%L
+ * microstream-storage
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import static one.microstream.math.XMath.positive;
+
+import one.microstream.chars.VarString;
+
+
+/**
+ * Type that defines when data written by a storage channel is forced to be persisted on the storage medium,
+ * trading write throughput for the amount of data that can be lost on a power failure or operating system crash.
+ * <ul>
+ * <li><b>sync per commit</b>: every store is synchronized before it is reported as successful.</li>
+ * <li><b>periodic sync</b>: stores are synchronized at the latest after the sync interval has elapsed.
+ * Only the stores of the last interval can be lost.</li>
+ * <li><b>no sync</b>: synchronization is left to the operating system.</li>
+ * </ul>
+ * The transactions log only ever refers to synchronized data for the first two levels, so a storage is
+ * truncated to the last synchronized store during its next startup.
+ * With no sync, the order in which data and transactions entries reach the storage medium is up to the
+ * operating system, which is only safe in case of process crashes.
+ * <p>
+ * Periodic sync is only supported for a single channel: every channel synchronizes on its own, so after a
+ * crash the channels could have synchronized different stores, which can not be restored consistently.
+ */
+public interface StorageDurability
+{
+	/**
+	 * @return whether written data is explicitly synchronized with the storage medium at all.
+	 */
+	public boolean isSyncing();
+	
+	/**
+	 * @return the maximum time in nanoseconds that stored data may stay unsynchronized,
+	 *         with 0 meaning synchronization per commit.
+	 */
+	public long syncIntervalNs();
+	
+	
+	
+	/**
+	 * Pseudo-constructor method to create a new {@link StorageDurability} instance
+	 * that synchronizes every store before it is reported as successful.
+	 * 
+	 * @return a new {@link StorageDurability} instance.
+	 */
+	public static StorageDurability SyncPerCommit()
+	{
+		return new StorageDurability.Default(true, 0);
+	}
+	
+	/**
+	 * Pseudo-constructor method to create a new {@link StorageDurability} instance
+	 * that synchronizes stores at the latest after the passed interval has elapsed.
+	 * It can only be used for a storage with a single channel.
+	 * 
+	 * @param syncIntervalMs the maximum time in milliseconds that stored data may stay unsynchronized.
+	 * 
+	 * @return a new {@link StorageDurability} instance.
+	 */
+	public static StorageDurability PeriodicSync(final long syncIntervalMs)
+	{
+		return new StorageDurability.Default(true, positive(syncIntervalMs) * 1_000_000);
+	}
+	
+	/**
+	 * Pseudo-constructor method to create a new {@link StorageDurability} instance
+	 * that leaves the synchronization of written data to the operating system.
+	 * 
+	 * @return a new {@link StorageDurability} instance.
+	 */
+	public static StorageDurability NoSync()
+	{
+		return new StorageDurability.Default(false, 0);
+	}
+	
+	/**
+	 * Pseudo-constructor method to create a new {@link StorageDurability} instance
+	 * using default values specified by {@link StorageDurability.Defaults}.
+	 * 
+	 * @return a new {@link StorageDurability} instance.
+	 */
+	public static StorageDurability New()
+	{
+		return NoSync();
+	}
+	
+	
+	/**
+	 * Validates that the passed {@link StorageDurability} can be used with the passed channel count.
+	 * 
+	 * @param durability   the {@link StorageDurability} to be validated.
+	 * @param channelCount the channel count of the storage.
+	 * 
+	 * @return the passed {@link StorageDurability}.
+	 * 
+	 * @throws IllegalArgumentException if periodic sync is used with more than one channel.
+	 */
+	public static StorageDurability validateChannelCount(
+		final StorageDurability durability  ,
+		final int               channelCount
+	)
+		throws IllegalArgumentException
+	{
+		if(channelCount > 1 && durability.isSyncing() && durability.syncIntervalNs() > 0)
+		{
+			throw new IllegalArgumentException(
+				"Periodic sync is only supported for a single channel, but the channel count is "
+				+ channelCount + "."
+			);
+		}
+		
+		return durability;
+	}
+	
+	
+	public interface Defaults
+	{
+		public static long defaultSyncIntervalMs()
+		{
+			// 200 ms default interval for periodic sync
+			return 200;
+		}
+	}
+	
+	
+	public final class Default implements StorageDurability
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final boolean syncing       ;
+		private final long    syncIntervalNs;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(final boolean syncing, final long syncIntervalNs)
+		{
+			super();
+			this.syncing        = syncing       ;
+			this.syncIntervalNs = syncIntervalNs;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public final boolean isSyncing()
+		{
+			return this.syncing;
+		}
+		
+		@Override
+		public final long syncIntervalNs()
+		{
+			return this.syncIntervalNs;
+		}
+		
+		@Override
+		public String toString()
+		{
+			return VarString.New()
+				.add(this.getClass().getName()).add(':').lf()
+				.blank().add("syncing"         ).tab().add('=').blank().add(this.syncing       ).lf()
+				.blank().add("syncIntervalNs" ).tab().add('=').blank().add(this.syncIntervalNs)
+				.toString()
+			;
+		}
+		
+	}
+	
+}
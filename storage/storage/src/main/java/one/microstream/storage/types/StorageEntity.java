@@ -77,6 +77,20 @@ public interface StorageEntity
 	 */
 	public long lastTouched();
 
+	/**
+	 * An approximate, saturating count of how often this entity's data has been read.
+	 * The count is halved every time the entity's data is cleared from the cache, so it represents
+	 * a decaying access frequency that survives the entity's data being unloaded.
+	 * 
+	 * @return the approximate access frequency of this entity.
+	 */
+	public int accessCount();
+
+	/**
+	 * @return The entity's type in the entity's channel.
+	 */
+	public StorageEntityType<?> type();
+
 	public long storagePosition();
 
 	public StorageLiveDataFile storageFile();
@@ -98,6 +112,9 @@ public interface StorageEntity
 		// constants //
 		//////////////
 
+		// saturating limit for the access count to fit in a byte.
+		private static final byte ACCESS_COUNT_MAX = Byte.MAX_VALUE;
+
 		// enough for ~17 years since class initialization with 256ms resolution.
 		private static final long TOUCHED_SHIFT_COUNT  = 8;
 		private static final long TOUCHED_START_OFFSET = System.currentTimeMillis();
@@ -118,6 +135,21 @@ public interface StorageEntity
 		static final byte GC_INITIAL    =  0; // created/updated. Not marked, but not to be deleted in current GC round.
 		static final byte GC_WHITE      = -1; // not marked
 
+		/*
+		 * GC age meaning (only relevant for generational garbage collection):
+		 *
+		 * young     : [0; GC_AGE_PROMOTION[             created recently, collectable by young collections.
+		 * remembered: [GC_AGE_PROMOTION; GC_AGE_STABLE[ promoted or updated recently, might reference young entities.
+		 * stable    : GC_AGE_STABLE                     can't reference young entities, ignored by young collections.
+		 *
+		 * The age is the number of sweeps survived since the last store, so remembered entities have to stay
+		 * remembered longer than young entities stay young: sweeps of different channels are not simultaneous
+		 * and an entity might be stored shortly before an entity it references.
+		 */
+		static final byte GC_AGE_YOUNG     = 0;
+		static final byte GC_AGE_PROMOTION = 2;
+		static final byte GC_AGE_STABLE    = 6;
+
 
 		///////////////////////////////////////////////////////////////////////////
 		// instance fields //
@@ -171,9 +203,12 @@ public interface StorageEntity
 		int        length         ; // the item's total length
 		int        lastTouched    ; // age timestamp for cache clearing evaluation. See methods and constants.
 		byte       gcState        ; // gc state
+		byte       gcAge          ; // gc age, see constants
 		boolean    isDeleted      ;
 		boolean    onlyRefsCached ;
+		boolean    isCacheMapped  ; // cached data is a memory mapped file region, not allocated memory
 		byte       referenceCount ; // could be combined with hasReferences to a short with ~10 bits free for ref count
+		byte       accessCount    ; // saturating, decaying read access count for frequency based cache evaluation
 
 		// reference to the type meta-data instance and the parent channel file
 		TypeInFile typeInFile     ;
@@ -257,6 +292,7 @@ public interface StorageEntity
 			this.typeInFile     = type             ;
 			this.referenceCount = referenceCount   ;
 			this.gcState        = GC_INITIAL       ;
+			this.gcAge          = GC_AGE_STABLE    ; // only stored entities are young/remembered, not loaded ones.
 		}
 
 		private static byte calculateReferenceCount(final boolean hasReferences, final long simpleReferenceCount)
@@ -308,6 +344,43 @@ public interface StorageEntity
 			this.gcState = GC_WHITE;
 		}
 
+		final boolean isGcYoung()
+		{
+			return this.gcAge < GC_AGE_PROMOTION;
+		}
+
+		final boolean isGcRemembered()
+		{
+			return this.gcAge >= GC_AGE_PROMOTION && this.gcAge < GC_AGE_STABLE;
+		}
+
+		final boolean isGcStable()
+		{
+			return this.gcAge == GC_AGE_STABLE;
+		}
+
+		final void markGcCreated()
+		{
+			this.gcAge = GC_AGE_YOUNG;
+		}
+
+		final void markGcUpdated()
+		{
+			// young entities stay young, older ones have to be remembered.
+			if(this.gcAge > GC_AGE_PROMOTION)
+			{
+				this.gcAge = GC_AGE_PROMOTION;
+			}
+		}
+
+		final void advanceGcAge()
+		{
+			if(this.gcAge < GC_AGE_STABLE)
+			{
+				this.gcAge++;
+			}
+		}
+
 		final boolean isGcAlreadyHandled()
 		{
 			return this.gcState >= GC_GRAY;
@@ -419,6 +492,23 @@ public interface StorageEntity
 		final void putCacheData(final long sourceAddress, final long length)
 		{
 			XMemory.copyRange(sourceAddress, this.cacheAddress = XMemory.allocate(length), length);
+			this.isCacheMapped = false;
+		}
+
+		/**
+		 * Makes the entity reference the passed address inside a memory mapped region of its storage file
+		 * as its cached data instead of copying the data to newly allocated memory.
+		 * The mapped region is owned by the storage file and must never be freed by the entity.
+		 */
+		final void putMappedCacheData(final long mappedAddress)
+		{
+			this.cacheAddress  = mappedAddress;
+			this.isCacheMapped = true;
+		}
+
+		final boolean isCacheMapped()
+		{
+			return this.isCacheMapped;
 		}
 
 		final void updateStorageInformation(
@@ -516,6 +606,26 @@ public interface StorageEntity
 			return TOUCHED_START_OFFSET + ((long)this.lastTouched << TOUCHED_SHIFT_COUNT);
 		}
 
+		final void countAccess()
+		{
+			if(this.accessCount < ACCESS_COUNT_MAX)
+			{
+				this.accessCount++;
+			}
+		}
+
+		@Override
+		public final int accessCount()
+		{
+			return this.accessCount;
+		}
+
+		@Override
+		public final StorageEntityType.Default type()
+		{
+			return this.typeInFile.type;
+		}
+
 		@Override
 		public final StorageLiveDataFile storageFile()
 		{
@@ -555,6 +665,7 @@ public interface StorageEntity
 		{
 			this.ensureCachedFullData();
 			this.touch();
+			this.countAccess();
 //			final byte[] buffer = DEBUGStorage.extractMemory(this.cacheAddress(), 32);
 			entityDataCollector.readMemory(this.cacheAddress(), this.length);
 		}
@@ -563,9 +674,17 @@ public interface StorageEntity
 		public final long clearCache()
 		{
 			final long currentDataLength = this.cachedDataLength();
-			XMemory.free(this.cacheAddress());
+			if(!this.isCacheMapped)
+			{
+				XMemory.free(this.cacheAddress());
+			}
 			this.cacheAddress = 0;
 			this.onlyRefsCached = false;
+			this.isCacheMapped = false;
+			
+			// the access history decays with every unloading instead of being lost entirely
+			this.accessCount >>= 1;
+			
 			return currentDataLength;
 		}
 
@@ -26,6 +26,10 @@ import static one.microstream.math.XMath.notNegative;
 import static one.microstream.math.XMath.positive;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.slf4j.Logger;
 
@@ -117,6 +121,14 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 		private final StorageReferenceMarker    referenceMarker; // resetting must be handled here.
 		
 		private final ObjectIdsSelector liveObjectIdChecker;
+		
+		// parallel marking state, all null if every entity is marked by the channel thread itself.
+		private final ParallelMarkingTask[] markingTasks         ;
+		private final AtomicInteger         markingCursor        ;
+		private final int[]                 markingDeferredBuffer;
+		
+		// the channel's remembered entities for the next young marking, handled by the markMonitor until then.
+		private final RememberedObjectIds rememberedOids;
 
 		
 		// state 3.0: mutable fields. Must be cleared on reset.
@@ -126,6 +138,10 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 		private long    usedCacheSize;
 		private boolean hasUpdatePendingSweep;
 		
+		// [length][typeId][objectId][position] of every entity of a streamed store. Cleared by clearPendingStoreUpdate()
+		private long[] pendingStoreEntities   ;
+		private int    pendingStoreEntityBound;
+		
 		// Statistics for debugging / monitoring / checking to compare with other channels and with the markmonitor
 		private long sweepGeneration, lastSweepStart, lastSweepEnd;
 		
@@ -185,6 +201,7 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			this.markingOidBuffer   = new long[markingBufferLength];
 			this.rootEntityIterator = new RootEntityRootOidSelectionIterator(rootOidSelector);
 			this.typeHead           = new StorageEntityType.Default(this.channelIndex);
+			this.rememberedOids     = new RememberedObjectIds();
 			
 			// initializing mutable (operational) state.
 			this.reset();
@@ -193,6 +210,28 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			this.referenceMarker = markMonitor.provideReferenceMarker(this);
 			
 			this.liveObjectIdChecker = notNull(liveObjectIdChecker);
+			
+			final ForkJoinPool markingPool = markMonitor.markingPool();
+			if(markingPool == null)
+			{
+				this.markingTasks          = null;
+				this.markingCursor         = null;
+				this.markingDeferredBuffer = null;
+			}
+			else
+			{
+				this.markingTasks = new ParallelMarkingTask[markingPool.getParallelism()];
+				for(int i = 0; i < this.markingTasks.length; i++)
+				{
+					this.markingTasks[i] = new ParallelMarkingTask(
+						this,
+						markMonitor.createWorkerReferenceMarker(),
+						markingBufferLength
+					);
+				}
+				this.markingCursor         = new AtomicInteger();
+				this.markingDeferredBuffer = new int[markingBufferLength];
+			}
 		}
 
 
@@ -245,12 +284,24 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			this.resetLiveCursor();
 
 			this.usedCacheSize  = 0L;
+			
+			this.pendingStoreEntities    = null;
+			this.pendingStoreEntityBound = 0;
 
 			// create a new root type instance on every clear. Everything else is not worth the reset&register-hassle.
 			this.rootType       = this.getType(this.rootTypeId);
 
 		}
 
+		/**
+		 * Resets this instance and signals the mark monitor that this channel is disposed.
+		 */
+		public final synchronized void dispose()
+		{
+			this.reset();
+			this.markMonitor.signalChannelDisposed(this);
+		}
+
 		private void resetLiveCursor()
 		{
 			// live cursor may never be a head dummy-entity (but it may be a tail entity as this is checked)
@@ -494,7 +545,7 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 		{
 			if(entry.isLive())
 			{
-				this.modifyUsedCacheSize(-entry.clearCache());
+				this.modifyUsedCacheSize(entry, -entry.clearCache());
 			}
 		}
 
@@ -616,12 +667,19 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			 * the byte order switching for storage usage. Should the need arise in the future, additional
 			 * time can be invested to solve this.
 			 */
-								
+			return this.putEntity(
+				Binary.getEntityLengthRawValue(entityAddress),
+				Binary.getEntityTypeIdRawValue(entityAddress),
+				Binary.getEntityObjectIdRawValue(entityAddress)
+			);
+		}
+		
+		final StorageEntity.Default putEntity(final long length, final long typeId, final long objectId)
+		{
 			final StorageEntity.Default entry;
-			if((entry = this.getEntry(Binary.getEntityObjectIdRawValue(entityAddress))) != null)
+			if((entry = this.getEntry(objectId)) != null)
 			{
-				final long entityTypeId = Binary.getEntityTypeIdRawValue(entityAddress);
-				if(entry.typeId() == entityTypeId) {
+				if(entry.typeId() == typeId) {
 					this.resetExistingEntityForUpdate(entry);
 					return entry;
 				}
@@ -629,7 +687,7 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 				logger.debug("Entity {} typeId changed, old: {}, new: {}",
 					entry.objectId(),
 					entry.typeId(),
-					entityTypeId);
+					typeId);
 			}
 
 			/* the added try-catch showed no change in performance in a test.
@@ -639,19 +697,16 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			 */
 			try
 			{
-				return this.createEntity(
-					Binary.getEntityObjectIdRawValue(entityAddress),
-					this.getType(Binary.getEntityTypeIdRawValue(entityAddress))
-				);
+				final StorageEntity.Default entity = this.createEntity(objectId, this.getType(typeId));
+				entity.markGcCreated();
+				
+				return entity;
 			}
 			catch(final Exception e)
 			{
 				throw new StorageException(
-					"Exception while creating entity ["
-					+ Binary.getEntityLengthRawValue(entityAddress) + "]["
-					+ Binary.getEntityTypeIdRawValue(entityAddress) + "]["
-					+ Binary.getEntityObjectIdRawValue(entityAddress) + "]"
-					, e
+					"Exception while creating entity [" + length + "][" + typeId + "][" + objectId + "]",
+					e
 				);
 			}
 
@@ -667,6 +722,11 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			return entity;
 		}
 
+		final StorageEntity.Default initialCreateEntity(final long objectId, final long typeId)
+		{
+			return this.createEntity(objectId, this.getType(typeId));
+		}
+
 		private void resetExistingEntityForUpdate(final StorageEntity.Default entry)
 		{
 			// ensure the old data is not cached any longer
@@ -688,6 +748,9 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 		 */
 		private void markEntityForChangedData(final StorageEntity.Default entry)
 		{
+			// the changed data might reference young entities, so it must be remembered for young collections.
+			entry.markGcUpdated();
+			
 			/*
 			 * (01.08.2016 TM)NOTE:
 			 * Having a sweep pending when data changes requires a distinction here to achieve correct behavior:
@@ -851,12 +914,69 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			this.markMonitor.advanceMarking(this.oidMarkQueue, oidsCount);
 		}
 
+		private void mark(
+			final long                   objectId       ,
+			final StorageReferenceMarker referenceMarker,
+			final boolean                youngCollection,
+			final long                   evalTime
+		)
+		{
+			// get the entry for the oid to be marked
+			final StorageEntity.Default entry = this.getEntry(objectId);
+
+			// externalized/modularized zombie oid handling
+			if(entry == null)
+			{
+				if(!this.zombieOidHandler.handleZombieOid(objectId))
+				{
+					// if the handler didn't throw an exception but didn't say it's handled, either, then log it.
+					logger.warn("Storage GC marking encountered zombie ObjectId {}", objectId);
+					this.eventLogger.logGarbageCollectorEncounteredZombieObjectId(objectId);
+				}
+				return;
+			}
+			
+			// if the entry is already marked black (was redundantly enqueued), skip it and continue to the next
+			if(entry.isGcBlack())
+			{
+				return;
+			}
+			
+			// a young marking keeps stable entities alive without following their references (to old entities only).
+			if(youngCollection && entry.isGcStable())
+			{
+				entry.markBlack();
+				return;
+			}
+
+			// enqueue all reference ids in the mark queue via the central gc monitor instance to account for channel concurrency
+			if(entry.iterateReferenceIds(referenceMarker))
+			{
+				// must check for clearing the cache again if marking required loading
+				this.checkForCacheClear(entry, evalTime);
+			}
+
+			/*
+			 * note on non-referencing entities
+			 * - iterateReferenceIds already checks for references and returns false if none are present
+			 * - no general touch here to not touch entities without references.
+			 */
+
+			// the entry has been fully processed (either has no references or got all its references gray-enqueued), so mark black.
+			entry.markBlack();
+		}
+
 		/**
 		 * Returns {@code true} if there are no more oids to mark and {@code false} if time ran out.
 		 * (Meaning the returned boolean effectively means "Was there enough time?")
 		 */
 		private boolean incrementalMark(final long nanoTimeBudgetBound)
 		{
+			if(this.markingTasks != null)
+			{
+				return this.parallelIncrementalMark(nanoTimeBudgetBound);
+			}
+			
 			final long                     evalTime        = System.currentTimeMillis();
 			final StorageReferenceMarker   referenceMarker = this.referenceMarker      ;
 			final StorageObjectIdMarkQueue oidMarkQueue    = this.oidMarkQueue         ;
@@ -865,6 +985,9 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			// total amount of oids to mark in the current batch. Range: [0; oids.length]
 			int oidsMarkAmount = 0;
 
+			// the kind of collection the current batch belongs to. Can only change with the next batch.
+			boolean youngCollection = false;
+
 			// index of next oid to be marked (and current amount of already marked oids). Range: [0; oidsMarkAmount]
 			int oidsMarkIndex  = 0;
 
@@ -884,56 +1007,272 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 						// ran out of work before time ran out. So return true.
 						return true;
 					}
+					youngCollection = this.markMonitor.isYoungCollection();
 				}
 
-				// get the entry for the current oid to be marked
-				final StorageEntity.Default entry = this.getEntry(oidsBuffer[oidsMarkIndex++]);
+				this.mark(oidsBuffer[oidsMarkIndex++], referenceMarker, youngCollection, evalTime);
+			}
+			while(System.nanoTime() < nanoTimeBudgetBound);
+
+			// important: if time ran out, the last batch of processed oids has to be accounted for in the gray queue
+			if(oidsMarkIndex > 0)
+			{
+				// an incremented index always equals an element count
+				this.advanceMarking(oidsMarkIndex);
+			}
+
+			// time ran out, return false.
+			return false;
+		}
 
-				// externalized/modularized zombie oid handling
-				if(entry == null)
+		/**
+		 * Parallel variant of {@link #incrementalMark(long)}: every batch of oids is split into slices that are
+		 * marked by the tasks of this channel, executed by the marking pool shared by all channels.
+		 * Slices are claimed in ascending order and no more slices are claimed after the time ran out, so the
+		 * processed oids always form a prefix of the batch that can be advanced in the mark queue like before.
+		 * <p>
+		 * Entities whose data would have to be loaded from their file (as well as zombie oids) are deferred
+		 * to the channel thread, since file access and cache size accounting are strictly channel thread local.
+		 */
+		private boolean parallelIncrementalMark(final long nanoTimeBudgetBound)
+		{
+			final long evalTime = System.currentTimeMillis();
+
+			// mark at least one batch prefix, even if there is no time, to avoid starvation
+			do
+			{
+				final int oidsMarkAmount = this.oidMarkQueue.getNext(this.markingOidBuffer);
+				if(oidsMarkAmount == 0)
 				{
-					if(!this.zombieOidHandler.handleZombieOid(oidsBuffer[oidsMarkIndex - 1]))
-					{
-						// if the handler didn't throw an exception but didn't say it's handled, either, then log it.
-						logger.warn("Storage GC marking encountered zombie ObjectId {}", oidsBuffer[oidsMarkIndex - 1]);
-						this.eventLogger.logGarbageCollectorEncounteredZombieObjectId(oidsBuffer[oidsMarkIndex - 1]);
-					}
-					continue;
+					// ran out of work before time ran out. So return true.
+					return true;
 				}
-				
-				// if the entry is already marked black (was redundantly enqueued), skip it and continue to the next
-				if(entry.isGcBlack())
+
+				// the processed prefix of the batch, even if time ran out in the middle of it.
+				this.advanceMarking(this.parallelMarkBatch(oidsMarkAmount, nanoTimeBudgetBound, evalTime));
+			}
+			while(System.nanoTime() < nanoTimeBudgetBound);
+
+			// time ran out, return false.
+			return false;
+		}
+
+		private int parallelMarkBatch(
+			final int  oidsMarkAmount     ,
+			final long nanoTimeBudgetBound,
+			final long evalTime
+		)
+		{
+			final ParallelMarkingTask[] tasks           = this.markingTasks;
+			final boolean               youngCollection = this.markMonitor.isYoungCollection();
+			
+			this.markingCursor.set(0);
+			for(final ParallelMarkingTask task : tasks)
+			{
+				task.prepare(oidsMarkAmount, youngCollection, nanoTimeBudgetBound);
+			}
+
+			// the channel thread works on the first task itself instead of just waiting for the others.
+			final ForkJoinPool markingPool = this.markMonitor.markingPool();
+			for(int i = 1; i < tasks.length; i++)
+			{
+				markingPool.execute(tasks[i]);
+			}
+			tasks[0].quietlyInvoke();
+
+			// all tasks must be done before anything is advanced or thrown.
+			for(int i = 1; i < tasks.length; i++)
+			{
+				tasks[i].quietlyJoin();
+			}
+			for(final ParallelMarkingTask task : tasks)
+			{
+				// rethrows the problem of an abnormally completed task.
+				task.join();
+			}
+
+			final int[] deferred      = this.markingDeferredBuffer;
+			      int   deferredCount = 0;
+			for(final ParallelMarkingTask task : tasks)
+			{
+				System.arraycopy(task.deferredIndices, 0, deferred, deferredCount, task.deferredCount);
+				deferredCount += task.deferredCount;
+			}
+			Arrays.sort(deferred, 0, deferredCount);
+
+			// all claimed slices have been processed completely, deferred oids aside.
+			int processedAmount = Math.min(this.markingCursor.get(), oidsMarkAmount);
+			for(int i = 0; i < deferredCount; i++)
+			{
+				// deferred marking can abort early. Every oid before the aborting one is processed by then.
+				if(deferred[i] > 0 && System.nanoTime() >= nanoTimeBudgetBound)
 				{
-					continue;
+					/*
+					 * Already marked entities after that point are simply skipped as being black
+					 * when the remaining part of the batch is fetched again.
+					 */
+					processedAmount = deferred[i];
+					break;
 				}
+				this.mark(this.markingOidBuffer[deferred[i]], this.referenceMarker, youngCollection, evalTime);
+			}
+
+			return processedAmount;
+		}
 
-				// enqueue all reference ids in the mark queue via the central gc monitor instance to account for channel concurrency
-				if(entry.iterateReferenceIds(referenceMarker))
+		/**
+		 * Returns the start index of the next slice of the current marking batch to be processed or
+		 * {@link Integer#MAX_VALUE} if time ran out. The first slice is always handed out to avoid starvation.
+		 */
+		final int claimMarkingSlice(final long nanoTimeBudgetBound)
+		{
+			if(this.markingCursor.get() > 0 && System.nanoTime() >= nanoTimeBudgetBound)
+			{
+				return Integer.MAX_VALUE;
+			}
+
+			return this.markingCursor.getAndAdd(ParallelMarkingTask.SLICE_LENGTH);
+		}
+
+		static final class RememberedObjectIds implements StorageEntityMarkMonitor.ObjectIds
+		{
+			private long[] oids = new long[64];
+			private int    size;
+			
+			final void add(final long oid)
+			{
+				if(this.size >= this.oids.length)
 				{
-					// must check for clearing the cache again if marking required loading
-					this.checkForCacheClear(entry, evalTime);
+					this.oids = Arrays.copyOf(this.oids, X.checkArrayRange(this.oids.length * 2L));
 				}
+				this.oids[this.size++] = oid;
+			}
+			
+			final void reset()
+			{
+				// this is sufficient. Old oid data in the array is irrelevant.
+				this.size = 0;
+			}
 
-				/*
-				 * note on non-referencing entities
-				 * - iterateReferenceIds already checks for references and returns false if none are present
-				 * - no general touch here to not touch entities without references.
-				 */
+			@Override
+			public final long[] objectIds()
+			{
+				return this.oids;
+			}
 
-				// the entry has been fully processed (either has no references or got all its references gray-enqueued), so mark black.
-				entry.markBlack();
+			@Override
+			public final int size()
+			{
+				return this.size;
 			}
-			while(System.nanoTime() < nanoTimeBudgetBound);
+			
+		}
 
-			// important: if time ran out, the last batch of processed oids has to be accounted for in the gray queue
-			if(oidsMarkIndex > 0)
+		static final class ParallelMarkingTask extends RecursiveAction
+		{
+			///////////////////////////////////////////////////////////////////////////
+			// constants //
+			//////////////
+			
+			// big enough to keep the claiming overhead low, small enough to keep the time budget overrun low.
+			static final int SLICE_LENGTH = 256;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+			
+			private final StorageEntityCache.Default entityCache    ;
+			private final StorageReferenceMarker     referenceMarker;
+			private final int[]                      deferredIndices;
+			
+			private int     oidsMarkAmount     ;
+			private boolean youngCollection    ;
+			private long    nanoTimeBudgetBound;
+			private int     deferredCount      ;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+			
+			ParallelMarkingTask(
+				final StorageEntityCache.Default entityCache        ,
+				final StorageReferenceMarker     referenceMarker    ,
+				final int                        markingBufferLength
+			)
 			{
-				// an incremented index always equals an element count
-				this.advanceMarking(oidsMarkIndex);
+				super();
+				this.entityCache     = entityCache                  ;
+				this.referenceMarker = referenceMarker              ;
+				this.deferredIndices = new int[markingBufferLength];
+			}
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
+			
+			final void prepare(
+				final int     oidsMarkAmount     ,
+				final boolean youngCollection    ,
+				final long    nanoTimeBudgetBound
+			)
+			{
+				this.reinitialize();
+				this.oidsMarkAmount      = oidsMarkAmount     ;
+				this.youngCollection     = youngCollection    ;
+				this.nanoTimeBudgetBound = nanoTimeBudgetBound;
+				this.deferredCount       = 0                  ;
 			}
 
-			// time ran out, return false.
-			return false;
+			@Override
+			protected final void compute()
+			{
+				final StorageEntityCache.Default entityCache = this.entityCache;
+				final long[]                     oidsBuffer  = entityCache.markingOidBuffer;
+				
+				for(int start; (start = entityCache.claimMarkingSlice(this.nanoTimeBudgetBound)) < this.oidsMarkAmount;)
+				{
+					final int bound = Math.min(start + SLICE_LENGTH, this.oidsMarkAmount);
+					for(int i = start; i < bound; i++)
+					{
+						final StorageEntity.Default entry = entityCache.getEntry(oidsBuffer[i]);
+						if(entry == null)
+						{
+							// zombie oid handling is up to the channel thread.
+							this.deferredIndices[this.deferredCount++] = i;
+							continue;
+						}
+						if(entry.isGcBlack())
+						{
+							continue;
+						}
+						if(this.youngCollection && entry.isGcStable())
+						{
+							entry.markBlack();
+							continue;
+						}
+						if(entry.hasReferences() && !entry.isLive())
+						{
+							// loading is up to the channel thread.
+							this.deferredIndices[this.deferredCount++] = i;
+							continue;
+						}
+
+						// no loading required, so the references are just iterated and the entity touched.
+						entry.iterateReferenceIds(this.referenceMarker);
+						entry.markBlack();
+					}
+				}
+
+				// it is crucial to enqueue cached references effectively before the channel advances the marking.
+				this.referenceMarker.tryFlush();
+			}
+			
 		}
 
 		/**
@@ -947,7 +1286,12 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 		final void sweep(final _longPredicate isReachableInApplication)
 		{
 			this.lastSweepStart = System.currentTimeMillis();
-			final StorageEntityType.Default typeHead = this.typeHead;
+			final StorageEntityType.Default typeHead        = this.typeHead;
+			final boolean                   youngCollection = this.markMonitor.isYoungCollection();
+			final boolean                   generational    = this.markMonitor.isGenerational();
+			final RememberedObjectIds       rememberedOids  = this.rememberedOids;
+			
+			rememberedOids.reset();
 
 			for(StorageEntityType.Default sweepType = typeHead; (sweepType = sweepType.next) != typeHead;)
 			{
@@ -955,10 +1299,19 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 				for(StorageEntity.Default item, last = sweepType.head; (item = last.typeNext) != null;)
 				{
 					// actual sweep: white entities are deleted, non-white entities are marked white but not deleted
-					if(item.isGcMarked() || isReachableInApplication.test(item.objectId))
+					if(item.isGcMarked()
+						|| youngCollection && !item.isGcYoung() // young sweeps only collect young entities
+						|| isReachableInApplication.test(item.objectId)
+					)
 					{
 						// reset to white and advance one item
 						(last = item).markWhite();
+						
+						item.advanceGcAge();
+						if(generational && item.isGcRemembered())
+						{
+							rememberedOids.add(item.objectId);
+						}
 					}
 					else
 					{
@@ -976,7 +1329,7 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 
 			// signal mark monitor that the sweep is complete and provide this channel's valid rootOid
 			final long channelRootOid = this.queryRootObjectId();
-			this.markMonitor.completeSweep(this, this.rootOidSelector, channelRootOid);
+			this.markMonitor.completeSweep(this, this.rootOidSelector, channelRootOid, rememberedOids);
 		}
 		
 		private boolean sweep()
@@ -1004,6 +1357,9 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			public Set_long provideObjectIdsBaseSet()
 			{
 				final Set_long sweepCandicateObjectIds = Set_long.New(1000);
+				
+				// young sweeps only collect young entities, so only those are candidates.
+				final boolean youngCollection = Default.this.markMonitor.isYoungCollection();
 
 				final StorageEntityType.Default typeHead = this.typeHead;
 				for(StorageEntityType.Default sweepType = typeHead; (sweepType = sweepType.next) != typeHead;)
@@ -1011,7 +1367,7 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 					// get next item and check for end of type (switch to next type required)
 					for(StorageEntity.Default item = sweepType.head; (item = item.typeNext) != null;)
 					{
-						if(!item.isGcMarked())
+						if(!item.isGcMarked() && (!youngCollection || item.isGcYoung()))
 						{
 							sweepCandicateObjectIds.add(item.objectId);
 						}
@@ -1084,9 +1440,10 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			}
 		}
 
-		final void modifyUsedCacheSize(final long cacheChange)
+		final void modifyUsedCacheSize(final StorageEntity.Default entity, final long cacheChange)
 		{
 			this.usedCacheSize += cacheChange;
+			entity.typeInFile.type.modifyCachedDataLength(cacheChange);
 		}
 
 
@@ -1149,11 +1506,94 @@ public interface StorageEntityCache<E extends StorageEntity> extends StorageChan
 			this.clearPendingStoreUpdate();
 		}
 
+		/**
+		 * Collects the entity headers of a written, but not yet committed part of a streamed store, so that the
+		 * part's buffers can be released right away. The entities are put into the cache after the stream has
+		 * been committed via {@link #postStorePutPendingEntities(StorageLiveDataFile.Default)}.
+		 * 
+		 * @param chunks the part's buffers.
+		 * @param chunksStoragePositions the storage positions of the buffers.
+		 */
+		final void registerPendingStoreEntities(final ByteBuffer[] chunks, final long[] chunksStoragePositions)
+		{
+			for(int i = 0; i < chunks.length; i++)
+			{
+				final long chunkStartAddress = XMemory.getDirectByteBufferAddress(chunks[i]);
+				final long chunkBoundAddress = chunkStartAddress + chunks[i].limit();
+				final long storageBackset    = chunksStoragePositions[i] - chunkStartAddress;
+				
+				for(long adr = chunkStartAddress; adr < chunkBoundAddress; adr += Binary.getEntityLengthRawValue(adr))
+				{
+					this.addPendingStoreEntity(
+						Binary.getEntityLengthRawValue(adr)  ,
+						Binary.getEntityTypeIdRawValue(adr)  ,
+						Binary.getEntityObjectIdRawValue(adr),
+						storageBackset + adr
+					);
+				}
+			}
+		}
+		
+		private void addPendingStoreEntity(
+			final long length  ,
+			final long typeId  ,
+			final long objectId,
+			final long position
+		)
+		{
+			if(this.pendingStoreEntities == null)
+			{
+				this.pendingStoreEntities = new long[1024];
+			}
+			else if(this.pendingStoreEntityBound == this.pendingStoreEntities.length)
+			{
+				this.pendingStoreEntities = Arrays.copyOf(
+					this.pendingStoreEntities,
+					X.checkArrayRange(this.pendingStoreEntities.length * 2L)
+				);
+			}
+			
+			final long[] entities = this.pendingStoreEntities;
+			final int    i        = this.pendingStoreEntityBound;
+			entities[i    ] = length  ;
+			entities[i + 1] = typeId  ;
+			entities[i + 2] = objectId;
+			entities[i + 3] = position;
+			this.pendingStoreEntityBound = i + 4;
+		}
+		
+		public void postStorePutPendingEntities(final StorageLiveDataFile.Default dataFile)
+			throws InterruptedException
+		{
+			this.hasUpdatePendingSweep = this.markMonitor.isPendingSweep(this);
+
+			// reset completion here, too, in case the store happed before the sweep and the post-store happens after it
+			this.markMonitor.resetCompletion();
+			
+			final long[] entities = this.pendingStoreEntities;
+			final int    bound    = this.pendingStoreEntityBound;
+			for(int i = 0; i < bound; i += 4)
+			{
+				final StorageEntity.Default entity = this.putEntity(entities[i], entities[i + 1], entities[i + 2]);
+				this.markEntityForChangedData(entity);
+				entity.updateStorageInformation(
+					X.checkArrayRange(entities[i]),
+					validateStoragePosition(entity, entities[i + 3])
+				);
+				dataFile.appendEntry(entity);
+			}
+
+			// must be done by the store task's cleanup, but as it is idempotent, call it here right away
+			this.clearPendingStoreUpdate();
+		}
+
 		final void clearPendingStoreUpdate()
 		{
 			// (21.02.2020 TM)NOTE: this potentially gets called after reset(), so it must be accordingly robust.
 			
-			this.hasUpdatePendingSweep = false;
+			this.pendingStoreEntities    = null;
+			this.pendingStoreEntityBound = 0;
+			this.hasUpdatePendingSweep   = false;
 			this.markMonitor.clearPendingStoreUpdate(this);
 		}
 
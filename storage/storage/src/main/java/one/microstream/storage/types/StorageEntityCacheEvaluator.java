@@ -20,7 +20,12 @@ package one.microstream.storage.types;
  * #L%
  */
 
+import static one.microstream.X.notNull;
+
 import one.microstream.chars.VarString;
+import one.microstream.collections.EqConstHashTable;
+import one.microstream.collections.types.XGettingMap;
+import one.microstream.typing.KeyValue;
 import one.microstream.exceptions.NumberRangeException;
 
 /**
@@ -62,6 +67,18 @@ public interface StorageEntityCacheEvaluator
 			// 1 day default timeout
 			return 86_400_000;
 		}
+
+		public static long defaultCacheCapacity()
+		{
+			// ~1 GB default capacity
+			return 1_000_000_000;
+		}
+
+		public static long defaultAdmissionWindowMs()
+		{
+			// 1 minute default admission window
+			return 60_000;
+		}
 	}
 
 	public interface Validation
@@ -100,6 +117,58 @@ public interface StorageEntityCacheEvaluator
 				);
 			}
 		}
+
+		public static long minimumCapacity()
+		{
+			return 1;
+		}
+
+		public static long minimumAdmissionWindowMs()
+		{
+			return 0;
+		}
+
+		public static void validateCapacityParameters(
+			final long timeoutMs        ,
+			final long capacity         ,
+			final long admissionWindowMs
+		)
+			throws IllegalArgumentException
+		{
+			validateParameters(timeoutMs, minimumThreshold());
+			if(capacity < minimumCapacity())
+			{
+				throw new IllegalArgumentException(
+					"Specified capacity of "
+					+ capacity
+					+ " is lower than the minimum value "
+					+ minimumCapacity()+ "."
+				);
+			}
+			if(admissionWindowMs < minimumAdmissionWindowMs())
+			{
+				throw new IllegalArgumentException(
+					"Specified millisecond admission window of "
+					+ admissionWindowMs
+					+ " is lower than the minimum value "
+					+ minimumAdmissionWindowMs()+ "."
+				);
+			}
+		}
+
+		public static void validateTypeBudgets(final XGettingMap<String, Long> typeBudgets)
+			throws IllegalArgumentException
+		{
+			for(final KeyValue<String, Long> typeBudget : typeBudgets)
+			{
+				if(typeBudget.key() == null || typeBudget.value() == null || typeBudget.value() < 0)
+				{
+					throw new IllegalArgumentException(
+						"Invalid type cache budget: " + typeBudget.key() + " = " + typeBudget.value()
+					);
+				}
+			}
+		}
 	}
 
 	/**
@@ -195,6 +264,112 @@ public interface StorageEntityCacheEvaluator
 		return new StorageEntityCacheEvaluator.Default(timeoutMs, threshold);
 	}
 
+	/**
+	 * Pseudo-constructor method to create a new segmented LRU {@link StorageEntityCacheEvaluator} instance
+	 * using the passed values.
+	 * <p>
+	 * The entity cache is divided into two segments, based on {@link StorageEntity#accessCount()}:
+	 * a probationary segment of entities that have been read at most once and a protected segment of entities
+	 * that have been read repeatedly. As long as the cache size does not exceed the {@literal capacity},
+	 * only the {@literal timeout} applies. Beyond the capacity, the permitted idle time ("age") of entities
+	 * shrinks exponentially with the overflow, with protected entities being permitted a considerably longer
+	 * idle time than probationary ones. Thus, a large one-time scan cannot displace the frequently used entities.
+	 * <p>
+	 * Note that the cache evaluation works incrementally, so the least recently used entities are approximated
+	 * by their idle time instead of being maintained in a strictly ordered list.
+	 *
+	 * @param timeoutMs the time (in milliseconds, greater than 0) of not being read (the "age"), after which a particular
+	 *        entity's data will be cleared from the Storage's internal cache.
+	 *
+	 * @param capacity the cache size (in bytes, greater than 0) per channel that shall not be exceeded permanently.
+	 *
+	 * @return a new {@link StorageEntityCacheEvaluator} instance.
+	 *
+	 * @throws IllegalArgumentException if any of the passed values is equal to or lower than 0.
+	 *
+	 * @see StorageEntityCacheEvaluator.SegmentedLru
+	 */
+	public static StorageEntityCacheEvaluator.SegmentedLru NewSegmentedLru(
+		final long timeoutMs,
+		final long capacity
+	)
+	{
+		Validation.validateCapacityParameters(timeoutMs, capacity, Validation.minimumAdmissionWindowMs());
+
+		return new StorageEntityCacheEvaluator.SegmentedLru(timeoutMs, capacity);
+	}
+
+	/**
+	 * Pseudo-constructor method to create a new frequency based {@link StorageEntityCacheEvaluator} instance
+	 * using the passed values.
+	 * <p>
+	 * The algorithm is modeled after W-TinyLFU: Recently read entities are always admitted to the cache for the
+	 * duration of the {@literal admission window}. Beyond that, as long as the cache size exceeds the
+	 * {@literal capacity}, an entity's data is only kept if its access frequency
+	 * (see {@link StorageEntity#accessCount()}), decayed by its idle time, is high enough for the current overflow.
+	 * The more the cache is filled beyond its capacity, the higher the required frequency.
+	 * Entities that have not been read for longer than the {@literal timeout} are always cleared.
+	 * <p>
+	 * Since the access counts are kept by the entities themselves and only decay when their data is unloaded,
+	 * frequently read entities are quickly re-admitted after having been unloaded, while one-time reads are cleared
+	 * first.
+	 *
+	 * @param timeoutMs the time (in milliseconds, greater than 0) of not being read (the "age"), after which a particular
+	 *        entity's data will be cleared from the Storage's internal cache.
+	 *
+	 * @param capacity the cache size (in bytes, greater than 0) per channel that shall not be exceeded permanently.
+	 *
+	 * @param admissionWindowMs the time (in milliseconds, 0 or greater) after the last read, during which an
+	 *        entity's data is never cleared except for a timeout.
+	 *
+	 * @return a new {@link StorageEntityCacheEvaluator} instance.
+	 *
+	 * @throws IllegalArgumentException if any of the passed values is out of range.
+	 *
+	 * @see StorageEntityCacheEvaluator.FrequencyBased
+	 */
+	public static StorageEntityCacheEvaluator.FrequencyBased NewFrequencyBased(
+		final long timeoutMs        ,
+		final long capacity         ,
+		final long admissionWindowMs
+	)
+	{
+		Validation.validateCapacityParameters(timeoutMs, capacity, admissionWindowMs);
+
+		return new StorageEntityCacheEvaluator.FrequencyBased(timeoutMs, capacity, admissionWindowMs);
+	}
+
+	/**
+	 * Pseudo-constructor method to create a new {@link StorageEntityCacheEvaluator} instance that limits the
+	 * cached data of certain types to the passed budgets and delegates to the passed evaluator for everything else.
+	 * <p>
+	 * The budgets are mapped by type name (e.g. "com.my.app.Order") and specify the maximum length of cached
+	 * data in bytes per channel. As long as a type's cached data exceeds its budget, its entities' data is cleared
+	 * as soon as it has not been read for a short grace time, regardless of the decision of the delegate evaluator.
+	 *
+	 * @param typeBudgets the cached data budgets per channel in bytes, mapped by type name.
+	 *
+	 * @param delegate the evaluator deciding for types without a budget or types within their budget.
+	 *
+	 * @return a new {@link StorageEntityCacheEvaluator} instance.
+	 *
+	 * @throws IllegalArgumentException if any of the passed budgets is invalid.
+	 *
+	 * @see StorageEntityCacheEvaluator.TypeBudget
+	 */
+	public static StorageEntityCacheEvaluator.TypeBudget NewTypeBudget(
+		final XGettingMap<String, Long>   typeBudgets,
+		final StorageEntityCacheEvaluator delegate
+	)
+	{
+		Validation.validateTypeBudgets(notNull(typeBudgets));
+
+		return new StorageEntityCacheEvaluator.TypeBudget(
+			EqConstHashTable.New(typeBudgets),
+			notNull(delegate)
+		);
+	}
+
 	public final class Default implements StorageEntityCacheEvaluator
 	{
 		///////////////////////////////////////////////////////////////////////////
@@ -333,4 +508,317 @@ public interface StorageEntityCacheEvaluator
 
 	}
 
+
+	public final class SegmentedLru implements StorageEntityCacheEvaluator
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// entities read at least this often belong to the protected segment.
+		private static final int PROTECTED_ACCESS_COUNT = 2;
+
+		// the permitted idle time of probationary entities is a 16th of that of protected entities.
+		private static final int PROBATIONARY_SHIFT = 4;
+
+		// the permitted idle time halves with every 16th of capacity overflow.
+		private static final int OVERFLOW_RESOLUTION_SHIFT = 4;
+
+		private static final int MAX_SHIFT = 63;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final long timeoutMs;
+		private final long capacity ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		SegmentedLru(final long timeoutMs, final long capacity)
+		{
+			super();
+			this.timeoutMs = timeoutMs;
+			this.capacity  = capacity ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public long timeout()
+		{
+			return this.timeoutMs;
+		}
+
+		public long capacity()
+		{
+			return this.capacity;
+		}
+
+		@Override
+		public final boolean clearEntityCache(
+			final long          cacheSize,
+			final long          evalTime ,
+			final StorageEntity e
+		)
+		{
+			// signed age, see Default for the reason of entities being touched "in the future"
+			final long ageInMs = evalTime - e.lastTouched();
+			if(ageInMs >= this.timeoutMs)
+			{
+				return true;
+			}
+			if(cacheSize <= this.capacity)
+			{
+				return false;
+			}
+
+			/*
+			 * Over capacity, the permitted idle time is halved for every 16th of overflow, so a slight overflow
+			 * only clears long unused entities while a heavy overflow clears everything not currently in use.
+			 * Probationary (read at most once) entities are cleared a lot sooner than protected ones.
+			 */
+			final long overflowSteps = (cacheSize - this.capacity << OVERFLOW_RESOLUTION_SHIFT) / this.capacity;
+			final long shift         = e.accessCount() >= PROTECTED_ACCESS_COUNT
+				? 1 + overflowSteps
+				: 1 + overflowSteps + PROBATIONARY_SHIFT
+			;
+
+			return ageInMs >= (shift >= MAX_SHIFT ? 0 : this.timeoutMs >> shift);
+		}
+
+		@Override
+		public String toString()
+		{
+			return VarString.New()
+				.add(this.getClass().getName()).add(':').lf()
+				.blank().add("capacity ").tab().add('=').blank().add(this.capacity).lf()
+				.blank().add("timeout  ").tab().add('=').blank().add(this.timeoutMs)
+				.toString()
+			;
+		}
+
+	}
+
+	public final class FrequencyBased implements StorageEntityCacheEvaluator
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// the required access frequency increases by one for every 8th of capacity overflow.
+		private static final int OVERFLOW_RESOLUTION_SHIFT = 3;
+
+		// the access frequency halves with every admission window of idle time beyond the admission window.
+		private static final int MAX_DECAY_SHIFT = 31;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final long timeoutMs        ;
+		private final long capacity         ;
+		private final long admissionWindowMs;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		FrequencyBased(final long timeoutMs, final long capacity, final long admissionWindowMs)
+		{
+			super();
+			this.timeoutMs         = timeoutMs        ;
+			this.capacity          = capacity         ;
+			this.admissionWindowMs = admissionWindowMs;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public long timeout()
+		{
+			return this.timeoutMs;
+		}
+
+		public long capacity()
+		{
+			return this.capacity;
+		}
+
+		public long admissionWindow()
+		{
+			return this.admissionWindowMs;
+		}
+
+		@Override
+		public final boolean clearEntityCache(
+			final long          cacheSize,
+			final long          evalTime ,
+			final StorageEntity e
+		)
+		{
+			// signed age, see Default for the reason of entities being touched "in the future"
+			final long ageInMs = evalTime - e.lastTouched();
+			if(ageInMs >= this.timeoutMs)
+			{
+				return true;
+			}
+			if(cacheSize <= this.capacity || ageInMs < this.admissionWindowMs)
+			{
+				return false;
+			}
+
+			final long requiredFrequency = 1 + ((cacheSize - this.capacity << OVERFLOW_RESOLUTION_SHIFT) / this.capacity);
+
+			return this.decayedFrequency(e, ageInMs) < requiredFrequency;
+		}
+
+		private long decayedFrequency(final StorageEntity e, final long ageInMs)
+		{
+			if(this.admissionWindowMs == 0)
+			{
+				return e.accessCount();
+			}
+
+			final long decayShift = ageInMs / this.admissionWindowMs;
+
+			return decayShift >= MAX_DECAY_SHIFT ? 0 : e.accessCount() >> decayShift;
+		}
+
+		@Override
+		public String toString()
+		{
+			return VarString.New()
+				.add(this.getClass().getName()).add(':').lf()
+				.blank().add("capacity        ").tab().add('=').blank().add(this.capacity).lf()
+				.blank().add("timeout         ").tab().add('=').blank().add(this.timeoutMs).lf()
+				.blank().add("admissionWindow ").tab().add('=').blank().add(this.admissionWindowMs)
+				.toString()
+			;
+		}
+
+	}
+
+	public final class TypeBudget implements StorageEntityCacheEvaluator
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+
+		// entities of types over budget can still be read without being cleared right in between.
+		private static final long GRACE_TIME_MS = 1_000;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final EqConstHashTable<String, Long> typeBudgets;
+		private final StorageEntityCacheEvaluator    delegate   ;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		TypeBudget(
+			final EqConstHashTable<String, Long> typeBudgets,
+			final StorageEntityCacheEvaluator    delegate
+		)
+		{
+			super();
+			this.typeBudgets = typeBudgets;
+			this.delegate    = delegate   ;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		public XGettingMap<String, Long> typeBudgets()
+		{
+			return this.typeBudgets;
+		}
+
+		public StorageEntityCacheEvaluator delegate()
+		{
+			return this.delegate;
+		}
+
+		private long budget(final StorageEntity e)
+		{
+			// immutable table, so safe to be queried by all channel threads concurrently.
+			final Long budget = this.typeBudgets.get(e.type().typeHandler().typeName());
+
+			return budget == null ? -1 : budget;
+		}
+
+		@Override
+		public final boolean clearEntityCache(
+			final long          cacheSize,
+			final long          evalTime ,
+			final StorageEntity e
+		)
+		{
+			final long budget = this.budget(e);
+			if(budget >= 0
+				&& e.type().cachedDataLength() > budget
+				&& evalTime - e.lastTouched() >= GRACE_TIME_MS
+			)
+			{
+				return true;
+			}
+
+			return this.delegate.clearEntityCache(cacheSize, evalTime, e);
+		}
+
+		@Override
+		public final boolean initiallyCacheEntity(
+			final long          totalCacheSize,
+			final long          evaluationTime,
+			final StorageEntity entity
+		)
+		{
+			final long budget = this.budget(entity);
+			if(budget >= 0 && entity.type().cachedDataLength() + entity.dataLength() > budget)
+			{
+				return false;
+			}
+
+			return this.delegate.initiallyCacheEntity(totalCacheSize, evaluationTime, entity);
+		}
+
+		@Override
+		public String toString()
+		{
+			return VarString.New()
+				.add(this.getClass().getName()).add(':').lf()
+				.blank().add("typeBudgets").tab().add('=').blank().add(this.typeBudgets.size()).lf()
+				.blank().add("delegate   ").tab().add('=').blank().add(this.delegate)
+				.toString()
+			;
+		}
+
+	}
+
 }
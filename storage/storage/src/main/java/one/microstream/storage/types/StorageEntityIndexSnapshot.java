@@ -0,0 +1,494 @@
+package one.microstream.storage.types;
+
+/*-
+ * #%L
+ * microstream-storage
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import one.microstream.X;
+import one.microstream.afs.types.AFS;
+import one.microstream.afs.types.AFile;
+import one.microstream.afs.types.AReadableFile;
+import one.microstream.afs.types.AWritableFile;
+import one.microstream.collections.types.XGettingSequence;
+import one.microstream.memory.XMemory;
+import one.microstream.storage.exceptions.StorageExceptionIoReading;
+
+/**
+ * Snapshot of a channel's entity index (object id, type id, storage position and length of every entity,
+ * grouped by data file), written at a clean shutdown to allow skipping the scan of all data files on startup.
+ * <p>
+ * A snapshot is only applicable if the data files it covers are still present with at least the covered length.
+ * Since data files are only ever appended to, any data written after the snapshot resides either in the tail
+ * of the snapshot's last file or in newer files. Only these parts have to be scanned on startup, all other
+ * entities are registered from the snapshot.
+ */
+public interface StorageEntityIndexSnapshot
+{
+	public AFile file();
+	
+	public int fileCount();
+	
+	/**
+	 * @param fileNumber the number of the data file.
+	 * @return the length of the data file covered by this snapshot or -1 if the data file is not covered.
+	 */
+	public long coveredLength(long fileNumber);
+	
+	/**
+	 * Validates if this snapshot is applicable to the passed data files.
+	 * 
+	 * @param files the data files in ascending order.
+	 * @param lastFileLength the consistent length of the last data file.
+	 * @return whether the snapshot is applicable.
+	 */
+	public boolean isApplicable(XGettingSequence<? extends StorageDataInventoryFile> files, long lastFileLength);
+	
+	/**
+	 * Reads the index records of the passed data file into the passed buffer.
+	 * 
+	 * @param fileNumber the number of the data file.
+	 * @param buffer the buffer to read into, large enough for {@link #largestSectionLength()}.
+	 * @return the number of records read.
+	 */
+	public int readRecords(long fileNumber, ByteBuffer buffer);
+	
+	public long largestSectionLength();
+	
+	
+	
+	public static long recordLength()
+	{
+		// object id, type id, storage position, length
+		return Long.BYTES + Long.BYTES + Integer.BYTES + Integer.BYTES;
+	}
+	
+	public static long recordObjectId(final long recordAddress)
+	{
+		return XMemory.get_long(recordAddress);
+	}
+	
+	public static long recordTypeId(final long recordAddress)
+	{
+		return XMemory.get_long(recordAddress + Long.BYTES);
+	}
+	
+	public static int recordStoragePosition(final long recordAddress)
+	{
+		return XMemory.get_int(recordAddress + Long.BYTES + Long.BYTES);
+	}
+	
+	public static int recordLength(final long recordAddress)
+	{
+		return XMemory.get_int(recordAddress + Long.BYTES + Long.BYTES + Integer.BYTES);
+	}
+	
+	
+	
+	public interface Defaults
+	{
+		public static String defaultFilePrefix()
+		{
+			return "index_";
+		}
+		
+		public static String defaultFileSuffix()
+		{
+			return "snp";
+		}
+		
+		public static String provideFileName(final int channelIndex)
+		{
+			return defaultFilePrefix() + channelIndex;
+		}
+	}
+	
+	
+	
+	/**
+	 * Provides the snapshot file of the passed channel, residing in the channel's directory next to
+	 * its transactions file.
+	 * 
+	 * @param fileProvider the storage's file provider.
+	 * @param channelIndex the channel's index.
+	 * @return the snapshot file.
+	 */
+	public static AFile provideFile(final StorageLiveFileProvider fileProvider, final int channelIndex)
+	{
+		return fileProvider.provideTransactionsFile(channelIndex).parent().ensureFile(
+			Defaults.provideFileName(channelIndex),
+			Defaults.defaultFileSuffix()
+		);
+	}
+	
+	/**
+	 * Reads the snapshot header from the passed file.
+	 * 
+	 * @param file the snapshot file.
+	 * @return the snapshot or <code>null</code> if the file does not exist or does not contain a valid snapshot.
+	 */
+	public static StorageEntityIndexSnapshot read(final AFile file)
+	{
+		if(!file.exists())
+		{
+			return null;
+		}
+		
+		return AFS.apply(file, rf ->
+		{
+			final long fileSize = rf.size();
+			if(fileSize < Default.HEADER_LENGTH)
+			{
+				return null;
+			}
+			
+			final ByteBuffer header = rf.readBytes(0, Default.HEADER_LENGTH);
+			try
+			{
+				final long address = XMemory.getDirectByteBufferAddress(header);
+				if(XMemory.get_long(address) != Default.MAGIC
+					|| XMemory.get_long(address + Long.BYTES) != fileSize
+				)
+				{
+					// foreign or incompletely written file
+					return null;
+				}
+				
+				return readFileTable(file, rf, X.checkArrayRange(XMemory.get_long(address + Long.BYTES * 2)));
+			}
+			finally
+			{
+				XMemory.deallocateDirectByteBuffer(header);
+			}
+		});
+	}
+	
+	static StorageEntityIndexSnapshot readFileTable(
+		final AFile         file     ,
+		final AReadableFile rf       ,
+		final int           fileCount
+	)
+	{
+		final long[] fileNumbers      = new long[fileCount];
+		final long[] coveredLengths   = new long[fileCount];
+		final long[] recordCounts     = new long[fileCount];
+		final long[] sectionPositions = new long[fileCount];
+		
+		final ByteBuffer table = rf.readBytes(Default.HEADER_LENGTH, fileCount * Default.TABLE_ENTRY_LENGTH);
+		try
+		{
+			long address = XMemory.getDirectByteBufferAddress(table);
+			for(int i = 0; i < fileCount; i++, address += Default.TABLE_ENTRY_LENGTH)
+			{
+				fileNumbers     [i] = XMemory.get_long(address                );
+				coveredLengths  [i] = XMemory.get_long(address + Long.BYTES    );
+				recordCounts    [i] = XMemory.get_long(address + Long.BYTES * 2);
+				sectionPositions[i] = XMemory.get_long(address + Long.BYTES * 3);
+				
+				// files are written in ascending order, which allows to look them up by binary search.
+				if(i > 0 && fileNumbers[i] <= fileNumbers[i - 1])
+				{
+					return null;
+				}
+			}
+		}
+		finally
+		{
+			XMemory.deallocateDirectByteBuffer(table);
+		}
+		
+		return new StorageEntityIndexSnapshot.Default(
+			file            ,
+			fileNumbers     ,
+			coveredLengths  ,
+			recordCounts    ,
+			sectionPositions
+		);
+	}
+	
+	/**
+	 * Writes a snapshot of the entities registered in the passed data files to the passed file,
+	 * replacing any previous content.
+	 * 
+	 * @param file the snapshot file.
+	 * @param headFile the channel's head file, i.e. the last file in the chain of data files.
+	 */
+	public static void write(final AFile file, final StorageLiveDataFile.Default headFile)
+	{
+		int fileCount = 0;
+		long largestSectionLength = 0;
+		StorageLiveDataFile.Default dataFile = headFile;
+		do
+		{
+			dataFile = dataFile.next;
+			fileCount++;
+			largestSectionLength = Math.max(largestSectionLength, countEntities(dataFile) * recordLength());
+		}
+		while(dataFile != headFile);
+		
+		final int  totalFileCount = fileCount;
+		final long tableLength    = fileCount * Default.TABLE_ENTRY_LENGTH;
+		final ByteBuffer buffer = XMemory.allocateDirectNative(
+			X.checkArrayRange(Math.max(Default.HEADER_LENGTH + tableLength, largestSectionLength))
+		);
+		
+		try
+		{
+			AFS.executeWriting(file, wf ->
+				writeSnapshot(wf, headFile, totalFileCount, buffer)
+			);
+		}
+		finally
+		{
+			XMemory.deallocateDirectByteBuffer(buffer);
+		}
+	}
+	
+	static void writeSnapshot(
+		final AWritableFile               wf       ,
+		final StorageLiveDataFile.Default headFile ,
+		final int                         fileCount,
+		final ByteBuffer                  buffer
+	)
+	{
+		// any previous snapshot is invalid as soon as writing starts (the length in the header won't match)
+		wf.ensureExists();
+		wf.truncate(0);
+		
+		final long bufferAddress = XMemory.getDirectByteBufferAddress(buffer);
+		long sectionPosition = Default.HEADER_LENGTH + fileCount * Default.TABLE_ENTRY_LENGTH;
+		
+		// file table first, the total length has to be known for the header anyway
+		long address = bufferAddress + Default.HEADER_LENGTH;
+		StorageLiveDataFile.Default dataFile = headFile;
+		do
+		{
+			dataFile = dataFile.next;
+			final long recordCount = countEntities(dataFile);
+			XMemory.set_long(address                , dataFile.number()     );
+			XMemory.set_long(address + Long.BYTES    , dataFile.totalLength());
+			XMemory.set_long(address + Long.BYTES * 2, recordCount          );
+			XMemory.set_long(address + Long.BYTES * 3, sectionPosition      );
+			address += Default.TABLE_ENTRY_LENGTH;
+			sectionPosition += recordCount * recordLength();
+		}
+		while(dataFile != headFile);
+		
+		XMemory.set_long(bufferAddress                , Default.MAGIC);
+		XMemory.set_long(bufferAddress + Long.BYTES    , sectionPosition);
+		XMemory.set_long(bufferAddress + Long.BYTES * 2, fileCount);
+		
+		buffer.clear().limit(X.checkArrayRange(address - bufferAddress));
+		wf.writeBytes(buffer);
+		
+		// record sections in the same file order, each in ascending storage position order
+		dataFile = headFile;
+		do
+		{
+			dataFile = dataFile.next;
+			address = bufferAddress;
+			for(StorageEntity.Default e = dataFile.head; (e = e.fileNext) != dataFile.tail;)
+			{
+				XMemory.set_long(address                                , e.objectId()     );
+				XMemory.set_long(address + Long.BYTES                   , e.typeId()       );
+				XMemory.set_int (address + Long.BYTES * 2               , e.storagePosition);
+				XMemory.set_int (address + Long.BYTES * 2 + Integer.BYTES, e.length         );
+				address += recordLength();
+			}
+			buffer.clear().limit(X.checkArrayRange(address - bufferAddress));
+			wf.writeBytes(buffer);
+		}
+		while(dataFile != headFile);
+	}
+	
+	static long countEntities(final StorageLiveDataFile.Default dataFile)
+	{
+		long count = 0;
+		for(StorageEntity.Default e = dataFile.head; (e = e.fileNext) != dataFile.tail;)
+		{
+			count++;
+		}
+		
+		return count;
+	}
+	
+	
+	
+	public final class Default implements StorageEntityIndexSnapshot
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constants //
+		//////////////
+		
+		static final long MAGIC              = 0x4D53_4944_5853_4E31L; // "MSIDXSN1"
+		static final long HEADER_LENGTH      = Long.BYTES * 3; // magic, total length, file count
+		static final long TABLE_ENTRY_LENGTH = Long.BYTES * 4; // number, covered length, record count, position
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		private final AFile  file            ;
+		private final long[] fileNumbers     ;
+		private final long[] coveredLengths  ;
+		private final long[] recordCounts    ;
+		private final long[] sectionPositions;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(
+			final AFile  file            ,
+			final long[] fileNumbers     ,
+			final long[] coveredLengths  ,
+			final long[] recordCounts    ,
+			final long[] sectionPositions
+		)
+		{
+			super();
+			this.file             = file            ;
+			this.fileNumbers      = fileNumbers     ;
+			this.coveredLengths   = coveredLengths  ;
+			this.recordCounts     = recordCounts    ;
+			this.sectionPositions = sectionPositions;
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		private int indexOf(final long fileNumber)
+		{
+			final int index = Arrays.binarySearch(this.fileNumbers, fileNumber);
+			
+			return index < 0 ? -1 : index;
+		}
+		
+		@Override
+		public final AFile file()
+		{
+			return this.file;
+		}
+		
+		@Override
+		public final int fileCount()
+		{
+			return this.fileNumbers.length;
+		}
+		
+		@Override
+		public final long coveredLength(final long fileNumber)
+		{
+			final int index = this.indexOf(fileNumber);
+			
+			return index < 0 ? -1 : this.coveredLengths[index];
+		}
+		
+		@Override
+		public final long largestSectionLength()
+		{
+			long largestRecordCount = 0;
+			for(final long recordCount : this.recordCounts)
+			{
+				largestRecordCount = Math.max(largestRecordCount, recordCount);
+			}
+			
+			return largestRecordCount * recordLength();
+		}
+		
+		@Override
+		public final boolean isApplicable(
+			final XGettingSequence<? extends StorageDataInventoryFile> files         ,
+			final long                                                 lastFileLength
+		)
+		{
+			if(this.fileNumbers.length == 0)
+			{
+				return false;
+			}
+			
+			final long lastCoveredFileNumber = this.fileNumbers[this.fileNumbers.length - 1];
+			final StorageDataInventoryFile lastFile = files.last();
+			
+			int coveredFileCount = 0;
+			for(final StorageDataInventoryFile file : files)
+			{
+				final long actualLength  = file == lastFile ? lastFileLength : file.size();
+				final long coveredLength = this.coveredLength(file.number());
+				if(coveredLength < 0)
+				{
+					// only files created after the snapshot may be uncovered.
+					if(file.number() < lastCoveredFileNumber)
+					{
+						return false;
+					}
+					continue;
+				}
+				
+				// only the snapshot's last file may have grown, no covered file may have shrunk.
+				if(actualLength < coveredLength
+					|| actualLength != coveredLength && file.number() != lastCoveredFileNumber
+				)
+				{
+					return false;
+				}
+				coveredFileCount++;
+			}
+			
+			// covered files that have been deleted in the meantime make the snapshot inapplicable.
+			return coveredFileCount == this.fileNumbers.length;
+		}
+		
+		@Override
+		public final int readRecords(final long fileNumber, final ByteBuffer buffer)
+		{
+			final int index = this.indexOf(fileNumber);
+			if(index < 0)
+			{
+				return 0;
+			}
+			
+			final long sectionLength = this.recordCounts[index] * recordLength();
+			try
+			{
+				buffer.clear().limit(X.checkArrayRange(sectionLength));
+				AFS.execute(this.file, rf ->
+					rf.readBytes(buffer, this.sectionPositions[index], sectionLength)
+				);
+			}
+			catch(final Exception e)
+			{
+				throw new StorageExceptionIoReading(e);
+			}
+			
+			return X.checkArrayRange(this.recordCounts[index]);
+		}
+		
+	}
+	
+}
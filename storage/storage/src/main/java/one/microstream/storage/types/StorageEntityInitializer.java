@@ -21,6 +21,7 @@ package one.microstream.storage.types;
  */
 
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.notNegative;
 
 import java.nio.ByteBuffer;
 import java.util.Iterator;
@@ -30,6 +31,7 @@ import one.microstream.X;
 import one.microstream.collections.types.XGettingSequence;
 import one.microstream.memory.XMemory;
 import one.microstream.persistence.binary.types.Binary;
+import one.microstream.storage.exceptions.StorageException;
 import one.microstream.storage.exceptions.StorageExceptionConsistency;
 import one.microstream.storage.exceptions.StorageExceptionIoReading;
 import one.microstream.typing.XTypes;
@@ -38,27 +40,98 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 {
 	public D registerEntities(XGettingSequence<? extends StorageDataInventoryFile> files, long lastFileLength);
 	
+	/**
+	 * Registers the entities of the passed files by using the passed applicable snapshot for the covered parts
+	 * of the files and scanning only the parts written after the snapshot.
+	 * 
+	 * @param files the data files in ascending order.
+	 * @param lastFileLength the consistent length of the last data file.
+	 * @param snapshot an applicable entity index snapshot.
+	 * @return the head file.
+	 * 
+	 * @see StorageEntityIndexSnapshot#isApplicable(XGettingSequence, long)
+	 */
+	public D registerEntities(
+		XGettingSequence<? extends StorageDataInventoryFile> files         ,
+		long                                                 lastFileLength,
+		StorageEntityIndexSnapshot                           snapshot
+	);
+	
 	
 	
 	static StorageEntityInitializer<StorageLiveDataFile.Default> New(
 		final StorageEntityCache.Default                                      entityCache    ,
 		final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator
 	)
+	{
+		return New(entityCache, dataFileCreator, Defaults.defaultReadAheadFileCount());
+	}
+	
+	/**
+	 * Creates an initializer that reads and indexes up to {@literal readAheadFileCount} data files in a
+	 * dedicated reader thread ahead of the calling channel thread registering the entities of the current file.
+	 * This overlaps file I/O with the entity registration. Every read ahead file requires an additional buffer
+	 * of the size of the largest data file.
+	 * A value of 0 reads and registers all files sequentially by the calling thread.
+	 * 
+	 * @param entityCache the entity cache to register the entities in.
+	 * @param dataFileCreator the function creating the live data file instances.
+	 * @param readAheadFileCount the number of files to read ahead, 0 or greater.
+	 * @return a new initializer.
+	 */
+	static StorageEntityInitializer<StorageLiveDataFile.Default> New(
+		final StorageEntityCache.Default                                      entityCache       ,
+		final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator   ,
+		final int                                                             readAheadFileCount
+	)
+	{
+		return New(entityCache, dataFileCreator, readAheadFileCount, StorageWorkerThreadProvider.New());
+	}
+	
+	/**
+	 * Creates an initializer that reads data files ahead like {@link #New(StorageEntityCache.Default, Function, int)},
+	 * but with the reader thread provided by the passed {@link StorageWorkerThreadProvider}.
+	 * 
+	 * @param entityCache the entity cache to register the entities in.
+	 * @param dataFileCreator the function creating the live data file instances.
+	 * @param readAheadFileCount the number of files to read ahead, 0 or greater.
+	 * @param workerThreadProvider the provider of the reader thread.
+	 * @return a new initializer.
+	 */
+	static StorageEntityInitializer<StorageLiveDataFile.Default> New(
+		final StorageEntityCache.Default                                      entityCache         ,
+		final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator     ,
+		final int                                                             readAheadFileCount  ,
+		final StorageWorkerThreadProvider                                     workerThreadProvider
+	)
 	{
 		return new StorageEntityInitializer.Default(
-			notNull(dataFileCreator),
-			notNull(entityCache)
+			notNull(dataFileCreator)       ,
+			notNull(entityCache)           ,
+			notNegative(readAheadFileCount),
+			notNull(workerThreadProvider)
 		);
 	}
 	
+	public interface Defaults
+	{
+		public static int defaultReadAheadFileCount()
+		{
+			// opt-in, as every file read ahead requires a buffer of the size of the largest data file.
+			return 0;
+		}
+	}
+	
 	final class Default implements StorageEntityInitializer<StorageLiveDataFile.Default>
 	{
 		///////////////////////////////////////////////////////////////////////////
 		// instance fields //
 		////////////////////
 
-		private final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator;
-		private final StorageEntityCache.Default                                      entityCache    ;
+		private final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator     ;
+		private final StorageEntityCache.Default                                      entityCache         ;
+		private final int                                                             readAheadFileCount  ;
+		private final StorageWorkerThreadProvider                                     workerThreadProvider;
 		
 		
 		
@@ -67,13 +140,17 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 		/////////////////
 
 		Default(
-			final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator,
-			final StorageEntityCache.Default                                      entityCache
+			final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> dataFileCreator     ,
+			final StorageEntityCache.Default                                      entityCache         ,
+			final int                                                             readAheadFileCount  ,
+			final StorageWorkerThreadProvider                                     workerThreadProvider
 		)
 		{
 			super();
-			this.dataFileCreator = dataFileCreator;
-			this.entityCache     = entityCache    ;
+			this.dataFileCreator      = dataFileCreator     ;
+			this.entityCache          = entityCache         ;
+			this.readAheadFileCount   = readAheadFileCount  ;
+			this.workerThreadProvider = workerThreadProvider;
 		}
 		
 		
@@ -88,7 +165,20 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 			final long                                             lastFileLength
 		)
 		{
-			return registerEntities(this.dataFileCreator, this.entityCache, files.toReversed(), lastFileLength);
+			final XGettingSequence<? extends StorageDataInventoryFile> reversedFiles = files.toReversed();
+			if(this.readAheadFileCount == 0 || reversedFiles.size() < 2)
+			{
+				return registerEntities(this.dataFileCreator, this.entityCache, reversedFiles, lastFileLength);
+			}
+			
+			return registerEntitiesReadAhead(
+				this.dataFileCreator     ,
+				this.entityCache         ,
+				reversedFiles            ,
+				lastFileLength           ,
+				this.readAheadFileCount  ,
+				this.workerThreadProvider
+			);
 		}
 		
 		private static StorageLiveDataFile.Default registerEntities(
@@ -120,6 +210,403 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 			return headFile;
 		}
 		
+		@Override
+		public final StorageLiveDataFile.Default registerEntities(
+			final XGettingSequence<? extends StorageDataInventoryFile> files         ,
+			final long                                                 lastFileLength,
+			final StorageEntityIndexSnapshot                           snapshot
+		)
+		{
+			final XGettingSequence<? extends StorageDataInventoryFile> reversedFiles = files.toReversed();
+			
+			final ByteBuffer buffer        = allocateInitializationBuffer(reversedFiles);
+			final int[]      entityOffsets = createAllFilesOffsetsArray(buffer.capacity());
+			final ByteBuffer recordBuffer  = XMemory.allocateDirectNative(
+				Math.max(X.checkArrayRange(snapshot.largestSectionLength()), XMemory.defaultBufferSize())
+			);
+			
+			try
+			{
+				final long initTime = System.currentTimeMillis();
+				final Iterator<? extends StorageDataInventoryFile> iterator = reversedFiles.iterator();
+				
+				// same reversed order as a complete scan, so the latest version of every entity is registered first
+				final StorageLiveDataFile.Default headFile = setupHeadFile(this.dataFileCreator.apply(iterator.next()));
+				registerFileEntities(
+					this.entityCache,
+					initTime        ,
+					headFile        ,
+					lastFileLength  ,
+					snapshot        ,
+					buffer          ,
+					entityOffsets   ,
+					recordBuffer
+				);
+				for(StorageLiveDataFile.Default dataFile = headFile; iterator.hasNext();)
+				{
+					dataFile = linkTailFile(dataFile, this.dataFileCreator.apply(iterator.next()));
+					registerFileEntities(
+						this.entityCache,
+						initTime        ,
+						dataFile        ,
+						dataFile.size() ,
+						snapshot        ,
+						buffer          ,
+						entityOffsets   ,
+						recordBuffer
+					);
+				}
+				
+				return headFile;
+			}
+			finally
+			{
+				XMemory.deallocateDirectByteBuffer(recordBuffer);
+				XMemory.deallocateDirectByteBuffer(buffer);
+			}
+		}
+		
+		private static void registerFileEntities(
+			final StorageEntityCache.Default  entityCache       ,
+			final long                        initializationTime,
+			final StorageLiveDataFile.Default file              ,
+			final long                        fileActualLength  ,
+			final StorageEntityIndexSnapshot  snapshot          ,
+			final ByteBuffer                  buffer            ,
+			final int[]                       entityOffsets     ,
+			final ByteBuffer                  recordBuffer
+		)
+		{
+			final long coveredLength = snapshot.coveredLength(file.number());
+			if(coveredLength < 0)
+			{
+				// file created after the snapshot
+				registerFileEntities(entityCache, initializationTime, file, fileActualLength, buffer, entityOffsets);
+				return;
+			}
+			
+			if(fileActualLength > coveredLength)
+			{
+				// data appended after the snapshot is newer than all snapshot entities, so it is registered first
+				final int entityCount = indexEntities(file, coveredLength, fileActualLength, buffer, entityOffsets);
+				registerIndexedEntities(
+					entityCache       ,
+					initializationTime,
+					file              ,
+					buffer            ,
+					entityOffsets     ,
+					entityCount       ,
+					coveredLength
+				);
+			}
+			
+			registerSnapshotEntities(entityCache, file, coveredLength, snapshot, recordBuffer);
+		}
+		
+		private static void registerSnapshotEntities(
+			final StorageEntityCache.Default  entityCache  ,
+			final StorageLiveDataFile.Default file         ,
+			final long                        coveredLength,
+			final StorageEntityIndexSnapshot  snapshot     ,
+			final ByteBuffer                  recordBuffer
+		)
+		{
+			final int  recordCount  = snapshot.readRecords(file.number(), recordBuffer);
+			final long recordLength = StorageEntityIndexSnapshot.recordLength();
+			final long startAddress = XMemory.getDirectByteBufferAddress(recordBuffer);
+			
+			long totalContentLength = 0;
+			
+			// reverse iteration and prepending keeps the file's entity chain in storage position order.
+			for(long address = startAddress + recordCount * recordLength; (address -= recordLength) >= startAddress;)
+			{
+				final long objectId = StorageEntityIndexSnapshot.recordObjectId(address);
+				if(entityCache.getEntry(objectId) != null)
+				{
+					// superseded by data written after the snapshot
+					continue;
+				}
+				
+				final int                   length = StorageEntityIndexSnapshot.recordLength(address);
+				final StorageEntity.Default entity = entityCache.initialCreateEntity(
+					objectId,
+					StorageEntityIndexSnapshot.recordTypeId(address)
+				);
+				entity.updateStorageInformation(length, StorageEntityIndexSnapshot.recordStoragePosition(address));
+				file.prependEntry(entity);
+				totalContentLength += length;
+			}
+			
+			file.increaseContentLength(totalContentLength);
+			file.registerGapLength(coveredLength - totalContentLength);
+		}
+		
+		private static StorageLiveDataFile.Default registerEntitiesReadAhead(
+			final Function<StorageDataInventoryFile, StorageLiveDataFile.Default> fileCreator       ,
+			final StorageEntityCache.Default                                      entityCache       ,
+			final XGettingSequence<? extends StorageDataInventoryFile>            reversedFiles     ,
+			final long                                                            lastFileLength    ,
+			final int                                                             readAheadFileCount,
+			final StorageWorkerThreadProvider                                     threadProvider
+		)
+		{
+			// file instances are created and chained in order by the calling thread, only reading is delegated.
+			final StorageLiveDataFile.Default[] dataFiles = new StorageLiveDataFile.Default[X.checkArrayRange(
+				reversedFiles.size()
+			)];
+			final long[] fileLengths = new long[dataFiles.length];
+			
+			final Iterator<? extends StorageDataInventoryFile> iterator = reversedFiles.iterator();
+			dataFiles[0]   = setupHeadFile(fileCreator.apply(iterator.next()));
+			fileLengths[0] = lastFileLength;
+			for(int i = 1; i < dataFiles.length; i++)
+			{
+				dataFiles[i]   = linkTailFile(dataFiles[i - 1], fileCreator.apply(iterator.next()));
+				fileLengths[i] = dataFiles[i].size();
+			}
+			
+			final long       initTime = System.currentTimeMillis();
+			final FileReader reader   = new FileReader(
+				dataFiles,
+				fileLengths,
+				Math.min(readAheadFileCount, dataFiles.length - 1) + 1,
+				determineLargestFileSize(reversedFiles)
+			);
+			final Thread readerThread = threadProvider.provideWorkerThread(
+				reader,
+				StorageEntityInitializer.class.getSimpleName() + "-" + entityCache.channelIndex()
+			);
+			
+			try
+			{
+				readerThread.start();
+				for(int i = 0; i < dataFiles.length; i++)
+				{
+					final FileReader.Slot slot = reader.awaitFile(i);
+					registerIndexedEntities(
+						entityCache       ,
+						initTime          ,
+						dataFiles[i]      ,
+						slot.buffer       ,
+						slot.entityOffsets,
+						slot.entityCount  ,
+						0
+					);
+					reader.releaseFile(i);
+				}
+			}
+			finally
+			{
+				reader.abort();
+				joinUninterruptibly(readerThread);
+				reader.deallocateBuffers();
+			}
+			
+			return dataFiles[0];
+		}
+		
+		private static void joinUninterruptibly(final Thread thread)
+		{
+			// the reader's buffers may not be deallocated while it is still running, so waiting is mandatory.
+			boolean interrupted = false;
+			while(thread.isAlive())
+			{
+				try
+				{
+					thread.join();
+				}
+				catch(final InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+			if(interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
+		
+		/**
+		 * Reads and indexes data files in a ring of buffers ahead of the thread registering the indexed entities.
+		 * The file at index i is held in slot i % slot count. It may be read once the file previously held in that
+		 * slot has been released and may be registered once it has been read.
+		 */
+		static final class FileReader implements Runnable
+		{
+			static final class Slot
+			{
+				final ByteBuffer buffer       ;
+				final int[]      entityOffsets;
+				int              entityCount  ;
+				
+				Slot(final int bufferSize)
+				{
+					super();
+					this.buffer        = allocateInitializationBuffer(bufferSize);
+					this.entityOffsets = createAllFilesOffsetsArray(this.buffer.capacity());
+				}
+			}
+			
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+			
+			private final StorageLiveDataFile.Default[] dataFiles  ;
+			private final long[]                        fileLengths;
+			private final Slot[]                        slots      ;
+			
+			// guarded by this instance's monitor
+			private int       readCount    ;
+			private int       releasedCount;
+			private boolean   aborted      ;
+			private Throwable problem      ;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+			
+			FileReader(
+				final StorageLiveDataFile.Default[] dataFiles  ,
+				final long[]                        fileLengths,
+				final int                           slotCount  ,
+				final int                           bufferSize
+			)
+			{
+				super();
+				this.dataFiles   = dataFiles  ;
+				this.fileLengths = fileLengths;
+				this.slots       = new Slot[slotCount];
+				
+				try
+				{
+					for(int i = 0; i < this.slots.length; i++)
+					{
+						this.slots[i] = new Slot(bufferSize);
+					}
+				}
+				catch(final RuntimeException | Error e)
+				{
+					this.deallocateBuffers();
+					throw e;
+				}
+			}
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
+			
+			@Override
+			public void run()
+			{
+				try
+				{
+					for(int i = 0; i < this.dataFiles.length; i++)
+					{
+						if(!this.awaitFreeSlot(i))
+						{
+							return;
+						}
+						
+						final Slot slot = this.slots[i % this.slots.length];
+						try
+						{
+							slot.entityCount = indexEntities(
+								this.dataFiles[i]  ,
+								this.fileLengths[i],
+								slot.buffer        ,
+								slot.entityOffsets
+							);
+						}
+						finally
+						{
+							// file access is registered per thread, so the reader may not keep the file opened.
+							this.dataFiles[i].close();
+						}
+						
+						synchronized(this)
+						{
+							this.readCount++;
+							this.notifyAll();
+						}
+					}
+				}
+				catch(final Throwable t)
+				{
+					synchronized(this)
+					{
+						this.problem = t;
+						this.notifyAll();
+					}
+				}
+			}
+			
+			private synchronized boolean awaitFreeSlot(final int fileIndex) throws InterruptedException
+			{
+				while(fileIndex - this.releasedCount >= this.slots.length)
+				{
+					if(this.aborted)
+					{
+						return false;
+					}
+					this.wait();
+				}
+				
+				return !this.aborted;
+			}
+			
+			final synchronized Slot awaitFile(final int fileIndex)
+			{
+				try
+				{
+					while(fileIndex >= this.readCount)
+					{
+						if(this.problem != null)
+						{
+							throw this.problem instanceof StorageException
+								? (StorageException)this.problem
+								: new StorageExceptionIoReading(this.problem)
+							;
+						}
+						this.wait();
+					}
+				}
+				catch(final InterruptedException e)
+				{
+					throw new StorageException(e);
+				}
+				
+				return this.slots[fileIndex % this.slots.length];
+			}
+			
+			final synchronized void releaseFile(final int fileIndex)
+			{
+				this.releasedCount = fileIndex + 1;
+				this.notifyAll();
+			}
+			
+			final synchronized void abort()
+			{
+				this.aborted = true;
+				this.notifyAll();
+			}
+			
+			final void deallocateBuffers()
+			{
+				for(final Slot slot : this.slots)
+				{
+					if(slot != null)
+					{
+						XMemory.deallocateDirectByteBuffer(slot.buffer);
+					}
+				}
+			}
+			
+		}
+		
 		final static void registerFileEntities(
 			final StorageEntityCache.Default  entityCache       ,
 			final long                        initializationTime,
@@ -130,7 +617,21 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 		)
 		{
 			// entities must be indexed first to allow reverse iteration.
-			final int                         entityCount = indexEntities(file, fileActualLength, buffer, entityOffsets);
+			final int entityCount = indexEntities(file, fileActualLength, buffer, entityOffsets);
+			
+			registerIndexedEntities(entityCache, initializationTime, file, buffer, entityOffsets, entityCount, 0);
+		}
+		
+		final static void registerIndexedEntities(
+			final StorageEntityCache.Default  entityCache       ,
+			final long                        initializationTime,
+			final StorageLiveDataFile.Default file              ,
+			final ByteBuffer                  buffer            ,
+			final int[]                       entityOffsets     ,
+			final int                         entityCount       ,
+			final long                        startPosition
+		)
+		{
 			final StorageEntityCacheEvaluator entityCacheEvaluator = entityCache.entityCacheEvaluator;
 			final long                        bufferStartAddress   = XMemory.getDirectByteBufferAddress(buffer);
 			
@@ -153,14 +654,17 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 				final long                  entityLength  = Binary.getEntityLengthRawValue(entityAddress);
 				final StorageEntity.Default entity        = entityCache.initialCreateEntity(entityAddress);
 				
-				entity.updateStorageInformation(XTypes.to_int(entityLength), entityOffsets[i]);
+				entity.updateStorageInformation(
+					XTypes.to_int(entityLength),
+					X.checkArrayRange(startPosition + entityOffsets[i])
+				);
 				file.prependEntry(entity);
 				totalFileContentLength += entityLength;
 				
 				if(entityCacheEvaluator.initiallyCacheEntity(entityCache.cacheSize(), initializationTime, entity))
 				{
 					entity.putCacheData(entityAddress, entityLength);
-					entityCache.modifyUsedCacheSize(entityLength);
+					entityCache.modifyUsedCacheSize(entity, entityLength);
 				}
 			}
 
@@ -181,10 +685,21 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 			final ByteBuffer                  buffer          ,
 			final int[]                       entityOffsets
 		)
+		{
+			return indexEntities(file, 0, fileActualLength, buffer, entityOffsets);
+		}
+		
+		private static int indexEntities(
+			final StorageLiveDataFile.Default file            ,
+			final long                        startPosition   ,
+			final long                        fileActualLength,
+			final ByteBuffer                  buffer          ,
+			final int[]                       entityOffsets
+		)
 		{
 			int lastEntityIndex = -1;
 			
-			fillBuffer(buffer, file, fileActualLength);
+			fillBuffer(buffer, file, startPosition, fileActualLength);
 			
 			final long bufferStartAddress = XMemory.getDirectByteBufferAddress(buffer);
 			final long bufferBoundAddress = bufferStartAddress + buffer.limit();
@@ -256,8 +771,11 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 		
 		private static ByteBuffer allocateInitializationBuffer(final Iterable<? extends StorageDataInventoryFile> files)
 		{
-			final int largestFileSize = determineLargestFileSize(files);
-			
+			return allocateInitializationBuffer(determineLargestFileSize(files));
+		}
+		
+		static ByteBuffer allocateInitializationBuffer(final int largestFileSize)
+		{
 			// anything below the system's "default" buffer size (a "page", usually 4096) doesn't pay off.
 			final ByteBuffer buffer = XMemory.allocateDirectNative(
 				Math.max(largestFileSize, XMemory.defaultBufferSize())
@@ -269,6 +787,7 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 		private static void fillBuffer(
 			final ByteBuffer                  buffer          ,
 			final StorageLiveDataFile.Default file            ,
+			final long                        startPosition   ,
 			final long                        fileActualLength
 		)
 		{
@@ -276,9 +795,9 @@ public interface StorageEntityInitializer<D extends StorageLiveDataFile>
 			{
 				buffer.clear();
 				// the reason for the stupid limit is actually a single toArray() somewhere in NIO.
-				buffer.limit(X.checkArrayRange(fileActualLength));
+				buffer.limit(X.checkArrayRange(fileActualLength - startPosition));
 				
-				file.readBytes(buffer, 0, fileActualLength);
+				file.readBytes(buffer, startPosition, fileActualLength - startPosition);
 			}
 			catch(final Exception e)
 			{
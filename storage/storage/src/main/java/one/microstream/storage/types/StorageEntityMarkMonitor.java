@@ -20,6 +20,7 @@ package one.microstream.storage.types;
  * #L%
  */
 
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -61,13 +62,56 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 	public void completeSweep(
 		StorageEntityCache<?>  channel             ,
 		StorageRootOidSelector rootObjectIdSelector,
-		long                   channelRootObjectId
+		long                   channelRootObjectId ,
+		ObjectIds              rememberedObjectIds
 	);
 
+	/**
+	 * Returns whether young collections are done between full collections.
+	 * 
+	 * @return whether the garbage collection is generational.
+	 */
+	public boolean isGenerational();
+
+	/**
+	 * Returns whether the current marking and the sweep following it only collect young entities.
+	 * A young marking starts at the root and the remembered entities of all channels and does not
+	 * iterate the references of stable entities.
+	 * 
+	 * @return whether the current collection is a young collection.
+	 */
+	public boolean isYoungCollection();
+
 	public boolean isMarkingComplete();
 
 	public StorageReferenceMarker provideReferenceMarker(StorageEntityCache<?> channel);
 
+	/**
+	 * Creates a new {@link StorageReferenceMarker} to be used by a parallel marking worker.
+	 * Unlike the one returned by {@link #provideReferenceMarker(StorageEntityCache)}, it is not reset
+	 * by {@link #reset()}, so its owner must flush it before it advances the marking.
+	 * 
+	 * @return a new worker reference marker.
+	 */
+	public StorageReferenceMarker createWorkerReferenceMarker();
+
+	/**
+	 * Returns the pool shared by all channels to mark their entities in parallel or {@literal null} if
+	 * every channel marks its entities exclusively in its own thread.
+	 * 
+	 * @return the parallel marking pool or {@literal null}.
+	 */
+	public ForkJoinPool markingPool();
+
+	/**
+	 * Signals that the passed channel has been disposed, i.e. its thread has ended.
+	 * The marking pool is shut down once all channels have been disposed, since until then,
+	 * the remaining channels might still use it.
+	 * 
+	 * @param channel the disposed channel.
+	 */
+	public void signalChannelDisposed(StorageEntityCache<?> channel);
+
 	public void enqueue(StorageObjectIdMarkQueue objectIdMarkQueue, long objectId);
 
 	/**
@@ -82,9 +126,65 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 	}
 	
 	public static StorageEntityMarkMonitor.Creator Creator(final int referenceCacheLength)
+	{
+		return Creator(
+			referenceCacheLength,
+			StorageEntityMarkMonitor.Creator.Defaults.defaultMarkingParallelism()
+		);
+	}
+	
+	/**
+	 * Creates a {@link StorageEntityMarkMonitor.Creator} whose monitors provide a {@link ForkJoinPool} with
+	 * the passed parallelism, shared by all channels to mark entities in parallel.
+	 * The channels still mark within their garbage collection time budget, but idle pool threads help
+	 * the channels with the most pending marks (work stealing), so a channel holding the bulk of a large
+	 * entity graph no longer holds up the completion of the whole marking.
+	 * <p>
+	 * A parallelism of 0 disables parallel marking.
+	 * 
+	 * @param referenceCacheLength the reference cache length per channel.
+	 * @param markingParallelism the number of threads of the shared marking pool or 0.
+	 * @return a new {@link StorageEntityMarkMonitor.Creator} instance.
+	 */
+	public static StorageEntityMarkMonitor.Creator Creator(
+		final int referenceCacheLength,
+		final int markingParallelism
+	)
+	{
+		return Creator(
+			referenceCacheLength,
+			markingParallelism,
+			StorageEntityMarkMonitor.Creator.Defaults.defaultYoungCollectionCount()
+		);
+	}
+	
+	/**
+	 * Creates a {@link StorageEntityMarkMonitor.Creator} whose monitors additionally let the passed number of
+	 * young collections follow every full collection (generational garbage collection).
+	 * <p>
+	 * A young collection only marks entities reachable from the root and from the entities that have been
+	 * stored recently (the remembered set) without iterating the references of entities that have not been
+	 * stored for several collections, and only deletes unreachable entities that have been created recently.
+	 * This makes collecting short-lived data cheap even if the bulk of the entity graph is large but stable.
+	 * Unreachable entities that are not young anymore are only collected by the full collections.
+	 * <p>
+	 * A young collection count of 0 makes every collection a full collection.
+	 * 
+	 * @param referenceCacheLength the reference cache length per channel.
+	 * @param markingParallelism the number of threads of the shared marking pool or 0.
+	 * @param youngCollectionCount the number of young collections between two full collections.
+	 * @return a new {@link StorageEntityMarkMonitor.Creator} instance.
+	 */
+	public static StorageEntityMarkMonitor.Creator Creator(
+		final int referenceCacheLength,
+		final int markingParallelism  ,
+		final int youngCollectionCount
+	)
 	{
 		return new StorageEntityMarkMonitor.Creator.Default(
-			XMath.positive(referenceCacheLength)
+			XMath.positive   (referenceCacheLength),
+			XMath.notNegative(markingParallelism  ),
+			XMath.notNegative(youngCollectionCount)
 		);
 	}
 	
@@ -97,10 +197,22 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 
 	public interface Creator
 	{
+		/**
+		 * Creates a new {@link StorageEntityMarkMonitor}. If parallel marking is enabled, the threads of its
+		 * marking pool are provided by the passed thread provider. The pool is shut down once all channels
+		 * have been disposed, see {@link StorageEntityMarkMonitor#signalChannelDisposed(StorageEntityCache)}.
+		 * 
+		 * @param oidMarkQueues the mark queues of all channels.
+		 * @param eventLogger the event logger.
+		 * @param refStorerRegistry the registry of the live storers.
+		 * @param threadProvider the provider of the marking pool's threads.
+		 * @return a new {@link StorageEntityMarkMonitor} instance.
+		 */
 		public StorageEntityMarkMonitor createEntityMarkMonitor(
 			StorageObjectIdMarkQueue[]                 oidMarkQueues    ,
 			StorageEventLogger                         eventLogger      ,
-			Referencing<PersistenceLiveStorerRegistry> refStorerRegistry
+			Referencing<PersistenceLiveStorerRegistry> refStorerRegistry,
+			StorageWorkerThreadProvider                threadProvider
 		);
 		
 		
@@ -126,6 +238,18 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 				 */
 				return 100;
 			}
+			
+			public static int defaultMarkingParallelism()
+			{
+				// every channel marks its entities exclusively in its own thread.
+				return 0;
+			}
+			
+			public static int defaultYoungCollectionCount()
+			{
+				// every collection is a full collection.
+				return 0;
+			}
 		}
 
 
@@ -137,6 +261,8 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			////////////////////
 			
 			private final int referenceCacheLength;
+			private final int markingParallelism  ;
+			private final int youngCollectionCount;
 			
 			
 			
@@ -144,10 +270,16 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			// constructors //
 			/////////////////
 			
-			Default(final int referenceCacheLength)
+			Default(
+				final int referenceCacheLength,
+				final int markingParallelism  ,
+				final int youngCollectionCount
+			)
 			{
 				super();
 				this.referenceCacheLength = referenceCacheLength;
+				this.markingParallelism   = markingParallelism  ;
+				this.youngCollectionCount = youngCollectionCount;
 			}
 			
 			
@@ -160,14 +292,25 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			public StorageEntityMarkMonitor createEntityMarkMonitor(
 				final StorageObjectIdMarkQueue[]                 objectIdMarkQueues,
 				final StorageEventLogger                         eventLogger       ,
-				final Referencing<PersistenceLiveStorerRegistry> refStorerRegistry
+				final Referencing<PersistenceLiveStorerRegistry> refStorerRegistry ,
+				final StorageWorkerThreadProvider                threadProvider
 			)
 			{
 				return new StorageEntityMarkMonitor.Default(
 					objectIdMarkQueues.clone(),
 					eventLogger,
 					refStorerRegistry,
-					this.referenceCacheLength
+					this.referenceCacheLength,
+					this.markingParallelism > 0
+						? new ForkJoinPool(
+							this.markingParallelism,
+							threadProvider.providePoolThreadFactory("StorageMarker"),
+							null,
+							false
+						)
+						: null
+					,
+					this.youngCollectionCount
 				);
 			}
 
@@ -192,6 +335,8 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 		private final int                channelCount        ;
 		private final int                channelHash         ;
 		private final int                referenceCacheLength;
+		private final ForkJoinPool       markingPool         ;
+		private final int                youngCollectionCount;
 		
 		
 		// state 2.0: final references to mutable instances, i.e. content must be cleared on reset
@@ -199,6 +344,7 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 		private final StorageObjectIdMarkQueue[] oidMarkQueues   ;
 		private final long[]                     channelRootOids ;
 		private final StorageReferenceMarker[]   referenceMarkers;
+		private final ObjectIds[]                rememberedOids  ;
 
 		
 		// state 3.0: mutable fields. Must be cleared on reset.
@@ -218,6 +364,10 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 		private long lastGcHotCompletion ;
 		private long lastGcColdCompletion;
 		
+		// the kind of the current marking and the sweep following it, see Creator(int, int, int).
+		private boolean youngCollection     ;
+		private int     youngCollectionIndex;
+		
 		/*
 		 * Indicates that no new data (store) has been received since the last sweep.
 		 * This basically means that no more gc marking or sweeping is necessary, however as stored entities
@@ -236,6 +386,12 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 		 * It will shut off all GC activity until the next store resets the flags.
 		 */
 		private boolean gcColdPhaseComplete;
+		
+		
+		// state 4.0: lifecycle state, not affected by reset.
+		
+		private final boolean[] disposedChannels    ;
+		private       int       disposedChannelCount;
 
 
 
@@ -247,7 +403,9 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			final StorageObjectIdMarkQueue[]                 oidMarkQueues       ,
 			final StorageEventLogger                         eventLogger         ,
 			final Referencing<PersistenceLiveStorerRegistry> refStorerRegistry   ,
-			final int                                        referenceCacheLength
+			final int                                        referenceCacheLength,
+			final ForkJoinPool                               markingPool         ,
+			final int                                        youngCollectionCount
 		)
 		{
 			super();
@@ -255,11 +413,15 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			this.refStorerRegistry    = refStorerRegistry             ;
 			this.oidMarkQueues        = oidMarkQueues                 ;
 			this.referenceCacheLength = referenceCacheLength          ;
+			this.markingPool          = markingPool                   ;
+			this.youngCollectionCount = youngCollectionCount          ;
 			this.channelCount         = oidMarkQueues.length          ;
 			this.channelHash          = this.channelCount - 1         ;
 			this.pendingStoreUpdates  = new boolean[this.channelCount];
 			this.needsSweep           = new boolean[this.channelCount];
 			this.channelRootOids      = new long   [this.channelCount];
+			this.rememberedOids       = new ObjectIds[this.channelCount];
+			this.disposedChannels     = new boolean[this.channelCount];
 			
 			this.referenceMarkers = new StorageReferenceMarker[this.channelCount];
 			
@@ -287,6 +449,7 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			for(int i = 0; i < this.channelRootOids.length; i++)
 			{
 				this.channelRootOids[i] = Swizzling.nullId();
+				this.rememberedOids [i] = null;
 			}
 		}
 		
@@ -327,6 +490,10 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			this.gcColdGeneration     = 0;
 			this.lastGcHotCompletion  = 0;
 			this.lastGcColdCompletion = 0;
+			
+			// the first marking is always a full one, since it can't rely on any remembered set.
+			this.youngCollection      = false;
+			this.youngCollectionIndex = 0;
 		}
 		
 		private final void initialize()
@@ -526,11 +693,15 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 		public final synchronized void completeSweep(
 			final StorageEntityCache<?>  channel        ,
 			final StorageRootOidSelector rootOidSelector,
-			final long                   channelRootOid
+			final long                   channelRootOid ,
+			final ObjectIds              rememberedOids
 		)
 		{
 			// register the channel's current valid root Oid after the performed sweep (potentially 0).
 			this.channelRootOids[channel.channelIndex()] = channelRootOid;
+			
+			// the channel does not modify its remembered oids before the next marking is complete.
+			this.rememberedOids[channel.channelIndex()] = rememberedOids;
 
 			// mark this channel as having completed the sweep
 			this.needsSweep[channel.channelIndex()] = false;
@@ -543,11 +714,49 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			{
 				this.lastSweepEnd = System.currentTimeMillis();
 				this.incrementSweepGeneration();
-				this.advanceGcCompletion();
+				
+				// young collections leave unreachable old entities behind, so only full ones can complete the gc.
+				if(!this.youngCollection)
+				{
+					this.advanceGcCompletion();
+				}
+				
+				this.advanceCollectionKind();
+				if(this.youngCollection)
+				{
+					// remembered entities are roots for a young marking, as they might be the only referencers of young entities.
+					this.enqueueBulk(this.rememberedOids);
+				}
 				this.determineAndEnqueueRootOid(rootOidSelector);
 			}
 		}
 		
+		private void advanceCollectionKind()
+		{
+			// every full collection is followed by youngCollectionCount young collections.
+			if(this.youngCollection)
+			{
+				this.youngCollection = ++this.youngCollectionIndex < this.youngCollectionCount;
+			}
+			else
+			{
+				this.youngCollection      = this.youngCollectionCount > 0;
+				this.youngCollectionIndex = 0;
+			}
+		}
+		
+		@Override
+		public final boolean isGenerational()
+		{
+			return this.youngCollectionCount > 0;
+		}
+		
+		@Override
+		public final synchronized boolean isYoungCollection()
+		{
+			return this.youngCollection;
+		}
+		
 		private void incrementSweepGeneration()
 		{
 			final PersistenceLiveStorerRegistry storerRegistry = this.refStorerRegistry.get();
@@ -662,6 +871,34 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 				new CachingReferenceMarker(this, this.channelCount, this.referenceCacheLength)
 			;
 		}
+		
+		@Override
+		public final StorageReferenceMarker createWorkerReferenceMarker()
+		{
+			return new CachingReferenceMarker(this, this.channelCount, this.referenceCacheLength);
+		}
+		
+		@Override
+		public final ForkJoinPool markingPool()
+		{
+			return this.markingPool;
+		}
+		
+		@Override
+		public final synchronized void signalChannelDisposed(final StorageEntityCache<?> channel)
+		{
+			// check array to ensure idempotence
+			if(this.disposedChannels[channel.channelIndex()])
+			{
+				return;
+			}
+			this.disposedChannels[channel.channelIndex()] = true;
+			
+			if(++this.disposedChannelCount == this.channelCount && this.markingPool != null)
+			{
+				this.markingPool.shutdown();
+			}
+		}
 
 		final void enqueueBulk(final ObjectIds[] oidsPerChannel)
 		{
@@ -708,9 +945,11 @@ public interface StorageEntityMarkMonitor extends PersistenceObjectIdAcceptor
 			 * - the cold phase is complete (meaning nothing will/can change until the next store)
 			 * - the hot phase (first sweep) is complete and the cold phase has only sweeps pending from other channels
 			 * ! NOT if hot phase is completed and sweepingChannelCount is 0, because that applies to marking, too.
+			 * ! NOT if the pending sweep is a young one, because that does not complete the cold phase.
 			 */
 			return this.gcColdPhaseComplete
 				|| this.gcHotPhaseComplete && this.sweepingChannelCount > 0 && !this.needsSweep[channel.channelIndex()]
+				&& !this.youngCollection
 			;
 		}
 
@@ -34,6 +34,11 @@ public interface StorageEntityType<E extends StorageEntity>
 
 	public long entityCount();
 	
+	/**
+	 * @return The total length of cached data of this type's entities in the type's channel.
+	 */
+	public long cachedDataLength();
+	
 	public default boolean isEmpty()
 	{
 		return this.entityCount() == 0;
@@ -78,6 +83,7 @@ public interface StorageEntityType<E extends StorageEntity>
 		private final long                     simpleReferenceDataCount;
 		
 		private       long                     entityCount             ;
+		private       long                     cachedDataLength        ;
 		StorageEntityType.Default              hashNext                ;
 		StorageEntityType.Default              next                    ;
 		        final TypeInFile               dummy                    = new TypeInFile(this, null, null);
@@ -133,6 +139,11 @@ public interface StorageEntityType<E extends StorageEntity>
 			this.entityCount++;
 		}
 
+		final void modifyCachedDataLength(final long cacheChange)
+		{
+			this.cachedDataLength += cacheChange;
+		}
+
 		final void remove(final StorageEntity.Default entry, final StorageEntity.Default previousInType)
 		{
 			// tail reference requires special handling logic
@@ -186,6 +197,12 @@ public interface StorageEntityType<E extends StorageEntity>
 			return this.entityCount;
 		}
 
+		@Override
+		public final long cachedDataLength()
+		{
+			return this.cachedDataLength;
+		}
+
 		@Override
 		public final boolean hasReferences()
 		{
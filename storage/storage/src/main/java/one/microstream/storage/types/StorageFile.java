@@ -30,6 +30,7 @@ import one.microstream.chars.XChars;
 import one.microstream.io.BufferProvider;
 import one.microstream.storage.exceptions.StorageException;
 import one.microstream.storage.exceptions.StorageExceptionIoReading;
+import one.microstream.storage.exceptions.StorageExceptionIoWriting;
 
 public interface StorageFile
 {
@@ -61,6 +62,13 @@ public interface StorageFile
 	
 	public long writeBytes(Iterable<? extends ByteBuffer> buffers);
 	
+	/**
+	 * Forces all data written to this file to be persisted on the storage medium.
+	 * 
+	 * @see AWritableFile#flush()
+	 */
+	public void flush();
+	
 	
 //	public void pull(AWritableFile fileToMove);
 	
@@ -243,6 +251,19 @@ public interface StorageFile
 			}
 		}
 		
+		@Override
+		public final synchronized void flush()
+		{
+			try
+			{
+				this.ensureWritable().flush();
+			}
+			catch(final Exception e)
+			{
+				throw new StorageExceptionIoWriting(e);
+			}
+		}
+		
 		@Override
 		public final synchronized long copyTo(
 			final StorageFile target
@@ -384,6 +405,19 @@ public interface StorageFile
 			this.ensureWritable().moveTo(target);
 		}
 		
+		/**
+		 * Returns the user on whose behalf the underlying {@link AFile} is accessed. Defaults to the
+		 * file system's default user, i.e. the current thread.
+		 * Subclasses whose instances are accessed by multiple threads must return a stable user, as otherwise
+		 * an access opened by one thread would conflict with a later access by another one.
+		 * 
+		 * @return the user of the file accesses.
+		 */
+		protected Object accessUser()
+		{
+			return this.file().defaultUser();
+		}
+		
 		protected synchronized AReadableFile ensureReadable()
 		{
 			this.internalOpenReading();
@@ -428,7 +462,7 @@ public interface StorageFile
 			{
 				if(this.writeAccess == null || this.writeAccess.isRetired())
 				{
-					this.writeAccess = this.file().useWriting();
+					this.writeAccess = this.file().useWriting(this.accessUser());
 					this.readAccess = this.writeAccess;
 				}
 				
@@ -447,7 +481,7 @@ public interface StorageFile
 				if(this.readAccess == null || this.readAccess.isRetired())
 				{
 					this.writeAccess = null;
-					this.readAccess = this.file().useReading();
+					this.readAccess = this.file().useReading(this.accessUser());
 				}
 				
 				return this.readAccess.open();
@@ -78,10 +78,35 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 	public void reset();
 	
 	public long[] storeChunks(long timestamp, ByteBuffer[] dataBuffers) throws StorageExceptionIoWritingChunk;
+	
+	/**
+	 * Appends a part of a streamed store to the head file without committing it. The first part of a stream
+	 * starts a new head file unless the current one is still empty. All parts of a stream are committed or rolled
+	 * back together after {@link #completeStoreChunks(long)} via {@link #commitWrite()} or {@link #rollbackWrite()}.
+	 * 
+	 * @param timestamp the timestamp of the streamed store.
+	 * @param dataBuffers the part's data.
+	 * @return the storage positions of the passed buffers.
+	 * @throws StorageExceptionIoWritingChunk if writing fails.
+	 */
+	public long[] storeChunksPart(long timestamp, ByteBuffer[] dataBuffers) throws StorageExceptionIoWritingChunk;
+	
+	/**
+	 * Completes a streamed store by writing (or deferring) the one transactions entry covering all of its parts.
+	 * 
+	 * @param timestamp the timestamp of the streamed store.
+	 */
+	public void completeStoreChunks(long timestamp);
 
 	public void rollbackWrite();
 
 	public void commitWrite();
+	
+	/**
+	 * Synchronizes the data of committed stores that are still pending due to a periodic sync
+	 * {@link StorageDurability} and writes their transactions entry.
+	 */
+	public void syncPendingStore();
 
 	public StorageInventory readStorage();
 
@@ -159,6 +184,11 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		private final StorageWriteController               writeController              ;
 		private final StorageFileWriter                    writer                       ;
 		private final StorageBackupHandler                 backupHandler                ;
+		private final boolean                              memoryMappedReading          ;
+		private final boolean                              entityIndexSnapshot          ;
+		private final StorageDurability                    durability                   ;
+		private final int                                  readAheadFileCount           ;
+		private final StorageWorkerThreadProvider          workerThreadProvider         ;
 		
 		// to avoid permanent lambda instantiation
 		private final Consumer<? super StorageLiveDataFile.Default> deleter        = this::deleteFile       ;
@@ -217,7 +247,12 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		private StorageLiveDataFile.Default fileCleanupCursor;
 
 		// cleared by clearUncommittedDataLength() / reset()
-		private long uncommittedDataLength;
+		private long    uncommittedDataLength, uncommittedStoreTimestamp;
+		private boolean isStoringStream;
+		
+		// committed, but not yet synchronized stores of a periodic sync. Cleared by clearPendingStore() / reset()
+		private StorageLiveDataFile.Default pendingStoreFile;
+		private long pendingStoreOffset, pendingStoreLength, pendingStoreTimestamp, pendingStoreSinceNs;
 
 		// cleared in reset() directly, but kind of irrelevant.
 		private int pendingFileDeletes;
@@ -248,6 +283,157 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final BufferSizeProvider                   standardBufferSizeProvider   ,
 			final StorageBackupHandler                 backupHandler
 		)
+		{
+			this(
+				channelIndex                 ,
+				initialDataFileNumberProvider,
+				timestampProvider            ,
+				fileProvider                 ,
+				dataFileEvaluator            ,
+				entityCache                  ,
+				writeController              ,
+				writer                       ,
+				standardBufferSizeProvider   ,
+				backupHandler                ,
+				false
+			);
+		}
+		
+		/**
+		 * @param memoryMappedReading whether entity data shall be loaded by referencing memory mapped
+		 *        read-only regions of NIO-based data files instead of copying it into allocated cache memory.
+		 */
+		public Default(
+			final int                                  channelIndex                 ,
+			final StorageInitialDataFileNumberProvider initialDataFileNumberProvider,
+			final StorageTimestampProvider             timestampProvider            ,
+			final StorageLiveFileProvider              fileProvider                 ,
+			final StorageDataFileEvaluator             dataFileEvaluator            ,
+			final StorageEntityCache.Default           entityCache                  ,
+			final StorageWriteController               writeController              ,
+			final StorageFileWriter                    writer                       ,
+			final BufferSizeProvider                   standardBufferSizeProvider   ,
+			final StorageBackupHandler                 backupHandler                ,
+			final boolean                              memoryMappedReading
+		)
+		{
+			this(
+				channelIndex                 ,
+				initialDataFileNumberProvider,
+				timestampProvider            ,
+				fileProvider                 ,
+				dataFileEvaluator            ,
+				entityCache                  ,
+				writeController              ,
+				writer                       ,
+				standardBufferSizeProvider   ,
+				backupHandler                ,
+				memoryMappedReading          ,
+				false
+			);
+		}
+		
+		public Default(
+			final int                                  channelIndex                 ,
+			final StorageInitialDataFileNumberProvider initialDataFileNumberProvider,
+			final StorageTimestampProvider             timestampProvider            ,
+			final StorageLiveFileProvider              fileProvider                 ,
+			final StorageDataFileEvaluator             dataFileEvaluator            ,
+			final StorageEntityCache.Default           entityCache                  ,
+			final StorageWriteController               writeController              ,
+			final StorageFileWriter                    writer                       ,
+			final BufferSizeProvider                   standardBufferSizeProvider   ,
+			final StorageBackupHandler                 backupHandler                ,
+			final boolean                              memoryMappedReading          ,
+			final boolean                              entityIndexSnapshot
+		)
+		{
+			this(
+				channelIndex                 ,
+				initialDataFileNumberProvider,
+				timestampProvider            ,
+				fileProvider                 ,
+				dataFileEvaluator            ,
+				entityCache                  ,
+				writeController              ,
+				writer                       ,
+				standardBufferSizeProvider   ,
+				backupHandler                ,
+				memoryMappedReading          ,
+				entityIndexSnapshot          ,
+				StorageDurability.New()
+			);
+		}
+		
+		/**
+		 * @param memoryMappedReading whether entity data shall be loaded by referencing memory mapped
+		 *        read-only regions of NIO-based data files instead of copying it into allocated cache memory.
+		 * @param entityIndexSnapshot whether an entity index snapshot shall be written on shutdown and
+		 *        be used on startup instead of scanning all data files.
+		 * @param durability defines when written data is synchronized with the storage medium.
+		 */
+		public Default(
+			final int                                  channelIndex                 ,
+			final StorageInitialDataFileNumberProvider initialDataFileNumberProvider,
+			final StorageTimestampProvider             timestampProvider            ,
+			final StorageLiveFileProvider              fileProvider                 ,
+			final StorageDataFileEvaluator             dataFileEvaluator            ,
+			final StorageEntityCache.Default           entityCache                  ,
+			final StorageWriteController               writeController              ,
+			final StorageFileWriter                    writer                       ,
+			final BufferSizeProvider                   standardBufferSizeProvider   ,
+			final StorageBackupHandler                 backupHandler                ,
+			final boolean                              memoryMappedReading          ,
+			final boolean                              entityIndexSnapshot          ,
+			final StorageDurability                    durability
+		)
+		{
+			this(
+				channelIndex                                                 ,
+				initialDataFileNumberProvider                                ,
+				timestampProvider                                            ,
+				fileProvider                                                 ,
+				dataFileEvaluator                                            ,
+				entityCache                                                  ,
+				writeController                                              ,
+				writer                                                       ,
+				standardBufferSizeProvider                                   ,
+				backupHandler                                                ,
+				memoryMappedReading                                          ,
+				entityIndexSnapshot                                          ,
+				durability                                                   ,
+				StorageEntityInitializer.Defaults.defaultReadAheadFileCount(),
+				StorageWorkerThreadProvider.New()
+			);
+		}
+		
+		/**
+		 * @param memoryMappedReading whether entity data shall be loaded by referencing memory mapped
+		 *        read-only regions of NIO-based data files instead of copying it into allocated cache memory.
+		 * @param entityIndexSnapshot whether an entity index snapshot shall be written on shutdown and
+		 *        be used on startup instead of scanning all data files.
+		 * @param durability defines when written data is synchronized with the storage medium.
+		 * @param readAheadFileCount the number of data files read ahead by a worker thread during initialization,
+		 *        see {@link StorageEntityInitializer#New(StorageEntityCache.Default, java.util.function.Function, int)}.
+		 * @param workerThreadProvider the provider of the worker thread reading data files ahead.
+		 */
+		public Default(
+			final int                                  channelIndex                 ,
+			final StorageInitialDataFileNumberProvider initialDataFileNumberProvider,
+			final StorageTimestampProvider             timestampProvider            ,
+			final StorageLiveFileProvider              fileProvider                 ,
+			final StorageDataFileEvaluator             dataFileEvaluator            ,
+			final StorageEntityCache.Default           entityCache                  ,
+			final StorageWriteController               writeController              ,
+			final StorageFileWriter                    writer                       ,
+			final BufferSizeProvider                   standardBufferSizeProvider   ,
+			final StorageBackupHandler                 backupHandler                ,
+			final boolean                              memoryMappedReading          ,
+			final boolean                              entityIndexSnapshot          ,
+			final StorageDurability                    durability                   ,
+			final int                                  readAheadFileCount           ,
+			final StorageWorkerThreadProvider          workerThreadProvider
+		)
 		{
 			super();
 			this.channelIndex                  = notNegative(channelIndex)                 ;
@@ -259,6 +445,11 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			this.writeController               =     notNull(writeController)              ;
 			this.writer                        =     notNull(writer)                       ;
 			this.backupHandler                 =     mayNull(backupHandler)                ;
+			this.memoryMappedReading           =             memoryMappedReading           ;
+			this.entityIndexSnapshot           =             entityIndexSnapshot           ;
+			this.durability                    =     notNull(durability)                   ;
+			this.readAheadFileCount            = notNegative(readAheadFileCount)           ;
+			this.workerThreadProvider          =     notNull(workerThreadProvider)         ;
 			
 			this.standardByteBuffer = XMemory.allocateDirectNative(
 				standardBufferSizeProvider.provideBufferSize()
@@ -415,6 +606,12 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 					// nothing to transfer yet and empty target file, transfer singleton oversized entity anyway
 				}
 
+				// cached data mapped from the source file may not outlive the source file's mapping
+				if(current.isCacheMapped())
+				{
+					this.entityCache.modifyUsedCacheSize(current, -current.clearCache());
+				}
+				
 				// set new file. Enqueuing in the file's item chain is done for the whole sub chain
 				current.typeInFile      = headFile.typeInFile(current.typeInFile.type);
 								
@@ -510,6 +707,13 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				throw new StorageExceptionIoWriting("New storage file is not empty: " + file);
 			}
 
+			// the retiring head file's data must be synchronized before the transactions log moves on to the new file
+			this.syncPendingStore();
+			if(this.headFile != null)
+			{
+				this.syncData(this.headFile);
+			}
+
 			// create and register StorageFile instance with an attached channel
 			final StorageLiveDataFile.Default dataFile = this.createLiveDataFile(file, this.channelIndex(), fileNumber);
 			this.registerStorageHeadFile(dataFile);
@@ -576,8 +780,9 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		
 		private long ensureHeadFileTotalLength()
 		{
+			// a streamed store's parts written so far are uncommitted, but already part of the physical file.
 			final long physicalLength = this.headFile.size();
-			final long expectedLength = this.headFile.totalLength();
+			final long expectedLength = this.headFile.totalLength() + this.uncommittedDataLength;
 			
 			if(physicalLength != expectedLength)
 			{
@@ -612,23 +817,102 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			}
 			
 			this.uncommittedDataLength = writeCount;
-			
-			this.writeTransactionsEntryStore(this.headFile, oldTotalLength, writeCount, timestamp, newTotalLength);
+			this.registerStore(timestamp, oldTotalLength, writeCount, newTotalLength);
 
-			this.restartFileCleanupCursor();
+			return storagePositions;
+		}
+		
+		private void registerStore(
+			final long timestamp     ,
+			final long oldTotalLength,
+			final long writeCount    ,
+			final long newTotalLength
+		)
+		{
+			if(this.isDeferringStoreEntries())
+			{
+				// the transactions entry is written when the committed store gets synchronized
+				this.uncommittedStoreTimestamp = timestamp;
+			}
+			else
+			{
+				this.writeTransactionsEntryStore(this.headFile, oldTotalLength, writeCount, timestamp, newTotalLength);
+			}
 
+			this.restartFileCleanupCursor();
+		}
+		
+		@Override
+		public final long[] storeChunksPart(final long timestamp, final ByteBuffer[] dataBuffers)
+			throws StorageExceptionIoWritingChunk
+		{
+			if(!this.isStoringStream)
+			{
+				// a fresh head file leaves as much room as possible for the stream's int storage positions
+				if(this.headFile.totalLength() > 0)
+				{
+					this.createNextStorageFile();
+				}
+				this.isStoringStream = true;
+			}
+			
+			final long   oldTotalLength   = this.ensureHeadFileTotalLength();
+			final long[] storagePositions = allChunksStoragePositions(dataBuffers, oldTotalLength);
+			
+			final long partBound = dataBuffers.length == 0
+				? oldTotalLength
+				: storagePositions[dataBuffers.length - 1] + dataBuffers[dataBuffers.length - 1].limit()
+			;
+			if(partBound > MAX_FILE_LENGTH)
+			{
+				// checked before writing, as the entity cache could not register the entities after committing.
+				throw new StorageExceptionIoWriting(
+					"Streamed store exceeds the maximum file length of " + MAX_FILE_LENGTH
+					+ " in channel " + this.channelIndex + "."
+				);
+			}
+			
+			final long writeCount     = this.writer.writeStore(this.headFile, X.ArrayView(dataBuffers));
+			final long newTotalLength = oldTotalLength + writeCount;
+			
+			if(newTotalLength != this.headFile.size())
+			{
+				throwImpossibleStoreLengthException(timestamp, oldTotalLength, writeCount, dataBuffers);
+			}
+			
+			this.uncommittedDataLength += writeCount;
+			
 			return storagePositions;
 		}
+		
+		@Override
+		public final void completeStoreChunks(final long timestamp)
+		{
+			if(this.uncommittedDataLength == 0)
+			{
+				return; // nothing has been streamed to this channel
+			}
+			
+			final long oldTotalLength = this.headFile.totalLength();
+			final long writeCount     = this.uncommittedDataLength;
+			this.registerStore(timestamp, oldTotalLength, writeCount, oldTotalLength + writeCount);
+		}
 
 		@Override
 		public final void rollbackWrite()
 		{
 			this.writer.truncate(this.headFile, this.headFile.totalLength(), this.fileProvider);
+			this.clearUncommittedDataLength();
 		}
 
 		@Override
 		public final void commitWrite()
 		{
+			if(this.uncommittedStoreTimestamp != 0)
+			{
+				this.registerPendingStore();
+			}
+			
 			// commit data length
 			this.headFile.increaseContentLength(this.uncommittedDataLength);
 
@@ -638,7 +922,94 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		
 		final void clearUncommittedDataLength()
 		{
-			this.uncommittedDataLength = 0;
+			this.uncommittedDataLength     = 0;
+			this.uncommittedStoreTimestamp = 0;
+			this.isStoringStream           = false;
+		}
+		
+		private boolean isDeferringStoreEntries()
+		{
+			return this.durability.isSyncing() && this.durability.syncIntervalNs() > 0;
+		}
+		
+		private void registerPendingStore()
+		{
+			// pending stores are always contiguous as any other transactions entry or a new head file syncs them first
+			if(this.pendingStoreTimestamp == 0)
+			{
+				this.pendingStoreFile    = this.headFile;
+				this.pendingStoreOffset  = this.headFile.totalLength();
+				this.pendingStoreSinceNs = System.nanoTime();
+			}
+			this.pendingStoreLength   += this.uncommittedDataLength;
+			this.pendingStoreTimestamp = this.uncommittedStoreTimestamp;
+		}
+		
+		final void clearPendingStore()
+		{
+			this.pendingStoreFile      = null;
+			this.pendingStoreOffset    = 0;
+			this.pendingStoreLength    = 0;
+			this.pendingStoreTimestamp = 0;
+			this.pendingStoreSinceNs   = 0;
+		}
+		
+		@Override
+		public final void syncPendingStore()
+		{
+			if(this.pendingStoreTimestamp == 0)
+			{
+				return;
+			}
+			
+			final StorageLiveDataFile.Default file      = this.pendingStoreFile     ;
+			final long                        offset    = this.pendingStoreOffset   ;
+			final long                        length    = this.pendingStoreLength   ;
+			final long                        timestamp = this.pendingStoreTimestamp;
+			this.clearPendingStore();
+			
+			// all pending stores are covered by a single entry, just like a compacted transactions file does.
+			this.writeTransactionsEntryStore(file, offset, length, timestamp, offset + length);
+		}
+		
+		/**
+		 * Synchronizes the pending store if the sync interval of the durability has elapsed.
+		 * 
+		 * @return the time in nanoseconds until the pending store is due or -1 if there is none.
+		 */
+		final long syncPendingStoreIfDue()
+		{
+			if(this.pendingStoreTimestamp == 0)
+			{
+				return -1;
+			}
+			
+			final long remainingNs = this.pendingStoreSinceNs + this.durability.syncIntervalNs() - System.nanoTime();
+			if(remainingNs > 0)
+			{
+				return remainingNs;
+			}
+			
+			this.syncPendingStore();
+			
+			return -1;
+		}
+		
+		private void syncData(final StorageLiveDataFile dataFile)
+		{
+			if(this.durability.isSyncing())
+			{
+				// data must reach the storage medium BEFORE any transactions entry refers to it
+				dataFile.flush();
+			}
+		}
+		
+		private void syncTransactions()
+		{
+			if(this.durability.isSyncing())
+			{
+				this.fileTransactions.flush();
+			}
 		}
 		
 		final void loadData(
@@ -648,6 +1019,11 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long                        cacheChange
 		)
 		{
+			if(this.memoryMappedReading && this.loadMappedData(dataFile, entity, length, cacheChange))
+			{
+				return;
+			}
+			
 			final ByteBuffer dataBuffer = this.buffer(X.checkArrayRange(length));
 			try
 			{
@@ -669,6 +1045,34 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			}
 		}
 
+		private boolean loadMappedData(
+			final StorageLiveDataFile.Default dataFile   ,
+			final StorageEntity.Default       entity     ,
+			final long                        length     ,
+			final long                        cacheChange
+		)
+		{
+			/*
+			 * Growing head files are mapped in steps of at least the minimum file size to keep the number of
+			 * mapped regions low. Entities in a not yet mapped tail are read conventionally in the meantime.
+			 */
+			final long address = dataFile.mappedAddress(
+				entity.storagePosition,
+				length,
+				this.dataFileEvaluator.fileMinimumSize()
+			);
+			if(address == 0)
+			{
+				return false;
+			}
+			
+			// mapped data is accounted for like cached data to keep the entity cache evaluation logic unchanged
+			entity.putMappedCacheData(address);
+			this.entityCache.modifyUsedCacheSize(entity, cacheChange);
+			
+			return true;
+		}
+
 		private void putLiveEntityData(
 			final StorageEntity.Default entity     ,
 			final long                         address    ,
@@ -677,7 +1081,7 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		)
 		{
 			entity.putCacheData(address, length);
-			this.entityCache.modifyUsedCacheSize(cacheChange);
+			this.entityCache.modifyUsedCacheSize(entity, cacheChange);
 		}
 
 		@Override
@@ -990,11 +1394,18 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 
 			// register items (gaps and entities, with latest version of each entity replacing all previous)
 			final StorageEntityInitializer<StorageLiveDataFile.Default> initializer =
-				StorageEntityInitializer.New(this.entityCache, f ->
-					StorageLiveDataFile.New(this, f)
+				StorageEntityInitializer.New(
+					this.entityCache,
+					f -> StorageLiveDataFile.New(this, f),
+					this.readAheadFileCount,
+					this.workerThreadProvider
 				)
 			;
-			this.headFile = initializer.registerEntities(files, lastFileLength);
+			final StorageEntityIndexSnapshot snapshot = this.readEntityIndexSnapshot(files, lastFileLength);
+			this.headFile = snapshot != null
+				? initializer.registerEntities(files, lastFileLength, snapshot)
+				: initializer.registerEntities(files, lastFileLength)
+			;
 
 			// validate entities (only the latest versions) before potential transaction file derivation
 			final StorageIdAnalysis idAnalysis = this.entityCache.validateEntities();
@@ -1011,6 +1422,56 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			return idAnalysis;
 		}
 
+		private StorageEntityIndexSnapshot readEntityIndexSnapshot(
+			final XGettingSequence<StorageDataInventoryFile> files         ,
+			final long                                       lastFileLength
+		)
+		{
+			if(!this.entityIndexSnapshot)
+			{
+				return null;
+			}
+			
+			try
+			{
+				final StorageEntityIndexSnapshot snapshot = StorageEntityIndexSnapshot.read(
+					StorageEntityIndexSnapshot.provideFile(this.fileProvider, this.channelIndex)
+				);
+				if(snapshot != null && snapshot.isApplicable(files, lastFileLength))
+				{
+					return snapshot;
+				}
+			}
+			catch(final Exception e)
+			{
+				// an unreadable snapshot is no problem, the data files are the single source of truth
+				logger.warn("StorageChannel#{} entity index snapshot unusable", this.channelIndex, e);
+			}
+			
+			return null;
+		}
+		
+		/**
+		 * Writes a snapshot of the entity index of this channel to be used on the next startup.
+		 * Must only be called while no store or housekeeping is in progress, e.g. on shutdown.
+		 * 
+		 * @return whether a snapshot has been written.
+		 */
+		public boolean writeEntityIndexSnapshot()
+		{
+			if(!this.entityIndexSnapshot || this.headFile == null)
+			{
+				return false;
+			}
+			
+			StorageEntityIndexSnapshot.write(
+				StorageEntityIndexSnapshot.provideFile(this.fileProvider, this.channelIndex),
+				this.headFile
+			);
+			
+			return true;
+		}
+
 		private long determineLastFileLength(
 			final long             consistentStoreTimestamp,
 			final StorageInventory storageInventory
@@ -1126,6 +1587,11 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 					);
 					writer.write(tfile, this.entryBufferWrapFileCreation);
 				}
+				
+				if(this.durability.isSyncing())
+				{
+					tfile.flush();
+				}
 			}
 			catch(final Exception e)
 			{
@@ -1140,6 +1606,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long number
 		)
 		{
+			this.syncPendingStore();
+			
 			this.entryBufferFileCreation.clear();
 			StorageTransactionsAnalysis.Logic.setEntryFileCreation(
 				this.entryBufferFileCreationAddress,
@@ -1148,6 +1616,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				number
 			);
 			this.writer.writeTransactionEntryCreate(this.fileTransactions, this.entryBufferWrapFileCreation, this.headFile);
+			
+			this.syncTransactions();
 		}
 
 		private void writeTransactionsEntryStore(
@@ -1158,6 +1628,9 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long                headFileNewTotalLength
 		)
 		{
+			this.syncPendingStore();
+			this.syncData(dataFile);
+			
 			this.entryBufferStore.clear();
 			StorageTransactionsAnalysis.Logic.setEntryStore(
 				this.entryBufferStoreAddress,
@@ -1171,6 +1644,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				dataFileOffset           ,
 				storeLength
 			);
+			
+			this.syncTransactions();
 		}
 
 		private void writeTransactionsEntryTransfer(
@@ -1181,6 +1656,10 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long                headNewFileTotalLength
 		)
 		{
+			// the transferred data is written to the head file
+			this.syncPendingStore();
+			this.syncData(this.headFile);
+			
 			this.entryBufferTransfer.clear();
 			StorageTransactionsAnalysis.Logic.setEntryTransfer(
 				this.entryBufferTransferAddress,
@@ -1197,6 +1676,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				sourcefileOffset,
 				copyLength
 			);
+			
+			this.syncTransactions();
 		}
 
 		private void writeTransactionsEntryFileDeletion(
@@ -1204,6 +1685,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long                        timestamp
 		)
 		{
+			this.syncPendingStore();
+			
 			this.entryBufferFileDeletion.clear();
 			StorageTransactionsAnalysis.Logic.setEntryFileDeletion(
 				this.entryBufferFileDeletionAddress,
@@ -1212,6 +1695,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				dataFile.number()
 			);
 			this.writer.writeTransactionEntryDelete(this.fileTransactions, this.entryBufferWrapFileDeletion, dataFile);
+			
+			this.syncTransactions();
 		}
 
 		private void writeTransactionsEntryFileTruncation(
@@ -1220,6 +1705,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			final long                        newLength
 		)
 		{
+			this.syncPendingStore();
+			
 			this.entryBufferFileTruncation.clear();
 			StorageTransactionsAnalysis.Logic.setEntryFileTruncation(
 				this.entryBufferFileTruncationAddress,
@@ -1229,6 +1716,8 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				lastFile.size()
 			);
 			this.writer.writeTransactionEntryTruncate(this.fileTransactions, this.entryBufferWrapFileTruncation, lastFile, newLength);
+			
+			this.syncTransactions();
 		}
 
 		private void setTransactionsFile(final StorageLiveTransactionsFile transactionsFile)
@@ -1257,6 +1746,7 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 			
 			// 3.X) mutable fields and variable length content
 			this.clearUncommittedDataLength();
+			this.clearPendingStore();
 			this.clearRegisteredFiles();
 			
 			// at this point, it is either 0 already or it won't matter since everything has been cleared.
@@ -1303,6 +1793,9 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 		@Override
 		public void exportData(final StorageLiveFileProvider fileProvider)
 		{
+			// the exported transactions file must cover all exported data
+			this.syncPendingStore();
+			
 			final AFile transactionsFile = fileProvider.provideTransactionsFile(this.channelIndex());
 			AFS.executeWriting(transactionsFile, wf ->
 				this.fileTransactions.copyTo(wf)
@@ -1515,6 +2008,9 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 
 			file.detach();
 			file.close(); // idempotent. No harm in calling on an already closed file.
+			
+			// a file without content can not have any entity referencing its mapped regions.
+			file.releaseMappedRegions();
 
 			/* must write transaction file entry BEFORE actually deleting the file (inverted logic)
 			 * Otherwise, consider the following scenario:
@@ -1766,6 +2262,9 @@ public interface StorageFileManager extends StorageChannelResetablePart, Disposa
 				return true;
 			}
 			
+			// the compaction must include the pending store's entry
+			this.syncPendingStore();
+			
 			this.transactionFileCleaner.compactTransactionsFile(checkSize);
 			
 			return true;
@@ -238,6 +238,20 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 	 */
 	public StorageLockFileManagerThreadProvider getLockFileManagerThreadProvider();
 	
+	/**
+	 * Returns the currently set {@link StorageWorkerThreadProvider} instance.
+	 * <p>
+	 * If no instance is set and the implementation deems an instance of this type mandatory for the successful
+	 * execution of {@link #createStorageSystem()}, a suitable instance is created via an internal default
+	 * creation logic and then set as the current. If the implementation has not sufficient logic and/or data
+	 * to create a default instance, a {@link MissingFoundationPartException} is thrown.
+	 * 
+	 * @return the currently set instance, potentially created on-demand if required.
+	 * 
+	 * @throws MissingFoundationPartException if a returnable instance is required but cannot be created by default.
+	 */
+	public StorageWorkerThreadProvider getWorkerThreadProvider();
+	
 	/**
 	 * Returns the currently set {@link StorageThreadProvider} instance.
 	 * <p>
@@ -640,6 +654,15 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 	 */
 	public F setLockFileManagerThreadProvider(StorageLockFileManagerThreadProvider lockFileManagerThreadProvider);
 	
+	/**
+	 * Sets the {@link StorageWorkerThreadProvider} instance to be used for the assembly.
+	 * 
+	 * @param workerThreadProvider the instance to be used.
+	 * 
+	 * @return {@literal this} to allow method chaining.
+	 */
+	public F setWorkerThreadProvider(StorageWorkerThreadProvider workerThreadProvider);
+	
 	/**
 	 * Sets the {@link StorageThreadProvider} instance to be used for the assembly.
 	 * 
@@ -882,6 +905,7 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 		private StorageBackupThreadProvider              backupThreadProvider         ;
 		private ProcessIdentityProvider                  processIdentityProvider      ;
 		private StorageLockFileManagerThreadProvider     lockFileManagerThreadProvider;
+		private StorageWorkerThreadProvider              workerThreadProvider         ;
 		private StorageThreadProvider                    threadProvider               ;
 		private StorageRequestTaskCreator                requestTaskCreator           ;
 		private StorageTypeDictionary                    typeDictionary               ;
@@ -1009,13 +1033,19 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 			return StorageLockFileManagerThreadProvider.New();
 		}
 		
+		protected StorageWorkerThreadProvider ensureWorkerThreadProvider()
+		{
+			return StorageWorkerThreadProvider.New();
+		}
+		
 		protected StorageThreadProvider ensureThreadProvider()
 		{
 			return StorageThreadProvider.New(
 				this.getThreadNameProvider(),
 				this.getChannelThreadProvider(),
 				this.getBackupThreadProvider(),
-				this.getLockFileManagerThreadProvider()
+				this.getLockFileManagerThreadProvider(),
+				this.getWorkerThreadProvider()
 			);
 		}
 
@@ -1276,6 +1306,16 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 			return this.lockFileManagerThreadProvider;
 		}
 		
+		@Override
+		public StorageWorkerThreadProvider getWorkerThreadProvider()
+		{
+			if(this.workerThreadProvider == null)
+			{
+				this.workerThreadProvider = this.dispatch(this.ensureWorkerThreadProvider());
+			}
+			return this.workerThreadProvider;
+		}
+		
 		@Override
 		public StorageThreadProvider getThreadProvider()
 		{
@@ -1624,6 +1664,13 @@ public interface StorageFoundation<F extends StorageFoundation<?>> extends Insta
 			return this.$();
 		}
 		
+		@Override
+		public F setWorkerThreadProvider(final StorageWorkerThreadProvider workerThreadProvider)
+		{
+			this.workerThreadProvider = workerThreadProvider;
+			return this.$();
+		}
+		
 		@Override
 		public F setThreadProvider(final StorageThreadProvider threadProvider)
 		{
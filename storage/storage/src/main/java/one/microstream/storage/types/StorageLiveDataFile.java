@@ -23,11 +23,19 @@ package one.microstream.storage.types;
 import static one.microstream.X.notNull;
 import static one.microstream.math.XMath.notNegative;
 
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Arrays;
 import java.util.function.Consumer;
 
+import one.microstream.afs.nio.types.NioFileWrapper;
 import one.microstream.afs.types.AFile;
+import one.microstream.afs.types.AReadableFile;
 import one.microstream.math.XMath;
+import one.microstream.memory.XMemory;
 import one.microstream.storage.exceptions.StorageExceptionConsistency;
+import one.microstream.storage.exceptions.StorageExceptionIoReading;
 
 public interface StorageLiveDataFile
 extends StorageDataFile, StorageLiveChannelFile<StorageLiveDataFile>, StorageCreatableFile
@@ -79,6 +87,8 @@ extends StorageDataFile, StorageLiveChannelFile<StorageLiveDataFile>, StorageCre
 
 		private static final int INITIAL_TYPE_IN_FILE_ARRAY_LENGTH = 8;
 		
+		private static final int INITIAL_MAPPED_REGION_ARRAY_LENGTH = 4;
+		
 		
 		
 		///////////////////////////////////////////////////////////////////////////
@@ -103,6 +113,20 @@ extends StorageDataFile, StorageLiveChannelFile<StorageLiveDataFile>, StorageCre
 		private int          typeInFileRange = this.typeInFileSlots.length - 1                  ;
 		private int          typeInFileCount                                                    ;
 		
+		/*
+		 * Memory mapped read-only regions of the file, ordered by position and covering [0; mappedBound[
+		 * without gaps. Data files are append-only, so a region never has to be remapped. Instead, file growth
+		 * is covered by mapping the grown tail as an additional region. Since regions are only ever mapped
+		 * between tasks, their bounds always coincide with entity bounds, i.e. no entity spans two regions.
+		 * The buffers must be kept referenced as long as any entity references mapped memory of this file,
+		 * as unreferenced mapped buffers get unmapped by the JVM's garbage collector.
+		 */
+		private MappedByteBuffer[] mappedRegions        ;
+		private long[]             mappedRegionStarts   ;
+		private long[]             mappedRegionAddresses;
+		private int                mappedRegionCount    ;
+		private long               mappedBound          ;
+		
 		
 		
 		///////////////////////////////////////////////////////////////////////////
@@ -263,6 +287,17 @@ extends StorageDataFile, StorageLiveChannelFile<StorageLiveDataFile>, StorageCre
 			);
 		}
 		
+		@Override
+		protected Object accessUser()
+		{
+			/*
+			 * Data files are read by application threads during concurrent loading, too, but written only by
+			 * the channel. All accesses must be made on behalf of the channel, as a read access opened by an
+			 * application thread would otherwise conflict with the channel's subsequent write access.
+			 */
+			return this.parent;
+		}
+		
 		@Override
 		protected synchronized boolean internalOpenWriting()
 		{
@@ -367,6 +402,107 @@ extends StorageDataFile, StorageLiveChannelFile<StorageLiveDataFile>, StorageCre
 			(entry.fileNext = this.tail).filePrev = (entry.filePrev = this.tail.filePrev).fileNext = entry;
 		}
 
+		/**
+		 * Returns the memory address of the passed file range inside a memory mapped read-only region of this
+		 * file or 0 if the range is not (yet) mapped and should rather be read conventionally.
+		 * <p>
+		 * Unmapped file tails are mapped as a new region if they are at least {@code minimumRegionSize} bytes
+		 * long. Tails of files that can no longer grow (i.e. all but the head file) are always mapped.
+		 * Files not residing in a NIO file system can not be mapped at all.
+		 * 
+		 * @param position the start position of the range in the file
+		 * @param length the length of the range
+		 * @param minimumRegionSize the minimum length of a newly mapped region of a growing file
+		 * @return the mapped address of the range or 0.
+		 */
+		final long mappedAddress(final long position, final long length, final long minimumRegionSize)
+		{
+			if(position + length > this.mappedBound && !this.mapTail(minimumRegionSize))
+			{
+				return 0;
+			}
+			
+			// most recently mapped regions are the most likely to be accessed
+			for(int i = this.mappedRegionCount; i --> 0;)
+			{
+				if(position >= this.mappedRegionStarts[i])
+				{
+					return this.mappedRegionAddresses[i] + position - this.mappedRegionStarts[i];
+				}
+			}
+			
+			// can never happen since the first region starts at 0
+			throw new StorageExceptionConsistency("No mapped region for position " + position + " in " + this);
+		}
+		
+		private boolean mapTail(final long minimumRegionSize)
+		{
+			final long start  = this.mappedBound;
+			final long length = this.totalLength() - start;
+			if(length <= 0 || length > Integer.MAX_VALUE || length < minimumRegionSize && this.isHeadFile())
+			{
+				return false;
+			}
+			
+			final AReadableFile file = this.ensureReadable();
+			if(!(file instanceof NioFileWrapper))
+			{
+				return false;
+			}
+			
+			final MappedByteBuffer region;
+			try
+			{
+				region = ((NioFileWrapper)file).ensureOpenChannel().map(FileChannel.MapMode.READ_ONLY, start, length);
+			}
+			catch(final IOException e)
+			{
+				throw new StorageExceptionIoReading(e);
+			}
+			
+			this.addMappedRegion(region, start);
+			this.mappedBound = start + length;
+			
+			return true;
+		}
+		
+		private void addMappedRegion(final MappedByteBuffer region, final long start)
+		{
+			if(this.mappedRegions == null)
+			{
+				this.mappedRegions         = new MappedByteBuffer[INITIAL_MAPPED_REGION_ARRAY_LENGTH];
+				this.mappedRegionStarts    = new long[INITIAL_MAPPED_REGION_ARRAY_LENGTH];
+				this.mappedRegionAddresses = new long[INITIAL_MAPPED_REGION_ARRAY_LENGTH];
+			}
+			else if(this.mappedRegionCount == this.mappedRegions.length)
+			{
+				final int newLength = this.mappedRegionCount << 1;
+				this.mappedRegions         = Arrays.copyOf(this.mappedRegions        , newLength);
+				this.mappedRegionStarts    = Arrays.copyOf(this.mappedRegionStarts   , newLength);
+				this.mappedRegionAddresses = Arrays.copyOf(this.mappedRegionAddresses, newLength);
+			}
+			
+			this.mappedRegions        [this.mappedRegionCount] = region;
+			this.mappedRegionStarts   [this.mappedRegionCount] = start;
+			this.mappedRegionAddresses[this.mappedRegionCount] = XMemory.getDirectByteBufferAddress(region);
+			this.mappedRegionCount++;
+		}
+		
+		/**
+		 * Drops all mapped regions. May only be called if no entity references mapped memory of this file
+		 * anymore, e.g. when deleting a dissolved file.
+		 * Note that the actual unmapping is done by the JVM's garbage collector, so on some platforms
+		 * (e.g. Windows), the physical file may remain undeletable until then.
+		 */
+		final void releaseMappedRegions()
+		{
+			this.mappedRegions         = null;
+			this.mappedRegionStarts    = null;
+			this.mappedRegionAddresses = null;
+			this.mappedRegionCount     = 0;
+			this.mappedBound           = 0;
+		}
+
 		public final void loadEntityData(
 			final StorageEntity.Default entity     ,
 			final long                  length     ,
@@ -28,7 +28,9 @@ import java.util.function.Predicate;
 import one.microstream.afs.types.AFile;
 import one.microstream.collections.types.XGettingEnum;
 import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.ChunksBuffer;
 import one.microstream.persistence.types.PersistenceIdSet;
+import one.microstream.storage.exceptions.StorageExceptionConsistency;
 import one.microstream.storage.exceptions.StorageExceptionRequest;
 
 
@@ -37,6 +39,24 @@ public interface StorageRequestAcceptor
 	// storing //
 
 	public void storeData(Binary data) throws StorageExceptionRequest, InterruptedException;
+	
+	/**
+	 * Opens a streamed store that occupies the storage until its last part has been stored via
+	 * {@link #commitStoreStream(StorageRequestTaskStoreStream, Binary)} or until it has been aborted via
+	 * {@link StorageRequestTaskStoreStream#abort(Throwable)}.
+	 * 
+	 * @return the new stream.
+	 * @throws StorageExceptionRequest if the request fails.
+	 * @throws InterruptedException if the calling thread has been interrupted.
+	 * @see StorageRequestTaskStoreStream
+	 */
+	public StorageRequestTaskStoreStream openStoreStream() throws StorageExceptionRequest, InterruptedException;
+	
+	public void storeDataPart(StorageRequestTaskStoreStream stream, Binary data)
+		throws StorageExceptionRequest, InterruptedException;
+	
+	public void commitStoreStream(StorageRequestTaskStoreStream stream, Binary data)
+		throws StorageExceptionRequest, InterruptedException;
 
 	// querying //
 
@@ -115,6 +135,25 @@ public interface StorageRequestAcceptor
 			StorageDataChunkValidator dataChunkValidator,
 			StorageTaskBroker         taskBroker
 		);
+		
+		/**
+		 * Creates a {@link StorageRequestAcceptor} that may additionally access the passed running
+		 * {@link StorageChannel}s directly. By default, the channels are ignored and all requests are
+		 * processed via the passed {@link StorageTaskBroker}.
+		 * 
+		 * @param dataChunkValidator the validator for data to be stored
+		 * @param taskBroker the task broker to enqueue tasks at
+		 * @param channels the running storage channels, ordered by their channel index
+		 * @return a new {@link StorageRequestAcceptor} instance
+		 */
+		public default StorageRequestAcceptor createRequestAcceptor(
+			final StorageDataChunkValidator dataChunkValidator,
+			final StorageTaskBroker         taskBroker        ,
+			final StorageChannel[]          channels
+		)
+		{
+			return this.createRequestAcceptor(dataChunkValidator, taskBroker);
+		}
 
 
 		public final class Default implements Creator
@@ -129,12 +168,43 @@ public interface StorageRequestAcceptor
 			}
 
 		}
+		
+		/**
+		 * Creator for {@link StorageRequestAcceptor.ConcurrentLoading} instances, i.e. an opt-in read mode
+		 * in which loading entities by object id does not wait behind previously enqueued tasks
+		 * (most notably large store tasks) but interleaves with each channel's task processing.
+		 * <p>
+		 * Use via {@link StorageFoundation#setRequestAcceptorCreator(StorageRequestAcceptor.Creator)}.
+		 */
+		public final class ConcurrentLoading implements Creator
+		{
+			@Override
+			public StorageRequestAcceptor createRequestAcceptor(
+				final StorageDataChunkValidator dataChunkValidator,
+				final StorageTaskBroker         taskBroker
+			)
+			{
+				// no channels means no concurrent loading
+				return new StorageRequestAcceptor.Default(dataChunkValidator, taskBroker);
+			}
+			
+			@Override
+			public StorageRequestAcceptor createRequestAcceptor(
+				final StorageDataChunkValidator dataChunkValidator,
+				final StorageTaskBroker         taskBroker        ,
+				final StorageChannel[]          channels
+			)
+			{
+				return new StorageRequestAcceptor.ConcurrentLoading(dataChunkValidator, taskBroker, channels);
+			}
+
+		}
 
 	}
 
 
 
-	public final class Default implements StorageRequestAcceptor
+	public class Default implements StorageRequestAcceptor
 	{
 		///////////////////////////////////////////////////////////////////////////
 		// instance fields //
@@ -165,6 +235,40 @@ public interface StorageRequestAcceptor
 			task.waitOnCompletion();
 			return task;
 		}
+		
+		private static void waitOnStoreTask(final StorageRequestTask task) throws InterruptedException
+		{
+			if(!Thread.interrupted())
+			{
+				waitOnTask(task);
+				return;
+			}
+			
+			/*
+			 * Interrupted while the store was enqueued, e.g. as the leader of a group commit, but the store goes
+			 * through anyway. Reporting an interruption would make the caller assume it failed, so the outcome
+			 * is awaited and the flag is restored afterwards.
+			 */
+			try
+			{
+				while(true)
+				{
+					try
+					{
+						task.waitOnCompletion();
+						return;
+					}
+					catch(final InterruptedException e)
+					{
+						// keep waiting, the flag is restored in any case.
+					}
+				}
+			}
+			finally
+			{
+				Thread.currentThread().interrupt();
+			}
+		}
 
 
 
@@ -180,11 +284,37 @@ public interface StorageRequestAcceptor
 			// pre-validate on the caller site before creating and enqueuing a task (it may be a no-op)
 			this.prevalidatorDataChunk.validateDataChunk(data);
 
-			waitOnTask(this.taskBroker.enqueueStoreTask(data));
+			waitOnStoreTask(this.taskBroker.enqueueStoreTask(data));
 		}
 
 		@Override
-		public final Binary queryByObjectIds(final PersistenceIdSet[] loadOids) throws InterruptedException
+		public final StorageRequestTaskStoreStream openStoreStream() throws InterruptedException
+		{
+			// note: enabled accepting tasks has to be checked prior to calling this method (external concern)
+			
+			return this.taskBroker.enqueueStoreStreamTask();
+		}
+		
+		@Override
+		public final void storeDataPart(final StorageRequestTaskStoreStream stream, final Binary data)
+			throws InterruptedException
+		{
+			this.prevalidatorDataChunk.validateDataChunk(data);
+			stream.writePart(data);
+		}
+		
+		@Override
+		public final void commitStoreStream(final StorageRequestTaskStoreStream stream, final Binary data)
+			throws InterruptedException
+		{
+			this.prevalidatorDataChunk.validateDataChunk(data);
+			stream.writeLastPart(data);
+			
+			waitOnTask(stream);
+		}
+
+		@Override
+		public Binary queryByObjectIds(final PersistenceIdSet[] loadOids) throws InterruptedException
 		{
 			// note: enabled accepting tasks has to be checked prior to calling this method (external concern)
 
@@ -275,5 +405,94 @@ public interface StorageRequestAcceptor
 		}
 
 	}
+	
+	
+	
+	/**
+	 * A {@link StorageRequestAcceptor} implementation that processes loading requests by object id
+	 * (e.g. resolving lazy references) directly in the calling thread instead of enqueuing them in the
+	 * strictly ordered task chain shared with store tasks. Each channel is accessed under its entity cache
+	 * lock, so loads run concurrently to other channels' work and between the tasks of each channel.
+	 * <p>
+	 * If a requested entity is not yet known to its channel (i.e. its store task is still pending), the
+	 * request falls back to regular, ordered task processing, so no loading request ever fails because of
+	 * the concurrent processing.
+	 */
+	public final class ConcurrentLoading extends StorageRequestAcceptor.Default
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final StorageChannel[] channels;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		public ConcurrentLoading(
+			final StorageDataChunkValidator dataChunkValidator,
+			final StorageTaskBroker         taskBroker        ,
+			final StorageChannel[]          channels
+		)
+		{
+			super(dataChunkValidator, taskBroker);
+			this.channels = notNull(channels);
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public final Binary queryByObjectIds(final PersistenceIdSet[] loadOids) throws InterruptedException
+		{
+			if(loadOids.length != this.channels.length)
+			{
+				// let the task broker validate and report the invalid channel count
+				return super.queryByObjectIds(loadOids);
+			}
+			
+			// all channel result instances share the result array, just like in StorageRequestTaskLoad
+			final ChunksBuffer[] result = new ChunksBuffer[this.channels.length];
+			try
+			{
+				for(int i = 0; i < this.channels.length; i++)
+				{
+					result[i] = this.channels[i].collectLoadByOidsConcurrently(result, loadOids[i]);
+				}
+			}
+			catch(final StorageExceptionConsistency e)
+			{
+				// an entity from a not yet processed store task was requested. Ordered processing resolves that.
+				clear(result);
+				
+				return super.queryByObjectIds(loadOids);
+			}
+			catch(final RuntimeException e)
+			{
+				clear(result);
+				throw e;
+			}
+			
+			return result[0];
+		}
+		
+		private static void clear(final ChunksBuffer[] result)
+		{
+			for(final ChunksBuffer chunks : result)
+			{
+				if(chunks != null)
+				{
+					chunks.clear();
+				}
+			}
+		}
+
+	}
 
 }
@@ -21,6 +21,7 @@ package one.microstream.storage.types;
  */
 
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.positive;
 
 import java.nio.ByteBuffer;
 import java.util.function.Predicate;
@@ -42,6 +43,16 @@ public interface StorageRequestTaskCreator
 		StorageOperationController controller
 	);
 
+	public StorageRequestTaskStoreEntities createGroupSaveTask(
+		Binary[]                   data      ,
+		StorageOperationController controller
+	);
+
+	public StorageRequestTaskStoreStream createStoreStreamTask(
+		int                        channelCount,
+		StorageOperationController controller
+	);
+
 	public StorageRequestTaskLoadByOids createLoadTaskByOids(
 		PersistenceIdSet[]         loadOids  ,
 		StorageOperationController controller
@@ -132,7 +143,8 @@ public interface StorageRequestTaskCreator
 		// instance fields //
 		////////////////////
 
-		private final StorageTimestampProvider timestampProvider;
+		private final StorageTimestampProvider timestampProvider        ;
+		private final long                     storeStreamPartTimeoutMs;
 
 
 
@@ -141,9 +153,20 @@ public interface StorageRequestTaskCreator
 		/////////////////
 
 		public Default(final StorageTimestampProvider timestampProvider)
+		{
+			this(timestampProvider, StorageRequestTaskStoreStream.Defaults.defaultPartTimeoutMs());
+		}
+		
+		/**
+		 * @param timestampProvider the provider of the tasks' timestamps
+		 * @param storeStreamPartTimeoutMs the time in milliseconds after which a streamed store is aborted
+		 *        if no part has been handed over, see {@link StorageRequestTaskStoreStream}.
+		 */
+		public Default(final StorageTimestampProvider timestampProvider, final long storeStreamPartTimeoutMs)
 		{
 			super();
-			this.timestampProvider = notNull(timestampProvider);
+			this.timestampProvider        = notNull(timestampProvider);
+			this.storeStreamPartTimeoutMs = positive(storeStreamPartTimeoutMs);
 		}
 
 
@@ -191,6 +214,33 @@ public interface StorageRequestTaskCreator
 			);
 		}
 
+		@Override
+		public StorageRequestTaskStoreEntities createGroupSaveTask(
+			final Binary[]                   data               ,
+			final StorageOperationController operationController
+		)
+		{
+			return new StorageRequestTaskStoreEntities.Default(
+				this.timestampProvider.currentNanoTimestamp(),
+				data                                         ,
+				operationController
+			);
+		}
+
+		@Override
+		public StorageRequestTaskStoreStream createStoreStreamTask(
+			final int                        channelCount       ,
+			final StorageOperationController operationController
+		)
+		{
+			return new StorageRequestTaskStoreStream.Default(
+				this.timestampProvider.currentNanoTimestamp(),
+				channelCount                                 ,
+				this.storeStreamPartTimeoutMs                ,
+				operationController
+			);
+		}
+
 		@Override
 		public StorageRequestTaskLoadByOids createLoadTaskByOids(
 			final PersistenceIdSet[]         loadOids           ,
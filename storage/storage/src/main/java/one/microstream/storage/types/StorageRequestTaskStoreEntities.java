@@ -25,6 +25,7 @@ import java.nio.ByteBuffer;
 import one.microstream.chars.VarString;
 import one.microstream.meta.XDebug;
 import one.microstream.persistence.binary.types.Binary;
+import one.microstream.persistence.binary.types.Chunk;
 import one.microstream.typing.KeyValue;
 import one.microstream.util.UtilStackTrace;
 
@@ -51,7 +52,8 @@ public interface StorageRequestTaskStoreEntities extends StorageRequestTask
 		// instance fields //
 		////////////////////
 
-		private final Binary data;
+		// one element for a single store, multiple elements for a group commit of several stores
+		private final Binary[] data;
 
 
 
@@ -60,9 +62,14 @@ public interface StorageRequestTaskStoreEntities extends StorageRequestTask
 		/////////////////
 
 		Default(final long timestamp, final Binary data, final StorageOperationController controller)
+		{
+			this(timestamp, new Binary[]{data}, controller);
+		}
+		
+		Default(final long timestamp, final Binary[] data, final StorageOperationController controller)
 		{
 			// every channel has to store at least a chunk header, so progress count is always equal to channel count
-			super(timestamp, data.channelCount(), controller);
+			super(timestamp, data[0].channelCount(), controller);
 			this.data = data;
 		}
 
@@ -76,7 +83,23 @@ public interface StorageRequestTaskStoreEntities extends StorageRequestTask
 		protected final KeyValue<ByteBuffer[], long[]> internalProcessBy(final StorageChannel channel)
 		{
 //			this.DEBUG_Print(channel);
-			return channel.storeEntities(this.timestamp(), this.data.channelChunk(channel.channelIndex()));
+			return channel.storeEntities(this.timestamp(), this.channelChunk(channel.channelIndex()));
+		}
+		
+		private Chunk channelChunk(final int channelIndex)
+		{
+			if(this.data.length == 1)
+			{
+				return this.data[0].channelChunk(channelIndex);
+			}
+			
+			final Chunk[] chunks = new Chunk[this.data.length];
+			for(int i = 0; i < chunks.length; i++)
+			{
+				chunks[i] = this.data[i].channelChunk(channelIndex);
+			}
+			
+			return new GroupChunk(chunks);
 		}
 		
 		public final void DEBUG_Print(final StorageChannel channel)
@@ -157,5 +180,93 @@ public interface StorageRequestTaskStoreEntities extends StorageRequestTask
 		}
 
 	}
+	
+	/**
+	 * Joins the channel chunks of several grouped store tasks so that they get written as one
+	 * contiguous write (and hence one transactions entry and one flush) by the storage channel.
+	 */
+	static final class GroupChunk implements Chunk
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+
+		private final Chunk[] chunks;
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+
+		GroupChunk(final Chunk[] chunks)
+		{
+			super();
+			this.chunks = chunks;
+		}
+
+
+
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+
+		@Override
+		public final ByteBuffer[] buffers()
+		{
+			int bufferCount = 0;
+			for(final Chunk chunk : this.chunks)
+			{
+				bufferCount += chunk.buffers().length;
+			}
+			
+			final ByteBuffer[] buffers = new ByteBuffer[bufferCount];
+			int i = 0;
+			for(final Chunk chunk : this.chunks)
+			{
+				final ByteBuffer[] chunkBuffers = chunk.buffers();
+				System.arraycopy(chunkBuffers, 0, buffers, i, chunkBuffers.length);
+				i += chunkBuffers.length;
+			}
+			
+			return buffers;
+		}
+
+		@Override
+		public final void clear()
+		{
+			for(final Chunk chunk : this.chunks)
+			{
+				chunk.clear();
+			}
+		}
+
+		@Override
+		public final boolean isEmpty()
+		{
+			for(final Chunk chunk : this.chunks)
+			{
+				if(!chunk.isEmpty())
+				{
+					return false;
+				}
+			}
+			
+			return true;
+		}
+
+		@Override
+		public final long totalLength()
+		{
+			long totalLength = 0;
+			for(final Chunk chunk : this.chunks)
+			{
+				totalLength += chunk.totalLength();
+			}
+			
+			return totalLength;
+		}
+		
+	}
 
 }
@@ -0,0 +1,319 @@
+package one.microstream.storage.types;
+
+/*-
+ * #%L
+ * microstream-storage
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+
+import java.util.concurrent.TimeUnit;
+
+import one.microstream.persistence.binary.types.Binary;
+import one.microstream.storage.exceptions.StorageException;
+
+/**
+ * A store whose data is handed over in parts while it is still being produced, e.g. while a very large object graph
+ * is still being serialized. Every part is written by the storage channels right away and its memory is released,
+ * but all parts are committed (or rolled back) together as one store with one transactions entry per channel.
+ * <p>
+ * While the stream is open, it occupies all storage channels. Other requests are processed after it has been
+ * committed or aborted. For the same reason, the thread producing the parts must not issue any other storage
+ * request (e.g. loading, storing with another storer or housekeeping) until the stream has been committed or
+ * aborted, as that request would never be processed.
+ * <p>
+ * A stream that is neither committed nor aborted must not occupy the storage forever: if no part has been
+ * handed over within the part timeout after the previous part has been written, the channels abort the stream.
+ * Shutting down the storage aborts open streams as well.
+ */
+public interface StorageRequestTaskStoreStream extends StorageRequestTask
+{
+	/**
+	 * Hands over the next part of the store. Blocks until all channels have written the previous part, hence
+	 * at most one part is held in memory while the next one is being produced.
+	 * 
+	 * @param data the part's data.
+	 * @throws InterruptedException if the calling thread has been interrupted while waiting.
+	 */
+	public void writePart(Binary data) throws InterruptedException;
+	
+	/**
+	 * Hands over the last part of the store, after which the store gets committed.
+	 * Waiting for the commit is done via {@link #waitOnCompletion()}.
+	 * 
+	 * @param data the last part's data.
+	 * @throws InterruptedException if the calling thread has been interrupted while waiting.
+	 */
+	public void writeLastPart(Binary data) throws InterruptedException;
+	
+	/**
+	 * Aborts the stream, rolling back all parts written so far.
+	 * 
+	 * @param cause the reason for aborting.
+	 */
+	public void abort(Throwable cause);
+	
+	
+	
+	public interface Defaults
+	{
+		public static long defaultPartTimeoutMs()
+		{
+			// producing a part of the usual streaming window takes far less, a minute means the producer is gone.
+			return 60_000;
+		}
+	}
+	
+	
+	
+	public final class Default
+	extends StorageChannelSynchronizingTask.AbstractCompletingTask<Void>
+	implements StorageRequestTaskStoreStream
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// instance fields //
+		////////////////////
+		
+		// the producing thread and all channel threads coordinate on this monitor
+		private final Object partMonitor = new Object();
+		private final long   partTimeoutNs;
+		
+		private Binary    part            ;
+		private long      partNumber      ;
+		private int       remainingWriters;
+		private boolean   isLastPart      ;
+		private long      partRequestNs   ; // the time since which the channels wait for the next part.
+		private Throwable abortCause      ;
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default(
+			final long                       timestamp    ,
+			final int                        channelCount ,
+			final long                       partTimeoutMs,
+			final StorageOperationController controller
+		)
+		{
+			super(timestamp, channelCount, controller);
+			this.partTimeoutNs = TimeUnit.MILLISECONDS.toNanos(partTimeoutMs);
+			this.partRequestNs = System.nanoTime();
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public final void writePart(final Binary data) throws InterruptedException
+		{
+			this.handOver(data, false);
+		}
+		
+		@Override
+		public final void writeLastPart(final Binary data) throws InterruptedException
+		{
+			this.handOver(data, true);
+		}
+		
+		private void handOver(final Binary data, final boolean isLastPart) throws InterruptedException
+		{
+			synchronized(this.partMonitor)
+			{
+				// back-pressure: the previous part must have been written by every channel first
+				while(this.remainingWriters > 0)
+				{
+					this.checkForAbortion();
+					this.partMonitor.wait(100);
+				}
+				this.checkForAbortion();
+				
+				this.part             = data;
+				this.remainingWriters = this.channelCount();
+				this.isLastPart       = isLastPart;
+				this.partNumber++;
+				this.partMonitor.notifyAll();
+			}
+		}
+		
+		@Override
+		public final void abort(final Throwable cause)
+		{
+			synchronized(this.partMonitor)
+			{
+				if(this.abortCause == null)
+				{
+					this.abortCause = cause;
+				}
+				this.partMonitor.notifyAll();
+			}
+		}
+		
+		private void checkForAbortion()
+		{
+			if(this.abortCause != null)
+			{
+				throw new StorageException("Streamed store has been aborted.", this.abortCause);
+			}
+			if(this.controller.hasDisruptions())
+			{
+				throw new StorageException("Aborting after: ", this.controller.disruptions().first());
+			}
+			if(!this.hasProblems())
+			{
+				return;
+			}
+			for(final Throwable problem : this.problems())
+			{
+				if(problem != null)
+				{
+					throw new StorageException("Streamed store failed.", problem);
+				}
+			}
+		}
+		
+		private Binary awaitPart(final long writtenPartNumber)
+		{
+			synchronized(this.partMonitor)
+			{
+				try
+				{
+					while(true)
+					{
+						this.checkForAbortion();
+						if(this.partNumber != writtenPartNumber)
+						{
+							return this.part;
+						}
+						if(this.isLastPart)
+						{
+							return null;
+						}
+						this.checkForTimeout();
+						this.partMonitor.wait(100);
+					}
+				}
+				catch(final InterruptedException e)
+				{
+					Thread.currentThread().interrupt();
+					throw new StorageException("Interrupted while waiting for the next part of a streamed store.", e);
+				}
+			}
+		}
+		
+		private void checkForTimeout()
+		{
+			// only while the producer is due, writing a large part may take longer than the timeout.
+			if(this.remainingWriters != 0 || System.nanoTime() - this.partRequestNs < this.partTimeoutNs)
+			{
+				return;
+			}
+			
+			// the producer has most probably been discarded without committing or aborting the stream.
+			this.abort(new StorageException(
+				"No part of the streamed store has been handed over within "
+				+ TimeUnit.NANOSECONDS.toMillis(this.partTimeoutNs) + " ms."
+			));
+			this.checkForAbortion();
+		}
+		
+		private void finishPart()
+		{
+			synchronized(this.partMonitor)
+			{
+				if(--this.remainingWriters == 0)
+				{
+					// the part is not referenced anymore, the channels have already released its memory.
+					this.part = null;
+					this.partRequestNs = System.nanoTime();
+					this.partMonitor.notifyAll();
+				}
+			}
+		}
+		
+		@Override
+		protected final Void internalProcessBy(final StorageChannel channel)
+		{
+			try
+			{
+				Binary part;
+				for(long writtenPartNumber = 0; (part = this.awaitPart(writtenPartNumber)) != null; writtenPartNumber++)
+				{
+					try
+					{
+						channel.storeEntitiesPart(this.timestamp(), part.channelChunk(channel.channelIndex()));
+					}
+					finally
+					{
+						this.finishPart();
+					}
+				}
+				channel.completeStoreEntitiesParts(this.timestamp());
+			}
+			catch(final RuntimeException | Error e)
+			{
+				// a failing channel is not completed, but parts it has already written must be rolled back anyway
+				try
+				{
+					channel.rollbackChunkStorage();
+				}
+				catch(final RuntimeException | Error e1)
+				{
+					e.addSuppressed(e1);
+				}
+				throw e;
+			}
+			
+			return null;
+		}
+		
+		@Override
+		protected final void succeed(final StorageChannel channel, final Void result)
+		{
+			// no storing operation of the other channels failed, so definitely commit all parts here.
+			channel.commitChunkStorage();
+		}
+		
+		@Override
+		protected final void postCompletionSuccess(final StorageChannel channel, final Void result)
+			throws InterruptedException
+		{
+			// see StorageRequestTaskStoreEntities: the stored data is safe, the entity cache merely catches up.
+			channel.postStorePartsUpdateEntityCache();
+		}
+		
+		@Override
+		protected final void fail(final StorageChannel channel, final Void result)
+		{
+			channel.rollbackChunkStorage();
+		}
+		
+		@Override
+		protected final void cleanUp(final StorageChannel channel)
+		{
+			// signal channel to clean up the current store, e.g. remove pending store updates to re-enable GC sweeping
+			channel.cleanupStore();
+		}
+		
+	}
+	
+}
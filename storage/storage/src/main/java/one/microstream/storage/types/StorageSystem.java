@@ -57,6 +57,14 @@ public interface StorageSystem extends StorageController
 
 	public StorageConfiguration configuration();
 	
+	/**
+	 * Returns the provider of all threads of the storage, including the worker threads of optional features
+	 * outside of the storage system itself, see {@link StorageWorkerThreadProvider}.
+	 * 
+	 * @return the storage's thread provider.
+	 */
+	public StorageThreadProvider threadProvider();
+	
 	public default AFileSystem fileSystem()
 	{
 		return this.configuration().fileProvider().fileSystem();
@@ -97,6 +105,7 @@ public interface StorageSystem extends StorageController
 		private final StorageChannelsCreator                     channelCreator                ;
 		private final StorageThreadProvider                      threadProvider                ;
 		private final StorageEntityCacheEvaluator                entityCacheEvaluator          ;
+		private final StorageDurability                          durability                    ;
 		private final StorageRequestTaskCreator                  requestTaskCreator            ;
 		private final StorageTypeDictionary                      typeDictionary                ;
 		private final StorageOperationController                 operationController           ;
@@ -191,6 +200,7 @@ public interface StorageSystem extends StorageController
 			this.fileDissolver                  = storageConfiguration.dataFileEvaluator()     ;
 			this.fileProvider                   = storageConfiguration.fileProvider()          ;
 			this.entityCacheEvaluator           = storageConfiguration.entityCacheEvaluator()  ;
+			this.durability                     = storageConfiguration.durability()            ;
 			this.housekeepingController         = storageConfiguration.housekeepingController();
 			this.housekeepingBroker             = notNull(housekeepingBroker)                  ;
 			this.requestAcceptorCreator         = notNull(requestAcceptorCreator)              ;
@@ -232,6 +242,12 @@ public interface StorageSystem extends StorageController
 		{
 			return this.configuration;
 		}
+		
+		@Override
+		public final StorageThreadProvider threadProvider()
+		{
+			return this.threadProvider;
+		}
 
 		@Override
 		public final boolean isRunning()
@@ -455,6 +471,7 @@ public interface StorageSystem extends StorageController
 				this.fileDissolver                         ,
 				this.fileProvider                          ,
 				this.entityCacheEvaluator                  ,
+				this.durability                            ,
 				this.typeDictionary                        ,
 				this.taskbroker                            ,
 				this.operationController                   ,
@@ -468,6 +485,7 @@ public interface StorageSystem extends StorageController
 				this.oidMarkQueueCreator                   ,
 				this.entityMarkMonitorCreator              ,
 				this.provideBackupHandler()                ,
+				this.threadProvider                        ,
 				this.eventLogger                           ,
 				this.liveObjectIdChecker                   ,
 				this.refStorerRegistry                     ,
@@ -694,9 +712,16 @@ public interface StorageSystem extends StorageController
 		{
 			this.ensureRunning();
 
+			final StorageChannel[] channels = new StorageChannel[this.channelKeepers.length];
+			for(int i = 0; i < channels.length; i++)
+			{
+				channels[i] = this.channelKeepers[i].channel;
+			}
+
 			return this.requestAcceptorCreator.createRequestAcceptor(
 				this.dataChunkValidatorProvider.provideDataChunkValidator(this.typeDictionary),
-				this.taskbroker
+				this.taskbroker,
+				channels
 			);
 		}
 		
@@ -21,11 +21,14 @@ package one.microstream.storage.types;
  */
 
 import static one.microstream.X.notNull;
+import static one.microstream.math.XMath.notNegative;
 
 import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
 import one.microstream.afs.types.AFile;
+import one.microstream.collections.BulkList;
 import one.microstream.collections.types.XGettingEnum;
 import one.microstream.persistence.binary.types.Binary;
 import one.microstream.persistence.types.PersistenceIdSet;
@@ -48,6 +51,9 @@ public interface StorageTaskBroker
 	
 	public StorageRequestTaskStoreEntities enqueueStoreTask(Binary data)
 		throws InterruptedException;
+	
+	public StorageRequestTaskStoreStream enqueueStoreStreamTask()
+		throws InterruptedException;
 
 	public default StorageRequestTaskExportEntitiesByType enqueueExportTypesTask(
 		final StorageEntityTypeExportFileProvider exportFileProvider
@@ -104,6 +110,24 @@ public interface StorageTaskBroker
 		throws InterruptedException;
 	
 	public StorageOperationController operationController();
+	
+	
+	
+	public interface Defaults
+	{
+		public static long defaultGroupCommitWindowNs()
+		{
+			// group commit is disabled by default, every store is written and flushed on its own
+			return 0;
+		}
+		
+		public static long defaultGroupCommitByteBudget()
+		{
+			// ~1 MB default byte budget per group
+			return 1_000_000;
+		}
+	}
+	
 
 	public final class Default implements StorageTaskBroker
 	{
@@ -117,8 +141,16 @@ public interface StorageTaskBroker
 		private final StorageObjectIdRangeEvaluator objectIdRangeEvaluator;
 		private final StorageRequestTaskCreator     taskCreator           ;
 		private final int                           channelCount          ;
+		private final long                          groupCommitWindowNs   ;
+		private final long                          groupCommitByteBudget ;
 
 		private volatile StorageTask currentHead;
+		
+		// the store group currently collecting stores to be committed together. Guarded by this instance's monitor.
+		private StoreGroup storeGroup;
+		
+		// streamed stores that may still wait for parts. Guarded by this instance's monitor.
+		private final BulkList<StorageRequestTaskStoreStream> storeStreams = BulkList.New();
 
 
 
@@ -133,6 +165,27 @@ public interface StorageTaskBroker
 			final StorageObjectIdRangeEvaluator objectIdRangeEvaluator,
 			final int                           channelCount
 		)
+		{
+			this(
+				taskCreator                              ,
+				operationController                      ,
+				fileEvaluator                            ,
+				objectIdRangeEvaluator                   ,
+				channelCount                             ,
+				Defaults.defaultGroupCommitWindowNs()    ,
+				Defaults.defaultGroupCommitByteBudget()
+			);
+		}
+		
+		Default(
+			final StorageRequestTaskCreator     taskCreator           ,
+			final StorageOperationController    operationController   ,
+			final StorageDataFileEvaluator      fileEvaluator         ,
+			final StorageObjectIdRangeEvaluator objectIdRangeEvaluator,
+			final int                           channelCount          ,
+			final long                          groupCommitWindowNs   ,
+			final long                          groupCommitByteBudget
+		)
 		{
 			super();
 			this.taskCreator            = notNull(taskCreator);
@@ -140,6 +193,8 @@ public interface StorageTaskBroker
 			this.fileEvaluator          = notNull(fileEvaluator);
 			this.objectIdRangeEvaluator = notNull(objectIdRangeEvaluator);
 			this.channelCount           =         channelCount;
+			this.groupCommitWindowNs    =         groupCommitWindowNs;
+			this.groupCommitByteBudget  =         groupCommitByteBudget;
 			this.currentHead            = new StorageTask.DummyTask();
 		}
 
@@ -420,12 +475,157 @@ public interface StorageTaskBroker
 		{
 			this.validateChannelCount(data.channelCount());
 			
+			if(this.groupCommitWindowNs > 0)
+			{
+				return this.enqueueGroupedStoreTask(data);
+			}
+			
 			// task creation must be called AFTER acquiring the lock to ensure temporal consistency in the task chain
 			final StorageRequestTaskStoreEntities task = this.taskCreator.createSaveTask(data, this.operationController);
 			
 			this.enqueueTaskAndNotifyAll(task);
 			return task;
 		}
+		
+		@Override
+		public final synchronized StorageRequestTaskStoreStream enqueueStoreStreamTask()
+			throws InterruptedException
+		{
+			// streamed stores are never grouped, as their data is not known yet.
+			final StorageRequestTaskStoreStream task = this.taskCreator.createStoreStreamTask(
+				this.channelCount,
+				this.operationController
+			);
+			
+			this.storeStreams.removeBy(StorageTask::isComplete);
+			this.storeStreams.add(task);
+			
+			this.enqueueTaskAndNotifyAll(task);
+			return task;
+		}
+		
+		/* Group commit: the first store arriving opens a group and becomes its leader. Stores arriving while the
+		 * group collects join it until either the window has elapsed or the byte budget is exhausted.
+		 * The leader then issues a single store task for all of the group's data, resulting in one write,
+		 * one transactions entry and one flush per channel. Every caller gets the shared task returned
+		 * and waits on its completion individually.
+		 * The group's task succeeds or fails as a whole, so a problem with any member's data, or with writing it,
+		 * lets the stores of all members fail, not just the causing one. Members are not retried on their own,
+		 * as most failures (IO errors, an unavailable storage) would hit them as well.
+		 * All waiting is done on this instance's monitor, thus releasing it for other requests in the meantime.
+		 */
+		private StorageRequestTaskStoreEntities enqueueGroupedStoreTask(final Binary data)
+			throws InterruptedException
+		{
+			final long        dataLength = data.totalLength();
+			final StoreGroup  openGroup  = this.storeGroup;
+			
+			if(openGroup != null && openGroup.length + dataLength <= this.groupCommitByteBudget)
+			{
+				openGroup.add(data, dataLength);
+				if(openGroup.length >= this.groupCommitByteBudget)
+				{
+					// budget is exhausted: close the group and wake its leader to issue it right away
+					this.storeGroup = null;
+					this.notifyAll();
+				}
+				
+				return this.awaitStoreGroupIssued(openGroup);
+			}
+			
+			final StoreGroup group = new StoreGroup(data, dataLength);
+			if(dataLength < this.groupCommitByteBudget)
+			{
+				this.storeGroup = group;
+			}
+			
+			boolean interrupted = false;
+			try
+			{
+				final long deadline = System.nanoTime() + this.groupCommitWindowNs;
+				long remaining;
+				while(this.storeGroup == group && (remaining = deadline - System.nanoTime()) > 0)
+				{
+					TimeUnit.NANOSECONDS.timedWait(this, remaining);
+				}
+			}
+			catch(final InterruptedException e)
+			{
+				/*
+				 * The group is issued right away instead. Reporting the interruption as a failure would be wrong,
+				 * as the leader's data is stored with the group anyway, so only the flag is restored.
+				 */
+				interrupted = true;
+			}
+			finally
+			{
+				// issued in any case to not leave the joined callers waiting forever
+				this.issueStoreGroup(group);
+			}
+			if(interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+			
+			return group.task;
+		}
+		
+		private void issueStoreGroup(final StoreGroup group) throws InterruptedException
+		{
+			if(this.storeGroup == group)
+			{
+				this.storeGroup = null;
+			}
+			
+			try
+			{
+				// task creation must be called AFTER acquiring the lock to ensure temporal consistency in the task chain
+				final StorageRequestTaskStoreEntities task = this.taskCreator.createGroupSaveTask(
+					group.data.toArray(Binary.class),
+					this.operationController
+				);
+				this.enqueueTaskAndNotifyAll(task);
+				group.task = task;
+			}
+			catch(final Throwable t)
+			{
+				group.problem = t;
+				throw t;
+			}
+			finally
+			{
+				group.issued = true;
+				this.notifyAll();
+			}
+		}
+		
+		private StorageRequestTaskStoreEntities awaitStoreGroupIssued(final StoreGroup group)
+		{
+			// the joined data is stored with the group in any case, so waiting for it to be issued is uninterruptible.
+			boolean interrupted = false;
+			while(!group.issued)
+			{
+				try
+				{
+					this.wait();
+				}
+				catch(final InterruptedException e)
+				{
+					interrupted = true;
+				}
+			}
+			if(interrupted)
+			{
+				Thread.currentThread().interrupt();
+			}
+			
+			if(group.task == null)
+			{
+				throw new StorageException("Grouped store could not be issued.", group.problem);
+			}
+			
+			return group.task;
+		}
 
 		@Override
 		public final synchronized StorageRequestTaskLoadByOids enqueueLoadTaskByOids(
@@ -495,6 +695,12 @@ public interface StorageTaskBroker
 		)
 			throws InterruptedException
 		{
+			// open streams occupy the channels until they are committed, so the shutdown could never be processed.
+			this.storeStreams.iterate(stream ->
+				stream.abort(new StorageException("Storage is shutting down."))
+			);
+			this.storeStreams.clear();
+			
 			final StorageChannelTaskShutdown task = this.taskCreator.createShutdownTask(
 				this.channelCount  ,
 				operationController
@@ -509,6 +715,46 @@ public interface StorageTaskBroker
 		{
 			return this.operationController;
 		}
+		
+		
+		
+		static final class StoreGroup
+		{
+			///////////////////////////////////////////////////////////////////////////
+			// instance fields //
+			////////////////////
+			
+			final BulkList<Binary>          data    = BulkList.New();
+			long                            length ;
+			boolean                         issued ;
+			StorageRequestTaskStoreEntities task   ;
+			Throwable                       problem;
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// constructors //
+			/////////////////
+			
+			StoreGroup(final Binary data, final long length)
+			{
+				super();
+				this.add(data, length);
+			}
+			
+			
+			
+			///////////////////////////////////////////////////////////////////////////
+			// methods //
+			////////////
+			
+			final void add(final Binary data, final long length)
+			{
+				this.data.add(data);
+				this.length += length;
+			}
+			
+		}
 
 	}
 
@@ -521,11 +767,47 @@ public interface StorageTaskBroker
 
 
 
+		/**
+		 * Pseudo-constructor method to create a new {@link Creator} instance for task brokers
+		 * that merge concurrently issued stores into group commits.
+		 * A group commit succeeds or fails as a whole: if it fails, the stores of all of the group's members fail,
+		 * including those whose own data was valid.
+		 * 
+		 * @param groupCommitWindowNs the time in nanoseconds a group collects stores before it gets issued,
+		 *        a value of 0 disables group commits.
+		 * @param groupCommitByteBudget the amount of data in bytes after which a group gets issued
+		 *        before its window has elapsed.
+		 * @return a new {@link Creator} instance.
+		 */
+		public static Creator New(
+			final long groupCommitWindowNs  ,
+			final long groupCommitByteBudget
+		)
+		{
+			return new Creator.Default(
+				notNegative(groupCommitWindowNs),
+				notNegative(groupCommitByteBudget)
+			);
+		}
+
 		public final class Default implements Creator
 		{
+			private final long groupCommitWindowNs  ;
+			private final long groupCommitByteBudget;
+			
 			public Default()
+			{
+				this(
+					Defaults.defaultGroupCommitWindowNs(),
+					Defaults.defaultGroupCommitByteBudget()
+				);
+			}
+			
+			Default(final long groupCommitWindowNs, final long groupCommitByteBudget)
 			{
 				super();
+				this.groupCommitWindowNs   = groupCommitWindowNs  ;
+				this.groupCommitByteBudget = groupCommitByteBudget;
 			}
 			
 			@Override
@@ -539,7 +821,9 @@ public interface StorageTaskBroker
 					storageSystem.operationController(),
 					storageSystem.configuration().dataFileEvaluator(),
 					storageSystem.objectIdRangeEvaluator(),
-					storageSystem.channelCountProvider().getChannelCount()
+					storageSystem.channelCountProvider().getChannelCount(),
+					this.groupCommitWindowNs,
+					this.groupCommitByteBudget
 				);
 			}
 
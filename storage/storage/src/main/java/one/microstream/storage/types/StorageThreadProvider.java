@@ -22,8 +22,12 @@ package one.microstream.storage.types;
 
 import static one.microstream.X.notNull;
 
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
 public interface StorageThreadProvider
-extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFileManagerThreadProvider
+extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFileManagerThreadProvider,
+StorageWorkerThreadProvider
 {
 	public static StorageThreadProvider New(
 		final StorageChannelThreadProvider         channelThreadProvider        ,
@@ -45,12 +49,30 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 		final StorageBackupThreadProvider          backupThreadProvider         ,
 		final StorageLockFileManagerThreadProvider lockFileManagerThreadProvider
 	)
+	{
+		return New(
+			threadNameProvider               ,
+			channelThreadProvider            ,
+			backupThreadProvider             ,
+			lockFileManagerThreadProvider    ,
+			StorageWorkerThreadProvider.New()
+		);
+	}
+	
+	public static StorageThreadProvider New(
+		final StorageThreadNameProvider            threadNameProvider           ,
+		final StorageChannelThreadProvider         channelThreadProvider        ,
+		final StorageBackupThreadProvider          backupThreadProvider         ,
+		final StorageLockFileManagerThreadProvider lockFileManagerThreadProvider,
+		final StorageWorkerThreadProvider          workerThreadProvider
+	)
 	{
 		return new StorageThreadProvider.Wrapper(
 			notNull(threadNameProvider)           ,
 			notNull(channelThreadProvider)        ,
 			notNull(backupThreadProvider)         ,
-			notNull(lockFileManagerThreadProvider)
+			notNull(lockFileManagerThreadProvider),
+			notNull(workerThreadProvider)
 		);
 	}
 
@@ -64,6 +86,7 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 		private final StorageChannelThreadProvider         channelThreadProvider        ;
 		private final StorageBackupThreadProvider          backupThreadProvider         ;
 		private final StorageLockFileManagerThreadProvider lockFileManagerThreadProvider;
+		private final StorageWorkerThreadProvider          workerThreadProvider         ;
 		
 		
 		
@@ -75,7 +98,8 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 			final StorageThreadNameProvider            threadNameProvider           ,
 			final StorageChannelThreadProvider         channelThreadProvider        ,
 			final StorageBackupThreadProvider          backupThreadProvider         ,
-			final StorageLockFileManagerThreadProvider lockFileManagerThreadProvider
+			final StorageLockFileManagerThreadProvider lockFileManagerThreadProvider,
+			final StorageWorkerThreadProvider          workerThreadProvider
 		)
 		{
 			super();
@@ -83,6 +107,7 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 			this.channelThreadProvider         = channelThreadProvider        ;
 			this.backupThreadProvider          = backupThreadProvider         ;
 			this.lockFileManagerThreadProvider = lockFileManagerThreadProvider;
+			this.workerThreadProvider          = workerThreadProvider         ;
 		}
 		
 		
@@ -118,6 +143,26 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 			);
 		}
 
+		@Override
+		public final Thread provideWorkerThread(final Runnable worker, final String workerName)
+		{
+			return this.workerThreadProvider.provideWorkerThread(
+				worker,
+				workerName,
+				this.threadNameProvider
+			);
+		}
+		
+		@Override
+		public final ForkJoinWorkerThread providePoolWorkerThread(final ForkJoinPool pool, final String poolThreadName)
+		{
+			return this.workerThreadProvider.providePoolWorkerThread(
+				pool,
+				poolThreadName,
+				this.threadNameProvider
+			);
+		}
+
 		@Override
 		public final Thread provideChannelThread(
 			final StorageChannel            storageChannel    ,
@@ -154,6 +199,34 @@ extends StorageChannelThreadProvider, StorageBackupThreadProvider, StorageLockFi
 			);
 		}
 
+		@Override
+		public final Thread provideWorkerThread(
+			final Runnable                  worker            ,
+			final String                    workerName        ,
+			final StorageThreadNameProvider threadNameProvider
+		)
+		{
+			return this.workerThreadProvider.provideWorkerThread(
+				worker,
+				workerName,
+				threadNameProvider
+			);
+		}
+
+		@Override
+		public final ForkJoinWorkerThread providePoolWorkerThread(
+			final ForkJoinPool              pool              ,
+			final String                    poolThreadName    ,
+			final StorageThreadNameProvider threadNameProvider
+		)
+		{
+			return this.workerThreadProvider.providePoolWorkerThread(
+				pool,
+				poolThreadName,
+				threadNameProvider
+			);
+		}
+
 	}
 
 }
@@ -0,0 +1,143 @@
+package one.microstream.storage.types;
+
+/*-
+ * #%L
+ * microstream-storage
+ * %%
+ * Copyright (C) 2019 - 2022 MicroStream Software
+ * %%
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0.
+ * 
+ * This Source Code may also be made available under the following Secondary
+ * Licenses when the conditions for such availability set forth in the Eclipse
+ * Public License, v. 2.0 are satisfied: GNU General Public License, version 2
+ * with the GNU Classpath Exception which is
+ * available at https://www.gnu.org/software/classpath/license.html.
+ * 
+ * SPDX-License-Identifier: EPL-2.0 OR GPL-2.0 WITH Classpath-exception-2.0
+ * #L%
+ */
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public interface StorageWorkerThreadProvider extends StorageThreadProviding
+{
+	/**
+	 * Provides a newly created, yet un-started {@link Thread} instance wrapping the passed worker.
+	 * Worker threads are auxiliary threads of optional storage features, e.g. reading data files ahead
+	 * during initialization. Unlike channel threads, they must not prevent the JVM from exiting.
+	 * Interfering with the thread from outside the storage compound has undefined and potentially
+	 * unpredictable and erroneous behavior.
+	 *
+	 * @param worker the worker logic to wrap
+	 * @param workerName the defined name of the worker
+	 * @return a {@link Thread} instance to be used as a storage worker thread.
+	 */
+	public default Thread provideWorkerThread(final Runnable worker, final String workerName)
+	{
+		return this.provideWorkerThread(worker, workerName, StorageThreadNameProvider.NoOp());
+	}
+	
+	public Thread provideWorkerThread(
+		Runnable                  worker            ,
+		String                    workerName        ,
+		StorageThreadNameProvider threadNameProvider
+	);
+	
+	/**
+	 * Provides a newly created, yet un-started {@link ForkJoinWorkerThread} instance for the passed pool.
+	 * This is the thread creation logic of pools used by optional storage features, e.g. parallel marking,
+	 * see {@link #providePoolThreadFactory(String)}.
+	 *
+	 * @param pool the pool the thread works for
+	 * @param poolThreadName the defined name of the pool's thread
+	 * @return a {@link ForkJoinWorkerThread} instance to be used as a storage pool worker thread.
+	 */
+	public default ForkJoinWorkerThread providePoolWorkerThread(final ForkJoinPool pool, final String poolThreadName)
+	{
+		return this.providePoolWorkerThread(pool, poolThreadName, StorageThreadNameProvider.NoOp());
+	}
+	
+	public ForkJoinWorkerThread providePoolWorkerThread(
+		ForkJoinPool              pool              ,
+		String                    poolThreadName    ,
+		StorageThreadNameProvider threadNameProvider
+	);
+	
+	/**
+	 * Provides a thread factory for a pool used by optional storage features. The pool's threads are
+	 * provided by {@link #providePoolWorkerThread(ForkJoinPool, String)} and named after the pool,
+	 * numbered in the order of their creation.
+	 *
+	 * @param poolName the defined name of the pool
+	 * @return a thread factory to create the pool with.
+	 */
+	public default ForkJoinPool.ForkJoinWorkerThreadFactory providePoolThreadFactory(final String poolName)
+	{
+		// the pool index of a worker thread is only assigned once it runs, so it can't be used for naming.
+		final AtomicInteger threadNumber = new AtomicInteger();
+		
+		return pool -> this.providePoolWorkerThread(pool, poolName + "-" + threadNumber.getAndIncrement());
+	}
+
+	
+	
+	public static StorageWorkerThreadProvider New()
+	{
+		return new StorageWorkerThreadProvider.Default();
+	}
+
+	public final class Default implements StorageWorkerThreadProvider
+	{
+		///////////////////////////////////////////////////////////////////////////
+		// constructors //
+		/////////////////
+		
+		Default()
+		{
+			super();
+		}
+		
+		
+		
+		///////////////////////////////////////////////////////////////////////////
+		// methods //
+		////////////
+		
+		@Override
+		public Thread provideWorkerThread(
+			final Runnable                  worker            ,
+			final String                    workerName        ,
+			final StorageThreadNameProvider threadNameProvider
+		)
+		{
+			final Thread thread = new Thread(
+				worker,
+				threadNameProvider.provideThreadName(this, workerName)
+			);
+			thread.setDaemon(true);
+			
+			return thread;
+		}
+		
+		@Override
+		public ForkJoinWorkerThread providePoolWorkerThread(
+			final ForkJoinPool              pool              ,
+			final String                    poolThreadName    ,
+			final StorageThreadNameProvider threadNameProvider
+		)
+		{
+			// pool worker threads are daemon threads by default.
+			final ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName(threadNameProvider.provideThreadName(this, poolThreadName));
+			
+			return thread;
+		}
+
+	}
+
+}